@@ -0,0 +1,81 @@
+/*
+ * Copyright 2022-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.boot.autoconfigure.data.reindexer;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.data.reindexer.repository.support.EntityNearCache;
+import org.springframework.data.reindexer.repository.support.EntityNearCacheListener;
+
+/**
+ * An {@link EntityNearCacheListener} that registers the hits, misses, evictions and size
+ * of a near-cache as Micrometer meters, tagged with the namespace name, once its
+ * namespace is opened.
+ *
+ * @author Evgeniy Cheban
+ * @since 1.7
+ */
+final class MicrometerEntityNearCacheListener implements EntityNearCacheListener, MeterBinder {
+
+	private final Map<String, EntityNearCache<?>> pending = new LinkedHashMap<>();
+
+	private @Nullable MeterRegistry registry;
+
+	@Override
+	public synchronized void bindTo(MeterRegistry registry) {
+		this.registry = registry;
+		// Namespaces opened before the registry was bound, e.g., on eager initialization.
+		this.pending.forEach((namespace, nearCache) -> bind(registry, namespace, nearCache));
+		this.pending.clear();
+	}
+
+	@Override
+	public synchronized void onCreated(String namespace, EntityNearCache<?> nearCache) {
+		if (this.registry != null) {
+			bind(this.registry, namespace, nearCache);
+		}
+		else {
+			this.pending.put(namespace, nearCache);
+		}
+	}
+
+	private static void bind(MeterRegistry registry, String namespace, EntityNearCache<?> nearCache) {
+		FunctionCounter.builder("reindexer.entity.cache.hits", nearCache, EntityNearCache::getHitCount)
+			.description("The number of id lookups served from the near-cache")
+			.tag("namespace", namespace)
+			.register(registry);
+		FunctionCounter.builder("reindexer.entity.cache.misses", nearCache, EntityNearCache::getMissCount)
+			.description("The number of id lookups not found in the near-cache")
+			.tag("namespace", namespace)
+			.register(registry);
+		FunctionCounter.builder("reindexer.entity.cache.evictions", nearCache, EntityNearCache::getEvictionCount)
+			.description("The number of entities evicted from the near-cache because it was full")
+			.tag("namespace", namespace)
+			.register(registry);
+		Gauge.builder("reindexer.entity.cache.size", nearCache, EntityNearCache::size)
+			.description("The number of entities in the near-cache")
+			.tag("namespace", namespace)
+			.register(registry);
+	}
+
+}
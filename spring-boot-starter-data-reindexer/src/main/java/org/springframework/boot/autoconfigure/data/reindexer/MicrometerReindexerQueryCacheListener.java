@@ -0,0 +1,92 @@
+/*
+ * Copyright 2022-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.boot.autoconfigure.data.reindexer;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.data.reindexer.repository.query.ReindexerQueryCacheListener;
+import org.springframework.data.repository.query.QueryMethod;
+
+/**
+ * A {@link ReindexerQueryCacheListener} that records hits, misses and evictions of
+ * cached query results as Micrometer counters, tagged with the domain type and the
+ * query method name.
+ *
+ * @author Evgeniy Cheban
+ * @since 1.7
+ */
+final class MicrometerReindexerQueryCacheListener implements ReindexerQueryCacheListener, MeterBinder {
+
+	private final Map<QueryMethod, Counters> counters = new ConcurrentHashMap<>();
+
+	private volatile @Nullable MeterRegistry registry;
+
+	@Override
+	public void bindTo(MeterRegistry registry) {
+		this.registry = registry;
+	}
+
+	@Override
+	public void onHit(QueryMethod method) {
+		Counters counters = getCounters(method);
+		if (counters != null) {
+			counters.hits().increment();
+		}
+	}
+
+	@Override
+	public void onMiss(QueryMethod method) {
+		Counters counters = getCounters(method);
+		if (counters != null) {
+			counters.misses().increment();
+		}
+	}
+
+	@Override
+	public void onEviction(QueryMethod method) {
+		Counters counters = getCounters(method);
+		if (counters != null) {
+			counters.evictions().increment();
+		}
+	}
+
+	private @Nullable Counters getCounters(QueryMethod method) {
+		MeterRegistry registry = this.registry;
+		if (registry == null) {
+			return null;
+		}
+		return this.counters.computeIfAbsent(method, (it) -> {
+			String domain = it.getEntityInformation().getJavaType().getSimpleName();
+			return new Counters(counter(registry, "reindexer.query.cache.hits", domain, it.getName()),
+					counter(registry, "reindexer.query.cache.misses", domain, it.getName()),
+					counter(registry, "reindexer.query.cache.evictions", domain, it.getName()));
+		});
+	}
+
+	private static Counter counter(MeterRegistry registry, String name, String domain, String method) {
+		return Counter.builder(name).tag("domain", domain).tag("method", method).register(registry);
+	}
+
+	private record Counters(Counter hits, Counter misses, Counter evictions) {
+	}
+
+}
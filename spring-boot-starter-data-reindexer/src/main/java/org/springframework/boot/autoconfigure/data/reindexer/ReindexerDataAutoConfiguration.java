@@ -19,6 +19,9 @@ import java.io.InputStream;
 import java.security.KeyStore;
 import java.util.Locale;
 
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
 import org.springframework.boot.context.properties.PropertyMapper;
 import org.springframework.boot.io.ApplicationResourceLoader;
 import org.springframework.core.io.ResourceLoader;
@@ -28,7 +31,9 @@ import ru.rt.restream.reindexer.ReindexerConfiguration;
 import ru.rt.restream.reindexer.binding.cproto.DataSourceFactory;
 import ru.rt.restream.reindexer.binding.cproto.DataSourceFactoryStrategy;
 
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBooleanProperty;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.context.properties.ConfigurationPropertiesBinding;
@@ -36,7 +41,10 @@ import org.springframework.boot.context.properties.EnableConfigurationProperties
 import org.springframework.boot.persistence.autoconfigure.EntityScanner;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
 import org.springframework.core.convert.converter.Converter;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.data.domain.ManagedTypes;
 import org.springframework.data.reindexer.core.convert.MappingReindexerConverter;
 import org.springframework.data.reindexer.core.convert.ReindexerConverter;
@@ -44,8 +52,13 @@ import org.springframework.data.reindexer.core.convert.ReindexerCustomConversion
 import org.springframework.data.reindexer.core.mapping.Namespace;
 import org.springframework.data.reindexer.core.mapping.ReindexerMappingContext;
 import org.springframework.data.reindexer.repository.ReindexerRepository;
+import org.springframework.data.reindexer.repository.query.ReindexerQueryCacheListener;
+import org.springframework.data.reindexer.repository.query.ReindexerQueryExplainer;
+import org.springframework.data.reindexer.repository.query.ReindexerSlowQueryLog;
 import org.springframework.data.reindexer.repository.support.DefaultReindexerNamespaceFactory;
+import org.springframework.data.reindexer.repository.support.EntityNearCacheListener;
 import org.springframework.data.reindexer.repository.support.ReindexerNamespaceFactory;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.util.StringUtils;
 
 import javax.net.ssl.SSLContext;
@@ -143,8 +156,66 @@ public class ReindexerDataAutoConfiguration {
 
 	@Bean
 	@ConditionalOnMissingBean(ReindexerNamespaceFactory.class)
-	DefaultReindexerNamespaceFactory reindexerNamespaceFactory(Reindexer reindexer, ReindexerMappingContext context) {
-		return new DefaultReindexerNamespaceFactory(reindexer, context);
+	DefaultReindexerNamespaceFactory reindexerNamespaceFactory(ReindexerProperties properties, Reindexer reindexer,
+			ReindexerMappingContext context, ObjectProvider<EntityNearCacheListener> nearCacheListener) {
+		DefaultReindexerNamespaceFactory namespaceFactory = new DefaultReindexerNamespaceFactory(reindexer, context);
+		namespaceFactory.setEagerInitialization(properties.isEagerNamespaceInitialization());
+		namespaceFactory.setInitializationConcurrency(properties.getNamespaceInitializationConcurrency());
+		namespaceFactory.setNearCacheSizes(properties.getNearCacheSizes());
+		nearCacheListener.ifUnique(namespaceFactory::setNearCacheListener);
+		return namespaceFactory;
+	}
+
+	@Bean
+	@ConditionalOnMissingBean(name = "reindexerQueryExecutor")
+	AsyncTaskExecutor reindexerQueryExecutor(ReindexerProperties properties,
+			ReindexerQueryExecutorTaskDecorator taskDecorator) {
+		ReindexerProperties.QueryExecutor queryExecutor = properties.getQueryExecutor();
+		if (isVirtualThreads(queryExecutor)) {
+			SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor(queryExecutor.getThreadNamePrefix());
+			executor.setVirtualThreads(true);
+			// The concurrency limit is applied by the task decorator to not block the caller.
+			executor.setTaskDecorator(taskDecorator);
+			return executor;
+		}
+		// Platform threads are pooled, so that the concurrency limit bounds the number of threads.
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setThreadNamePrefix(queryExecutor.getThreadNamePrefix());
+		executor.setCorePoolSize(taskDecorator.getConcurrencyLimit());
+		executor.setMaxPoolSize(taskDecorator.getConcurrencyLimit());
+		executor.setQueueCapacity(queryExecutor.getQueueCapacity());
+		executor.setAllowCoreThreadTimeOut(true);
+		executor.setTaskDecorator(taskDecorator);
+		return executor;
+	}
+
+	@Bean
+	@ConditionalOnMissingBean
+	@ConditionalOnBooleanProperty("spring.data.reindexer.slow-query-log.enabled")
+	ReindexerSlowQueryLog reindexerSlowQueryLog(ReindexerProperties properties,
+			ObjectProvider<ReindexerQueryExplainer> queryExplainer) {
+		ReindexerProperties.SlowQueryLog slowQueryLog = properties.getSlowQueryLog();
+		ReindexerSlowQueryLog log = new ReindexerSlowQueryLog();
+		log.setThreshold(slowQueryLog.getThreshold());
+		log.setSampleRate(slowQueryLog.getSampleRate());
+		log.setMaxEntriesPerSecond(slowQueryLog.getMaxEntriesPerSecond());
+		log.setLogParameterValues(slowQueryLog.isLogParameterValues());
+		log.setQueryExplainer(queryExplainer.getIfUnique());
+		return log;
+	}
+
+	@Bean
+	ReindexerQueryExecutorTaskDecorator reindexerQueryExecutorTaskDecorator(ReindexerProperties properties) {
+		ReindexerProperties.QueryExecutor queryExecutor = properties.getQueryExecutor();
+		int concurrencyLimit = queryExecutor.getConcurrencyLimit();
+		if (concurrencyLimit < 0 && !isVirtualThreads(queryExecutor)) {
+			concurrencyLimit = Runtime.getRuntime().availableProcessors();
+		}
+		return new ReindexerQueryExecutorTaskDecorator(concurrencyLimit);
+	}
+
+	private static boolean isVirtualThreads(ReindexerProperties.QueryExecutor queryExecutor) {
+		return queryExecutor.isVirtualThreads() && Runtime.version().feature() >= 21;
 	}
 
 	@Bean
@@ -153,6 +224,48 @@ public class ReindexerDataAutoConfiguration {
 		return new StringToDataSourceFactoryConverter();
 	}
 
+	@Configuration(proxyBeanMethods = false)
+	@ConditionalOnClass(MeterBinder.class)
+	static class ReindexerMetricsConfiguration {
+
+		@Bean
+		MeterBinder reindexerQueryExecutorMeterBinder(ReindexerQueryExecutorTaskDecorator taskDecorator) {
+			return (registry) -> {
+				Gauge.builder("reindexer.query.executor.active", taskDecorator,
+						ReindexerQueryExecutorTaskDecorator::getActiveCount)
+					.description("The number of running query executions")
+					.register(registry);
+				Gauge.builder("reindexer.query.executor.pending", taskDecorator,
+						ReindexerQueryExecutorTaskDecorator::getPendingCount)
+					.description("The number of query executions waiting for a thread")
+					.register(registry);
+				Gauge.builder("reindexer.query.executor.limit", taskDecorator,
+						ReindexerQueryExecutorTaskDecorator::getConcurrencyLimit)
+					.description("The maximum number of concurrent query executions, negative if unlimited")
+					.register(registry);
+			};
+		}
+
+		@Bean
+		ReindexerResultSizeObservationHandler reindexerResultSizeObservationHandler(
+				ObjectProvider<MeterRegistry> meterRegistry) {
+			return new ReindexerResultSizeObservationHandler(meterRegistry);
+		}
+
+		@Bean
+		@ConditionalOnMissingBean(ReindexerQueryCacheListener.class)
+		MicrometerReindexerQueryCacheListener reindexerQueryCacheListener() {
+			return new MicrometerReindexerQueryCacheListener();
+		}
+
+		@Bean
+		@ConditionalOnMissingBean(EntityNearCacheListener.class)
+		MicrometerEntityNearCacheListener reindexerNearCacheListener() {
+			return new MicrometerEntityNearCacheListener();
+		}
+
+	}
+
 	private static final class StringToDataSourceFactoryConverter implements Converter<String, DataSourceFactory> {
 
 		@Override
@@ -18,7 +18,9 @@ package org.springframework.boot.autoconfigure.data.reindexer;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.jspecify.annotations.Nullable;
 
@@ -52,6 +54,25 @@ public class ReindexerProperties {
 	 */
 	private boolean autoIndexCreation = false;
 
+	/**
+	 * Enables opening namespaces for all managed types at startup instead of on first
+	 * use. Defaults to {@literal false}.
+	 */
+	private boolean eagerNamespaceInitialization = false;
+
+	/**
+	 * Configure the maximum number of namespaces opened concurrently at startup. Defaults
+	 * to 4.
+	 */
+	private int namespaceInitializationConcurrency = 4;
+
+	/**
+	 * Configure the maximum number of entities kept in the in-process near-cache of a
+	 * namespace by its name, overrides the near-cache size of the {@code @Namespace}
+	 * annotation. A size of 0 disables the near-cache.
+	 */
+	private Map<String, Integer> nearCacheSizes = new HashMap<>();
+
 	/**
 	 * Configure a {@link DataSourceFactory}. Defaults to
 	 * {@link DataSourceFactoryStrategy#NEXT}.
@@ -84,6 +105,10 @@ public class ReindexerProperties {
 	 */
 	private @Nullable Ssl ssl;
 
+	private final QueryExecutor queryExecutor = new QueryExecutor();
+
+	private final SlowQueryLog slowQueryLog = new SlowQueryLog();
+
 	public List<String> getUrls() {
 		return this.urls;
 	}
@@ -108,6 +133,30 @@ public class ReindexerProperties {
 		this.autoIndexCreation = autoIndexCreation;
 	}
 
+	public boolean isEagerNamespaceInitialization() {
+		return this.eagerNamespaceInitialization;
+	}
+
+	public void setEagerNamespaceInitialization(boolean eagerNamespaceInitialization) {
+		this.eagerNamespaceInitialization = eagerNamespaceInitialization;
+	}
+
+	public int getNamespaceInitializationConcurrency() {
+		return this.namespaceInitializationConcurrency;
+	}
+
+	public void setNamespaceInitializationConcurrency(int namespaceInitializationConcurrency) {
+		this.namespaceInitializationConcurrency = namespaceInitializationConcurrency;
+	}
+
+	public Map<String, Integer> getNearCacheSizes() {
+		return this.nearCacheSizes;
+	}
+
+	public void setNearCacheSizes(Map<String, Integer> nearCacheSizes) {
+		this.nearCacheSizes = nearCacheSizes;
+	}
+
 	public DataSourceFactory getDataSourceFactory() {
 		return this.dataSourceFactory;
 	}
@@ -156,6 +205,14 @@ public class ReindexerProperties {
 		this.ssl = ssl;
 	}
 
+	public QueryExecutor getQueryExecutor() {
+		return this.queryExecutor;
+	}
+
+	public SlowQueryLog getSlowQueryLog() {
+		return this.slowQueryLog;
+	}
+
 	public static class Ssl {
 
 		/**
@@ -225,4 +282,135 @@ public class ReindexerProperties {
 
 	}
 
+	public static class QueryExecutor {
+
+		/**
+		 * Whether to run query methods that return CompletableFuture on virtual threads.
+		 * Applies on Java 21 and later only.
+		 */
+		private boolean virtualThreads = true;
+
+		/**
+		 * Maximum number of query methods that run concurrently. Further executions
+		 * wait for a free slot without blocking the caller. Negative value means no
+		 * limit on virtual threads, and the number of available processors on platform
+		 * threads, which are pooled to this size.
+		 */
+		private int concurrencyLimit = -1;
+
+		/**
+		 * Maximum number of query executions that wait for a pooled platform thread.
+		 * Further executions are rejected. Does not apply to virtual threads.
+		 */
+		private int queueCapacity = 1000;
+
+		/**
+		 * Prefix for the names of the query executor threads.
+		 */
+		private String threadNamePrefix = "reindexer-query-";
+
+		public boolean isVirtualThreads() {
+			return this.virtualThreads;
+		}
+
+		public void setVirtualThreads(boolean virtualThreads) {
+			this.virtualThreads = virtualThreads;
+		}
+
+		public int getConcurrencyLimit() {
+			return this.concurrencyLimit;
+		}
+
+		public void setConcurrencyLimit(int concurrencyLimit) {
+			this.concurrencyLimit = concurrencyLimit;
+		}
+
+		public int getQueueCapacity() {
+			return this.queueCapacity;
+		}
+
+		public void setQueueCapacity(int queueCapacity) {
+			this.queueCapacity = queueCapacity;
+		}
+
+		public String getThreadNamePrefix() {
+			return this.threadNamePrefix;
+		}
+
+		public void setThreadNamePrefix(String threadNamePrefix) {
+			this.threadNamePrefix = threadNamePrefix;
+		}
+
+	}
+
+	public static class SlowQueryLog {
+
+		/**
+		 * Whether to log queries that take longer than the threshold.
+		 */
+		private boolean enabled = false;
+
+		/**
+		 * Execution time after which a query is considered slow.
+		 */
+		private Duration threshold = Duration.ofSeconds(1L);
+
+		/**
+		 * Fraction of slow queries to log, between 0.0 and 1.0.
+		 */
+		private double sampleRate = 1.0;
+
+		/**
+		 * Maximum number of slow queries logged per second.
+		 */
+		private int maxEntriesPerSecond = 10;
+
+		/**
+		 * Whether to log the values of query parameters instead of their types. Values
+		 * may contain sensitive data.
+		 */
+		private boolean logParameterValues = false;
+
+		public boolean isEnabled() {
+			return this.enabled;
+		}
+
+		public void setEnabled(boolean enabled) {
+			this.enabled = enabled;
+		}
+
+		public Duration getThreshold() {
+			return this.threshold;
+		}
+
+		public void setThreshold(Duration threshold) {
+			this.threshold = threshold;
+		}
+
+		public double getSampleRate() {
+			return this.sampleRate;
+		}
+
+		public void setSampleRate(double sampleRate) {
+			this.sampleRate = sampleRate;
+		}
+
+		public int getMaxEntriesPerSecond() {
+			return this.maxEntriesPerSecond;
+		}
+
+		public void setMaxEntriesPerSecond(int maxEntriesPerSecond) {
+			this.maxEntriesPerSecond = maxEntriesPerSecond;
+		}
+
+		public boolean isLogParameterValues() {
+			return this.logParameterValues;
+		}
+
+		public void setLogParameterValues(boolean logParameterValues) {
+			this.logParameterValues = logParameterValues;
+		}
+
+	}
+
 }
@@ -0,0 +1,104 @@
+/*
+ * Copyright 2022-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.boot.autoconfigure.data.reindexer;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.util.Assert;
+
+/**
+ * A {@link TaskDecorator} that limits the number of concurrently running query
+ * executions submitted to the Reindexer query executor and tracks the number of query
+ * executions that are waiting for a free slot or running.
+ * <p>
+ * Query executions wait for a free slot on their own thread, so submitting a query never
+ * blocks the calling thread.
+ *
+ * @author Evgeniy Cheban
+ * @since 1.7
+ */
+final class ReindexerQueryExecutorTaskDecorator implements TaskDecorator {
+
+	private final int concurrencyLimit;
+
+	private final @Nullable Semaphore permits;
+
+	private final AtomicInteger pending = new AtomicInteger();
+
+	private final AtomicInteger active = new AtomicInteger();
+
+	/**
+	 * Creates an instance.
+	 * @param concurrencyLimit the maximum number of concurrently running query
+	 * executions, negative if unlimited
+	 */
+	ReindexerQueryExecutorTaskDecorator(int concurrencyLimit) {
+		Assert.isTrue(concurrencyLimit != 0, "concurrencyLimit must not be 0");
+		this.concurrencyLimit = concurrencyLimit;
+		this.permits = (concurrencyLimit > 0) ? new Semaphore(concurrencyLimit) : null;
+	}
+
+	@Override
+	public Runnable decorate(Runnable runnable) {
+		this.pending.incrementAndGet();
+		return () -> {
+			if (this.permits != null) {
+				this.permits.acquireUninterruptibly();
+			}
+			this.pending.decrementAndGet();
+			this.active.incrementAndGet();
+			try {
+				runnable.run();
+			}
+			finally {
+				this.active.decrementAndGet();
+				if (this.permits != null) {
+					this.permits.release();
+				}
+			}
+		};
+	}
+
+	/**
+	 * Returns the maximum number of concurrently running query executions.
+	 * @return the maximum number of concurrently running query executions, negative if
+	 * unlimited
+	 */
+	int getConcurrencyLimit() {
+		return this.concurrencyLimit;
+	}
+
+	/**
+	 * Returns the number of query executions waiting for a free slot.
+	 * @return the number of query executions waiting for a free slot
+	 */
+	int getPendingCount() {
+		return this.pending.get();
+	}
+
+	/**
+	 * Returns the number of running query executions.
+	 * @return the number of running query executions
+	 */
+	int getActiveCount() {
+		return this.active.get();
+	}
+
+}
@@ -46,7 +46,7 @@ class ReindexerRepositoriesRegistrar extends AbstractRepositoryConfigurationSour
 		return new ReindexerRepositoryConfigurationExtension();
 	}
 
-	@EnableReindexerRepositories
+	@EnableReindexerRepositories(queryExecutorRef = "reindexerQueryExecutor")
 	private static final class EnableReindexerRepositoriesConfiguration {
 
 	}
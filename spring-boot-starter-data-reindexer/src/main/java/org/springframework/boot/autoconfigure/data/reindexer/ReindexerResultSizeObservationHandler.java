@@ -0,0 +1,74 @@
+/*
+ * Copyright 2022-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.boot.autoconfigure.data.reindexer;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import io.micrometer.common.KeyValue;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationHandler;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.reindexer.observability.ReindexerObservation;
+import org.springframework.data.reindexer.observability.ReindexerObservationContext;
+
+/**
+ * An {@link ObservationHandler} that records the number of results iterated by a
+ * {@link ReindexerObservation#RESULT_PROJECTION} in a {@link DistributionSummary} with
+ * the low cardinality key values of the observation as tags.
+ *
+ * @author Evgeniy Cheban
+ * @since 1.7
+ */
+final class ReindexerResultSizeObservationHandler implements ObservationHandler<ReindexerObservationContext> {
+
+	private final ObjectProvider<MeterRegistry> meterRegistry;
+
+	ReindexerResultSizeObservationHandler(ObjectProvider<MeterRegistry> meterRegistry) {
+		this.meterRegistry = meterRegistry;
+	}
+
+	@Override
+	public void onStop(ReindexerObservationContext context) {
+		if (context.getResultSize() < 0
+				|| !ReindexerObservation.RESULT_PROJECTION.getName().equals(context.getName())) {
+			return;
+		}
+		MeterRegistry registry = this.meterRegistry.getIfAvailable();
+		if (registry == null) {
+			return;
+		}
+		List<Tag> tags = new ArrayList<>();
+		for (KeyValue keyValue : context.getLowCardinalityKeyValues()) {
+			tags.add(Tag.of(keyValue.getKey(), keyValue.getValue()));
+		}
+		DistributionSummary.builder("reindexer.query.result.size")
+			.description("The number of results iterated by a query")
+			.tags(tags)
+			.register(registry)
+			.record(context.getResultSize());
+	}
+
+	@Override
+	public boolean supportsContext(Observation.Context context) {
+		return context instanceof ReindexerObservationContext;
+	}
+
+}
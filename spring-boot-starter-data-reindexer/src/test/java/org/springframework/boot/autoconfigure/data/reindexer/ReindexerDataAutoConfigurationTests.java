@@ -15,6 +15,9 @@
  */
 package org.springframework.boot.autoconfigure.data.reindexer;
 
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 import org.testcontainers.junit.jupiter.Container;
@@ -27,12 +30,15 @@ import org.springframework.boot.autoconfigure.AutoConfigurations;
 import org.springframework.boot.autoconfigure.ReindexerContainer;
 import org.springframework.boot.autoconfigure.data.reindexer.person.Person;
 import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.data.domain.ManagedTypes;
 import org.springframework.data.reindexer.core.convert.MappingReindexerConverter;
 import org.springframework.data.reindexer.core.convert.ReindexerConverter;
 import org.springframework.data.reindexer.core.convert.ReindexerCustomConversions;
 import org.springframework.data.reindexer.core.mapping.ReindexerMappingContext;
 import org.springframework.data.reindexer.repository.support.ReindexerNamespaceFactory;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -129,4 +135,69 @@ class ReindexerDataAutoConfigurationTests {
 				.isEqualTo(true));
 	}
 
+	@Test
+	void testQueryExecutorConcurrencyLimit() {
+		this.contextRunner.withPropertyValues("spring.data.reindexer.query-executor.concurrency-limit=1")
+			.run(context -> {
+				AsyncTaskExecutor executor = context.getBean("reindexerQueryExecutor", AsyncTaskExecutor.class);
+				ReindexerQueryExecutorTaskDecorator taskDecorator = context
+					.getBean(ReindexerQueryExecutorTaskDecorator.class);
+				if (executor instanceof SimpleAsyncTaskExecutor simpleExecutor) {
+					assertThat(simpleExecutor.isThrottleActive()).isFalse();
+				}
+				CountDownLatch running = new CountDownLatch(1);
+				CountDownLatch release = new CountDownLatch(1);
+				CountDownLatch completed = new CountDownLatch(2);
+				executor.execute(() -> {
+					running.countDown();
+					awaitUninterruptibly(release);
+					completed.countDown();
+				});
+				assertThat(running.await(5, TimeUnit.SECONDS)).isTrue();
+				// Submitting beyond the limit does not block the caller.
+				executor.execute(completed::countDown);
+				assertThat(taskDecorator.getActiveCount()).isEqualTo(1);
+				assertThat(taskDecorator.getPendingCount()).isEqualTo(1);
+				assertThat(completed.getCount()).isEqualTo(2);
+				release.countDown();
+				assertThat(completed.await(5, TimeUnit.SECONDS)).isTrue();
+			});
+	}
+
+	@Test
+	void testQueryExecutorPlatformThreadsPooled() {
+		this.contextRunner
+			.withPropertyValues("spring.data.reindexer.query-executor.virtual-threads=false",
+					"spring.data.reindexer.query-executor.concurrency-limit=2",
+					"spring.data.reindexer.query-executor.queue-capacity=5")
+			.run(context -> {
+				ThreadPoolTaskExecutor executor = context.getBean("reindexerQueryExecutor",
+						ThreadPoolTaskExecutor.class);
+				assertThat(executor.getCorePoolSize()).isEqualTo(2);
+				assertThat(executor.getMaxPoolSize()).isEqualTo(2);
+				assertThat(executor.getQueueCapacity()).isEqualTo(5);
+			});
+	}
+
+	@Test
+	void testQueryExecutorPlatformThreadsPooledWhenNoConcurrencyLimit() {
+		this.contextRunner.withPropertyValues("spring.data.reindexer.query-executor.virtual-threads=false")
+			.run(context -> {
+				ThreadPoolTaskExecutor executor = context.getBean("reindexerQueryExecutor",
+						ThreadPoolTaskExecutor.class);
+				assertThat(executor.getMaxPoolSize()).isEqualTo(Runtime.getRuntime().availableProcessors());
+				assertThat(context.getBean(ReindexerQueryExecutorTaskDecorator.class).getConcurrencyLimit())
+					.isEqualTo(Runtime.getRuntime().availableProcessors());
+			});
+	}
+
+	private static void awaitUninterruptibly(CountDownLatch latch) {
+		try {
+			latch.await();
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
 }
@@ -0,0 +1,133 @@
+/*
+ * Copyright 2022-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.reindexer.core.convert;
+
+import java.lang.management.ClassLoadingMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.Set;
+import java.util.function.Function;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.junit.platform.commons.annotation.Testable;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import ru.rt.restream.reindexer.annotations.Transient;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.reindexer.AbstractMicrobenchmark;
+import org.springframework.data.reindexer.core.mapping.Namespace;
+import org.springframework.data.reindexer.core.mapping.NamespaceReference;
+import org.springframework.data.reindexer.core.mapping.ReindexerMappingContext;
+import org.springframework.data.reindexer.core.mapping.ReindexerPersistentProperty;
+
+/**
+ * Measures the cost of creating class-based lazy loading proxies. The
+ * {@link #createProxyWithNewFactory()} benchmark uses a new {@link LazyLoadingProxyFactory}
+ * for every proxy, which resembles the behaviour prior to caching enhanced proxy classes.
+ * The number of classes loaded during each iteration is reported as the
+ * {@code loadedClasses} secondary result, run with {@code -prof gc} to see the allocation
+ * rate as well.
+ *
+ * @author Evgeniy Cheban
+ */
+@State(Scope.Benchmark)
+@Testable
+public class LazyLoadingProxyFactoryBenchmark extends AbstractMicrobenchmark {
+
+	private LazyLoadingProxyFactory factory;
+
+	private ReindexerPersistentProperty property;
+
+	@Setup
+	public void setup() {
+		ReindexerMappingContext mappingContext = new ReindexerMappingContext();
+		mappingContext.setInitialEntitySet(Set.of(Order.class));
+		mappingContext.setSimpleTypeHolder(ReindexerSimpleTypes.HOLDER);
+		this.property = mappingContext.getRequiredPersistentEntity(Order.class)
+			.getRequiredPersistentProperty("customer");
+		this.factory = new LazyLoadingProxyFactory();
+	}
+
+	@Benchmark
+	public Object createProxy(ClassLoadingCounters counters) {
+		return createProxy(this.factory);
+	}
+
+	@Benchmark
+	public Object createProxyWithNewFactory(ClassLoadingCounters counters) {
+		return createProxy(new LazyLoadingProxyFactory());
+	}
+
+	private Object createProxy(LazyLoadingProxyFactory factory) {
+		return factory.createLazyLoadingProxy(Customer.class, this.property, Customer::new, 1L, Function.identity());
+	}
+
+	/**
+	 * Reports the number of classes loaded during an iteration.
+	 */
+	@State(Scope.Thread)
+	@AuxCounters(AuxCounters.Type.EVENTS)
+	public static class ClassLoadingCounters {
+
+		private static final ClassLoadingMXBean CLASS_LOADING = ManagementFactory.getClassLoadingMXBean();
+
+		private long initialLoadedClassCount;
+
+		@Setup(Level.Iteration)
+		public void setup() {
+			this.initialLoadedClassCount = CLASS_LOADING.getTotalLoadedClassCount();
+		}
+
+		public long loadedClasses() {
+			return CLASS_LOADING.getTotalLoadedClassCount() - this.initialLoadedClassCount;
+		}
+
+	}
+
+	@Data
+	@NoArgsConstructor
+	@Namespace(name = "orders")
+	public static class Order {
+
+		@Id
+		private Long id;
+
+		private Long customerId;
+
+		@Transient
+		@NamespaceReference(indexName = "customerId", lazy = true)
+		private Customer customer;
+
+	}
+
+	@Data
+	@NoArgsConstructor
+	@Namespace(name = "customers")
+	public static class Customer {
+
+		@Id
+		private Long id;
+
+		private String name;
+
+	}
+
+}
@@ -15,6 +15,7 @@
  */
 package org.springframework.data.reindexer.core.convert;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
 import java.util.UUID;
@@ -24,10 +25,12 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.junit.platform.commons.annotation.Testable;
 import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
 import org.openjdk.jmh.annotations.Scope;
 import org.openjdk.jmh.annotations.Setup;
 import org.openjdk.jmh.annotations.State;
 import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
 import ru.rt.restream.reindexer.Reindexer;
 import ru.rt.restream.reindexer.ReindexerConfiguration;
 
@@ -49,6 +52,8 @@ public class MappingReindexerConverterBenchmark extends AbstractMicrobenchmark {
 
 	private static final String DB_NAME = "test";
 
+	private static final int ROWS = 100_000;
+
 	private Reindexer reindexer;
 
 	private MappingReindexerConverter converter;
@@ -61,6 +66,8 @@ public class MappingReindexerConverterBenchmark extends AbstractMicrobenchmark {
 
 	private Customer customer;
 
+	private List<Customer> customers;
+
 	@Setup
 	public void setup() {
 		// @formatter:off
@@ -70,6 +77,11 @@ public class MappingReindexerConverterBenchmark extends AbstractMicrobenchmark {
 				new BankAccount(new BankAccountInformation("789", "SAVINGS"), new Address("4444", "Washington"))
 		));
 		// @formatter:on
+		this.customers = new ArrayList<>(ROWS);
+		for (int i = 0; i < ROWS; i++) {
+			this.customers.add(new Customer(UUID.randomUUID(), "John" + i, "Doe" + i, this.customer.getAddress(),
+					this.customer.getBankAccounts()));
+		}
 		this.reindexer = ReindexerConfiguration.builder()
 			.url("cproto://localhost:" + RPC_PORT + "/" + DB_NAME)
 			.getReindexer();
@@ -91,6 +103,11 @@ public class MappingReindexerConverterBenchmark extends AbstractMicrobenchmark {
 		this.reindexer.close();
 	}
 
+	@Benchmark
+	public Customer readCustomer() {
+		return this.converter.read(Customer.class, this.customer);
+	}
+
 	@Benchmark
 	public CustomerRecord projectCustomerRecord() {
 		return this.converter.project(this.customerRecordProjection, this.customer);
@@ -106,6 +123,27 @@ public class MappingReindexerConverterBenchmark extends AbstractMicrobenchmark {
 		return this.converter.project(this.customerWithAddressAndBankAccountsRecordProjection, this.customer);
 	}
 
+	@Benchmark
+	@OperationsPerInvocation(ROWS)
+	public void projectCustomerWithAddressRecordRowsIntrospectingPerRow(Blackhole blackhole) {
+		for (Customer customer : this.customers) {
+			EntityProjection<CustomerWithAddressRecord, Customer> projection = this.converter
+				.getProjectionIntrospector()
+				.introspect(CustomerWithAddressRecord.class, Customer.class);
+			blackhole.consume(this.converter.project(projection, customer));
+		}
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(ROWS)
+	public void projectCustomerWithAddressRecordRowsUsingCachedProjection(Blackhole blackhole) {
+		EntityProjection<CustomerWithAddressRecord, Customer> projection = this.converter
+			.getEntityProjection(CustomerWithAddressRecord.class, Customer.class);
+		for (Customer customer : this.customers) {
+			blackhole.consume(this.converter.project(projection, customer));
+		}
+	}
+
 	@Data
 	@NoArgsConstructor
 	@AllArgsConstructor
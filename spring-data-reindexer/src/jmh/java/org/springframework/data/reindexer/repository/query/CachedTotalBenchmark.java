@@ -0,0 +1,139 @@
+/*
+ * Copyright 2022-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.reindexer.repository.query;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.junit.platform.commons.annotation.Testable;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import ru.rt.restream.reindexer.Reindexer;
+import ru.rt.restream.reindexer.ReindexerConfiguration;
+import ru.rt.restream.reindexer.annotations.Reindex;
+
+import org.springframework.context.support.StaticApplicationContext;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.reindexer.AbstractMicrobenchmark;
+import org.springframework.data.reindexer.core.convert.MappingReindexerConverter;
+import org.springframework.data.reindexer.core.convert.ReindexerSimpleTypes;
+import org.springframework.data.reindexer.core.mapping.CachedTotal;
+import org.springframework.data.reindexer.core.mapping.Namespace;
+import org.springframework.data.reindexer.core.mapping.ReindexerMappingContext;
+import org.springframework.data.reindexer.repository.ReindexerRepository;
+import org.springframework.data.reindexer.repository.support.DefaultReindexerNamespaceFactory;
+import org.springframework.data.reindexer.repository.support.ReindexerRepositoryFactory;
+
+/**
+ * @author Evgeniy Cheban
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Testable
+public class CachedTotalBenchmark extends AbstractMicrobenchmark {
+
+	private static final int RPC_PORT = 6534;
+
+	private static final String DB_NAME = "test";
+
+	private static final int ROWS = 1_000_000;
+
+	private static final Pageable PAGEABLE = PageRequest.of(10, 20);
+
+	private Reindexer reindexer;
+
+	private ItemRepository repository;
+
+	@Setup
+	public void setup() {
+		this.reindexer = ReindexerConfiguration.builder()
+			.url("cproto://localhost:" + RPC_PORT + "/" + DB_NAME)
+			.getReindexer();
+		ReindexerMappingContext mappingContext = new ReindexerMappingContext();
+		mappingContext.setInitialEntitySet(Set.of(Item.class));
+		mappingContext.setSimpleTypeHolder(ReindexerSimpleTypes.HOLDER);
+		mappingContext.setAutoIndexCreation(true);
+		DefaultReindexerNamespaceFactory namespaceFactory = new DefaultReindexerNamespaceFactory(this.reindexer,
+				mappingContext);
+		MappingReindexerConverter converter = new MappingReindexerConverter(this.reindexer, mappingContext,
+				namespaceFactory);
+		this.repository = new ReindexerRepositoryFactory(mappingContext, namespaceFactory, converter,
+				new StaticApplicationContext())
+			.getRepository(ItemRepository.class);
+		List<Item> items = new ArrayList<>(ROWS);
+		for (long i = 0; i < ROWS; i++) {
+			items.add(new Item(i, "Name" + i, "Value" + (i % 2)));
+		}
+		this.repository.saveAll(items);
+	}
+
+	@TearDown
+	public void tearDown() {
+		this.repository.deleteAll();
+		this.reindexer.close();
+	}
+
+	@Benchmark
+	public Page<Item> findPageWithExactTotal() {
+		return this.repository.findByValue("Value0", PAGEABLE);
+	}
+
+	@Benchmark
+	public Page<Item> findPageWithCachedTotal() {
+		return this.repository.findCachedTotalByValue("Value0", PAGEABLE);
+	}
+
+	public interface ItemRepository extends ReindexerRepository<Item, Long> {
+
+		Page<Item> findByValue(String value, Pageable pageable);
+
+		@CachedTotal(value = 1, timeUnit = TimeUnit.MINUTES)
+		Page<Item> findCachedTotalByValue(String value, Pageable pageable);
+
+	}
+
+	@Data
+	@NoArgsConstructor
+	@AllArgsConstructor
+	@Namespace(name = "items")
+	public static class Item {
+
+		@Id
+		private Long id;
+
+		private String name;
+
+		@Reindex(name = "value")
+		private String value;
+
+	}
+
+}
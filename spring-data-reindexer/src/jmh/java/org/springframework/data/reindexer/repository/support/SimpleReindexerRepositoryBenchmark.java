@@ -0,0 +1,149 @@
+/*
+ * Copyright 2022-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.reindexer.repository.support;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.junit.platform.commons.annotation.Testable;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import ru.rt.restream.reindexer.Reindexer;
+import ru.rt.restream.reindexer.ReindexerConfiguration;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.domain.Example;
+import org.springframework.data.domain.ExampleMatcher;
+import org.springframework.data.domain.ExampleMatcher.GenericPropertyMatchers;
+import org.springframework.data.reindexer.AbstractMicrobenchmark;
+import org.springframework.data.reindexer.core.convert.MappingReindexerConverter;
+import org.springframework.data.reindexer.core.convert.ReindexerSimpleTypes;
+import org.springframework.data.reindexer.core.mapping.Namespace;
+import org.springframework.data.reindexer.core.mapping.ReindexerMappingContext;
+import org.springframework.data.reindexer.core.mapping.ReindexerPersistentEntity;
+
+/**
+ * @author Evgeniy Cheban
+ */
+@State(Scope.Benchmark)
+@Testable
+public class SimpleReindexerRepositoryBenchmark extends AbstractMicrobenchmark {
+
+	private static final int RPC_PORT = 6534;
+
+	private static final String DB_NAME = "test";
+
+	private static final int ROWS = 10_000;
+
+	private Reindexer reindexer;
+
+	private ExecutorService executor;
+
+	private SimpleReindexerRepository<Item, Long> repository;
+
+	private SimpleReindexerRepository<Item, Long> concurrentRepository;
+
+	private List<Item> items;
+
+	private Example<Item> example;
+
+	@Setup
+	@SuppressWarnings("unchecked")
+	public void setup() {
+		this.items = new ArrayList<>(ROWS);
+		for (long i = 0; i < ROWS; i++) {
+			this.items.add(new Item(i, "Name" + i, "Value" + i));
+		}
+		this.reindexer = ReindexerConfiguration.builder()
+			.url("cproto://localhost:" + RPC_PORT + "/" + DB_NAME)
+			.getReindexer();
+		ReindexerMappingContext mappingContext = new ReindexerMappingContext();
+		mappingContext.setInitialEntitySet(Set.of(Item.class));
+		mappingContext.setSimpleTypeHolder(ReindexerSimpleTypes.HOLDER);
+		mappingContext.setAutoIndexCreation(true);
+		DefaultReindexerNamespaceFactory namespaceFactory = new DefaultReindexerNamespaceFactory(this.reindexer,
+				mappingContext);
+		MappingReindexerConverter converter = new MappingReindexerConverter(this.reindexer, mappingContext,
+				namespaceFactory);
+		MappingReindexerEntityInformation<Item, Long> entityInformation = new MappingReindexerEntityInformation<>(
+				(ReindexerPersistentEntity<Item>) mappingContext.getRequiredPersistentEntity(Item.class));
+		this.repository = new SimpleReindexerRepository<>(entityInformation, mappingContext, namespaceFactory,
+				converter);
+		this.executor = Executors.newFixedThreadPool(4);
+		this.concurrentRepository = new SimpleReindexerRepository<>(entityInformation, mappingContext,
+				namespaceFactory, converter);
+		this.concurrentRepository.setBatchExecutor(this.executor);
+		this.example = Example.of(new Item(null, "Name1", "Value1"),
+				ExampleMatcher.matching().withMatcher("name", GenericPropertyMatchers.startsWith()));
+	}
+
+	@TearDown
+	public void tearDown() {
+		this.executor.shutdown();
+		this.reindexer.close();
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(ROWS)
+	public void saveItemsOneByOne() {
+		for (Item item : this.items) {
+			this.repository.save(item);
+		}
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(ROWS)
+	public List<Item> saveAllItemsInChunks() {
+		return this.repository.saveAll(this.items);
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(ROWS)
+	public List<Item> saveAllItemsInConcurrentChunks() {
+		return this.concurrentRepository.saveAll(this.items);
+	}
+
+	@Benchmark
+	public long countByExample() {
+		return this.repository.count(this.example);
+	}
+
+	@Data
+	@NoArgsConstructor
+	@AllArgsConstructor
+	@Namespace(name = "items")
+	public static class Item {
+
+		@Id
+		private Long id;
+
+		private String name;
+
+		private String value;
+
+	}
+
+}
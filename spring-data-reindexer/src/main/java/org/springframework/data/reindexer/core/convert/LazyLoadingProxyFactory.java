@@ -21,6 +21,7 @@ import java.io.ObjectOutputStream;
 import java.io.Serial;
 import java.io.Serializable;
 import java.lang.reflect.Method;
+import java.util.Map;
 import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.function.Function;
@@ -43,6 +44,9 @@ import org.springframework.data.reindexer.core.mapping.ReindexerPersistentProper
 import org.springframework.data.util.Lock;
 import org.springframework.data.util.Lock.AcquiredLock;
 import org.springframework.objenesis.SpringObjenesis;
+import org.springframework.objenesis.instantiator.ObjectInstantiator;
+import org.springframework.util.ConcurrentReferenceHashMap;
+import org.springframework.util.ConcurrentReferenceHashMap.ReferenceType;
 import org.springframework.util.ReflectionUtils;
 
 /**
@@ -59,6 +63,15 @@ public final class LazyLoadingProxyFactory {
 
 	private final SpringObjenesis objenesis = new SpringObjenesis();
 
+	/**
+	 * Instantiators of the enhanced proxy classes keyed by the target {@link Class}
+	 * itself, so types with the same name loaded by different class loaders get distinct
+	 * proxy classes. Entries are weakly referenced, so the cache does not prevent
+	 * redeployed class loaders from being garbage collected.
+	 */
+	private final Map<Class<?>, ObjectInstantiator<?>> instantiators = new ConcurrentReferenceHashMap<>(16,
+			ReferenceType.WEAK);
+
 	/**
 	 * Creates a lazy loading proxy that uses {@literal callback} to fetch an association.
 	 * @param type the target type of the proxy being created to use
@@ -72,7 +85,7 @@ public final class LazyLoadingProxyFactory {
 			Function<@Nullable Object, @Nullable Object> valueConverter) {
 		LazyLoadingInterceptor interceptor = new LazyLoadingInterceptor(property, callback, source, valueConverter);
 		if (!type.isInterface()) {
-			Factory factory = (Factory) this.objenesis.newInstance(getEnhancedTypeFor(type));
+			Factory factory = (Factory) this.instantiators.computeIfAbsent(type, this::createInstantiator).newInstance();
 			factory.setCallbacks(new Callback[] { interceptor });
 			return factory;
 		}
@@ -81,6 +94,10 @@ public final class LazyLoadingProxyFactory {
 		return proxyFactory.getProxy(LazyLoadingProxy.class.getClassLoader());
 	}
 
+	private ObjectInstantiator<?> createInstantiator(Class<?> type) {
+		return this.objenesis.getInstantiatorOf(getEnhancedTypeFor(type));
+	}
+
 	private Class<?> getEnhancedTypeFor(Class<?> type) {
 		Enhancer enhancer = new Enhancer();
 		enhancer.setSuperclass(type);
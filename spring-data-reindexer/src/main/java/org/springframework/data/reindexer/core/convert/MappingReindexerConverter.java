@@ -18,8 +18,11 @@ package org.springframework.data.reindexer.core.convert;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Supplier;
 
 import org.jspecify.annotations.Nullable;
@@ -73,6 +76,7 @@ import org.springframework.expression.PropertyAccessor;
 import org.springframework.expression.TypedValue;
 import org.springframework.expression.spel.standard.SpelExpressionParser;
 import org.springframework.util.Assert;
+import org.springframework.util.ConcurrentLruCache;
 import org.springframework.util.ObjectUtils;
 import org.springframework.util.StringUtils;
 
@@ -100,6 +104,8 @@ public class MappingReindexerConverter
 	private final SpelAwareProxyProjectionFactory projectionFactory = new SpelAwareProxyProjectionFactory(
 			this.expressionParser);
 
+	private final Map<ReindexerPersistentEntity<?>, List<ReindexerPersistentProperty>> readPlans = new ConcurrentHashMap<>();
+
 	private final Reindexer reindexer;
 
 	private final ReindexerMappingContext mappingContext;
@@ -108,6 +114,8 @@ public class MappingReindexerConverter
 
 	private final EntityProjectionIntrospector projectionIntrospector;
 
+	private final ConcurrentLruCache<EntityProjectionKey, EntityProjection<?, ?>> entityProjections;
+
 	private ReindexerCustomConversions conversions = new ReindexerCustomConversions();
 
 	private EntityInstantiators instantiators = new EntityInstantiators();
@@ -128,6 +136,8 @@ public class MappingReindexerConverter
 				EntityProjectionIntrospector.ProjectionPredicate.typeHierarchy()
 					.and(((target, underlyingType) -> !this.conversions.isSimpleType(target))),
 				mappingContext);
+		this.entityProjections = new ConcurrentLruCache<>(256,
+				(key) -> this.projectionIntrospector.introspect(key.mappedType(), key.domainType()));
 	}
 
 	@Override
@@ -145,6 +155,12 @@ public class MappingReindexerConverter
 		return this.projectionIntrospector;
 	}
 
+	@SuppressWarnings("unchecked")
+	@Override
+	public <M, D> EntityProjection<M, D> getEntityProjection(Class<M> mappedType, Class<D> domainType) {
+		return (EntityProjection<M, D>) this.entityProjections.get(new EntityProjectionKey(mappedType, domainType));
+	}
+
 	@Override
 	public ReindexerCustomConversions getCustomConversions() {
 		return this.conversions;
@@ -157,6 +173,7 @@ public class MappingReindexerConverter
 	public void setConversions(ReindexerCustomConversions conversions) {
 		Assert.notNull(conversions, "conversions must not be null");
 		this.conversions = conversions;
+		this.readPlans.clear();
 	}
 
 	/**
@@ -168,15 +185,26 @@ public class MappingReindexerConverter
 		this.instantiators = instantiators == null ? new EntityInstantiators() : instantiators;
 	}
 
-	@SuppressWarnings("unchecked")
 	@Override
 	public <R, E> R project(EntityProjection<R, E> entityProjection, E entity) {
+		return doProject(entityProjection, entity, null);
+	}
+
+	@Override
+	public <R, E> R project(EntityProjection<R, E> entityProjection, E entity, NamespaceReferenceBatches batches) {
+		Assert.notNull(batches, "batches cannot be null");
+		return doProject(entityProjection, entity, batches);
+	}
+
+	@SuppressWarnings("unchecked")
+	private <R, E> R doProject(EntityProjection<R, E> entityProjection, E entity,
+			@Nullable NamespaceReferenceBatches batches) {
 		if (!entityProjection.isProjection()) {
-			return (R) read(entityProjection.getDomainType().getType(), entity);
+			return (R) doRead(entityProjection.getDomainType().getType(), entity, batches);
 		}
 		if (entityProjection.getMappedType().getType().isInterface()) {
 			return this.projectionFactory.createProjection(entityProjection.getMappedType().getType(),
-					read(entityProjection.getDomainType().getType(), entity));
+					doRead(entityProjection.getDomainType().getType(), entity, batches));
 		}
 		ReindexerPersistentEntity<?> domainEntity = this.mappingContext
 			.getRequiredPersistentEntity(entityProjection.getDomainType());
@@ -184,7 +212,8 @@ public class MappingReindexerConverter
 		ReindexerPersistentEntity<?> mappedEntity = this.mappingContext
 			.getRequiredPersistentEntity(entityProjection.getMappedType());
 		EntityInstantiator instantiator = this.instantiators.getInstantiatorFor(mappedEntity);
-		ReindexerPropertyValueProvider valueProvider = new ReindexerPropertyValueProvider(domainEntity, domainAccessor);
+		ReindexerPropertyValueProvider valueProvider = new ReindexerPropertyValueProvider(domainEntity, domainAccessor,
+				batches);
 		Object instance = instantiator.createInstance(mappedEntity, getParameterProvider(mappedEntity, valueProvider));
 		PersistentPropertyAccessor<?> mappedAccessor = mappedEntity.getPropertyAccessor(instance);
 		if (mappedEntity.requiresPropertyPopulation()) {
@@ -201,16 +230,74 @@ public class MappingReindexerConverter
 		return new ValueExpressionParameterValueProvider<>(evaluator, this.conversionService, parameterProvider);
 	}
 
-	@SuppressWarnings("unchecked")
 	@Override
 	public <R> R read(Class<R> type, Object source) {
+		return doRead(type, source, null);
+	}
+
+	@Override
+	public <R> R read(Class<R> type, Object source, NamespaceReferenceBatches batches) {
+		Assert.notNull(batches, "batches cannot be null");
+		return doRead(type, source, batches);
+	}
+
+	@SuppressWarnings("unchecked")
+	private <R> R doRead(Class<R> type, Object source, @Nullable NamespaceReferenceBatches batches) {
 		ReindexerPersistentEntity<?> entity = this.mappingContext.getRequiredPersistentEntity(type);
+		List<ReindexerPersistentProperty> properties = getReadPlan(entity, new HashSet<>());
+		if (properties.isEmpty()) {
+			// The domain entity has been fully read during deserialization in
+			// reindexer-java connector.
+			return (R) source;
+		}
 		PersistentPropertyAccessor<?> accessor = entity.getPropertyAccessor(source);
-		ReindexerPropertyValueProvider valueProvider = new ReindexerPropertyValueProvider(entity, accessor);
-		populateProperties(entity, accessor, valueProvider);
+		ReindexerPropertyValueProvider valueProvider = new ReindexerPropertyValueProvider(entity, accessor, batches);
+		for (ReindexerPersistentProperty property : properties) {
+			accessor.setProperty(property, valueProvider.getPropertyValue(property));
+		}
 		return (R) accessor.getBean();
 	}
 
+	/**
+	 * Returns properties of the given domain entity that still need to be populated after
+	 * the entity has been deserialized, such as namespace references, SpEL-based values
+	 * and nested entities that contain any of them.
+	 */
+	private List<ReindexerPersistentProperty> getReadPlan(ReindexerPersistentEntity<?> entity,
+			Set<ReindexerPersistentEntity<?>> resolving) {
+		List<ReindexerPersistentProperty> readPlan = this.readPlans.get(entity);
+		if (readPlan != null) {
+			return readPlan;
+		}
+		resolving.add(entity);
+		List<ReindexerPersistentProperty> properties = new ArrayList<>();
+		for (ReindexerPersistentProperty property : entity) {
+			if (!entity.isCreatorArgument(property) && property.isReadable() && requiresRead(property, resolving)) {
+				properties.add(property);
+			}
+		}
+		resolving.remove(entity);
+		readPlan = List.copyOf(properties);
+		this.readPlans.putIfAbsent(entity, readPlan);
+		return readPlan;
+	}
+
+	private boolean requiresRead(ReindexerPersistentProperty property, Set<ReindexerPersistentEntity<?>> resolving) {
+		if (property.isNamespaceReference() || property.getSpelExpression() != null) {
+			return true;
+		}
+		Class<?> actualType = property.getActualType();
+		if (this.conversions.hasCustomReadTarget(actualType, actualType)) {
+			return true;
+		}
+		if (property.isEntity()) {
+			ReindexerPersistentEntity<?> entity = this.mappingContext.getPersistentEntity(property);
+			// Recursive structures are always populated.
+			return entity == null || resolving.contains(entity) || !getReadPlan(entity, resolving).isEmpty();
+		}
+		return false;
+	}
+
 	private void populateProperties(ReindexerPersistentEntity<?> entity, PersistentPropertyAccessor<?> accessor,
 			ReindexerPropertyValueProvider valueProvider) {
 		for (ReindexerPersistentProperty property : entity) {
@@ -250,6 +337,32 @@ public class MappingReindexerConverter
 		return this.environment;
 	}
 
+	private NamespaceReferenceBatch createBatch(ReindexerPersistentProperty sourceProperty,
+			ReindexerPersistentEntity<?> referenceEntity) {
+		NamespaceReference namespaceReference = sourceProperty.getNamespaceReference();
+		String indexName = getReferencedIndexName(namespaceReference, referenceEntity);
+		ReindexerPersistentProperty referencedProperty = referenceEntity.getRequiredPersistentProperty(indexName);
+		Class<?> sourceType = sourceProperty.getOwner()
+			.getRequiredPersistentProperty(namespaceReference.indexName())
+			.getType();
+		return new NamespaceReferenceBatch(namespaceReference.batchSize(), namespaceReference.nullable(),
+				(sources) -> createReferenceQuery(referenceEntity).where(indexName, Condition.SET, sources).toList(),
+				(reference) -> this.conversionService.convert(
+						referenceEntity.getPropertyAccessor(reference).getProperty(referencedProperty), sourceType));
+	}
+
+	private String getReferencedIndexName(NamespaceReference namespaceReference,
+			ReindexerPersistentEntity<?> referenceEntity) {
+		return StringUtils.hasText(namespaceReference.referencedIndexName())
+				? namespaceReference.referencedIndexName() : referenceEntity.getRequiredIdProperty().getName();
+	}
+
+	private Query<?> createReferenceQuery(ReindexerPersistentEntity<?> referenceEntity) {
+		Namespace<?> namespace = this.namespaceFactory.openNamespace(referenceEntity.getType());
+		return QueryUtils.withJoins(namespace.query(), referenceEntity.getType(), this.mappingContext,
+				this.namespaceFactory);
+	}
+
 	private final class ReindexerPropertyValueProvider implements PropertyValueProvider<ReindexerPersistentProperty> {
 
 		private final ReindexerPersistentEntity<?> entity;
@@ -258,10 +371,13 @@ public class MappingReindexerConverter
 
 		private final ReindexerExpressionEvaluator evaluator;
 
+		private final @Nullable NamespaceReferenceBatches batches;
+
 		private ReindexerPropertyValueProvider(ReindexerPersistentEntity<?> entity,
-				PersistentPropertyAccessor<?> accessor) {
+				PersistentPropertyAccessor<?> accessor, @Nullable NamespaceReferenceBatches batches) {
 			this.entity = entity;
 			this.accessor = accessor;
+			this.batches = batches;
 			this.evaluator = MappingReindexerConverter.this.expressionEvaluatorFactory.create(accessor.getBean());
 		}
 
@@ -330,6 +446,15 @@ public class MappingReindexerConverter
 			}
 			ReindexerPersistentEntity<?> referenceEntity = MappingReindexerConverter.this.mappingContext
 				.getRequiredPersistentEntity(sourceProperty);
+			if (this.batches != null && shouldBatch(namespaceReference, source)) {
+				NamespaceReferenceBatch batch = this.batches.getBatch(sourceProperty,
+						(p) -> createBatch(p, referenceEntity));
+				NamespaceReferenceBatch.Entry entry = batch.register(source);
+				return MappingReindexerConverter.this.lazyLoadingProxyFactory.createLazyLoadingProxy(
+						targetProperty.getType(), sourceProperty, () -> batch.resolve(entry),
+						new NamespaceReferenceSource(referenceEntity.getNamespace(), source),
+						resolvedReference -> readPropertyValue(sourceProperty, targetProperty, resolvedReference));
+			}
 			Supplier<@Nullable Object> callback = () -> {
 				if (StringUtils.hasText(namespaceReference.lookup())) {
 					Map<String, Object> variables = new HashMap<>();
@@ -350,12 +475,8 @@ public class MappingReindexerConverter
 						return getSingleResult(iterator, namespaceReference.nullable());
 					}
 				}
-				String indexName = StringUtils.hasText(namespaceReference.referencedIndexName())
-						? namespaceReference.referencedIndexName() : referenceEntity.getRequiredIdProperty().getName();
-				Namespace<?> namespace = MappingReindexerConverter.this.namespaceFactory
-					.openNamespace(referenceEntity.getType());
-				Query<?> query = QueryUtils.withJoins(namespace.query(), referenceEntity.getType(),
-						MappingReindexerConverter.this.mappingContext, MappingReindexerConverter.this.namespaceFactory);
+				String indexName = getReferencedIndexName(namespaceReference, referenceEntity);
+				Query<?> query = createReferenceQuery(referenceEntity);
 				Sort sort = SortUtils.getSort(namespaceReference.sort());
 				if (sort.isSorted()) {
 					for (Order order : sort) {
@@ -375,6 +496,11 @@ public class MappingReindexerConverter
 					resolvedReference -> readPropertyValue(sourceProperty, targetProperty, resolvedReference));
 		}
 
+		private boolean shouldBatch(NamespaceReference namespaceReference, Object source) {
+			return namespaceReference.batchSize() > 1 && namespaceReference.lazy()
+					&& !StringUtils.hasText(namespaceReference.lookup()) && !(source instanceof Collection<?>);
+		}
+
 		private @Nullable Object getSingleResult(ResultIterator<?> iterator, boolean nullable) {
 			Object result = iterator.hasNext() ? iterator.next() : null;
 			if (result == null && !nullable) {
@@ -449,4 +575,7 @@ public class MappingReindexerConverter
 
 	}
 
+	private record EntityProjectionKey(Class<?> mappedType, Class<?> domainType) {
+	}
+
 }
@@ -0,0 +1,180 @@
+/*
+ * Copyright 2022-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.reindexer.core.convert;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.dao.EmptyResultDataAccessException;
+import org.springframework.dao.IncorrectResultSizeDataAccessException;
+import org.springframework.data.util.Lock;
+import org.springframework.data.util.Lock.AcquiredLock;
+
+/**
+ * Collects unresolved sources of lazily loaded single-valued namespace references that
+ * belong to the same property of the entities read from a single result, so that they
+ * can be fetched by a single query once any of them is resolved. The sources are fetched
+ * in the order they are registered, up to {@literal batchSize} at once, so iterating the
+ * entities of a result in order issues one query per {@literal batchSize} entities.
+ * <p>
+ * For internal use only, as this contract is likely to change.
+ *
+ * @author Evgeniy Cheban
+ * @since 1.7
+ * @see org.springframework.data.reindexer.core.mapping.NamespaceReference#batchSize()
+ */
+final class NamespaceReferenceBatch {
+
+	private final Lock lock = Lock.of(new ReentrantLock());
+
+	private final Set<Entry> pending = new LinkedHashSet<>();
+
+	private final int batchSize;
+
+	private final boolean nullable;
+
+	private final Function<Set<Object>, List<?>> loader;
+
+	private final Function<Object, @Nullable Object> keyExtractor;
+
+	/**
+	 * Creates an instance.
+	 * @param batchSize the maximum number of sources to fetch at once
+	 * @param nullable whether the referenced entity is allowed to be {@literal null}
+	 * @param loader the function to fetch the referenced entities by the given sources
+	 * @param keyExtractor the function to extract a source from the referenced entity
+	 */
+	NamespaceReferenceBatch(int batchSize, boolean nullable, Function<Set<Object>, List<?>> loader,
+			Function<Object, @Nullable Object> keyExtractor) {
+		this.batchSize = batchSize;
+		this.nullable = nullable;
+		this.loader = loader;
+		this.keyExtractor = keyExtractor;
+	}
+
+	/**
+	 * Registers the source of an unresolved reference.
+	 * @param source the source to register
+	 * @return the {@link Entry} to resolve the reference with
+	 */
+	Entry register(Object source) {
+		Entry entry = new Entry(source);
+		try (AcquiredLock l = this.lock.lock()) {
+			this.pending.add(entry);
+		}
+		return entry;
+	}
+
+	/**
+	 * Resolves the given {@link Entry} along with the earliest registered pending ones,
+	 * or waits until it is resolved by a concurrent batch.
+	 * @param entry the {@link Entry} to resolve
+	 * @return the referenced entity, can be {@literal null}
+	 */
+	@Nullable Object resolve(Entry entry) {
+		if (!entry.result.isDone()) {
+			List<Entry> batch = new ArrayList<>(this.batchSize);
+			try (AcquiredLock l = this.lock.lock()) {
+				// The entry has already been taken by a concurrent batch if it is not pending.
+				if (this.pending.remove(entry)) {
+					batch.add(entry);
+					Iterator<Entry> iterator = this.pending.iterator();
+					while (batch.size() < this.batchSize && iterator.hasNext()) {
+						batch.add(iterator.next());
+						iterator.remove();
+					}
+				}
+			}
+			if (!batch.isEmpty()) {
+				load(batch);
+			}
+		}
+		try {
+			return entry.result.join();
+		}
+		catch (CompletionException e) {
+			if (e.getCause() instanceof RuntimeException ex) {
+				throw ex;
+			}
+			throw e;
+		}
+	}
+
+	private void load(List<Entry> batch) {
+		try {
+			Set<Object> sources = new LinkedHashSet<>();
+			for (Entry entry : batch) {
+				sources.add(entry.source);
+			}
+			Map<Object, List<Object>> results = new HashMap<>();
+			for (Object result : this.loader.apply(sources)) {
+				Object key = this.keyExtractor.apply(result);
+				if (key != null) {
+					results.computeIfAbsent(key, (k) -> new ArrayList<>(1)).add(result);
+				}
+			}
+			for (Entry entry : batch) {
+				List<Object> candidates = results.get(entry.source);
+				if (candidates == null || candidates.isEmpty()) {
+					if (this.nullable) {
+						entry.result.complete(null);
+					}
+					else {
+						entry.result.completeExceptionally(new EmptyResultDataAccessException(1));
+					}
+				}
+				else if (candidates.size() > 1) {
+					entry.result.completeExceptionally(new IncorrectResultSizeDataAccessException(1));
+				}
+				else {
+					entry.result.complete(candidates.get(0));
+				}
+			}
+		}
+		catch (Throwable e) {
+			for (Entry entry : batch) {
+				entry.result.completeExceptionally(e);
+			}
+		}
+	}
+
+	/**
+	 * A source of an unresolved reference registered in the batch.
+	 */
+	static final class Entry {
+
+		private final Object source;
+
+		private final CompletableFuture<@Nullable Object> result = new CompletableFuture<>();
+
+		private Entry(Object source) {
+			this.source = source;
+		}
+
+	}
+
+}
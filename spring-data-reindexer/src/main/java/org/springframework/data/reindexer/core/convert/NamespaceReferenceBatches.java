@@ -0,0 +1,43 @@
+/*
+ * Copyright 2022-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.reindexer.core.convert;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import org.springframework.data.reindexer.core.mapping.ReindexerPersistentProperty;
+
+/**
+ * Holds the batches of lazily loaded namespace references of the entities read from a
+ * single result, e.g., a query or a repository method call. References are only fetched
+ * along with the references of the entities read with the same instance, so unrelated
+ * reads never share a batch. A new instance should be created for every result.
+ *
+ * @author Evgeniy Cheban
+ * @since 1.7
+ * @see org.springframework.data.reindexer.core.mapping.NamespaceReference#batchSize()
+ */
+public final class NamespaceReferenceBatches {
+
+	private final Map<ReindexerPersistentProperty, NamespaceReferenceBatch> batches = new ConcurrentHashMap<>();
+
+	NamespaceReferenceBatch getBatch(ReindexerPersistentProperty property,
+			Function<ReindexerPersistentProperty, NamespaceReferenceBatch> batchFactory) {
+		return this.batches.computeIfAbsent(property, batchFactory);
+	}
+
+}
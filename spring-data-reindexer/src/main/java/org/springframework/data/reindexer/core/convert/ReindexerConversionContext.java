@@ -104,8 +104,7 @@ public class ReindexerConversionContext implements ValueConversionContext<Reinde
 	@SuppressWarnings("unchecked")
 	private @Nullable Object readEntity(Object value, TypeInformation<?> target) {
 		EntityProjection<Object, Object> projection = (EntityProjection<Object, Object>) this.reindexerConverter
-			.getProjectionIntrospector()
-			.introspect(target.getRequiredActualType().getType(), this.property.getActualType());
+			.getEntityProjection(target.getRequiredActualType().getType(), this.property.getActualType());
 		if (value instanceof Iterable<?> referenceEntities) {
 			List<Object> projectionEntities = new ArrayList<>();
 			for (Object projectionEntity : referenceEntities) {
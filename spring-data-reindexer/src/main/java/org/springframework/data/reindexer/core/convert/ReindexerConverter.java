@@ -47,12 +47,62 @@ public interface ReindexerConverter
 	 */
 	<R, E> R project(EntityProjection<R, E> entityProjection, E entity);
 
+	/**
+	 * Apply a projection to {@link E} and return the projection return type {@code R}.
+	 * Lazily loaded namespace references are fetched in batches along with the references
+	 * of the other entities projected with the given {@link NamespaceReferenceBatches}.
+	 * @param entityProjection the projection entity descriptor, must not be
+	 * {@literal null}.
+	 * @param entity must not be {@literal null}.
+	 * @param batches the {@link NamespaceReferenceBatches} of the result the entity is
+	 * read from
+	 * @param <R> projection type
+	 * @param <E> entity type
+	 * @return a new instance of the projection return type {@code R}.
+	 * @since 1.7
+	 */
+	default <R, E> R project(EntityProjection<R, E> entityProjection, E entity, NamespaceReferenceBatches batches) {
+		return project(entityProjection, entity);
+	}
+
+	/**
+	 * Reads the given source into the given type. Lazily loaded namespace references are
+	 * fetched in batches along with the references of the other entities read with the
+	 * given {@link NamespaceReferenceBatches}.
+	 * @param type the type to read into
+	 * @param source the source to read
+	 * @param batches the {@link NamespaceReferenceBatches} of the result the source is
+	 * read from
+	 * @param <R> the type to read into
+	 * @return the read object
+	 * @since 1.7
+	 */
+	default <R> R read(Class<R> type, Object source, NamespaceReferenceBatches batches) {
+		return read(type, source);
+	}
+
 	/**
 	 * Returns a {@link EntityProjectionIntrospector} that introspects the returned type.
 	 * @return the {@link EntityProjectionIntrospector} to introspect the returned type
 	 */
 	EntityProjectionIntrospector getProjectionIntrospector();
 
+	/**
+	 * Returns an {@link EntityProjection} descriptor for the given mapped and domain
+	 * types. Since the descriptor only depends on the given types, implementations are
+	 * encouraged to cache it to avoid introspecting the types for every converted
+	 * object.
+	 * @param mappedType the mapped type to use
+	 * @param domainType the domain type to use
+	 * @param <M> the mapped type
+	 * @param <D> the domain type
+	 * @return the {@link EntityProjection} descriptor to use
+	 * @since 1.7
+	 */
+	default <M, D> EntityProjection<M, D> getEntityProjection(Class<M> mappedType, Class<D> domainType) {
+		return getProjectionIntrospector().introspect(mappedType, domainType);
+	}
+
 	/**
 	 * {@inheritDoc}
 	 */
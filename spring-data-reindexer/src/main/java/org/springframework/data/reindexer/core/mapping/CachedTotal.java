@@ -0,0 +1,52 @@
+/*
+ * Copyright 2022-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.reindexer.core.mapping;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Annotation to declare that a {@link org.springframework.data.domain.Page} query method
+ * may use an approximate total. The total is requested once for a combination of query
+ * method arguments and reused until it expires, so that subsequent pages are read
+ * without computing the total on the server. Applies to derived query methods and to
+ * {@link Query} methods that are neither native nor select {@code COUNT(*)} themselves.
+ *
+ * @author Evgeniy Cheban
+ * @since 1.7
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+@Documented
+public @interface CachedTotal {
+
+	/**
+	 * The time-to-live of a cached total.
+	 * @return the time-to-live of a cached total, defaults to {@literal 10}
+	 */
+	long value() default 10;
+
+	/**
+	 * The {@link TimeUnit} of the {@link #value()}.
+	 * @return the {@link TimeUnit} to use, defaults to {@link TimeUnit#SECONDS}
+	 */
+	TimeUnit timeUnit() default TimeUnit.SECONDS;
+
+}
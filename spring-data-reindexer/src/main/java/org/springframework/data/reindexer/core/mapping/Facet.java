@@ -0,0 +1,78 @@
+/*
+ * Copyright 2022-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.reindexer.core.mapping;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import org.springframework.data.domain.Sort;
+
+/**
+ * Annotation to declare a derived query method that groups the matching items by the
+ * given properties on the server and returns the groups with their counts instead of
+ * entities. The method may return a {@link java.util.Map} of the values of a single
+ * property to their counts, e.g., {@code Map<String, Long>}, or a
+ * {@link java.util.List} or a {@link java.util.stream.Stream} of records whose components
+ * are the values of the properties followed by the count, e.g.,
+ * {@code record NameCount(String name, long count)}.
+ *
+ * @author Evgeniy Cheban
+ * @since 1.7
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+@Documented
+public @interface Facet {
+
+	/**
+	 * The value of {@link #orderBy()} to sort the groups by their counts.
+	 */
+	String COUNT = "count";
+
+	/**
+	 * The properties to group the items by.
+	 * @return the properties to group the items by
+	 */
+	String[] value();
+
+	/**
+	 * The property or {@link #COUNT} to sort the groups by.
+	 * @return the property to sort the groups by, defaults to the order of the server
+	 */
+	String orderBy() default "";
+
+	/**
+	 * The {@link Sort.Direction} of the {@link #orderBy()}.
+	 * @return the {@link Sort.Direction} to use, defaults to {@link Sort.Direction#ASC}
+	 */
+	Sort.Direction direction() default Sort.Direction.ASC;
+
+	/**
+	 * The maximum number of groups to return.
+	 * @return the maximum number of groups to return, defaults to all groups
+	 */
+	int limit() default -1;
+
+	/**
+	 * The number of groups to skip.
+	 * @return the number of groups to skip, defaults to {@literal 0}
+	 */
+	int offset() default 0;
+
+}
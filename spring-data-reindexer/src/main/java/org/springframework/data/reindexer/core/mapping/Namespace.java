@@ -84,4 +84,20 @@ public @interface Namespace {
 	 */
 	long objCacheItemsCount() default NamespaceOptions.DEFAULT_OBJ_CACHE_ITEMS_COUNT;
 
+	/**
+	 * The maximum number of entities kept in the in-process near-cache that serves
+	 * {@code findById}, {@code existsById} and {@code findAllById}. Defaults to {@code 0}
+	 * which disables the near-cache.
+	 * <p>
+	 * Only writes made through repositories, their query methods and the
+	 * {@link ru.rt.restream.reindexer.Query} returned by their {@code query()} method
+	 * invalidate the near-cache. Writes made by other clients of the same database are
+	 * not tracked, so stale entities keep being served until they are evicted. Enable the
+	 * near-cache only for namespaces that are modified through repositories of this
+	 * application.
+	 * @return the near-cache size
+	 * @since 1.7
+	 */
+	int nearCacheSize() default 0;
+
 }
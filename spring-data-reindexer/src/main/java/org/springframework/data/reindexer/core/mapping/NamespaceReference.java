@@ -140,4 +140,18 @@ public @interface NamespaceReference {
 	 */
 	boolean nullable() default true;
 
+	/**
+	 * Defines the maximum number of lazily loaded references to fetch at once. When a
+	 * lazy single-valued reference is resolved, the unresolved references of the same
+	 * property of the other entities read from the same result are fetched along with it
+	 * using a single query, in the order the entities were read and up to this number.
+	 * Iterating a result in order thus issues one query per this number of entities
+	 * rather than a query per entity. Only applicable for lazily loaded references that
+	 * do not define a {@link #lookup()} query. This defaults to {@literal 1}, meaning that
+	 * every reference is fetched separately.
+	 * @return {@literal 1} by default
+	 * @since 1.7
+	 */
+	int batchSize() default 1;
+
 }
@@ -0,0 +1,48 @@
+/*
+ * Copyright 2022-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.reindexer.core.mapping;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Annotation to declare that a {@link java.util.Collection} query method projects its
+ * results in parallel. The query results are read first, then split into chunks that are
+ * projected on the repository's projection executor, keeping the result order. While a
+ * transaction is active the results are projected on the calling thread instead. Useful
+ * for DTO and interface projections or converted properties over large result sets.
+ * Applies to derived query methods and to {@link Query} methods.
+ *
+ * @author Evgeniy Cheban
+ * @since 1.7
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+@Documented
+public @interface ParallelProjection {
+
+	/**
+	 * The maximum number of results projected by a single task. Results that fit into a
+	 * single chunk are projected on the calling thread.
+	 * @return the maximum number of results projected by a single task, defaults to
+	 * {@literal 512}
+	 */
+	int chunkSize() default 512;
+
+}
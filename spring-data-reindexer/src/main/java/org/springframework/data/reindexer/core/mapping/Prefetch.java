@@ -0,0 +1,46 @@
+/*
+ * Copyright 2022-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.reindexer.core.mapping;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Annotation to declare that a {@link java.util.stream.Stream} query method reads its
+ * results ahead of the consumer. A background producer drains the query results into a
+ * bounded buffer while the consumer maps them, the producer stops once the
+ * {@link java.util.stream.Stream} is closed. Applies to derived query methods and to
+ * {@link Query} methods.
+ *
+ * @author Evgeniy Cheban
+ * @since 1.7
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+@Documented
+public @interface Prefetch {
+
+	/**
+	 * The maximum number of results read ahead of the consumer.
+	 * @return the maximum number of results read ahead of the consumer, defaults to
+	 * {@literal 1024}
+	 */
+	int value() default 1024;
+
+}
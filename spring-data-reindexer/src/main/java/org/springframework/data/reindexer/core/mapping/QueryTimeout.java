@@ -0,0 +1,61 @@
+/*
+ * Copyright 2022-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.reindexer.core.mapping;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Annotation to declare a client-side limit for the time a query method may spend
+ * fetching its results. The limit is checked before each result is read: once the time
+ * spent executing the query and fetching its results exceeds it, the results are
+ * closed, which releases them on the server and stops fetching further results, and a
+ * {@link org.springframework.dao.QueryTimeoutException} is thrown. The time the caller
+ * spends processing the results is not charged.
+ * <p>
+ * <strong>This is not a server-side query timeout.</strong> The Reindexer connector does
+ * not send a deadline to the server and a request that is in progress, including the
+ * initial execution of the query, is never interrupted or cancelled. Such a request runs
+ * until the server responds or the request timeout of the connector expires, which
+ * remains the only bound for a single request. Therefore the annotation is rejected on
+ * count, exists, aggregation, delete and update query methods, which complete in a
+ * single request and do not fetch results.
+ *
+ * @author Evgeniy Cheban
+ * @since 1.7
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+@Documented
+public @interface QueryTimeout {
+
+	/**
+	 * The time limit for executing the query and fetching its results.
+	 * @return the time limit for executing the query and fetching its results
+	 */
+	long value();
+
+	/**
+	 * The {@link TimeUnit} of the {@link #value()}.
+	 * @return the {@link TimeUnit} to use, defaults to {@link TimeUnit#SECONDS}
+	 */
+	TimeUnit timeUnit() default TimeUnit.SECONDS;
+
+}
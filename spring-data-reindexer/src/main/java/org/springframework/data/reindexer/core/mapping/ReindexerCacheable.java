@@ -0,0 +1,65 @@
+/*
+ * Copyright 2022-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.reindexer.core.mapping;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Annotation to declare that the results of a query method are cached, keyed by the
+ * query method arguments. A cached result is evicted once it expires, once the cache
+ * exceeds its maximum size, or once its namespace or a namespace referenced by
+ * {@link NamespaceReference} is modified through a repository, its {@code query()}, a
+ * modifying query or {@link ru.rt.restream.reindexer.Namespace} write operations.
+ * Results are neither cached nor read from the cache within a transaction. Cached results
+ * are shared between callers and should be treated as read-only. Applies to derived query
+ * methods and to {@link Query} methods that read data without joins. Declaring it on a
+ * method that deletes or updates data, that joins namespaces in its {@link Query} or that
+ * returns a {@link java.util.stream.Stream}, an {@link java.util.Iterator} or a reactive
+ * type fails when the repository is created.
+ *
+ * @author Evgeniy Cheban
+ * @since 1.7
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+@Documented
+public @interface ReindexerCacheable {
+
+	/**
+	 * The time-to-live of a cached result.
+	 * @return the time-to-live of a cached result, defaults to {@literal 60}
+	 */
+	long ttl() default 60;
+
+	/**
+	 * The {@link TimeUnit} of the {@link #ttl()}.
+	 * @return the {@link TimeUnit} to use, defaults to {@link TimeUnit#SECONDS}
+	 */
+	TimeUnit timeUnit() default TimeUnit.SECONDS;
+
+	/**
+	 * The maximum number of cached results, the least recently used result is evicted
+	 * once exceeded.
+	 * @return the maximum number of cached results, defaults to {@literal 256}
+	 */
+	int maxSize() default 256;
+
+}
@@ -0,0 +1,160 @@
+/*
+ * Copyright 2022-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.reindexer.observability;
+
+import io.micrometer.common.KeyValues;
+import io.micrometer.common.docs.KeyName;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import io.micrometer.observation.docs.ObservationDocumentation;
+
+/**
+ * {@link ObservationDocumentation} for Reindexer repositories. A repository method is
+ * observed as a whole, while the creation of its query, the server round trip and the
+ * iteration and projection of its results are observed separately.
+ *
+ * @author Evgeniy Cheban
+ * @since 1.7
+ */
+public enum ReindexerObservation implements ObservationDocumentation {
+
+	/**
+	 * An invocation of a repository method.
+	 */
+	REPOSITORY_METHOD {
+
+		@Override
+		public String getName() {
+			return "reindexer.repository.method";
+		}
+
+	},
+
+	/**
+	 * The creation of a query from the arguments of a query method.
+	 */
+	QUERY_CREATION {
+
+		@Override
+		public String getName() {
+			return "reindexer.query.creation";
+		}
+
+	},
+
+	/**
+	 * The execution of a query, up to the first batch of results being received.
+	 */
+	QUERY_EXECUTION {
+
+		@Override
+		public String getName() {
+			return "reindexer.query.execution";
+		}
+
+	},
+
+	/**
+	 * The iteration and projection of the results of a query, until its results are
+	 * closed.
+	 */
+	RESULT_PROJECTION {
+
+		@Override
+		public String getName() {
+			return "reindexer.query.projection";
+		}
+
+	};
+
+	@Override
+	public KeyName[] getLowCardinalityKeyNames() {
+		return LowCardinalityKeyNames.values();
+	}
+
+	/**
+	 * Creates a not started {@link Observation} that has the low cardinality key values
+	 * of the given {@link ReindexerObservationContext}.
+	 * @param registry the {@link ObservationRegistry} to use
+	 * @param context the {@link ReindexerObservationContext} to use
+	 * @return the {@link Observation} to use
+	 */
+	public Observation observation(ObservationRegistry registry, ReindexerObservationContext context) {
+		return observation(registry, () -> context).lowCardinalityKeyValues(KeyValues.of(
+				LowCardinalityKeyNames.NAMESPACE.withValue(context.getNamespace()),
+				LowCardinalityKeyNames.METHOD.withValue(context.getMethod()),
+				LowCardinalityKeyNames.QUERY_KIND.withValue(context.getQueryKind()),
+				LowCardinalityKeyNames.RESULT_TYPE.withValue(context.getResultType())));
+	}
+
+	/**
+	 * Low cardinality key names of Reindexer observations.
+	 */
+	public enum LowCardinalityKeyNames implements KeyName {
+
+		/**
+		 * The name of the namespace.
+		 */
+		NAMESPACE {
+
+			@Override
+			public String asString() {
+				return "reindexer.namespace";
+			}
+
+		},
+
+		/**
+		 * The repository method, e.g., {@code ItemRepository.findByName}.
+		 */
+		METHOD {
+
+			@Override
+			public String asString() {
+				return "reindexer.method";
+			}
+
+		},
+
+		/**
+		 * The kind of the query, one of {@code crud}, {@code derived}, {@code string} or
+		 * {@code native}.
+		 */
+		QUERY_KIND {
+
+			@Override
+			public String asString() {
+				return "reindexer.query.kind";
+			}
+
+		},
+
+		/**
+		 * The kind of the result, e.g., {@code entity}, {@code collection}, {@code page}
+		 * or {@code stream}.
+		 */
+		RESULT_TYPE {
+
+			@Override
+			public String asString() {
+				return "reindexer.result.type";
+			}
+
+		}
+
+	}
+
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright 2022-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.reindexer.observability;
+
+import io.micrometer.observation.Observation;
+
+/**
+ * An {@link Observation.Context} for {@link ReindexerObservation}s.
+ *
+ * @author Evgeniy Cheban
+ * @since 1.7
+ */
+public class ReindexerObservationContext extends Observation.Context {
+
+	private final String namespace;
+
+	private final String method;
+
+	private final String queryKind;
+
+	private final String resultType;
+
+	private long resultSize = -1;
+
+	/**
+	 * Creates an instance.
+	 * @param namespace the name of the namespace
+	 * @param method the repository method, e.g., {@code ItemRepository.findByName}
+	 * @param queryKind the kind of the query
+	 * @param resultType the kind of the result
+	 */
+	public ReindexerObservationContext(String namespace, String method, String queryKind, String resultType) {
+		this.namespace = namespace;
+		this.method = method;
+		this.queryKind = queryKind;
+		this.resultType = resultType;
+	}
+
+	/**
+	 * Returns the name of the namespace.
+	 * @return the name of the namespace
+	 */
+	public String getNamespace() {
+		return this.namespace;
+	}
+
+	/**
+	 * Returns the repository method, e.g., {@code ItemRepository.findByName}.
+	 * @return the repository method
+	 */
+	public String getMethod() {
+		return this.method;
+	}
+
+	/**
+	 * Returns the kind of the query, one of {@code crud}, {@code derived},
+	 * {@code string} or {@code native}.
+	 * @return the kind of the query
+	 */
+	public String getQueryKind() {
+		return this.queryKind;
+	}
+
+	/**
+	 * Returns the kind of the result, e.g., {@code entity}, {@code collection},
+	 * {@code page} or {@code stream}.
+	 * @return the kind of the result
+	 */
+	public String getResultType() {
+		return this.resultType;
+	}
+
+	/**
+	 * Returns the number of results iterated by a
+	 * {@link ReindexerObservation#RESULT_PROJECTION}.
+	 * @return the number of results or {@code -1} if unknown
+	 */
+	public long getResultSize() {
+		return this.resultSize;
+	}
+
+	/**
+	 * Sets the number of results iterated by a
+	 * {@link ReindexerObservation#RESULT_PROJECTION}.
+	 * @param resultSize the number of results
+	 */
+	public void setResultSize(long resultSize) {
+		this.resultSize = resultSize;
+	}
+
+	/**
+	 * Creates a {@link ReindexerObservationContext} with the same namespace, method,
+	 * query kind and result type, to observe a nested phase with.
+	 * @return the {@link ReindexerObservationContext} to use
+	 */
+	public ReindexerObservationContext copy() {
+		return new ReindexerObservationContext(this.namespace, this.method, this.queryKind, this.resultType);
+	}
+
+}
@@ -0,0 +1,46 @@
+/*
+ * Copyright 2022-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.reindexer.repository;
+
+import ru.rt.restream.reindexer.Query;
+
+import org.springframework.data.repository.NoRepositoryBean;
+import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.reactive.ReactiveCrudRepository;
+import org.springframework.data.repository.reactive.ReactiveSortingRepository;
+
+/**
+ * Reindexer-specific reactive {@link Repository} interface. Multi-value results are read
+ * from Reindexer in response to downstream demand, and the blocking connector calls run
+ * on a dedicated {@link reactor.core.scheduler.Scheduler}.
+ *
+ * @author Evgeniy Cheban
+ * @since 1.7
+ */
+@NoRepositoryBean
+public interface ReactiveReindexerRepository<T, ID>
+		extends ReactiveCrudRepository<T, ID>, ReactiveSortingRepository<T, ID> {
+
+	/**
+	 * Returns a new {@link Query} instance for further customizations. The returned
+	 * {@link Query} is blocking, consider executing it on a dedicated
+	 * {@link reactor.core.scheduler.Scheduler}.
+	 * @see Query for more information regarding supported conditions and result types.
+	 * @return the {@link Query} for further customizations
+	 */
+	Query<T> query();
+
+}
@@ -55,7 +55,9 @@ public interface ReindexerRepository<T, ID>
 	<S extends T> List<S> findAll(Example<S> example, Sort sort);
 
 	/**
-	 * Returns a new {@link Query} instance for further customizations.
+	 * Returns a new {@link Query} instance for further customizations. Deleting or
+	 * updating data through it invalidates cached query results and the near-cache of the
+	 * namespace.
 	 * @see Query for more information regarding supported conditions and result types.
 	 * @return the {@link Query} for further customizations
 	 */
@@ -16,6 +16,8 @@
 package org.springframework.data.reindexer.repository.aot;
 
 import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.jspecify.annotations.Nullable;
 import ru.rt.restream.reindexer.Namespace;
@@ -33,6 +35,7 @@ import org.springframework.data.reindexer.repository.query.ReindexerParameterAcc
 import org.springframework.data.reindexer.repository.query.ReindexerParameters;
 import org.springframework.data.reindexer.repository.support.ReindexerNamespaceFactory;
 import org.springframework.data.reindexer.repository.support.TransactionalNamespace;
+import org.springframework.data.reindexer.repository.util.StringQueryTemplate;
 import org.springframework.data.reindexer.repository.util.StringQueryUtils;
 import org.springframework.util.ConcurrentLruCache;
 import org.springframework.data.util.Lazy;
@@ -58,6 +61,8 @@ public class ReindexerAotRepositoryFragmentSupport {
 
 	private final Lazy<ConcurrentLruCache<Method, ReindexerParameters>> parameters;
 
+	private final Map<String, StringQueryTemplate> queryTemplates = new ConcurrentHashMap<>();
+
 	protected ReindexerAotRepositoryFragmentSupport(ReindexerMappingContext mappingContext,
 			ReindexerNamespaceFactory namespaceFactory, ReindexerConverter converter,
 			RepositoryFactoryBeanSupport.FragmentCreationContext context) {
@@ -92,6 +97,13 @@ public class ReindexerAotRepositoryFragmentSupport {
 		return namespace.query();
 	}
 
+	protected <T> void markModified(Class<T> domainType) {
+		Namespace<T> namespace = openNamespace(domainType);
+		if (namespace instanceof TransactionalNamespace<T> transactionalNamespace) {
+			transactionalNamespace.markModified();
+		}
+	}
+
 	protected <T> Namespace<T> openNamespace(Class<T> domainType) {
 		return this.namespaceFactory.openNamespace(domainType);
 	}
@@ -119,7 +131,9 @@ public class ReindexerAotRepositoryFragmentSupport {
 	protected String substituteQueryParameters(String query, Method method, Object... values) {
 		ReindexerParameterAccessor parameters = new ReindexerParameterAccessor(this.parameters.get().get(method),
 				values);
-		return StringQueryUtils.substituteQueryParameters(query, parameters,
+		StringQueryTemplate queryTemplate = this.queryTemplates.computeIfAbsent(query,
+				StringQueryUtils::createQueryTemplate);
+		return queryTemplate.substituteQueryParameters(parameters,
 				this.valueExpressionDelegate.getEvaluationContextAccessor());
 	}
 
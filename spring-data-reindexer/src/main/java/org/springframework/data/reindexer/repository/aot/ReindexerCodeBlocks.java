@@ -452,7 +452,9 @@ final class ReindexerCodeBlocks {
 			if (this.tree.isDelete()) {
 				Assert.isTrue(this.context.getMethodReturn().isVoid(),
 						String.format("Delete query needs to return void; Offending method: %s", this.queryMethod));
-				return builder.addStatement("$L.delete()", root).build();
+				return builder.addStatement("$L.delete()", root)
+					.addStatement("markModified($T.class)", this.context.getDomainType())
+					.build();
 			}
 			String dynamicProjectionParameterName = this.context.getDynamicProjectionParameterName();
 			if (dynamicProjectionParameterName != null) {
@@ -570,7 +572,9 @@ final class ReindexerCodeBlocks {
 			builder.addStatement("$1T<$3T> $2L = openNamespace($3T.class)", Namespace.class, ns,
 					this.context.getDomainType());
 			if (this.queryMethod.isModifyingQuery()) {
-				return builder.addStatement("$1L.updateSql($2L)", ns, preparedQuery).build();
+				return builder.addStatement("$1L.updateSql($2L)", ns, preparedQuery)
+					.addStatement("markModified($T.class)", this.context.getDomainType())
+					.build();
 			}
 			String dynamicProjectionParameterName = this.context.getDynamicProjectionParameterName();
 			ReturnedType mappedType = this.context.getReturnedType();
@@ -110,6 +110,16 @@ public final class ReindexerRepositoryContributor extends RepositoryContributor
 			return MethodContributor.forQueryMethod(queryMethod)
 				.metadataOnly(() -> Map.of("query", queryMethod.getQuery()));
 		}
+		if (queryMethod.isScrollQuery() || queryMethod.hasCachedTotal() || queryMethod.isFutureQuery()
+				|| queryMethod.isPrefetchQuery() || queryMethod.isParallelProjectionQuery()
+				|| queryMethod.isCacheableQuery() || queryMethod.hasQueryTimeout() || queryMethod.isAggregateQuery()
+				|| queryMethod.isFacetQuery()) {
+			// Fallbacks to the runtime query that creates windows, caches totals, runs
+			// futures on the query executor, prefetches streams, projects in parallel,
+			// caches results, limits the time to fetch results, computes aggregates and
+			// converts facets.
+			return MethodContributor.forQueryMethod(queryMethod).metadataOnly(Collections::emptyMap);
+		}
 		Map<String, Object> serialized = new HashMap<>();
 		QueryMetadata queryMetadata = () -> serialized;
 		return MethodContributor.forQueryMethod(queryMethod).withMetadata(queryMetadata).contribute(context -> {
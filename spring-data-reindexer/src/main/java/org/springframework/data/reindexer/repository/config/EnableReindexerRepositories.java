@@ -137,4 +137,53 @@ public @interface EnableReindexerRepositories {
 	 */
 	boolean considerNestedRepositories() default false;
 
+	/**
+	 * Configures the maximum number of entities that are written within a single
+	 * Reindexer transaction by {@code saveAll}, read by a single query by
+	 * {@code findAllById} and deleted by a single query by {@code deleteAll} and
+	 * {@code deleteAllById}.
+	 * @return {@literal 1000} by default.
+	 * @since 1.7
+	 */
+	int batchSize() default 1000;
+
+	/**
+	 * Configures the name of the {@link java.util.concurrent.Executor} bean to be used to
+	 * write the chunks of {@code saveAll} and to read the chunks of {@code findAllById}
+	 * concurrently. Chunks are processed sequentially on the calling thread if not set.
+	 * @return empty {@link String} by default.
+	 * @since 1.7
+	 */
+	String batchExecutorRef() default "";
+
+	/**
+	 * Configures whether {@code findAllById} returns entities in the order of the given
+	 * ids.
+	 * @return {@literal false} by default.
+	 * @since 1.7
+	 */
+	boolean preserveIdOrder() default false;
+
+	/**
+	 * Configures the name of the {@link java.util.concurrent.Executor} bean to run query
+	 * methods that return {@link java.util.concurrent.CompletableFuture} on. Uses an
+	 * executor that starts a virtual thread per query on Java 21 and later, and a platform
+	 * thread per query otherwise, if not set. Such query methods do not participate in
+	 * transactions and are rejected while a transaction is active.
+	 * @return empty {@link String} by default.
+	 * @since 1.7
+	 */
+	String queryExecutorRef() default "";
+
+	/**
+	 * Configures the name of the {@link java.util.concurrent.Executor} bean to project the
+	 * results of {@link org.springframework.data.reindexer.core.mapping.ParallelProjection}
+	 * query methods on. Uses a dedicated {@link java.util.concurrent.ForkJoinPool} shared by
+	 * all query methods if not set. The results are projected on the calling thread while
+	 * a transaction is active.
+	 * @return empty {@link String} by default.
+	 * @since 1.7
+	 */
+	String projectionExecutorRef() default "";
+
 }
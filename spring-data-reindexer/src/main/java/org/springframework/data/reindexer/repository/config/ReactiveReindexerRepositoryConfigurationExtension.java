@@ -0,0 +1,81 @@
+/*
+ * Copyright 2022-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.reindexer.repository.config;
+
+import java.util.Collection;
+import java.util.Collections;
+
+import org.springframework.beans.factory.aot.BeanRegistrationAotProcessor;
+import org.springframework.beans.factory.support.BeanDefinitionBuilder;
+import org.springframework.core.annotation.AnnotationAttributes;
+import org.springframework.data.reindexer.repository.ReactiveReindexerRepository;
+import org.springframework.data.reindexer.repository.support.ReactiveReindexerRepositoryFactoryBean;
+import org.springframework.data.repository.config.AnnotationRepositoryConfigurationSource;
+import org.springframework.data.repository.config.RepositoryConfigurationExtension;
+import org.springframework.data.repository.config.RepositoryRegistrationAotProcessor;
+import org.springframework.data.repository.core.RepositoryMetadata;
+import org.springframework.util.StringUtils;
+
+/**
+ * A {@link RepositoryConfigurationExtension} for reactive Reindexer repositories.
+ *
+ * @author Evgeniy Cheban
+ * @since 1.7
+ */
+public class ReactiveReindexerRepositoryConfigurationExtension extends ReindexerRepositoryConfigurationExtension {
+
+	@Override
+	public String getModuleName() {
+		return "Reactive Reindexer";
+	}
+
+	@Override
+	public String getRepositoryFactoryBeanClassName() {
+		return ReactiveReindexerRepositoryFactoryBean.class.getName();
+	}
+
+	@Override
+	protected Collection<Class<?>> getIdentifyingTypes() {
+		return Collections.singleton(ReactiveReindexerRepository.class);
+	}
+
+	@Override
+	protected boolean useRepositoryConfiguration(RepositoryMetadata metadata) {
+		return metadata.isReactiveRepository();
+	}
+
+	@Override
+	public void postProcess(BeanDefinitionBuilder builder, AnnotationRepositoryConfigurationSource config) {
+		AnnotationAttributes attributes = config.getAttributes();
+		builder.addPropertyReference("reindexer", attributes.getString("reindexerRef"));
+		builder.addPropertyReference("mappingContext", "reindexerMappingContext");
+		builder.addPropertyReference("namespaceFactory", "reindexerNamespaceFactory");
+		builder.addPropertyReference("reindexerConverter", "reindexerConverter");
+		builder.addPropertyValue("batchSize", attributes.getNumber("batchSize"));
+		builder.addPropertyValue("preserveIdOrder", attributes.getBoolean("preserveIdOrder"));
+		String schedulerRef = attributes.getString("schedulerRef");
+		if (StringUtils.hasText(schedulerRef)) {
+			builder.addPropertyReference("scheduler", schedulerRef);
+		}
+	}
+
+	@Override
+	public Class<? extends BeanRegistrationAotProcessor> getRepositoryAotProcessor() {
+		// Reactive repositories are not generated ahead of time.
+		return RepositoryRegistrationAotProcessor.class;
+	}
+
+}
@@ -78,7 +78,10 @@ public abstract class ReindexerConfigurationSupport {
 	@Role(BeanDefinition.ROLE_INFRASTRUCTURE)
 	public ReindexerNamespaceFactory reindexerNamespaceFactory(Reindexer reindexer,
 			ReindexerMappingContext mappingContext) {
-		return new DefaultReindexerNamespaceFactory(reindexer, mappingContext);
+		DefaultReindexerNamespaceFactory namespaceFactory = new DefaultReindexerNamespaceFactory(reindexer,
+				mappingContext);
+		namespaceFactory.setEagerInitialization(eagerNamespaceInitialization());
+		return namespaceFactory;
 	}
 
 	/**
@@ -147,4 +150,14 @@ public abstract class ReindexerConfigurationSupport {
 		return false;
 	}
 
+	/**
+	 * Configure whether to open namespaces for all managed types at startup instead of on
+	 * first use.
+	 * @return {@literal false} by default
+	 * @since 1.7
+	 */
+	protected boolean eagerNamespaceInitialization() {
+		return false;
+	}
+
 }
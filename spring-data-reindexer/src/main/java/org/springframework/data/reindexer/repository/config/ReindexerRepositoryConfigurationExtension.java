@@ -37,6 +37,8 @@ import org.springframework.data.repository.config.AotRepositoryContext;
 import org.springframework.data.repository.config.RepositoryConfigurationExtension;
 import org.springframework.data.repository.config.RepositoryConfigurationExtensionSupport;
 import org.springframework.data.repository.config.RepositoryRegistrationAotProcessor;
+import org.springframework.data.repository.core.RepositoryMetadata;
+import org.springframework.util.StringUtils;
 
 /**
  * A {@link RepositoryConfigurationExtension} for Reindexer.
@@ -70,6 +72,11 @@ public class ReindexerRepositoryConfigurationExtension extends RepositoryConfigu
 		return Collections.singleton(ReindexerRepository.class);
 	}
 
+	@Override
+	protected boolean useRepositoryConfiguration(RepositoryMetadata metadata) {
+		return !metadata.isReactiveRepository();
+	}
+
 	@Override
 	public void postProcess(BeanDefinitionBuilder builder, AnnotationRepositoryConfigurationSource config) {
 		AnnotationAttributes attributes = config.getAttributes();
@@ -77,6 +84,20 @@ public class ReindexerRepositoryConfigurationExtension extends RepositoryConfigu
 		builder.addPropertyReference("mappingContext", "reindexerMappingContext");
 		builder.addPropertyReference("namespaceFactory", "reindexerNamespaceFactory");
 		builder.addPropertyReference("reindexerConverter", "reindexerConverter");
+		builder.addPropertyValue("batchSize", attributes.getNumber("batchSize"));
+		builder.addPropertyValue("preserveIdOrder", attributes.getBoolean("preserveIdOrder"));
+		String batchExecutorRef = attributes.getString("batchExecutorRef");
+		if (StringUtils.hasText(batchExecutorRef)) {
+			builder.addPropertyReference("batchExecutor", batchExecutorRef);
+		}
+		String queryExecutorRef = attributes.getString("queryExecutorRef");
+		if (StringUtils.hasText(queryExecutorRef)) {
+			builder.addPropertyReference("queryExecutor", queryExecutorRef);
+		}
+		String projectionExecutorRef = attributes.getString("projectionExecutorRef");
+		if (StringUtils.hasText(projectionExecutorRef)) {
+			builder.addPropertyReference("projectionExecutor", projectionExecutorRef);
+		}
 	}
 
 	@Override
@@ -16,20 +16,25 @@
 package org.springframework.data.reindexer.repository.query;
 
 import java.util.List;
+import java.util.concurrent.Executor;
 import java.util.function.Function;
+import java.util.function.Supplier;
 
 import org.jspecify.annotations.Nullable;
 import ru.rt.restream.reindexer.Query;
+import ru.rt.restream.reindexer.ResultIterator;
 
 import org.springframework.data.domain.SearchResult;
 import org.springframework.data.domain.SearchResults;
 import org.springframework.data.reindexer.core.convert.ReindexerConverter;
+import org.springframework.data.reindexer.core.mapping.ParallelProjection;
 import org.springframework.data.repository.query.QueryMethod;
 import org.springframework.data.repository.query.RepositoryQuery;
 import org.springframework.data.repository.query.ResultProcessor;
 import org.springframework.data.repository.query.ReturnedType;
 import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.data.util.Lazy;
+import org.springframework.util.Assert;
 
 /**
  * For internal use only, as this contract is likely to change.
@@ -44,18 +49,64 @@ abstract class AbstractReindexerQuery implements RepositoryQuery {
 
 	private final Lazy<Function<ReindexerQuery, @Nullable Object>> queryExecution;
 
+	private ReindexerQueryObserver observer = ReindexerQueryObserver.NOOP;
+
+	private @Nullable ReindexerSlowQueryLog slowQueryLog;
+
+	private String slowQueryMethod = "";
+
+	private @Nullable Executor projectionExecutor;
+
 	AbstractReindexerQuery(ReindexerQueryMethod method, ReindexerConverter reindexerConverter) {
 		this.method = method;
 		this.reindexerConverter = reindexerConverter;
 		this.queryExecution = Lazy.of(() -> getQueryExecution(method));
 	}
 
+	/**
+	 * Sets the {@link ReindexerQueryObserver} to observe the creation and execution of
+	 * queries and the projection of their results with. Defaults to
+	 * {@link ReindexerQueryObserver#NOOP}.
+	 * @param observer the {@link ReindexerQueryObserver} to use
+	 * @since 1.7
+	 */
+	public void setQueryObserver(ReindexerQueryObserver observer) {
+		Assert.notNull(observer, "observer cannot be null");
+		this.observer = observer;
+	}
+
+	/**
+	 * Sets the {@link ReindexerSlowQueryLog} to log the queries that take longer than its
+	 * threshold with.
+	 * @param slowQueryLog the {@link ReindexerSlowQueryLog} to use
+	 * @param method the name of the repository method to log
+	 * @since 1.7
+	 */
+	public void setSlowQueryLog(ReindexerSlowQueryLog slowQueryLog, String method) {
+		Assert.notNull(slowQueryLog, "slowQueryLog cannot be null");
+		Assert.notNull(method, "method cannot be null");
+		this.slowQueryLog = slowQueryLog;
+		this.slowQueryMethod = method;
+	}
+
+	/**
+	 * Sets the {@link Executor} to project the results of {@link ParallelProjection} query
+	 * methods on. Defaults to a dedicated {@link java.util.concurrent.ForkJoinPool} shared
+	 * by all query methods.
+	 * @param projectionExecutor the {@link Executor} to use
+	 * @since 1.7
+	 */
+	public void setProjectionExecutor(@Nullable Executor projectionExecutor) {
+		this.projectionExecutor = projectionExecutor;
+	}
+
 	@Override
 	public final @Nullable Object execute(@Nullable Object[] parameters) {
 		ReindexerParameterAccessor parameterAccessor = new ReindexerParameterAccessor(this.method.getParameters(),
 				parameters);
 		ResultProcessor resultProcessor = this.method.getResultProcessor().withDynamicProjection(parameterAccessor);
-		ReindexerQuery query = createQuery(parameterAccessor, resultProcessor.getReturnedType());
+		ReindexerQuery query = this.observer
+			.observeCreation(() -> createQuery(parameterAccessor, resultProcessor.getReturnedType()));
 		Object result = this.queryExecution.get().apply(query);
 		return resultProcessor.processResult(result);
 	}
@@ -67,19 +118,53 @@ abstract class AbstractReindexerQuery implements RepositoryQuery {
 
 	abstract ReindexerQuery createQuery(ReindexerParameterAccessor parameterAccessor, ReturnedType returnedType);
 
+	@SuppressWarnings("unchecked")
 	Function<ReindexerQuery, @Nullable Object> getQueryExecution(ReindexerQueryMethod method) {
+		if (method.isMultiValueReactiveQuery()) {
+			return (query) -> ReactiveReindexerQueryExecutions
+				.toFlux(() -> (ResultIterator<@Nullable Object>) toResultAccessor(query));
+		}
 		if (method.isSearchQuery()) {
 			return getSearchQueryExecution(method);
 		}
+		if (method.isParallelProjectionQuery()) {
+			int chunkSize = method.getParallelProjectionChunkSize();
+			return (query) -> ReindexerQueryExecutions.toParallelList(toResultAccessor(query), chunkSize,
+					this.projectionExecutor);
+		}
 		if (method.isCollectionQuery()) {
 			return (query) -> ReindexerQueryExecutions.toList(toResultAccessor(query));
 		}
+		if (method.isPrefetchQuery()) {
+			int depth = method.getPrefetchDepth();
+			return (query) -> ReindexerQueryExecutions.toStream(toPrefetchingResultAccessor(query, depth));
+		}
 		if (method.isStreamQuery()) {
 			return (query) -> ReindexerQueryExecutions.toStream(toResultAccessor(query));
 		}
 		if (method.isIteratorQuery()) {
 			return this::toResultAccessor;
 		}
+		if (method.isPageQuery() && method.hasCachedTotal()) {
+			TotalCountCache totalCountCache = new TotalCountCache(method.getCachedTotalTtl());
+			return (query) -> {
+				Long cachedTotal = totalCountCache.get(query.parameters());
+				if (cachedTotal == null) {
+					query.criteria().reqTotal();
+				}
+				ReindexerResultAccessor<?> iterator = toResultAccessor(query);
+				List<?> content = ReindexerQueryExecutions.toList(iterator);
+				long total;
+				if (cachedTotal != null) {
+					total = cachedTotal;
+				}
+				else {
+					total = iterator.getTotalCount();
+					totalCountCache.put(query.parameters(), total);
+				}
+				return PageableExecutionUtils.getPage(content, query.parameters().getPageable(), () -> total);
+			};
+		}
 		if (method.isPageQuery()) {
 			return (query) -> {
 				ReindexerResultAccessor<?> iterator = toResultAccessor(query);
@@ -95,7 +180,44 @@ abstract class AbstractReindexerQuery implements RepositoryQuery {
 	}
 
 	ReindexerResultAccessor<?> toResultAccessor(ReindexerQuery query) {
-		return new ProjectingResultIterator<>(query.criteria(), query.returnedType(), this.reindexerConverter);
+		ResultIterator<?> iterator = this.observer.observeExecution(() -> executeQuery(query));
+		return new ProjectingResultIterator<>(iterator, query.returnedType(), this.reindexerConverter);
+	}
+
+	ReindexerResultAccessor<?> toPrefetchingResultAccessor(ReindexerQuery query, int depth) {
+		ResultIterator<?> iterator = new PrefetchingResultIterator<>(
+				this.observer.observeExecution(() -> executeQuery(query)), depth);
+		return new ProjectingResultIterator<>(iterator, query.returnedType(), this.reindexerConverter);
+	}
+
+	ResultIterator<?> executeQuery(ReindexerQuery query) {
+		Supplier<ResultIterator<?>> execution = this.method.hasQueryTimeout()
+				? () -> TimeLimitedResultIterator.execute(this.method.getQueryTimeout(), query.criteria()::execute)
+				: () -> query.criteria().execute();
+		ReindexerSlowQueryLog slowQueryLog = this.slowQueryLog;
+		if (slowQueryLog == null) {
+			return execution.get();
+		}
+		return slowQueryLog.trackQuery(this.slowQueryMethod, this::renderQuery, query.parameters().getValues(),
+				execution::get);
+	}
+
+	/**
+	 * Executes a query that returns its result at once, e.g., a count or delete query,
+	 * and logs it if it takes longer than the threshold of the
+	 * {@link ReindexerSlowQueryLog}.
+	 */
+	<R> R track(ReindexerQuery query, Supplier<R> execution) {
+		ReindexerSlowQueryLog slowQueryLog = this.slowQueryLog;
+		if (slowQueryLog == null) {
+			return execution.get();
+		}
+		return slowQueryLog.track(this.slowQueryMethod, this::renderQuery, query.parameters().getValues(),
+				execution::get);
+	}
+
+	private String renderQuery() {
+		return this.method.hasQueryAnnotation() ? this.method.getQuery() : this.method.getName();
 	}
 
 	record ReindexerQuery(Query<?> criteria, ReturnedType returnedType, ReindexerParameterAccessor parameters) {
@@ -103,6 +225,13 @@ abstract class AbstractReindexerQuery implements RepositoryQuery {
 
 	@SuppressWarnings("unchecked")
 	private Function<ReindexerQuery, Object> getSearchQueryExecution(ReindexerQueryMethod method) {
+		if (method.isPrefetchQuery()) {
+			int depth = method.getPrefetchDepth();
+			return (query) -> {
+				ReindexerResultAccessor<?> it = toPrefetchingResultAccessor(query, depth);
+				return ReindexerQueryExecutions.toStream(it).map((e) -> new SearchResult<>(e, it.getCurrentRank()));
+			};
+		}
 		if (method.isStreamQuery()) {
 			return (query) -> {
 				ReindexerResultAccessor<?> it = toResultAccessor(query);
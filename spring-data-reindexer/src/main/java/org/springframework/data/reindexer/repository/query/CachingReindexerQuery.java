@@ -0,0 +1,123 @@
+/*
+ * Copyright 2022-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.reindexer.repository.query;
+
+import java.util.List;
+import java.util.regex.Pattern;
+
+import org.jspecify.annotations.Nullable;
+import ru.rt.restream.reindexer.Namespace;
+
+import org.springframework.data.reindexer.repository.support.TransactionalNamespace;
+import org.springframework.data.repository.query.QueryMethod;
+import org.springframework.data.repository.query.RepositoryQuery;
+import org.springframework.util.Assert;
+
+/**
+ * A {@link RepositoryQuery} that caches the results of a Reindexer
+ * {@link RepositoryQuery} for query methods annotated with
+ * {@link org.springframework.data.reindexer.core.mapping.ReindexerCacheable}. Cached
+ * results are invalidated once any of the queried {@link TransactionalNamespace}s, i.e.
+ * the namespace of the domain type and the namespaces it references, is modified.
+ * <p>
+ * For internal use only, as this contract is likely to change.
+ *
+ * @author Evgeniy Cheban
+ * @since 1.7
+ */
+public final class CachingReindexerQuery implements RepositoryQuery {
+
+	private static final Pattern JOIN_PATTERN = Pattern.compile("\\bJOIN\\b", Pattern.CASE_INSENSITIVE);
+
+	private static final Pattern DELETE_PATTERN = Pattern.compile("^(delete|remove)(\\p{Lu}.*?)??By");
+
+	private final RepositoryQuery delegate;
+
+	private final List<Namespace<?>> namespaces;
+
+	private final QueryResultCache cache;
+
+	private final ReindexerQueryCacheListener listener;
+
+	/**
+	 * Creates an instance.
+	 * @param delegate the {@link RepositoryQuery} to use
+	 * @param namespaces the {@link Namespace}s the query reads from
+	 * @param listener the {@link ReindexerQueryCacheListener} to use
+	 */
+	public CachingReindexerQuery(RepositoryQuery delegate, List<Namespace<?>> namespaces,
+			ReindexerQueryCacheListener listener) {
+		Assert.notNull(delegate, "delegate cannot be null");
+		Assert.notEmpty(namespaces, "namespaces cannot be empty");
+		Assert.notNull(listener, "listener cannot be null");
+		Assert.isInstanceOf(ReindexerQueryMethod.class, delegate.getQueryMethod(),
+				"delegate must have ReindexerQueryMethod");
+		ReindexerQueryMethod method = (ReindexerQueryMethod) delegate.getQueryMethod();
+		Assert.isTrue(!method.isStreamQuery() && !method.isIteratorQuery() && !method.isReactiveQuery(),
+				() -> "@ReindexerCacheable is not supported for query methods returning a Stream, an Iterator or "
+						+ "a reactive type; Offending method: " + method);
+		// A cached result would skip the write of a repeated call.
+		Assert.isTrue(!(method.hasQueryAnnotation() ? method.isModifyingQuery()
+				: DELETE_PATTERN.matcher(method.getName()).find()),
+				() -> "@ReindexerCacheable is not supported for query methods that modify data; Offending method: "
+						+ method);
+		// Namespaces joined by the query string are not known, so their writes would not
+		// invalidate cached results.
+		Assert.isTrue(!method.hasQueryAnnotation() || !JOIN_PATTERN.matcher(method.getQuery()).find(),
+				() -> "@ReindexerCacheable is not supported for query methods with joins; Offending method: "
+						+ method);
+		this.delegate = delegate;
+		this.namespaces = List.copyOf(namespaces);
+		this.cache = new QueryResultCache(method.getCacheTtl(), method.getCacheMaxSize());
+		this.listener = listener;
+	}
+
+	@Override
+	public @Nullable Object execute(@Nullable Object[] parameters) {
+		long modificationCount = 0;
+		for (Namespace<?> namespace : this.namespaces) {
+			if (!(namespace instanceof TransactionalNamespace<?> transactionalNamespace)
+					|| transactionalNamespace.isTransactionActive()) {
+				return this.delegate.execute(parameters);
+			}
+			// Read before the query, so that a concurrent modification invalidates the result,
+			// the sum changes once any of the counts changes, as counts only grow.
+			modificationCount += transactionalNamespace.getModificationCount();
+		}
+		QueryMethod method = getQueryMethod();
+		List<@Nullable Object> key = QueryResultCache.getKey(parameters);
+		QueryResultCache.Lookup lookup = this.cache.get(key, modificationCount);
+		if (lookup.hit()) {
+			this.listener.onHit(method);
+			return lookup.value();
+		}
+		if (lookup.evicted()) {
+			this.listener.onEviction(method);
+		}
+		this.listener.onMiss(method);
+		Object result = this.delegate.execute(parameters);
+		if (this.cache.put(key, result, modificationCount)) {
+			this.listener.onEviction(method);
+		}
+		return result;
+	}
+
+	@Override
+	public QueryMethod getQueryMethod() {
+		return this.delegate.getQueryMethod();
+	}
+
+}
@@ -0,0 +1,198 @@
+/*
+ * Copyright 2022-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.reindexer.repository.query;
+
+import java.math.BigInteger;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.jspecify.annotations.Nullable;
+import ru.rt.restream.reindexer.AggregationResult;
+import ru.rt.restream.reindexer.Query;
+
+import org.springframework.data.core.PropertyPath;
+import org.springframework.data.repository.query.parser.PartTree;
+import org.springframework.util.ClassUtils;
+
+/**
+ * An aggregate function of a derived query method whose name starts with the function
+ * followed by the aggregated property and optional criteria, e.g.,
+ * {@code sumPriceByCategory} or {@code maxPrice}. The aggregate is computed on the
+ * server, no entities are read.
+ * <p>
+ * The server computes aggregates as {@code double} values. If the method returns an
+ * integral type and a {@code sum}, {@code min} or {@code max} exceeds the range of
+ * integers a {@code double} represents exactly, it is recomputed from a facet of the
+ * aggregated field, so the result does not lose precision.
+ *
+ * @param function the aggregate function, one of {@code sum}, {@code min}, {@code max}
+ * or {@code avg}
+ * @param field the aggregated field
+ * @param criteria the source of the {@link PartTree} for the criteria of the query
+ * @param integral whether the method returns an integral type
+ * @author Evgeniy Cheban
+ * @since 1.7
+ */
+record DerivedAggregation(String function, String field, String criteria, boolean integral) {
+
+	private static final Pattern AGGREGATION_TEMPLATE = Pattern.compile("^(sum|min|max|avg)(\\p{Lu}.*?)(By.*)?$");
+
+	private static final double MAX_EXACT_INTEGER = 0x1p53;
+
+	/**
+	 * Returns {@literal true} if the given method name starts with an aggregate function.
+	 * @param methodName the method name to use
+	 * @return true if the given method name starts with an aggregate function
+	 */
+	static boolean isAggregation(String methodName) {
+		return AGGREGATION_TEMPLATE.matcher(methodName).matches();
+	}
+
+	/**
+	 * Parses the aggregate function of the given method name.
+	 * @param methodName the method name to use
+	 * @param domainType the domain type to resolve the aggregated property against
+	 * @param returnedType the type the method returns, unwrapped from {@code Optional}
+	 * @return the {@link DerivedAggregation} or {@literal null} if the method name does not
+	 * start with an aggregate function
+	 */
+	static @Nullable DerivedAggregation parse(String methodName, Class<?> domainType, Class<?> returnedType) {
+		Matcher matcher = AGGREGATION_TEMPLATE.matcher(methodName);
+		if (!matcher.matches()) {
+			return null;
+		}
+		String field = PropertyPath.from(matcher.group(2), domainType).toDotPath();
+		String criteria = matcher.group(3);
+		Class<?> type = ClassUtils.resolvePrimitiveIfNecessary(returnedType);
+		boolean integral = type == Long.class || type == Integer.class || type == Short.class || type == Byte.class
+				|| type == BigInteger.class;
+		return new DerivedAggregation(matcher.group(1), field, "find" + ((criteria != null) ? criteria : "By"),
+				integral);
+	}
+
+	/**
+	 * Requests the aggregate on the given {@link Query} and excludes entities from its
+	 * results.
+	 * @param query the {@link Query} to use
+	 */
+	void apply(Query<?> query) {
+		switch (this.function) {
+			case "sum" -> query.aggregateSum(this.field);
+			case "min" -> query.aggregateMin(this.field);
+			case "max" -> query.aggregateMax(this.field);
+			default -> query.aggregateAvg(this.field);
+		}
+		if (!"sum".equals(this.function)) {
+			// The total count tells an empty result apart from an aggregate of 0.
+			query.reqTotal();
+		}
+		query.limit(0);
+	}
+
+	/**
+	 * Requests a facet of the aggregated field on the given {@link Query} to compute the
+	 * aggregate exactly and excludes entities from its results. For {@code min} and
+	 * {@code max} the facet is limited to the smallest or largest value, for {@code sum}
+	 * it contains all values.
+	 * @param query the {@link Query} to use
+	 */
+	void applyExact(Query<?> query) {
+		if ("sum".equals(this.function)) {
+			query.aggregateFacet(this.field);
+		}
+		else {
+			query.isNotNull(this.field);
+			query.aggregateFacet(this.field).sort(this.field, "max".equals(this.function)).limit(1);
+		}
+		query.limit(0);
+	}
+
+	/**
+	 * Returns {@literal true} if the aggregate read from the given results needs to be
+	 * recomputed with {@link #applyExact(Query)} as it might have lost precision, that is
+	 * if the method returns an integral type and the magnitude of the aggregate is at
+	 * least 2^53.
+	 * @param accessor the {@link ReindexerResultAccessor} to use
+	 * @return true if the aggregate needs to be recomputed
+	 */
+	boolean isInexact(ReindexerResultAccessor<?> accessor) {
+		if (!this.integral || "avg".equals(this.function)) {
+			return false;
+		}
+		Double value = getAggregateValue(accessor);
+		return value != null && Math.abs(value) >= MAX_EXACT_INTEGER;
+	}
+
+	/**
+	 * Returns the aggregate from the results of a query it was requested on.
+	 * @param accessor the {@link ReindexerResultAccessor} to use
+	 * @return the aggregate or {@literal null} if no entities match the criteria of a
+	 * {@code min}, {@code max} or {@code avg} function
+	 */
+	@Nullable Number getValue(ReindexerResultAccessor<?> accessor) {
+		Double value = getAggregateValue(accessor);
+		if ("sum".equals(this.function)) {
+			double sum = (value != null) ? value : 0.0d;
+			return this.integral ? Long.valueOf((long) sum) : Double.valueOf(sum);
+		}
+		if (value == null || accessor.getTotalCount() == 0) {
+			return null;
+		}
+		boolean integralValue = this.integral && !"avg".equals(this.function);
+		return integralValue ? Long.valueOf(value.longValue()) : value;
+	}
+
+	/**
+	 * Returns the exact aggregate from the results of a query {@link #applyExact(Query)}
+	 * was applied to.
+	 * @param accessor the {@link ReindexerResultAccessor} to use
+	 * @return the exact aggregate or {@literal null} if no entities have a value of the
+	 * aggregated field for a {@code min} or {@code max} function
+	 */
+	@Nullable Number getExactValue(ReindexerResultAccessor<?> accessor) {
+		List<AggregationResult.Facet> facets = getFacets(accessor);
+		if (!"sum".equals(this.function)) {
+			String value = !facets.isEmpty() ? getFacetValue(facets.get(0)) : null;
+			return (value != null) ? new BigInteger(value) : null;
+		}
+		BigInteger sum = BigInteger.ZERO;
+		for (AggregationResult.Facet facet : facets) {
+			String value = getFacetValue(facet);
+			if (value != null) {
+				sum = sum.add(new BigInteger(value).multiply(BigInteger.valueOf(facet.getCount())));
+			}
+		}
+		return sum;
+	}
+
+	private @Nullable Double getAggregateValue(ReindexerResultAccessor<?> accessor) {
+		AggregationResult result = accessor.aggregationResult(this.function, this.field);
+		return (result != null) ? result.getValue() : null;
+	}
+
+	private static @Nullable String getFacetValue(AggregationResult.Facet facet) {
+		List<String> values = facet.getValues();
+		String value = (values != null && !values.isEmpty()) ? values.get(0) : null;
+		return (value != null && !value.isEmpty()) ? value : null;
+	}
+
+	private List<AggregationResult.Facet> getFacets(ReindexerResultAccessor<?> accessor) {
+		AggregationResult result = accessor.aggregationResult("facet", this.field);
+		return (result != null && result.getFacets() != null) ? result.getFacets() : List.of();
+	}
+
+}
@@ -0,0 +1,172 @@
+/*
+ * Copyright 2022-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.reindexer.repository.query;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.RecordComponent;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import org.jspecify.annotations.Nullable;
+import ru.rt.restream.reindexer.AggregationResult;
+import ru.rt.restream.reindexer.Query;
+
+import org.springframework.beans.BeanUtils;
+import org.springframework.core.convert.ConversionService;
+import org.springframework.data.core.PropertyPath;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.reindexer.core.mapping.Facet;
+import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
+
+/**
+ * The {@link Facet} of a derived query method. The groups are sorted, limited and
+ * offset on the server, and are converted from the {@link AggregationResult} as is, no
+ * entities are read.
+ *
+ * @author Evgeniy Cheban
+ * @since 1.7
+ */
+final class DerivedFacet {
+
+	private final String[] fields;
+
+	private final @Nullable String orderBy;
+
+	private final boolean desc;
+
+	private final int limit;
+
+	private final int offset;
+
+	private final @Nullable Class<?> mapKeyType;
+
+	private final @Nullable Constructor<?> rowConstructor;
+
+	private final Class<?>[] rowTypes;
+
+	private DerivedFacet(ReindexerQueryMethod method, Class<?> domainType) {
+		Facet facet = method.getFacet();
+		Assert.notEmpty(facet.value(), () -> "Facet properties must not be empty; Offending method: " + method);
+		this.fields = Arrays.stream(facet.value())
+			.map((property) -> PropertyPath.from(property, domainType).toDotPath())
+			.toArray(String[]::new);
+		this.orderBy = resolveOrderBy(facet.orderBy(), domainType);
+		this.desc = facet.direction() == Sort.Direction.DESC;
+		this.limit = facet.limit();
+		this.offset = facet.offset();
+		this.mapKeyType = method.getMapKeyType();
+		if (this.mapKeyType != null) {
+			Assert.state(this.fields.length == 1,
+					() -> "Facet query returning a Map must group by a single property; Offending method: " + method);
+			this.rowConstructor = null;
+			this.rowTypes = new Class<?>[0];
+		}
+		else {
+			Class<?> rowType = method.getReturnedObjectType();
+			Assert.state(rowType.isRecord() && (method.isCollectionQuery() || method.isStreamQuery()),
+					() -> "Facet query must return a Map, a List or a Stream of records; Offending method: " + method);
+			this.rowTypes = Arrays.stream(rowType.getRecordComponents())
+				.map(RecordComponent::getType)
+				.toArray(Class<?>[]::new);
+			Assert.state(this.rowTypes.length == this.fields.length + 1,
+					() -> "Record " + rowType.getName() + " must declare a component per facet property"
+							+ " followed by the count; Offending method: " + method);
+			this.rowConstructor = BeanUtils.getResolvableConstructor(rowType);
+		}
+	}
+
+	private static @Nullable String resolveOrderBy(String orderBy, Class<?> domainType) {
+		if (!StringUtils.hasText(orderBy)) {
+			return null;
+		}
+		return Facet.COUNT.equals(orderBy) ? Facet.COUNT : PropertyPath.from(orderBy, domainType).toDotPath();
+	}
+
+	/**
+	 * Creates a {@link DerivedFacet} of the given {@link ReindexerQueryMethod}.
+	 * @param method the {@link ReindexerQueryMethod} to use
+	 * @param domainType the domain type to resolve the facet properties against
+	 * @return the {@link DerivedFacet} or {@literal null} if the method is not a facet
+	 * query
+	 */
+	static @Nullable DerivedFacet of(ReindexerQueryMethod method, Class<?> domainType) {
+		return method.isFacetQuery() ? new DerivedFacet(method, domainType) : null;
+	}
+
+	/**
+	 * Requests the facet on the given {@link Query} and excludes entities from its
+	 * results.
+	 * @param query the {@link Query} to use
+	 */
+	void apply(Query<?> query) {
+		Query<?>.AggregationFacetRequest facetRequest = query.aggregateFacet(this.fields);
+		if (this.orderBy != null) {
+			facetRequest.sort(this.orderBy, this.desc);
+		}
+		if (this.limit >= 0) {
+			facetRequest.limit(this.limit);
+		}
+		if (this.offset > 0) {
+			facetRequest.offset(this.offset);
+		}
+		query.limit(0);
+	}
+
+	/**
+	 * Converts the facet of the given {@link ReindexerResultAccessor} to a {@link Map},
+	 * a {@link List} or a {@link Stream} of records.
+	 * @param accessor the {@link ReindexerResultAccessor} to use
+	 * @param stream true to return a {@link Stream}
+	 * @param conversionService the {@link ConversionService} to convert the facet values
+	 * with
+	 * @return the converted facet to use
+	 */
+	Object toResult(ReindexerResultAccessor<?> accessor, boolean stream, ConversionService conversionService) {
+		List<AggregationResult.Facet> facets;
+		try (accessor) {
+			AggregationResult result = accessor.aggregationResult("facet", this.fields[0]);
+			facets = (result != null && result.getFacets() != null) ? result.getFacets() : Collections.emptyList();
+		}
+		if (this.mapKeyType != null) {
+			Map<@Nullable Object, Long> map = new LinkedHashMap<>(facets.size());
+			for (AggregationResult.Facet facet : facets) {
+				map.put(conversionService.convert(facet.getValues().get(0), this.mapKeyType), (long) facet.getCount());
+			}
+			return map;
+		}
+		Constructor<?> rowConstructor = this.rowConstructor;
+		Assert.state(rowConstructor != null, "rowConstructor cannot be null");
+		Stream<Object> rows = facets.stream().map((facet) -> toRow(facet, rowConstructor, conversionService));
+		return stream ? rows : rows.toList();
+	}
+
+	private Object toRow(AggregationResult.Facet facet, Constructor<?> rowConstructor,
+			ConversionService conversionService) {
+		@Nullable Object[] args = new Object[this.rowTypes.length];
+		List<String> values = facet.getValues();
+		for (int i = 0; i < this.fields.length; i++) {
+			args[i] = (i < values.size()) ? conversionService.convert(values.get(i), this.rowTypes[i]) : null;
+		}
+		args[this.fields.length] = conversionService.convert(facet.getCount(), this.rowTypes[this.fields.length]);
+		return BeanUtils.instantiateClass(rowConstructor, args);
+	}
+
+}
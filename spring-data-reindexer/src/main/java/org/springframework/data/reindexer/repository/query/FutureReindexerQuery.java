@@ -0,0 +1,95 @@
+/*
+ * Copyright 2022-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.reindexer.repository.query;
+
+import java.lang.reflect.Method;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+
+import org.jspecify.annotations.Nullable;
+import ru.rt.restream.reindexer.Namespace;
+
+import org.springframework.core.ResolvableType;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.data.reindexer.repository.support.TransactionalNamespace;
+import org.springframework.data.repository.query.QueryMethod;
+import org.springframework.data.repository.query.RepositoryQuery;
+import org.springframework.util.Assert;
+
+/**
+ * A {@link RepositoryQuery} that executes a Reindexer {@link RepositoryQuery} on an
+ * {@link Executor} for query methods that return {@link CompletableFuture}.
+ * <p>
+ * The query runs outside the thread-bound transaction, so the query method is rejected
+ * while a Reindexer transaction is active on the calling thread.
+ * <p>
+ * For internal use only, as this contract is likely to change.
+ *
+ * @author Evgeniy Cheban
+ * @since 1.7
+ */
+public final class FutureReindexerQuery implements RepositoryQuery {
+
+	private final RepositoryQuery delegate;
+
+	private final Namespace<?> namespace;
+
+	private final Executor executor;
+
+	private final boolean optionalResult;
+
+	/**
+	 * Creates an instance.
+	 * @param delegate the {@link RepositoryQuery} to use
+	 * @param method the query {@link Method} to use
+	 * @param namespace the {@link Namespace} the query reads from
+	 * @param executor the {@link Executor} to use
+	 */
+	public FutureReindexerQuery(RepositoryQuery delegate, Method method, Namespace<?> namespace, Executor executor) {
+		Assert.notNull(delegate, "delegate cannot be null");
+		Assert.notNull(method, "method cannot be null");
+		Assert.notNull(namespace, "namespace cannot be null");
+		Assert.notNull(executor, "executor cannot be null");
+		this.delegate = delegate;
+		this.namespace = namespace;
+		this.executor = executor;
+		this.optionalResult = ResolvableType.forMethodReturnType(method)
+			.as(Future.class)
+			.getGeneric(0)
+			.toClass() == Optional.class;
+	}
+
+	@Override
+	public CompletableFuture<@Nullable Object> execute(@Nullable Object[] parameters) {
+		if (this.namespace instanceof TransactionalNamespace<?> transactionalNamespace
+				&& transactionalNamespace.isTransactionActive()) {
+			throw new InvalidDataAccessApiUsageException(
+					"Query methods returning CompletableFuture cannot be executed within a transaction");
+		}
+		return CompletableFuture.supplyAsync(() -> {
+			Object result = this.delegate.execute(parameters);
+			return this.optionalResult ? Optional.ofNullable(result) : result;
+		}, this.executor);
+	}
+
+	@Override
+	public QueryMethod getQueryMethod() {
+		return this.delegate.getQueryMethod();
+	}
+
+}
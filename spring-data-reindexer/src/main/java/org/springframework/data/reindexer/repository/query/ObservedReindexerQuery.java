@@ -0,0 +1,61 @@
+/*
+ * Copyright 2022-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.reindexer.repository.query;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.data.repository.query.QueryMethod;
+import org.springframework.data.repository.query.RepositoryQuery;
+import org.springframework.util.Assert;
+
+/**
+ * A {@link RepositoryQuery} that observes the invocations of a Reindexer
+ * {@link RepositoryQuery} with a {@link ReindexerQueryObserver}.
+ * <p>
+ * For internal use only, as this contract is likely to change.
+ *
+ * @author Evgeniy Cheban
+ * @since 1.7
+ */
+public final class ObservedReindexerQuery implements RepositoryQuery {
+
+	private final RepositoryQuery delegate;
+
+	private final ReindexerQueryObserver observer;
+
+	/**
+	 * Creates an instance.
+	 * @param delegate the {@link RepositoryQuery} to use
+	 * @param observer the {@link ReindexerQueryObserver} to use
+	 */
+	public ObservedReindexerQuery(RepositoryQuery delegate, ReindexerQueryObserver observer) {
+		Assert.notNull(delegate, "delegate cannot be null");
+		Assert.notNull(observer, "observer cannot be null");
+		this.delegate = delegate;
+		this.observer = observer;
+	}
+
+	@Override
+	public @Nullable Object execute(@Nullable Object[] parameters) {
+		return this.observer.observeInvocation(() -> this.delegate.execute(parameters));
+	}
+
+	@Override
+	public QueryMethod getQueryMethod() {
+		return this.delegate.getQueryMethod();
+	}
+
+}
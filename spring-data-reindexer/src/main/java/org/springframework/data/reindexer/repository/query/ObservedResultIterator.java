@@ -0,0 +1,110 @@
+/*
+ * Copyright 2022-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.reindexer.repository.query;
+
+import java.util.List;
+
+import io.micrometer.observation.Observation;
+import ru.rt.restream.reindexer.AggregationResult;
+import ru.rt.restream.reindexer.ResultIterator;
+
+import org.springframework.data.reindexer.observability.ReindexerObservationContext;
+
+/**
+ * A {@link ResultIterator} that counts the iterated results and stops the
+ * {@link org.springframework.data.reindexer.observability.ReindexerObservation#RESULT_PROJECTION}
+ * {@link Observation} once closed.
+ *
+ * @author Evgeniy Cheban
+ * @since 1.7
+ */
+final class ObservedResultIterator<E> implements ResultIterator<E> {
+
+	private final ResultIterator<E> delegate;
+
+	private final Observation observation;
+
+	private final ReindexerObservationContext context;
+
+	private long count;
+
+	private boolean closed;
+
+	ObservedResultIterator(ResultIterator<E> delegate, Observation observation, ReindexerObservationContext context) {
+		this.delegate = delegate;
+		this.observation = observation;
+		this.context = context;
+	}
+
+	@Override
+	public boolean hasNext() {
+		try {
+			return this.delegate.hasNext();
+		}
+		catch (RuntimeException ex) {
+			this.observation.error(ex);
+			throw ex;
+		}
+	}
+
+	@Override
+	public E next() {
+		try {
+			E next = this.delegate.next();
+			this.count++;
+			return next;
+		}
+		catch (RuntimeException ex) {
+			this.observation.error(ex);
+			throw ex;
+		}
+	}
+
+	@Override
+	public long size() {
+		return this.delegate.size();
+	}
+
+	@Override
+	public long getTotalCount() {
+		return this.delegate.getTotalCount();
+	}
+
+	@Override
+	public List<AggregationResult> aggResults() {
+		return this.delegate.aggResults();
+	}
+
+	@Override
+	public float getCurrentRank() {
+		return this.delegate.getCurrentRank();
+	}
+
+	@Override
+	public void close() {
+		try {
+			this.delegate.close();
+		}
+		finally {
+			if (!this.closed) {
+				this.closed = true;
+				this.context.setResultSize(this.count);
+				this.observation.stop();
+			}
+		}
+	}
+
+}
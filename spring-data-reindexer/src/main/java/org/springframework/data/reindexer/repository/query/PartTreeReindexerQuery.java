@@ -15,16 +15,26 @@
  */
 package org.springframework.data.reindexer.repository.query;
 
+import java.util.List;
 import java.util.function.Function;
 
+import org.jspecify.annotations.Nullable;
 import ru.rt.restream.reindexer.Namespace;
+import ru.rt.restream.reindexer.Query;
 
+import org.springframework.dao.EmptyResultDataAccessException;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.projection.EntityProjection;
+import org.springframework.data.reindexer.core.convert.NamespaceReferenceBatches;
 import org.springframework.data.reindexer.core.convert.ReindexerConverter;
 import org.springframework.data.reindexer.core.mapping.ReindexerMappingContext;
 import org.springframework.data.reindexer.repository.support.ReindexerNamespaceFactory;
+import org.springframework.data.reindexer.repository.support.TransactionalNamespace;
+import org.springframework.data.reindexer.repository.util.ScrollUtils;
 import org.springframework.data.repository.query.RepositoryQuery;
 import org.springframework.data.repository.query.ReturnedType;
 import org.springframework.data.repository.query.parser.PartTree;
+import org.springframework.util.Assert;
 
 /**
  * A {@link RepositoryQuery} implementation for Reindexer.
@@ -34,19 +44,19 @@ import org.springframework.data.repository.query.parser.PartTree;
  */
 public class PartTreeReindexerQuery extends AbstractReindexerQuery {
 
-	private final ReindexerQueryMethod method;
-
-	private final ReindexerEntityInformation<?, ?> entityInformation;
+	private final PartTree tree;
 
-	private final ReindexerMappingContext mappingContext;
+	private final @Nullable DerivedAggregation aggregation;
 
-	private final ReindexerNamespaceFactory namespaceFactory;
+	private final @Nullable DerivedFacet facet;
 
 	private final Namespace<?> namespace;
 
-	private final PartTree tree;
+	private final ReindexerQueryCreator queryCreator;
+
+	private final ReindexerConverter reindexerConverter;
 
-	private final QueryParameterMapper queryParameterMapper;
+	private final String idFieldName;
 
 	/**
 	 * Creates an instance.
@@ -61,38 +71,99 @@ public class PartTreeReindexerQuery extends AbstractReindexerQuery {
 			ReindexerMappingContext mappingContext, ReindexerNamespaceFactory namespaceFactory,
 			QueryParameterMapper queryParameterMapper, ReindexerConverter reindexerConverter) {
 		super(method, reindexerConverter);
-		this.method = method;
-		this.entityInformation = entityInformation;
-		this.mappingContext = mappingContext;
-		this.namespaceFactory = namespaceFactory;
-		this.queryParameterMapper = queryParameterMapper;
 		this.namespace = namespaceFactory.openNamespace(entityInformation.getJavaType());
-		this.tree = new PartTree(method.getName(), entityInformation.getJavaType());
+		this.aggregation = DerivedAggregation.parse(method.getName(), entityInformation.getJavaType(),
+				method.getReturnedObjectType());
+		this.tree = new PartTree((this.aggregation != null) ? this.aggregation.criteria() : method.getName(),
+				entityInformation.getJavaType());
+		this.facet = DerivedFacet.of(method, entityInformation.getJavaType());
+		// The time limit is checked while fetching results, these queries do not fetch any.
+		Assert.isTrue(!method.hasQueryTimeout() || this.aggregation == null && !this.tree.isCountProjection()
+				&& !this.tree.isExistsProjection() && !this.tree.isDelete(),
+				() -> "@QueryTimeout is not supported for count, exists, delete and aggregation query methods; "
+						+ "Offending method: " + method);
+		this.queryCreator = new ReindexerQueryCreator(this.tree, this.namespace, entityInformation, mappingContext,
+				namespaceFactory, queryParameterMapper, method, this.aggregation, this.facet);
+		this.reindexerConverter = reindexerConverter;
+		this.idFieldName = entityInformation.getIdFieldName();
 	}
 
 	@Override
 	ReindexerQuery createQuery(ReindexerParameterAccessor parameterAccessor, ReturnedType returnedType) {
-		ReindexerQueryCreator queryCreator = new ReindexerQueryCreator(this.tree, this.namespace,
-				this.entityInformation, this.mappingContext, this.namespaceFactory, this.queryParameterMapper,
-				parameterAccessor, returnedType, this.method);
-		return new ReindexerQuery(queryCreator.createQuery(), returnedType, parameterAccessor);
+		return new ReindexerQuery(this.queryCreator.createQuery(parameterAccessor, returnedType), returnedType,
+				parameterAccessor);
 	}
 
 	@Override
 	Function<ReindexerQuery, Object> getQueryExecution(ReindexerQueryMethod method) {
+		if (this.aggregation != null) {
+			DerivedAggregation aggregation = this.aggregation;
+			boolean primitive = method.getReturnedObjectType().isPrimitive();
+			return (query) -> {
+				@Nullable Number value;
+				try (ReindexerResultAccessor<?> it = toResultAccessor(query)) {
+					value = aggregation.isInexact(it) ? computeExactValue(query, aggregation)
+							: aggregation.getValue(it);
+				}
+				if (value == null && primitive) {
+					throw new EmptyResultDataAccessException("No entities matched to compute the "
+							+ aggregation.function() + " of " + aggregation.field()
+							+ ", use a boxed or Optional return type instead of " + method.getReturnedObjectType(), 1);
+				}
+				return value;
+			};
+		}
+		if (this.facet != null) {
+			DerivedFacet facet = this.facet;
+			boolean stream = method.isStreamQuery();
+			return (query) -> facet.toResult(toResultAccessor(query), stream,
+					this.reindexerConverter.getConversionService());
+		}
 		if (this.tree.isCountProjection()) {
-			return (query) -> query.criteria().count();
+			return (query) -> track(query, () -> query.criteria().count());
 		}
 		if (this.tree.isExistsProjection()) {
-			return (query) -> query.criteria().exists();
+			return (query) -> track(query, () -> query.criteria().exists());
 		}
 		if (this.tree.isDelete()) {
 			return (query) -> {
-				query.criteria().delete();
+				track(query, () -> {
+					query.criteria().delete();
+					return null;
+				});
+				if (this.namespace instanceof TransactionalNamespace<?> transactionalNamespace) {
+					transactionalNamespace.markModified();
+				}
 				return null;
 			};
 		}
+		if (method.isScrollQuery()) {
+			return this::toWindow;
+		}
 		return super.getQueryExecution(method);
 	}
 
+	private @Nullable Number computeExactValue(ReindexerQuery query, DerivedAggregation aggregation) {
+		Query<?> criteria = this.queryCreator.createExactAggregationQuery(query.parameters());
+		try (ReindexerResultAccessor<?> it = toResultAccessor(
+				new ReindexerQuery(criteria, query.returnedType(), query.parameters()))) {
+			return aggregation.getExactValue(it);
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private Object toWindow(ReindexerQuery query) {
+		ReindexerParameterAccessor parameters = query.parameters();
+		ScrollPosition position = parameters.getScrollPosition();
+		Assert.notNull(position, "ScrollPosition must not be null");
+		// Keyset positions are read from entities, so the results are projected afterwards.
+		EntityProjection<Object, Object> descriptor = (EntityProjection<Object, Object>) this.reindexerConverter
+			.getEntityProjection(query.returnedType().getReturnedType(), query.returnedType().getDomainType());
+		List<?> entities = ReindexerQueryExecutions.toList(executeQuery(query));
+		NamespaceReferenceBatches batches = new NamespaceReferenceBatches();
+		return ScrollUtils.toWindow(entities, position, this.queryCreator.getSort(parameters), this.idFieldName,
+				this.queryCreator.getScrollLimit(parameters),
+				(entity) -> this.reindexerConverter.project(descriptor, entity, batches));
+	}
+
 }
\ No newline at end of file
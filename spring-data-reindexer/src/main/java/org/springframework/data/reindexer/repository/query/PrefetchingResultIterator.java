@@ -0,0 +1,229 @@
+/*
+ * Copyright 2022-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.reindexer.repository.query;
+
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.jspecify.annotations.Nullable;
+import ru.rt.restream.reindexer.AggregationResult;
+import ru.rt.restream.reindexer.ResultIterator;
+
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.util.Assert;
+import org.springframework.util.ReflectionUtils;
+
+/**
+ * A {@link ResultIterator} that drains the delegate {@link ResultIterator} on a
+ * background producer into a bounded buffer, so that reading the next results overlaps
+ * with consuming the current ones. The delegate is only accessed by the producer, which
+ * captures its size, total count and aggregation results before reading the results and
+ * closes it once the results are drained or this iterator is closed. A failure of the
+ * producer is reported after the results read before it.
+ *
+ * @author Evgeniy Cheban
+ * @since 1.7
+ * @param <E> the entity type to use
+ */
+final class PrefetchingResultIterator<E> implements ResultIterator<E> {
+
+	private static final SimpleAsyncTaskExecutor PRODUCER_EXECUTOR = createProducerExecutor();
+
+	private static final Object END = new Object();
+
+	private final ResultIterator<E> delegate;
+
+	private final BlockingQueue<Object> buffer;
+
+	private final CountDownLatch started = new CountDownLatch(1);
+
+	private volatile boolean closed;
+
+	private @Nullable Throwable startFailure;
+
+	private long size;
+
+	private long totalCount;
+
+	private List<AggregationResult> aggResults = List.of();
+
+	private @Nullable Object next;
+
+	private float currentRank;
+
+	/**
+	 * Creates an instance.
+	 * @param delegate the {@link ResultIterator} to use
+	 * @param depth the maximum number of results read ahead of the consumer
+	 */
+	PrefetchingResultIterator(ResultIterator<E> delegate, int depth) {
+		Assert.notNull(delegate, "delegate cannot be null");
+		Assert.isTrue(depth > 0, "depth must be greater than 0");
+		this.delegate = delegate;
+		this.buffer = new ArrayBlockingQueue<>(depth);
+		PRODUCER_EXECUTOR.execute(this::produce);
+	}
+
+	private static SimpleAsyncTaskExecutor createProducerExecutor() {
+		SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("reindexer-prefetch-");
+		executor.setVirtualThreads(Runtime.version().feature() >= 21);
+		executor.setDaemon(true);
+		return executor;
+	}
+
+	private void produce() {
+		Object last;
+		try (this.delegate) {
+			try {
+				this.size = this.delegate.size();
+				this.totalCount = this.delegate.getTotalCount();
+				this.aggResults = this.delegate.aggResults();
+			}
+			catch (Throwable ex) {
+				this.startFailure = ex;
+				throw ex;
+			}
+			finally {
+				this.started.countDown();
+			}
+			while (!this.closed && this.delegate.hasNext()) {
+				E item = this.delegate.next();
+				if (item != null) {
+					put(new Element<>(item, this.delegate.getCurrentRank()));
+				}
+			}
+			last = END;
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			last = new Failure(new DataAccessResourceFailureException("Interrupted while prefetching results", ex));
+		}
+		catch (Throwable ex) {
+			last = new Failure(ex);
+		}
+		complete(last);
+	}
+
+	private void put(Object element) throws InterruptedException {
+		while (!this.closed && !this.buffer.offer(element, 100, TimeUnit.MILLISECONDS)) {
+			// Waits for the consumer to free up the buffer or close this iterator.
+		}
+	}
+
+	private void complete(Object last) {
+		// The consumer must not wait forever, so the last element is enqueued even if the
+		// producer is interrupted.
+		boolean interrupted = Thread.interrupted();
+		while (true) {
+			try {
+				put(last);
+				break;
+			}
+			catch (InterruptedException ex) {
+				interrupted = true;
+			}
+		}
+		if (interrupted) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private void awaitStarted() {
+		try {
+			this.started.await();
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			throw new DataAccessResourceFailureException("Interrupted while waiting for prefetched results", ex);
+		}
+		if (this.startFailure != null) {
+			ReflectionUtils.rethrowRuntimeException(this.startFailure);
+		}
+	}
+
+	@Override
+	public long size() {
+		awaitStarted();
+		return this.size;
+	}
+
+	@Override
+	public long getTotalCount() {
+		awaitStarted();
+		return this.totalCount;
+	}
+
+	@Override
+	public List<AggregationResult> aggResults() {
+		awaitStarted();
+		return this.aggResults;
+	}
+
+	@Override
+	public float getCurrentRank() {
+		return this.currentRank;
+	}
+
+	@Override
+	public boolean hasNext() {
+		if (this.closed) {
+			return false;
+		}
+		if (this.next == null) {
+			try {
+				this.next = this.buffer.take();
+			}
+			catch (InterruptedException ex) {
+				Thread.currentThread().interrupt();
+				throw new DataAccessResourceFailureException("Interrupted while waiting for prefetched results", ex);
+			}
+		}
+		if (this.next instanceof Failure failure) {
+			ReflectionUtils.rethrowRuntimeException(failure.exception());
+		}
+		return this.next != END;
+	}
+
+	@SuppressWarnings("unchecked")
+	@Override
+	public E next() {
+		if (!hasNext()) {
+			throw new NoSuchElementException();
+		}
+		Element<E> element = (Element<E>) this.next;
+		this.next = null;
+		this.currentRank = element.rank();
+		return element.item();
+	}
+
+	@Override
+	public void close() {
+		this.closed = true;
+		this.buffer.clear();
+	}
+
+	private record Element<E>(E item, float rank) {
+	}
+
+	private record Failure(Throwable exception) {
+	}
+
+}
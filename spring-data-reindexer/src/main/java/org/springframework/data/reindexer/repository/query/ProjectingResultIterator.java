@@ -15,27 +15,37 @@
  */
 package org.springframework.data.reindexer.repository.query;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.Spliterator;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.function.Consumer;
 
 import org.jspecify.annotations.Nullable;
 import ru.rt.restream.reindexer.AggregationResult;
 import ru.rt.restream.reindexer.AggregationResult.Facet;
-import ru.rt.restream.reindexer.Query;
 import ru.rt.restream.reindexer.ResultIterator;
 import ru.rt.restream.reindexer.util.BeanPropertyUtils;
 
 import org.springframework.core.convert.ConversionService;
 import org.springframework.data.projection.EntityProjection;
+import org.springframework.data.reindexer.core.convert.NamespaceReferenceBatches;
 import org.springframework.data.reindexer.core.convert.ReindexerConverter;
 import org.springframework.data.reindexer.core.mapping.ReindexerMappingContext;
 import org.springframework.data.reindexer.core.mapping.ReindexerPersistentEntity;
 import org.springframework.data.reindexer.core.mapping.ReindexerPersistentProperty;
 import org.springframework.data.repository.query.ReturnedType;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.util.Assert;
 import org.springframework.util.CollectionUtils;
 
@@ -50,10 +60,10 @@ public final class ProjectingResultIterator<M, D> implements ReindexerResultAcce
 
 	private final ResultIterator<D> delegate;
 
-	private final Class<M> mappedType;
-
 	private final Class<D> domainType;
 
+	private final EntityProjection<M, D> descriptor;
+
 	private final @Nullable AggregationResult aggregationFacet;
 
 	private final Map<String, Set<String>> distinctAggregationResults;
@@ -62,14 +72,12 @@ public final class ProjectingResultIterator<M, D> implements ReindexerResultAcce
 
 	private final ConversionService conversionService;
 
+	private final NamespaceReferenceBatches batches = new NamespaceReferenceBatches();
+
 	private final long size;
 
 	private int aggregationPosition;
 
-	ProjectingResultIterator(Query<D> query, ReturnedType projectionType, ReindexerConverter reindexerConverter) {
-		this(query.execute(), projectionType, reindexerConverter);
-	}
-
 	@SuppressWarnings("unchecked")
 	ProjectingResultIterator(ResultIterator<D> delegate, ReturnedType projectionType,
 			ReindexerConverter reindexerConverter) {
@@ -87,8 +95,8 @@ public final class ProjectingResultIterator<M, D> implements ReindexerResultAcce
 	public ProjectingResultIterator(ResultIterator<D> delegate, Class<M> mappedType, Class<D> domainType,
 			ReindexerConverter reindexerConverter) {
 		this.delegate = delegate;
-		this.mappedType = mappedType;
 		this.domainType = domainType;
+		this.descriptor = reindexerConverter.getEntityProjection(mappedType, domainType);
 		this.reindexerConverter = reindexerConverter;
 		this.conversionService = reindexerConverter.getConversionService();
 		this.aggregationFacet = getAggregationFacet();
@@ -145,9 +153,78 @@ public final class ProjectingResultIterator<M, D> implements ReindexerResultAcce
 		if (entity == null) {
 			return null;
 		}
-		EntityProjection<M, D> descriptor = this.reindexerConverter.getProjectionIntrospector()
-			.introspect(this.mappedType, this.domainType);
-		return this.reindexerConverter.project(descriptor, entity);
+		return this.reindexerConverter.project(this.descriptor, entity, this.batches);
+	}
+
+	/**
+	 * Reads the remaining entities and projects them in chunks of the given size on the
+	 * given {@link Executor}, keeping the result order. The entities are projected on the
+	 * calling thread while a transaction is active, so that referenced entities are read
+	 * within it. Closes this iterator.
+	 * @param chunkSize the maximum number of entities projected by a single task
+	 * @param executor the {@link Executor} to use, or {@literal null} to use a dedicated
+	 * {@link ForkJoinPool} shared by all query methods
+	 * @return the {@link List} of projected entities to use
+	 * @since 1.7
+	 */
+	List<M> toParallelList(int chunkSize, @Nullable Executor executor) {
+		Assert.isTrue(chunkSize > 0, "chunkSize must be greater than 0");
+		List<D> entities = new ArrayList<>(Math.toIntExact(this.size));
+		try (this) {
+			while (hasNext()) {
+				D entity = nextEntity();
+				if (entity != null) {
+					entities.add(entity);
+				}
+			}
+		}
+		if (entities.size() <= chunkSize || TransactionSynchronizationManager.isActualTransactionActive()) {
+			return project(entities);
+		}
+		Executor projectionExecutor = (executor != null) ? executor : DefaultProjectionExecutor.INSTANCE;
+		List<CompletableFuture<List<M>>> futures = new ArrayList<>();
+		for (int from = 0; from < entities.size(); from += chunkSize) {
+			List<D> chunk = entities.subList(from, Math.min(from + chunkSize, entities.size()));
+			futures.add(CompletableFuture.supplyAsync(() -> project(chunk), projectionExecutor));
+		}
+		List<M> projected = new ArrayList<>(entities.size());
+		try {
+			for (CompletableFuture<List<M>> future : futures) {
+				projected.addAll(future.join());
+			}
+		}
+		catch (CompletionException ex) {
+			futures.forEach((future) -> future.cancel(false));
+			if (ex.getCause() instanceof RuntimeException cause) {
+				throw cause;
+			}
+			throw ex;
+		}
+		return projected;
+	}
+
+	private List<M> project(List<D> entities) {
+		List<M> projected = new ArrayList<>(entities.size());
+		for (D entity : entities) {
+			M next = this.reindexerConverter.project(this.descriptor, entity, this.batches);
+			if (next != null) {
+				projected.add(next);
+			}
+		}
+		return projected;
+	}
+
+	/**
+	 * Creates a {@link Spliterator} that reads entities sequentially and splits off
+	 * batches of read entities that are projected by the thread that consumes the batch,
+	 * so that projection of a parallel {@link java.util.stream.Stream} scales with the
+	 * number of threads. Does not split while a transaction is active on the calling
+	 * thread, so that referenced entities are read within it.
+	 * @return the {@link Spliterator} to use
+	 * @since 1.7
+	 */
+	Spliterator<M> spliterator() {
+		return new ProjectingSpliterator(!TransactionSynchronizationManager.isActualTransactionActive());
 	}
 
 	private @Nullable D nextEntity() {
@@ -206,4 +283,127 @@ public final class ProjectingResultIterator<M, D> implements ReindexerResultAcce
 		return null;
 	}
 
+	private final class ProjectingSpliterator implements Spliterator<M> {
+
+		private static final int BATCH_UNIT = 1024;
+
+		private static final int MAX_BATCH = 1 << 25;
+
+		private final boolean splittable;
+
+		private long remaining = ProjectingResultIterator.this.size;
+
+		private int batch;
+
+		private ProjectingSpliterator(boolean splittable) {
+			this.splittable = splittable;
+		}
+
+		@Override
+		public boolean tryAdvance(Consumer<? super M> action) {
+			while (hasNext()) {
+				this.remaining--;
+				M next = next();
+				if (next != null) {
+					action.accept(next);
+					return true;
+				}
+			}
+			return false;
+		}
+
+		@Override
+		public @Nullable Spliterator<M> trySplit() {
+			if (!this.splittable || !hasNext()) {
+				return null;
+			}
+			int n = Math.min(this.batch + BATCH_UNIT, MAX_BATCH);
+			Object[] entities = new Object[n];
+			int count = 0;
+			while (count < n && hasNext()) {
+				this.remaining--;
+				D entity = nextEntity();
+				if (entity != null) {
+					entities[count++] = entity;
+				}
+			}
+			this.batch = count;
+			return new BatchSpliterator(Arrays.copyOf(entities, count), 0, count);
+		}
+
+		@Override
+		public long estimateSize() {
+			return Math.max(this.remaining, 0);
+		}
+
+		@Override
+		public int characteristics() {
+			return ORDERED | NONNULL;
+		}
+
+	}
+
+	private final class BatchSpliterator implements Spliterator<M> {
+
+		private final Object[] entities;
+
+		private int from;
+
+		private final int to;
+
+		private BatchSpliterator(Object[] entities, int from, int to) {
+			this.entities = entities;
+			this.from = from;
+			this.to = to;
+		}
+
+		@SuppressWarnings("unchecked")
+		@Override
+		public boolean tryAdvance(Consumer<? super M> action) {
+			while (this.from < this.to) {
+				M next = ProjectingResultIterator.this.reindexerConverter.project(
+						ProjectingResultIterator.this.descriptor, (D) this.entities[this.from++],
+						ProjectingResultIterator.this.batches);
+				if (next != null) {
+					action.accept(next);
+					return true;
+				}
+			}
+			return false;
+		}
+
+		@Override
+		public @Nullable Spliterator<M> trySplit() {
+			int middle = (this.from + this.to) >>> 1;
+			if (middle <= this.from) {
+				return null;
+			}
+			BatchSpliterator prefix = new BatchSpliterator(this.entities, this.from, middle);
+			this.from = middle;
+			return prefix;
+		}
+
+		@Override
+		public long estimateSize() {
+			return this.to - this.from;
+		}
+
+		@Override
+		public int characteristics() {
+			return ORDERED | NONNULL;
+		}
+
+	}
+
+	private static final class DefaultProjectionExecutor {
+
+		private static final ForkJoinPool INSTANCE = new ForkJoinPool(Runtime.getRuntime().availableProcessors(),
+				(pool) -> {
+					ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+					thread.setName("reindexer-projection-" + thread.getPoolIndex());
+					return thread;
+				}, null, false);
+
+	}
+
 }
@@ -19,6 +19,8 @@ import java.lang.reflect.Array;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.function.UnaryOperator;
 
 import org.jspecify.annotations.Nullable;
 import ru.rt.restream.reindexer.EnumType;
@@ -35,6 +37,7 @@ import org.springframework.data.reindexer.core.convert.ReindexerConverter;
 import org.springframework.data.reindexer.core.mapping.ReindexerMappingContext;
 import org.springframework.data.reindexer.core.mapping.ReindexerPersistentProperty;
 import org.springframework.lang.Contract;
+import org.springframework.util.ConcurrentLruCache;
 
 /**
  * For internal use only, as this contract is likely to change.
@@ -49,6 +52,8 @@ public final class QueryParameterMapper {
 
 	private final ReindexerConverter reindexerConverter;
 
+	private final ConcurrentLruCache<String, IndexValueMapper> valueMappers;
+
 	/**
 	 * Creates an instance.
 	 * @param domainType the domain type to use
@@ -60,6 +65,7 @@ public final class QueryParameterMapper {
 		this.domainType = domainType;
 		this.mappingContext = mappingContext;
 		this.reindexerConverter = reindexerConverter;
+		this.valueMappers = new ConcurrentLruCache<>(256, this::createValueMapper);
 	}
 
 	/**
@@ -70,9 +76,10 @@ public final class QueryParameterMapper {
 	 * @return the mapped values to use
 	 */
 	public @Nullable Object[] mapParameterValues(String indexName, Object... values) {
+		IndexValueMapper valueMapper = this.valueMappers.get(indexName);
 		@Nullable Object[] result = new Object[values.length];
 		for (int i = 0; i < values.length; i++) {
-			result[i] = mapParameterValue(indexName, values[i]);
+			result[i] = valueMapper.apply(values[i]);
 		}
 		return result;
 	}
@@ -89,6 +96,22 @@ public final class QueryParameterMapper {
 		if (value == null) {
 			return null;
 		}
+		return this.valueMappers.get(indexName).apply(value);
+	}
+
+	/**
+	 * Returns a function that maps values for the given index name. The index definition
+	 * and the applicable conversions are resolved once, therefore the returned function
+	 * can be reused to map values of the same index without resolving them again.
+	 * @param indexName the index name to use
+	 * @return the function that maps values for the given index name
+	 * @since 1.7
+	 */
+	public UnaryOperator<@Nullable Object> getParameterValueMapper(String indexName) {
+		return this.valueMappers.get(indexName);
+	}
+
+	private IndexValueMapper createValueMapper(String indexName) {
 		PersistentPropertyPath<ReindexerPersistentProperty> propertyPath = this.mappingContext
 			.getPersistentPropertyPath(indexName, this.domainType);
 		ReindexerPersistentProperty property = propertyPath.getLeafProperty();
@@ -99,36 +122,68 @@ public final class QueryParameterMapper {
 					property, this.reindexerConverter.getConversionService(), conversions);
 			PropertyValueConverter<Object, ?, ValueConversionContext<ReindexerPersistentProperty>> valueConverter = pvc
 				.getValueConverter(property);
-			return valueConverter.write(value, conversionContext);
-		}
-		if (conversions.hasCustomWriteTarget(value.getClass())) {
-			Class<?> customTarget = conversions.getCustomWriteTarget(property.getActualType()).get();
-			ConversionService conversionService = this.reindexerConverter.getConversionService();
-			if (conversionService.canConvert(value.getClass(), customTarget)) {
-				return conversionService.convert(value, customTarget);
-			}
+			return new IndexValueMapper(conversions, property, (value) -> valueConverter.write(value, conversionContext));
 		}
-		if (value instanceof Enum<?> enumValue) {
-			// TODO: Support Enum query parameters in rx-connector.
-			Enumerated enumerated = property.findAnnotation(Enumerated.class);
-			return enumerated != null && enumerated.value() == EnumType.STRING ? enumValue.name() : enumValue.ordinal();
+		return new IndexValueMapper(conversions, property, null);
+	}
+
+	private final class IndexValueMapper implements UnaryOperator<@Nullable Object> {
+
+		private final CustomConversions conversions;
+
+		private final Optional<Class<?>> customWriteTarget;
+
+		private final @Nullable UnaryOperator<Object> valueConverter;
+
+		private final @Nullable Enumerated enumerated;
+
+		private IndexValueMapper(CustomConversions conversions, ReindexerPersistentProperty property,
+				@Nullable UnaryOperator<Object> valueConverter) {
+			this.conversions = conversions;
+			this.customWriteTarget = conversions.getCustomWriteTarget(property.getActualType());
+			this.valueConverter = valueConverter;
+			this.enumerated = property.findAnnotation(Enumerated.class);
 		}
-		if (value instanceof Collection<?> values) {
-			List<@Nullable Object> result = new ArrayList<>(values.size());
-			for (Object object : values) {
-				result.add(mapParameterValue(indexName, object));
+
+		@Override
+		public @Nullable Object apply(@Nullable Object value) {
+			if (value == null) {
+				return null;
 			}
-			return result;
-		}
-		if (value.getClass().isArray()) {
-			int length = Array.getLength(value);
-			List<@Nullable Object> result = new ArrayList<>(length);
-			for (int i = 0; i < length; i++) {
-				result.add(mapParameterValue(indexName, Array.get(value, i)));
+			if (this.valueConverter != null) {
+				return this.valueConverter.apply(value);
+			}
+			if (this.conversions.hasCustomWriteTarget(value.getClass())) {
+				Class<?> customTarget = this.customWriteTarget.get();
+				ConversionService conversionService = QueryParameterMapper.this.reindexerConverter
+					.getConversionService();
+				if (conversionService.canConvert(value.getClass(), customTarget)) {
+					return conversionService.convert(value, customTarget);
+				}
+			}
+			if (value instanceof Enum<?> enumValue) {
+				// TODO: Support Enum query parameters in rx-connector.
+				return this.enumerated != null && this.enumerated.value() == EnumType.STRING ? enumValue.name()
+						: enumValue.ordinal();
 			}
-			return result;
+			if (value instanceof Collection<?> values) {
+				List<@Nullable Object> result = new ArrayList<>(values.size());
+				for (Object object : values) {
+					result.add(apply(object));
+				}
+				return result;
+			}
+			if (value.getClass().isArray()) {
+				int length = Array.getLength(value);
+				List<@Nullable Object> result = new ArrayList<>(length);
+				for (int i = 0; i < length; i++) {
+					result.add(apply(Array.get(value, i)));
+				}
+				return result;
+			}
+			return value;
 		}
-		return value;
+
 	}
 
 }
@@ -0,0 +1,125 @@
+/*
+ * Copyright 2022-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.reindexer.repository.query;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.util.ObjectUtils;
+
+/**
+ * Caches query results for a time-to-live, keyed by the query method arguments and
+ * tagged with the modification count of the queried namespace. The least recently used
+ * result is evicted once the cache exceeds its maximum size.
+ * <p>
+ * For internal use only, as this contract is likely to change.
+ *
+ * @author Evgeniy Cheban
+ * @since 1.7
+ */
+final class QueryResultCache {
+
+	private final Map<List<@Nullable Object>, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+	private final long ttlNanos;
+
+	private final int maxSize;
+
+	QueryResultCache(Duration ttl, int maxSize) {
+		this.ttlNanos = ttl.toNanos();
+		this.maxSize = maxSize;
+	}
+
+	/**
+	 * Returns the cached result for the given key, evicting it if it has expired or was
+	 * read before the last modification.
+	 * @param key the key to use
+	 * @param modificationCount the current modification count of the namespace
+	 * @return the lookup result to use
+	 */
+	Lookup get(List<@Nullable Object> key, long modificationCount) {
+		synchronized (this.entries) {
+			Entry entry = this.entries.get(key);
+			if (entry == null) {
+				return Lookup.MISS;
+			}
+			if (entry.isExpired(System.nanoTime()) || entry.modificationCount() != modificationCount) {
+				this.entries.remove(key);
+				return Lookup.EVICTED;
+			}
+			return new Lookup(true, entry.value(), false);
+		}
+	}
+
+	/**
+	 * Caches the result for the given key.
+	 * @param key the key to use
+	 * @param value the result to cache, can be {@literal null}
+	 * @param modificationCount the modification count of the namespace before the result
+	 * was read
+	 * @return {@literal true} if the least recently used result was evicted
+	 */
+	boolean put(List<@Nullable Object> key, @Nullable Object value, long modificationCount) {
+		synchronized (this.entries) {
+			this.entries.put(key, new Entry(value, modificationCount, System.nanoTime() + this.ttlNanos));
+			if (this.entries.size() > this.maxSize) {
+				Iterator<List<@Nullable Object>> it = this.entries.keySet().iterator();
+				it.next();
+				it.remove();
+				return true;
+			}
+			return false;
+		}
+	}
+
+	/**
+	 * Creates a key for the given query method arguments.
+	 * @param parameters the query method arguments to use
+	 * @return the key to use
+	 */
+	static List<@Nullable Object> getKey(@Nullable Object[] parameters) {
+		List<@Nullable Object> key = new ArrayList<>(parameters.length);
+		for (Object value : parameters) {
+			// Arrays do not implement equals, e.g., for varargs.
+			key.add(ObjectUtils.isArray(value) ? Arrays.asList(ObjectUtils.toObjectArray(value)) : value);
+		}
+		return key;
+	}
+
+	record Lookup(boolean hit, @Nullable Object value, boolean evicted) {
+
+		static final Lookup MISS = new Lookup(false, null, false);
+
+		static final Lookup EVICTED = new Lookup(false, null, true);
+
+	}
+
+	private record Entry(@Nullable Object value, long modificationCount, long expiresAt) {
+
+		boolean isExpired(long now) {
+			return now - this.expiresAt >= 0;
+		}
+
+	}
+
+}
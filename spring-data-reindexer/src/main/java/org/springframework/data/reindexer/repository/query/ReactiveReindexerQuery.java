@@ -0,0 +1,74 @@
+/*
+ * Copyright 2022-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.reindexer.repository.query;
+
+import org.jspecify.annotations.Nullable;
+import reactor.core.publisher.Flux;
+import reactor.core.scheduler.Scheduler;
+
+import org.springframework.data.repository.query.QueryMethod;
+import org.springframework.data.repository.query.RepositoryQuery;
+import org.springframework.util.Assert;
+
+/**
+ * A {@link RepositoryQuery} that adapts a blocking Reindexer {@link RepositoryQuery} to
+ * reactive query methods. Multi-value results are pulled from the query's
+ * {@link ru.rt.restream.reindexer.ResultIterator} in response to downstream demand,
+ * single-value results are computed lazily, and the blocking connector calls run on the
+ * given {@link Scheduler}.
+ * <p>
+ * For internal use only, as this contract is likely to change.
+ *
+ * @author Evgeniy Cheban
+ * @since 1.7
+ */
+public final class ReactiveReindexerQuery implements RepositoryQuery {
+
+	private final RepositoryQuery delegate;
+
+	private final ReindexerQueryMethod method;
+
+	private final Scheduler scheduler;
+
+	/**
+	 * Creates an instance.
+	 * @param delegate the blocking {@link RepositoryQuery} to use
+	 * @param scheduler the {@link Scheduler} to use
+	 */
+	public ReactiveReindexerQuery(RepositoryQuery delegate, Scheduler scheduler) {
+		Assert.notNull(delegate, "delegate cannot be null");
+		Assert.notNull(scheduler, "scheduler cannot be null");
+		this.delegate = delegate;
+		this.method = (ReindexerQueryMethod) delegate.getQueryMethod();
+		this.scheduler = scheduler;
+	}
+
+	@Override
+	public Object execute(@Nullable Object[] parameters) {
+		if (this.method.isMultiValueReactiveQuery()) {
+			Flux<?> result = (Flux<?>) this.delegate.execute(parameters);
+			Assert.state(result != null, "Reactive query must not return null");
+			return result.subscribeOn(this.scheduler);
+		}
+		return ReactiveReindexerQueryExecutions.toMono(() -> this.delegate.execute(parameters), this.scheduler);
+	}
+
+	@Override
+	public QueryMethod getQueryMethod() {
+		return this.method;
+	}
+
+}
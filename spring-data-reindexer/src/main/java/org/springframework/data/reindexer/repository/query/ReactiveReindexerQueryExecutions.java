@@ -0,0 +1,87 @@
+/*
+ * Copyright 2022-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.reindexer.repository.query;
+
+import java.util.concurrent.Callable;
+
+import org.jspecify.annotations.Nullable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import ru.rt.restream.reindexer.ResultIterator;
+
+/**
+ * Reactive counterpart of {@link ReindexerQueryExecutions}.
+ * <p>
+ * For internal use only, as this contract is likely to change.
+ *
+ * @author Evgeniy Cheban
+ * @since 1.7
+ */
+public final class ReactiveReindexerQueryExecutions {
+
+	/**
+	 * Produces a {@link Flux} of entities from the {@link ResultIterator} returned by the
+	 * given {@link Callable}. The iterator is opened on subscription, entities are read
+	 * in response to downstream demand, and the iterator is closed on completion, error
+	 * or cancellation.
+	 * @param iteratorSupplier the {@link Callable} that opens the {@link ResultIterator}
+	 * @param <E> the entity type to use
+	 * @return the {@link Flux} of entities to use
+	 */
+	public static <E> Flux<E> toFlux(Callable<ResultIterator<@Nullable E>> iteratorSupplier) {
+		return Flux.generate(iteratorSupplier, (iterator, sink) -> {
+			while (iterator.hasNext()) {
+				E next = iterator.next();
+				if (next != null) {
+					sink.next(next);
+					return iterator;
+				}
+			}
+			sink.complete();
+			return iterator;
+		}, ResultIterator::close);
+	}
+
+	/**
+	 * Produces a {@link Flux} of entities from the {@link ResultIterator} returned by the
+	 * given {@link Callable}, subscribing and requesting on the given {@link Scheduler}
+	 * so the blocking connector calls never run on the subscriber's thread.
+	 * @param iteratorSupplier the {@link Callable} that opens the {@link ResultIterator}
+	 * @param scheduler the {@link Scheduler} to use
+	 * @param <E> the entity type to use
+	 * @return the {@link Flux} of entities to use
+	 */
+	public static <E> Flux<E> toFlux(Callable<ResultIterator<@Nullable E>> iteratorSupplier, Scheduler scheduler) {
+		return toFlux(iteratorSupplier).subscribeOn(scheduler);
+	}
+
+	/**
+	 * Produces a {@link Mono} that runs the given blocking {@link Callable} on the given
+	 * {@link Scheduler}. A {@literal null} result completes the {@link Mono} empty.
+	 * @param callable the {@link Callable} to use
+	 * @param scheduler the {@link Scheduler} to use
+	 * @param <E> the result type to use
+	 * @return the {@link Mono} to use
+	 */
+	public static <E> Mono<E> toMono(Callable<@Nullable E> callable, Scheduler scheduler) {
+		return Mono.<E>fromCallable(callable).subscribeOn(scheduler);
+	}
+
+	private ReactiveReindexerQueryExecutions() {
+	}
+
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright 2022-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.reindexer.repository.query;
+
+import org.springframework.data.repository.query.QueryMethod;
+
+/**
+ * Listener for the result cache of query methods annotated with
+ * {@link org.springframework.data.reindexer.core.mapping.ReindexerCacheable}, e.g., to
+ * record hit, miss and eviction metrics.
+ *
+ * @author Evgeniy Cheban
+ * @since 1.7
+ */
+public interface ReindexerQueryCacheListener {
+
+	/**
+	 * A no-op {@link ReindexerQueryCacheListener}.
+	 */
+	ReindexerQueryCacheListener NOOP = new ReindexerQueryCacheListener() {
+	};
+
+	/**
+	 * Called when a result is read from the cache.
+	 * @param method the {@link QueryMethod} to use
+	 */
+	default void onHit(QueryMethod method) {
+	}
+
+	/**
+	 * Called when no valid result is cached and the query is executed.
+	 * @param method the {@link QueryMethod} to use
+	 */
+	default void onMiss(QueryMethod method) {
+	}
+
+	/**
+	 * Called when a cached result is evicted because it expired, its namespace was
+	 * modified or the cache exceeded its maximum size.
+	 * @param method the {@link QueryMethod} to use
+	 */
+	default void onEviction(QueryMethod method) {
+	}
+
+}
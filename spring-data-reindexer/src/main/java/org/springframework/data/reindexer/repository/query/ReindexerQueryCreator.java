@@ -15,8 +15,16 @@
  */
 package org.springframework.data.reindexer.repository.query;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.UnaryOperator;
 
 import org.jspecify.annotations.Nullable;
 import ru.rt.restream.reindexer.Namespace;
@@ -25,7 +33,9 @@ import ru.rt.restream.reindexer.Query.Condition;
 import ru.rt.restream.reindexer.vector.params.KnnSearchParam;
 
 import org.springframework.data.core.PropertyPath;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.domain.Sort.Order;
 import org.springframework.data.domain.Vector;
@@ -34,8 +44,8 @@ import org.springframework.data.reindexer.repository.support.ReindexerNamespaceF
 import org.springframework.data.reindexer.repository.support.TransactionalNamespace;
 import org.springframework.data.reindexer.repository.util.PageableUtils;
 import org.springframework.data.reindexer.repository.util.QueryUtils;
+import org.springframework.data.reindexer.repository.util.ScrollUtils;
 import org.springframework.data.repository.query.ReturnedType;
-import org.springframework.data.repository.query.parser.AbstractQueryCreator;
 import org.springframework.data.repository.query.parser.Part;
 import org.springframework.data.repository.query.parser.Part.IgnoreCaseType;
 import org.springframework.data.repository.query.parser.Part.Type;
@@ -43,12 +53,16 @@ import org.springframework.data.repository.query.parser.PartTree;
 import org.springframework.util.Assert;
 
 /**
+ * Creates a {@link Query} from a {@link PartTree}. The {@link PartTree} is compiled once
+ * into a list of criteria with pre-resolved parameter value mappers, so that creating a
+ * query only binds the method arguments onto a new {@link Query}.
+ * <p>
  * For internal use only, as this contract is likely to change.
  *
  * @author Evgeniy Cheban
  * @author Daniil Cheban
  */
-final class ReindexerQueryCreator extends AbstractQueryCreator<Query<?>, Query<?>> {
+final class ReindexerQueryCreator {
 
 	private final PartTree tree;
 
@@ -60,144 +74,231 @@ final class ReindexerQueryCreator extends AbstractQueryCreator<Query<?>, Query<?
 
 	private final ReindexerNamespaceFactory namespaceFactory;
 
-	private final ReindexerParameterAccessor parameters;
-
-	private final ReturnedType returnedType;
-
 	private final QueryParameterMapper queryParameterMapper;
 
 	private final ReindexerQueryMethod method;
 
-	private @Nullable Query<?> base;
+	private final @Nullable DerivedAggregation aggregation;
+
+	private final @Nullable DerivedFacet facet;
+
+	private final List<List<Criterion>> criteria;
+
+	private final Map<Class<?>, String[]> selectFields = new ConcurrentHashMap<>();
 
 	ReindexerQueryCreator(PartTree tree, Namespace<?> namespace, ReindexerEntityInformation<?, ?> entityInformation,
 			ReindexerMappingContext mappingContext, ReindexerNamespaceFactory namespaceFactory,
-			QueryParameterMapper queryParameterMapper, ReindexerParameterAccessor parameters, ReturnedType returnedType,
-			ReindexerQueryMethod method) {
-		super(tree, parameters);
+			QueryParameterMapper queryParameterMapper, ReindexerQueryMethod method,
+			@Nullable DerivedAggregation aggregation, @Nullable DerivedFacet facet) {
 		this.tree = tree;
 		this.namespace = namespace;
 		this.entityInformation = entityInformation;
 		this.mappingContext = mappingContext;
 		this.namespaceFactory = namespaceFactory;
 		this.queryParameterMapper = queryParameterMapper;
-		this.parameters = parameters;
-		this.returnedType = returnedType;
 		this.method = method;
+		this.aggregation = aggregation;
+		this.facet = facet;
+		this.criteria = compile(tree);
 	}
 
-	@Override
-	protected Query<?> create(Part part, Iterator<Object> parameters) {
-		if (this.base == null) {
-			this.base = createCriteria();
-		}
-		else {
-			/*
-			 * If the base query already exists, this is the next PartTree.OrPart
-			 * iteration, and the OR operator is applied. Note that we need to open the
-			 * bracket to ensure correct handling of certain OR conditions.
-			 *
-			 * For example, in `findByNameOrValueNot`, the NOT part must be wrapped in
-			 * brackets to produce correct results.
-			 */
-			this.base.or().openBracket();
+	private List<List<Criterion>> compile(PartTree tree) {
+		List<List<Criterion>> result = new ArrayList<>();
+		for (PartTree.OrPart orPart : tree) {
+			List<Criterion> criteria = new ArrayList<>();
+			for (Part part : orPart) {
+				criteria.add(compile(part));
+			}
+			result.add(List.copyOf(criteria));
 		}
-		return and(part, this.base, parameters);
+		return List.copyOf(result);
 	}
 
-	@Override
-	protected Query<?> and(Part part, Query<?> base, Iterator<Object> parameters) {
+	private Criterion compile(Part part) {
 		String indexName = part.getProperty().toDotPath();
 		return switch (part.getType()) {
-			case GREATER_THAN, AFTER -> where(base, indexName, Condition.GT, parameters);
-			case GREATER_THAN_EQUAL -> where(base, indexName, Condition.GE, parameters);
-			case LESS_THAN, BEFORE -> where(base, indexName, Condition.LT, parameters);
-			case LESS_THAN_EQUAL -> where(base, indexName, Condition.LE, parameters);
-			case IN -> where(base, indexName, Condition.SET, parameters);
-			case NOT_IN -> where(base.not(), indexName, Condition.SET, parameters);
-			case IS_NOT_NULL -> base.isNotNull(indexName);
-			case IS_NULL -> base.isNull(indexName);
+			case GREATER_THAN, AFTER -> where(indexName, Condition.GT, false);
+			case GREATER_THAN_EQUAL -> where(indexName, Condition.GE, false);
+			case LESS_THAN, BEFORE -> where(indexName, Condition.LT, false);
+			case LESS_THAN_EQUAL -> where(indexName, Condition.LE, false);
+			case IN -> where(indexName, Condition.SET, false);
+			case NOT_IN -> where(indexName, Condition.SET, true);
+			case IS_NOT_NULL -> (base, parameters, accessor) -> base.isNotNull(indexName);
+			case IS_NULL -> (base, parameters, accessor) -> base.isNull(indexName);
 			case NEGATING_SIMPLE_PROPERTY, SIMPLE_PROPERTY -> {
+				boolean negate = part.getType() == Type.NEGATING_SIMPLE_PROPERTY;
 				boolean isSimpleComparison = switch (part.shouldIgnoreCase()) {
 					case NEVER -> true;
 					case WHEN_POSSIBLE -> part.getProperty().getType() != String.class;
 					case ALWAYS -> false;
 				};
 				if (isSimpleComparison) {
-					yield where(part.getType() == Type.NEGATING_SIMPLE_PROPERTY ? base.not() : base, indexName,
-							Condition.EQ, parameters);
+					yield where(indexName, Condition.EQ, negate);
 				}
 				PropertyPath path = part.getProperty().getLeafProperty();
-				if (part.shouldIgnoreCase() == IgnoreCaseType.ALWAYS) {
-					Assert.isTrue(part.getProperty().getType() == String.class,
-							() -> "Property '" + indexName + "' must be of type String but was " + path.getType());
-				}
-				Object value = parameters.next();
-				Assert.notNull(value,
-						() -> "Argument for creating like pattern for property '" + indexName + "' must not be null");
-				yield part.getType() == Type.NEGATING_SIMPLE_PROPERTY ? base.not().like(indexName, value.toString())
-						: base.like(indexName, value.toString());
+				yield (base, parameters, accessor) -> {
+					if (part.shouldIgnoreCase() == IgnoreCaseType.ALWAYS) {
+						Assert.isTrue(part.getProperty().getType() == String.class,
+								() -> "Property '" + indexName + "' must be of type String but was " + path.getType());
+					}
+					Object value = parameters.next();
+					Assert.notNull(value,
+							() -> "Argument for creating like pattern for property '" + indexName + "' must not be null");
+					return negate ? base.not().like(indexName, value.toString()) : base.like(indexName, value.toString());
+				};
+			}
+			case BETWEEN -> {
+				UnaryOperator<@Nullable Object> valueMapper = this.queryParameterMapper
+					.getParameterValueMapper(indexName);
+				yield (base, parameters, accessor) -> base.where(indexName, Condition.RANGE,
+						valueMapper.apply(parameters.next()), valueMapper.apply(parameters.next()));
 			}
-			case BETWEEN -> base.where(indexName, Condition.RANGE,
-					this.queryParameterMapper.mapParameterValues(indexName, parameters.next(), parameters.next()));
-			case TRUE -> base.where(indexName, Condition.EQ, true);
-			case FALSE -> base.where(indexName, Condition.EQ, false);
+			case TRUE -> (base, parameters, accessor) -> base.where(indexName, Condition.EQ, true);
+			case FALSE -> (base, parameters, accessor) -> base.where(indexName, Condition.EQ, false);
 			case LIKE, NOT_LIKE, STARTING_WITH, ENDING_WITH, CONTAINING, NOT_CONTAINING -> {
 				if (part.getProperty().getLeafProperty().isCollection()) {
-					yield where(part.getType() == Type.NOT_CONTAINING ? base.not() : base, indexName, Condition.SET,
-							parameters);
+					yield where(indexName, Condition.SET, part.getType() == Type.NOT_CONTAINING);
 				}
-				Object value = parameters.next();
-				Assert.isInstanceOf(String.class, value,
-						() -> "Value of '" + part.getType() + "' expression must be String");
-				String expression = switch (part.getType()) {
-					case STARTING_WITH -> value + "%";
-					case ENDING_WITH -> "%" + value;
-					case CONTAINING, NOT_CONTAINING -> "%" + value + "%";
-					default -> (String) value;
+				boolean negate = part.getType() == Type.NOT_LIKE || part.getType() == Type.NOT_CONTAINING;
+				yield (base, parameters, accessor) -> {
+					Object value = parameters.next();
+					Assert.isInstanceOf(String.class, value,
+							() -> "Value of '" + part.getType() + "' expression must be String");
+					String expression = switch (part.getType()) {
+						case STARTING_WITH -> value + "%";
+						case ENDING_WITH -> "%" + value;
+						case CONTAINING, NOT_CONTAINING -> "%" + value + "%";
+						default -> (String) value;
+					};
+					return negate ? base.not().like(indexName, expression) : base.like(indexName, expression);
 				};
-				yield part.getType() == Type.NOT_LIKE || part.getType() == Type.NOT_CONTAINING
-						? base.not().like(indexName, expression) : base.like(indexName, expression);
 			}
-			case NEAR, WITHIN -> {
-				Vector vector = this.parameters.getVector();
+			case NEAR, WITHIN -> (base, parameters, accessor) -> {
+				Vector vector = accessor.getVector();
 				Assert.notNull(vector, "Near/Within query needs to have a Vector parameter");
-				KnnSearchParam knnSearchParam = this.parameters.getKnnSearchParam();
+				KnnSearchParam knnSearchParam = accessor.getKnnSearchParam();
 				Assert.notNull(knnSearchParam, () -> "Near/Within query needs to have a KnnSearchParam parameter");
-				yield base.whereKnn(indexName, vector.toFloatArray(), knnSearchParam);
+				return base.whereKnn(indexName, vector.toFloatArray(), knnSearchParam);
+			};
+			default -> (base, parameters, accessor) -> {
+				throw new IllegalArgumentException("Unsupported keyword!");
+			};
+		};
+	}
+
+	private Criterion where(String indexName, Condition condition, boolean negate) {
+		UnaryOperator<@Nullable Object> valueMapper = this.queryParameterMapper.getParameterValueMapper(indexName);
+		return (base, parameters, accessor) -> {
+			Query<?> criteria = negate ? base.not() : base;
+			Object value = valueMapper.apply(parameters.next());
+			if (value instanceof Collection<?> values) {
+				return criteria.where(indexName, condition, values);
 			}
-			default -> throw new IllegalArgumentException("Unsupported keyword!");
+			return criteria.where(indexName, condition, value);
 		};
 	}
 
-	private Query<?> where(Query<?> base, String indexName, Condition condition, Iterator<Object> parameters) {
-		Object value = this.queryParameterMapper.mapParameterValue(indexName, parameters.next());
-		if (value instanceof Collection<?> values) {
-			return base.where(indexName, condition, values);
+	/**
+	 * Creates a new {@link Query} binding the given parameters.
+	 * @param parameters the {@link ReindexerParameterAccessor} to use
+	 * @param returnedType the {@link ReturnedType} to use
+	 * @return the {@link Query} to use
+	 */
+	Query<?> createQuery(ReindexerParameterAccessor parameters, ReturnedType returnedType) {
+		return complete(bind(parameters), getSort(parameters), parameters, returnedType);
+	}
+
+	/**
+	 * Creates a new {@link Query} binding the given parameters that computes the
+	 * aggregate of an aggregate query exactly.
+	 * @param parameters the {@link ReindexerParameterAccessor} to use
+	 * @return the {@link Query} to use
+	 * @see DerivedAggregation#applyExact(Query)
+	 */
+	Query<?> createExactAggregationQuery(ReindexerParameterAccessor parameters) {
+		Assert.state(this.aggregation != null, "aggregation cannot be null");
+		Query<?> criteria = bind(parameters);
+		this.aggregation.applyExact(criteria);
+		return criteria;
+	}
+
+	private Query<?> bind(ReindexerParameterAccessor parameters) {
+		Query<?> criteria = createCriteria();
+		Iterator<Object> values = parameters.iterator();
+		for (int i = 0; i < this.criteria.size(); i++) {
+			if (i > 0) {
+				/*
+				 * This is the next PartTree.OrPart iteration, and the OR operator is
+				 * applied. Note that we need to open the bracket to ensure correct
+				 * handling of certain OR conditions.
+				 *
+				 * For example, in `findByNameOrValueNot`, the NOT part must be wrapped in
+				 * brackets to produce correct results.
+				 */
+				criteria.or().openBracket();
+			}
+			for (Criterion criterion : this.criteria.get(i)) {
+				criterion.apply(criteria, values, parameters);
+			}
+			if (i > 0) {
+				// Close the bracket opened in this PartTree.OrPart iteration.
+				criteria.closeBracket();
+			}
 		}
-		return base.where(indexName, condition, value);
+		return criteria;
+	}
+
+	/**
+	 * Returns the {@link Sort} of the query that consists of the static sort of the
+	 * method name followed by the dynamic sort of the given parameters.
+	 * @param parameters the {@link ReindexerParameterAccessor} to use
+	 * @return the {@link Sort} to use
+	 */
+	Sort getSort(ReindexerParameterAccessor parameters) {
+		return this.tree.getSort().and(parameters.getSort());
 	}
 
-	@Override
-	protected Query<?> or(Query<?> base, Query<?> criteria) {
-		// Close the bracket opened in this PartTree.OrPart iteration.
-		return base.closeBracket();
+	/**
+	 * Returns the {@link Limit} of a scroll query that is the minimum of the First/Top
+	 * keyword and the {@link Limit} parameter.
+	 * @param parameters the {@link ReindexerParameterAccessor} to use
+	 * @return the {@link Limit} to use
+	 */
+	Limit getScrollLimit(ReindexerParameterAccessor parameters) {
+		Limit limit = parameters.getLimit();
+		Integer maxResults = this.tree.getMaxResults();
+		if (maxResults != null && (limit.isUnlimited() || maxResults < limit.max())) {
+			return Limit.of(maxResults);
+		}
+		return limit;
 	}
 
-	@Override
-	protected Query<?> complete(@Nullable Query<?> criteria, Sort sort) {
-		if (criteria == null) {
-			criteria = createCriteria();
+	private Query<?> complete(Query<?> criteria, Sort sort, ReindexerParameterAccessor parameters,
+			ReturnedType returnedType) {
+		if (this.aggregation != null) {
+			this.aggregation.apply(criteria);
+			return criteria;
+		}
+		if (this.facet != null) {
+			this.facet.apply(criteria);
+			return criteria;
 		}
-		if (this.returnedType.needsCustomConstruction()) {
-			String[] fields = QueryUtils.getSelectFields(this.mappingContext, this.returnedType, this.tree.isDistinct())
-				.toArray(String[]::new);
+		if (returnedType.needsCustomConstruction()) {
+			String[] fields = this.selectFields.computeIfAbsent(returnedType.getReturnedType(),
+					(type) -> QueryUtils.getSelectFields(this.mappingContext, returnedType, this.tree.isDistinct())
+						.toArray(String[]::new));
 			if (this.tree.isDistinct()) {
 				for (String field : fields) {
 					criteria.aggregateDistinct(field);
 				}
 				criteria.aggregateFacet(fields);
 			}
+			else if (this.method.isScrollQuery()) {
+				// Keyset positions are created from the sort properties and the id.
+				Set<String> scrollFields = new LinkedHashSet<>(Arrays.asList(fields));
+				scrollFields.addAll(ScrollUtils.getKeysetProperties(sort, this.entityInformation.getIdFieldName()));
+				criteria.select(scrollFields.toArray(String[]::new));
+			}
 			else {
 				criteria.select(fields);
 			}
@@ -208,7 +309,15 @@ final class ReindexerQueryCreator extends AbstractQueryCreator<Query<?>, Query<?
 		else {
 			criteria.selectAllFields();
 		}
-		Pageable pageable = this.parameters.getPageable();
+		if (this.method.isScrollQuery()) {
+			ScrollPosition position = parameters.getScrollPosition();
+			Assert.notNull(position, "ScrollPosition must not be null");
+			ScrollUtils.withScrollPosition(criteria, position, sort, this.entityInformation.getIdFieldName(),
+					getScrollLimit(parameters), this.queryParameterMapper);
+			return QueryUtils.withJoins(criteria, returnedType.getDomainType(), this.mappingContext,
+					this.namespaceFactory);
+		}
+		Pageable pageable = parameters.getPageable();
 		if (pageable.isPaged()) {
 			int limit = this.method.isSliceQuery() ? pageable.getPageSize() + 1 : pageable.getPageSize();
 			criteria.limit(limit).offset(PageableUtils.getOffsetAsInteger(pageable));
@@ -236,14 +345,15 @@ final class ReindexerQueryCreator extends AbstractQueryCreator<Query<?>, Query<?
 		if (this.tree.isExistsProjection()) {
 			criteria.limit(1);
 		}
-		if (this.method.isPageQuery()) {
+		// A cached total is requested on a cache miss when the query is executed.
+		if (this.method.isPageQuery() && !this.method.hasCachedTotal()) {
 			criteria.reqTotal();
 		}
 		if (this.method.isSearchQuery()) {
 			// Include ranks to the query output.
 			criteria.withRank();
 		}
-		return QueryUtils.withJoins(criteria, this.returnedType.getDomainType(), this.mappingContext,
+		return QueryUtils.withJoins(criteria, returnedType.getDomainType(), this.mappingContext,
 				this.namespaceFactory);
 	}
 
@@ -254,4 +364,14 @@ final class ReindexerQueryCreator extends AbstractQueryCreator<Query<?>, Query<?
 		return this.namespace.query();
 	}
 
+	/**
+	 * A compiled {@link Part} that applies a condition to the given {@link Query}.
+	 */
+	@FunctionalInterface
+	private interface Criterion {
+
+		Query<?> apply(Query<?> base, Iterator<Object> parameters, ReindexerParameterAccessor accessor);
+
+	}
+
 }
@@ -21,6 +21,7 @@ import java.util.List;
 import java.util.Objects;
 import java.util.Spliterator;
 import java.util.Spliterators;
+import java.util.concurrent.Executor;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
@@ -70,7 +71,12 @@ public final class ReindexerQueryExecutions {
 	 * @param <E> the entity type to use
 	 * @return the {@link Stream} of entities to use
 	 */
+	@SuppressWarnings("unchecked")
 	public static <E> Stream<E> toStream(ResultIterator<@Nullable E> iterator) {
+		if (iterator instanceof ProjectingResultIterator<?, ?> projecting) {
+			Spliterator<E> spliterator = (Spliterator<E>) projecting.spliterator();
+			return StreamSupport.stream(spliterator, false).onClose(iterator::close);
+		}
 		Spliterator<@Nullable E> spliterator = Spliterators.spliterator(iterator, iterator.size(), Spliterator.NONNULL);
 		Stream<E> stream = StreamSupport.stream(spliterator, false).filter(Objects::nonNull);
 		return stream.onClose(iterator::close);
@@ -95,6 +101,28 @@ public final class ReindexerQueryExecutions {
 		return result;
 	}
 
+	/**
+	 * Produces a {@link List} of entities from the given {@link ResultIterator}, projecting
+	 * the entities in chunks of the given size on the given {@link Executor} while keeping
+	 * the result order. The entities are projected on the calling thread while a
+	 * transaction is active.
+	 * @param iterator the {@link ResultIterator} to use
+	 * @param chunkSize the maximum number of entities projected by a single task
+	 * @param executor the {@link Executor} to use, or {@literal null} to use a dedicated
+	 * {@link java.util.concurrent.ForkJoinPool} shared by all query methods
+	 * @param <E> the entity type to use
+	 * @return the {@link List} of entities to use
+	 * @since 1.7
+	 */
+	@SuppressWarnings("unchecked")
+	public static <E> List<E> toParallelList(ResultIterator<@Nullable E> iterator, int chunkSize,
+			@Nullable Executor executor) {
+		if (iterator instanceof ProjectingResultIterator<?, ?> projecting) {
+			return (List<E>) projecting.toParallelList(chunkSize, executor);
+		}
+		return toList(iterator);
+	}
+
 	/**
 	 * Produces a {@link Slice} of entities from the given {@link ResultIterator} and
 	 * {@link Pageable}.
@@ -0,0 +1,37 @@
+/*
+ * Copyright 2022-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.reindexer.repository.query;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Captures the plan of a slow SQL query for the {@link ReindexerSlowQueryLog}, e.g., by
+ * re-running the query with Reindexer's {@code EXPLAIN}.
+ *
+ * @author Evgeniy Cheban
+ * @since 1.7
+ */
+@FunctionalInterface
+public interface ReindexerQueryExplainer {
+
+	/**
+	 * Explains the given SQL query.
+	 * @param sql the SQL query to explain
+	 * @return the plan of the query or {@literal null} if it cannot be explained
+	 */
+	@Nullable String explain(String sql);
+
+}
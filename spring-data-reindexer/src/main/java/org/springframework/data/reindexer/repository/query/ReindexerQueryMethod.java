@@ -16,10 +16,24 @@
 package org.springframework.data.reindexer.repository.query;
 
 import java.lang.reflect.Method;
+import java.time.Duration;
 import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Future;
 
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.core.ResolvableType;
+import org.springframework.data.core.ReactiveWrappers;
 import org.springframework.data.projection.ProjectionFactory;
+import org.springframework.data.reindexer.core.mapping.CachedTotal;
+import org.springframework.data.reindexer.core.mapping.Facet;
+import org.springframework.data.reindexer.core.mapping.ParallelProjection;
+import org.springframework.data.reindexer.core.mapping.Prefetch;
 import org.springframework.data.reindexer.core.mapping.Query;
+import org.springframework.data.reindexer.core.mapping.QueryTimeout;
+import org.springframework.data.reindexer.core.mapping.ReindexerCacheable;
 import org.springframework.data.repository.core.RepositoryMetadata;
 import org.springframework.data.repository.query.QueryMethod;
 import org.springframework.data.util.Lazy;
@@ -33,8 +47,28 @@ public final class ReindexerQueryMethod extends QueryMethod {
 
 	private final Lazy<Boolean> isIteratorQuery;
 
+	private final Lazy<Boolean> isReactiveQuery;
+
+	private final Lazy<Boolean> isMultiValueReactiveQuery;
+
+	private final Lazy<Boolean> isFutureQuery;
+
 	private final Lazy<Query> queryAnnotationExtractor;
 
+	private final Lazy<CachedTotal> cachedTotalAnnotationExtractor;
+
+	private final Lazy<Prefetch> prefetchAnnotationExtractor;
+
+	private final Lazy<ParallelProjection> parallelProjectionAnnotationExtractor;
+
+	private final Lazy<ReindexerCacheable> cacheableAnnotationExtractor;
+
+	private final Lazy<QueryTimeout> queryTimeoutAnnotationExtractor;
+
+	private final Lazy<Facet> facetAnnotationExtractor;
+
+	private final Lazy<Class<?>> mapKeyType;
+
 	/**
 	 * Creates a new {@link QueryMethod} from the given parameters. Looks up the correct
 	 * query to use for following invocations of the method given.
@@ -45,7 +79,20 @@ public final class ReindexerQueryMethod extends QueryMethod {
 	public ReindexerQueryMethod(Method method, RepositoryMetadata metadata, ProjectionFactory factory) {
 		super(method, metadata, factory, ReindexerParameters::new);
 		this.isIteratorQuery = Lazy.of(() -> Iterator.class.isAssignableFrom(method.getReturnType()));
+		this.isReactiveQuery = Lazy.of(() -> ReactiveWrappers.supports(method.getReturnType()));
+		this.isMultiValueReactiveQuery = Lazy
+			.of(() -> this.isReactiveQuery.get() && ReactiveWrappers.isMultiValueType(method.getReturnType()));
+		this.isFutureQuery = Lazy.of(() -> Future.class.isAssignableFrom(method.getReturnType())
+				&& method.getReturnType().isAssignableFrom(CompletableFuture.class));
 		this.queryAnnotationExtractor = Lazy.of(() -> method.getAnnotation(Query.class));
+		this.cachedTotalAnnotationExtractor = Lazy.of(() -> method.getAnnotation(CachedTotal.class));
+		this.prefetchAnnotationExtractor = Lazy.of(() -> method.getAnnotation(Prefetch.class));
+		this.parallelProjectionAnnotationExtractor = Lazy.of(() -> method.getAnnotation(ParallelProjection.class));
+		this.cacheableAnnotationExtractor = Lazy.of(() -> method.getAnnotation(ReindexerCacheable.class));
+		this.queryTimeoutAnnotationExtractor = Lazy.of(() -> method.getAnnotation(QueryTimeout.class));
+		this.facetAnnotationExtractor = Lazy.of(() -> method.getAnnotation(Facet.class));
+		this.mapKeyType = Lazy.of(() -> Map.class.isAssignableFrom(method.getReturnType())
+				? ResolvableType.forMethodReturnType(method).asMap().getGeneric(0).toClass() : null);
 	}
 
 	/**
@@ -56,6 +103,37 @@ public final class ReindexerQueryMethod extends QueryMethod {
 		return this.isIteratorQuery.get();
 	}
 
+	/**
+	 * Returns true if the method's return type is a reactive wrapper, e.g. {@code Mono} or
+	 * {@code Flux}.
+	 * @return true if the method's return type is a reactive wrapper
+	 * @since 1.7
+	 */
+	public boolean isReactiveQuery() {
+		return this.isReactiveQuery.get();
+	}
+
+	/**
+	 * Returns true if the method's return type is a reactive wrapper that emits multiple
+	 * elements, e.g. {@code Flux}.
+	 * @return true if the method's return type is a multi-value reactive wrapper
+	 * @since 1.7
+	 */
+	public boolean isMultiValueReactiveQuery() {
+		return this.isMultiValueReactiveQuery.get();
+	}
+
+	/**
+	 * Returns true if the method's return type is {@link CompletableFuture} or
+	 * {@link Future}.
+	 * @return true if the method's return type is {@link CompletableFuture} or
+	 * {@link Future}
+	 * @since 1.7
+	 */
+	public boolean isFutureQuery() {
+		return this.isFutureQuery.get();
+	}
+
 	/**
 	 * Returns true if the method has {@link Query} annotation.
 	 * @return true if the method has {@link Query} annotation
@@ -93,6 +171,155 @@ public final class ReindexerQueryMethod extends QueryMethod {
 		return query.nativeQuery();
 	}
 
+	/**
+	 * Returns {@literal true} if the method has {@link CachedTotal} annotation.
+	 * @return true if the method has {@link CachedTotal} annotation
+	 * @since 1.7
+	 */
+	public boolean hasCachedTotal() {
+		return this.cachedTotalAnnotationExtractor.getNullable() != null;
+	}
+
+	/**
+	 * Returns the time-to-live of a cached total from the {@link CachedTotal} annotation.
+	 * @return the time-to-live of a cached total to use
+	 * @since 1.7
+	 */
+	public Duration getCachedTotalTtl() {
+		CachedTotal cachedTotal = this.cachedTotalAnnotationExtractor.get();
+		return Duration.of(cachedTotal.value(), cachedTotal.timeUnit().toChronoUnit());
+	}
+
+	/**
+	 * Returns {@literal true} if the method has {@link Prefetch} annotation and returns a
+	 * {@link java.util.stream.Stream}.
+	 * @return true if the method has {@link Prefetch} annotation and returns a
+	 * {@link java.util.stream.Stream}
+	 * @since 1.7
+	 */
+	public boolean isPrefetchQuery() {
+		return isStreamQuery() && this.prefetchAnnotationExtractor.getNullable() != null;
+	}
+
+	/**
+	 * Returns the prefetch depth from the {@link Prefetch} annotation.
+	 * @return the prefetch depth to use
+	 * @since 1.7
+	 */
+	public int getPrefetchDepth() {
+		return this.prefetchAnnotationExtractor.get().value();
+	}
+
+	/**
+	 * Returns {@literal true} if the method has {@link ParallelProjection} annotation and
+	 * returns a {@link java.util.Collection}.
+	 * @return true if the method has {@link ParallelProjection} annotation and returns a
+	 * {@link java.util.Collection}
+	 * @since 1.7
+	 */
+	public boolean isParallelProjectionQuery() {
+		return isCollectionQuery() && this.parallelProjectionAnnotationExtractor.getNullable() != null;
+	}
+
+	/**
+	 * Returns the chunk size from the {@link ParallelProjection} annotation.
+	 * @return the chunk size to use
+	 * @since 1.7
+	 */
+	public int getParallelProjectionChunkSize() {
+		return this.parallelProjectionAnnotationExtractor.get().chunkSize();
+	}
+
+	/**
+	 * Returns {@literal true} if the method has {@link ReindexerCacheable} annotation.
+	 * @return true if the method has {@link ReindexerCacheable} annotation
+	 * @since 1.7
+	 * @see CachingReindexerQuery
+	 */
+	public boolean isCacheableQuery() {
+		return this.cacheableAnnotationExtractor.getNullable() != null;
+	}
+
+	/**
+	 * Returns the time-to-live of a cached result from the {@link ReindexerCacheable}
+	 * annotation.
+	 * @return the time-to-live of a cached result to use
+	 * @since 1.7
+	 */
+	public Duration getCacheTtl() {
+		ReindexerCacheable cacheable = this.cacheableAnnotationExtractor.get();
+		return Duration.of(cacheable.ttl(), cacheable.timeUnit().toChronoUnit());
+	}
+
+	/**
+	 * Returns the maximum number of cached results from the {@link ReindexerCacheable}
+	 * annotation.
+	 * @return the maximum number of cached results to use
+	 * @since 1.7
+	 */
+	public int getCacheMaxSize() {
+		return this.cacheableAnnotationExtractor.get().maxSize();
+	}
+
+	/**
+	 * Returns {@literal true} if the method is a derived query whose name starts with an
+	 * aggregate function, e.g., {@code sumPriceByCategory}.
+	 * @return true if the method is a derived aggregate query
+	 * @since 1.7
+	 */
+	public boolean isAggregateQuery() {
+		return !hasQueryAnnotation() && DerivedAggregation.isAggregation(getName());
+	}
+
+	/**
+	 * Returns {@literal true} if the method is a derived query that has {@link Facet}
+	 * annotation.
+	 * @return true if the method is a derived facet query
+	 * @since 1.7
+	 */
+	public boolean isFacetQuery() {
+		return !hasQueryAnnotation() && this.facetAnnotationExtractor.getNullable() != null;
+	}
+
+	/**
+	 * Returns the {@link Facet} annotation of the method.
+	 * @return the {@link Facet} annotation to use
+	 * @since 1.7
+	 */
+	public Facet getFacet() {
+		return this.facetAnnotationExtractor.get();
+	}
+
+	/**
+	 * Returns the key type of the {@link Map} the method returns.
+	 * @return the key type of the {@link Map} the method returns or {@literal null} if the
+	 * method does not return a {@link Map}
+	 * @since 1.7
+	 */
+	public @Nullable Class<?> getMapKeyType() {
+		return this.mapKeyType.getNullable();
+	}
+
+	/**
+	 * Returns {@literal true} if the method has {@link QueryTimeout} annotation.
+	 * @return true if the method has {@link QueryTimeout} annotation
+	 * @since 1.7
+	 */
+	public boolean hasQueryTimeout() {
+		return this.queryTimeoutAnnotationExtractor.getNullable() != null;
+	}
+
+	/**
+	 * Returns the client-side time limit for fetching the results of the query from the
+	 * {@link QueryTimeout} annotation.
+	 * @return the time limit for fetching the results of the query to use
+	 * @since 1.7
+	 */
+	public Duration getQueryTimeout() {
+		QueryTimeout queryTimeout = this.queryTimeoutAnnotationExtractor.get();
+		return Duration.of(queryTimeout.value(), queryTimeout.timeUnit().toChronoUnit());
+	}
+
 	/**
 	 * {@inheritDoc}
 	 */
@@ -0,0 +1,150 @@
+/*
+ * Copyright 2022-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.reindexer.repository.query;
+
+import java.util.function.Supplier;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import org.jspecify.annotations.Nullable;
+import ru.rt.restream.reindexer.ResultIterator;
+
+import org.springframework.data.reindexer.observability.ReindexerObservation;
+import org.springframework.data.reindexer.observability.ReindexerObservationContext;
+import org.springframework.util.Assert;
+
+/**
+ * Observes the invocation of a query method, the creation of its query, the execution
+ * of its query and the projection of its results with {@link ReindexerObservation}s.
+ * <p>
+ * For internal use only, as this contract is likely to change.
+ *
+ * @author Evgeniy Cheban
+ * @since 1.7
+ */
+public final class ReindexerQueryObserver {
+
+	/**
+	 * A {@link ReindexerQueryObserver} that does not observe anything.
+	 */
+	public static final ReindexerQueryObserver NOOP = new ReindexerQueryObserver(ObservationRegistry.NOOP,
+			new ReindexerObservationContext("", "", "", ""));
+
+	private final ObservationRegistry registry;
+
+	private final ReindexerObservationContext context;
+
+	/**
+	 * Creates an instance.
+	 * @param registry the {@link ObservationRegistry} to use
+	 * @param context the {@link ReindexerObservationContext} to copy the context of each
+	 * {@link Observation} from
+	 */
+	public ReindexerQueryObserver(ObservationRegistry registry, ReindexerObservationContext context) {
+		Assert.notNull(registry, "registry cannot be null");
+		Assert.notNull(context, "context cannot be null");
+		this.registry = registry;
+		this.context = context;
+	}
+
+	/**
+	 * Creates a {@link ReindexerQueryObserver} for the given {@link ReindexerQueryMethod}.
+	 * @param registry the {@link ObservationRegistry} to use
+	 * @param namespace the name of the namespace
+	 * @param repositoryInterface the repository interface that declares the method
+	 * @param method the {@link ReindexerQueryMethod} to use
+	 * @return the {@link ReindexerQueryObserver} to use
+	 */
+	public static ReindexerQueryObserver create(ObservationRegistry registry, String namespace,
+			Class<?> repositoryInterface, ReindexerQueryMethod method) {
+		if (registry.isNoop()) {
+			return NOOP;
+		}
+		String queryKind = !method.hasQueryAnnotation() ? "derived" : method.isNativeQuery() ? "native" : "string";
+		return new ReindexerQueryObserver(registry, new ReindexerObservationContext(namespace,
+				repositoryInterface.getSimpleName() + "." + method.getName(), queryKind, getResultType(method)));
+	}
+
+	private static String getResultType(ReindexerQueryMethod method) {
+		if (method.isMultiValueReactiveQuery()) {
+			return "flux";
+		}
+		if (method.isReactiveQuery()) {
+			return "mono";
+		}
+		if (method.isFutureQuery()) {
+			return "future";
+		}
+		if (method.isSearchQuery()) {
+			return "search";
+		}
+		if (method.isScrollQuery()) {
+			return "window";
+		}
+		if (method.isPageQuery()) {
+			return "page";
+		}
+		if (method.isSliceQuery()) {
+			return "slice";
+		}
+		if (method.isStreamQuery()) {
+			return "stream";
+		}
+		if (method.isIteratorQuery()) {
+			return "iterator";
+		}
+		if (method.isCollectionQuery()) {
+			return "collection";
+		}
+		if (method.isModifyingQuery()) {
+			return "none";
+		}
+		return "entity";
+	}
+
+	@Nullable Object observeInvocation(Supplier<@Nullable Object> invocation) {
+		if (this.registry.isNoop()) {
+			return invocation.get();
+		}
+		return ReindexerObservation.REPOSITORY_METHOD.observation(this.registry, this.context.copy())
+			.observe(invocation);
+	}
+
+	<T> T observeCreation(Supplier<T> creation) {
+		if (this.registry.isNoop()) {
+			return creation.get();
+		}
+		return ReindexerObservation.QUERY_CREATION.observation(this.registry, this.context.copy()).observe(creation);
+	}
+
+	/**
+	 * Observes the execution of a query and then the projection of its results until
+	 * the returned {@link ResultIterator} is closed.
+	 */
+	<E> ResultIterator<E> observeExecution(Supplier<ResultIterator<E>> execution) {
+		if (this.registry.isNoop()) {
+			return execution.get();
+		}
+		ResultIterator<E> iterator = ReindexerObservation.QUERY_EXECUTION
+			.observation(this.registry, this.context.copy())
+			.observe(execution);
+		ReindexerObservationContext projectionContext = this.context.copy();
+		Observation projection = ReindexerObservation.RESULT_PROJECTION.observation(this.registry, projectionContext)
+			.start();
+		return new ObservedResultIterator<>(iterator, projection, projectionContext);
+	}
+
+}
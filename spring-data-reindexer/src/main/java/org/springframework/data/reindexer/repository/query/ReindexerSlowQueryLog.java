@@ -0,0 +1,260 @@
+/*
+ * Copyright 2022-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.reindexer.repository.query;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Optional;
+import java.util.StringJoiner;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.jspecify.annotations.Nullable;
+import ru.rt.restream.reindexer.ResultIterator;
+
+import org.springframework.core.log.LogMessage;
+import org.springframework.data.domain.Slice;
+import org.springframework.util.Assert;
+
+/**
+ * Logs queries that take longer than a threshold together with the repository method,
+ * the rendered query and the number of rows and, if a {@link ReindexerQueryExplainer} is
+ * set, the plan of SQL queries. Slow queries are sampled and the number of log entries
+ * per second is limited, so the log can be kept enabled in production. Only the types of
+ * the query parameters are logged unless {@link #setLogParameterValues(boolean)} is
+ * enabled, since their values may contain sensitive data.
+ *
+ * @author Evgeniy Cheban
+ * @since 1.7
+ */
+public final class ReindexerSlowQueryLog {
+
+	private static final Log LOG = LogFactory.getLog(ReindexerSlowQueryLog.class);
+
+	private volatile long thresholdNanos = TimeUnit.SECONDS.toNanos(1);
+
+	private volatile double sampleRate = 1.0;
+
+	private volatile int maxEntriesPerSecond = 10;
+
+	private volatile boolean logParameterValues;
+
+	private volatile @Nullable ReindexerQueryExplainer queryExplainer;
+
+	private final AtomicLong currentSecond = new AtomicLong();
+
+	private final AtomicLong entriesInCurrentSecond = new AtomicLong();
+
+	private final AtomicLong suppressedEntries = new AtomicLong();
+
+	/**
+	 * Sets the execution time after which a query is considered slow. Defaults to 1
+	 * second.
+	 * @param threshold the threshold to use
+	 */
+	public void setThreshold(Duration threshold) {
+		Assert.notNull(threshold, "threshold cannot be null");
+		Assert.isTrue(!threshold.isNegative(), "threshold cannot be negative");
+		this.thresholdNanos = threshold.toNanos();
+	}
+
+	/**
+	 * Sets the fraction of slow queries to log, between {@code 0.0} and {@code 1.0}.
+	 * Defaults to {@code 1.0}.
+	 * @param sampleRate the sample rate to use
+	 */
+	public void setSampleRate(double sampleRate) {
+		Assert.isTrue(sampleRate >= 0.0 && sampleRate <= 1.0, "sampleRate must be between 0.0 and 1.0");
+		this.sampleRate = sampleRate;
+	}
+
+	/**
+	 * Sets the maximum number of slow queries logged per second, the remaining ones are
+	 * counted and reported with the next log entry. Defaults to {@code 10}.
+	 * @param maxEntriesPerSecond the maximum number of log entries per second to use
+	 */
+	public void setMaxEntriesPerSecond(int maxEntriesPerSecond) {
+		Assert.isTrue(maxEntriesPerSecond > 0, "maxEntriesPerSecond must be greater than 0");
+		this.maxEntriesPerSecond = maxEntriesPerSecond;
+	}
+
+	/**
+	 * Sets whether to log the values of the query parameters instead of their types.
+	 * Defaults to {@literal false}.
+	 * @param logParameterValues whether to log the values of the query parameters
+	 */
+	public void setLogParameterValues(boolean logParameterValues) {
+		this.logParameterValues = logParameterValues;
+	}
+
+	/**
+	 * Sets the {@link ReindexerQueryExplainer} to capture the plan of slow SQL queries
+	 * with. The query is executed once more to be explained, so plans are only captured
+	 * for the queries that are logged.
+	 * @param queryExplainer the {@link ReindexerQueryExplainer} to use
+	 */
+	public void setQueryExplainer(@Nullable ReindexerQueryExplainer queryExplainer) {
+		this.queryExplainer = queryExplainer;
+	}
+
+	/**
+	 * Tracks the execution of a query that is not an SQL query, the query is logged once
+	 * the returned {@link ResultIterator} is closed if executing and iterating it took
+	 * longer than the threshold.
+	 * @param method the repository method that executes the query
+	 * @param query the rendered query without parameter values
+	 * @param parameters the query parameters
+	 * @param execution the execution of the query
+	 * @param <E> the type of the results
+	 * @return the {@link ResultIterator} to use
+	 */
+	public <E> ResultIterator<E> trackQuery(String method, Supplier<String> query, @Nullable Object[] parameters,
+			Supplier<ResultIterator<E>> execution) {
+		return track(method, query, parameters, null, execution);
+	}
+
+	/**
+	 * Tracks the execution of an SQL query, the query is logged once the returned
+	 * {@link ResultIterator} is closed if executing and iterating it took longer than the
+	 * threshold.
+	 * @param method the repository method that executes the query
+	 * @param query the declared query without parameter values
+	 * @param parameters the query parameters
+	 * @param sql the SQL query with parameter values to explain
+	 * @param execution the execution of the query
+	 * @param <E> the type of the results
+	 * @return the {@link ResultIterator} to use
+	 */
+	public <E> ResultIterator<E> trackSqlQuery(String method, String query, @Nullable Object[] parameters,
+			String sql, Supplier<ResultIterator<E>> execution) {
+		return track(method, () -> query, parameters, sql, execution);
+	}
+
+	private <E> ResultIterator<E> track(String method, Supplier<String> query, @Nullable Object[] parameters,
+			@Nullable String sql, Supplier<ResultIterator<E>> execution) {
+		long start = System.nanoTime();
+		ResultIterator<E> iterator = execution.get();
+		return new SlowQueryTrackingResultIterator<>(iterator, System.nanoTime() - start,
+				(elapsedNanos, rows) -> onExecuted(method, query, parameters, sql, elapsedNanos, rows));
+	}
+
+	/**
+	 * Tracks an execution that returns its results at once, e.g., a count, delete or
+	 * update query or a CRUD method.
+	 * @param method the repository method that executes the query
+	 * @param query the rendered query without parameter values
+	 * @param parameters the query parameters
+	 * @param execution the execution of the query
+	 * @param <R> the type of the result
+	 * @return the result of the execution
+	 */
+	public <R> R track(String method, Supplier<String> query, @Nullable Object[] parameters, Supplier<R> execution) {
+		long start = System.nanoTime();
+		R result = execution.get();
+		onExecuted(method, query, parameters, null, System.nanoTime() - start, getRows(result));
+		return result;
+	}
+
+	private static long getRows(@Nullable Object result) {
+		if (result instanceof Collection<?> collection) {
+			return collection.size();
+		}
+		if (result instanceof Slice<?> slice) {
+			return slice.getNumberOfElements();
+		}
+		if (result instanceof Optional<?> optional) {
+			return optional.isPresent() ? 1 : 0;
+		}
+		return -1;
+	}
+
+	private void onExecuted(String method, Supplier<String> query, @Nullable Object[] parameters,
+			@Nullable String sql, long elapsedNanos, long rows) {
+		if (elapsedNanos < this.thresholdNanos || !LOG.isWarnEnabled() || !isSampled()) {
+			return;
+		}
+		if (!tryAcquireEntry()) {
+			this.suppressedEntries.incrementAndGet();
+			return;
+		}
+		StringBuilder entry = new StringBuilder("Slow query in ").append(method)
+			.append(" took ")
+			.append(TimeUnit.NANOSECONDS.toMillis(elapsedNanos))
+			.append(" ms");
+		if (rows >= 0) {
+			entry.append(" and returned ").append(rows).append(" rows");
+		}
+		entry.append(": ").append(query.get());
+		if (parameters.length > 0) {
+			appendParameters(entry, parameters);
+		}
+		ReindexerQueryExplainer queryExplainer = this.queryExplainer;
+		if (sql != null && queryExplainer != null) {
+			appendExplain(entry, queryExplainer, method, sql);
+		}
+		long suppressed = this.suppressedEntries.getAndSet(0);
+		if (suppressed > 0) {
+			entry.append(" (").append(suppressed).append(" slow queries were not logged since the last entry)");
+		}
+		LOG.warn(entry);
+	}
+
+	private void appendParameters(StringBuilder entry, @Nullable Object[] parameters) {
+		if (this.logParameterValues) {
+			entry.append(" with parameters ").append(Arrays.deepToString(parameters));
+			return;
+		}
+		StringJoiner types = new StringJoiner(", ", "[", "]");
+		for (Object parameter : parameters) {
+			types.add((parameter != null) ? parameter.getClass().getSimpleName() : "null");
+		}
+		entry.append(" with parameter types ").append(types);
+	}
+
+	private boolean isSampled() {
+		double sampleRate = this.sampleRate;
+		return sampleRate >= 1.0 || ThreadLocalRandom.current().nextDouble() < sampleRate;
+	}
+
+	private boolean tryAcquireEntry() {
+		long second = TimeUnit.NANOSECONDS.toSeconds(System.nanoTime());
+		long current = this.currentSecond.get();
+		if (second != current && this.currentSecond.compareAndSet(current, second)) {
+			this.entriesInCurrentSecond.set(0);
+		}
+		return this.entriesInCurrentSecond.incrementAndGet() <= this.maxEntriesPerSecond;
+	}
+
+	private static void appendExplain(StringBuilder entry, ReindexerQueryExplainer queryExplainer, String method,
+			String sql) {
+		try {
+			String plan = queryExplainer.explain(sql);
+			if (plan != null) {
+				entry.append("; plan: ").append(plan);
+			}
+		}
+		catch (RuntimeException ex) {
+			// The SQL contains the bound parameter values, so only the method is logged.
+			LOG.debug(LogMessage.format("Could not explain slow query in %s", method), ex);
+		}
+	}
+
+}
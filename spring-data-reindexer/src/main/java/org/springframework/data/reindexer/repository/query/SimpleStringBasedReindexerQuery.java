@@ -16,16 +16,21 @@
 package org.springframework.data.reindexer.repository.query;
 
 import java.util.List;
+import java.util.concurrent.Executor;
 import java.util.function.BiFunction;
+import java.util.function.Supplier;
 
 import org.jspecify.annotations.Nullable;
 import ru.rt.restream.reindexer.Namespace;
+import ru.rt.restream.reindexer.ResultIterator;
 
 import org.springframework.data.domain.SearchResult;
 import org.springframework.data.domain.SearchResults;
 import org.springframework.data.reindexer.core.convert.ReindexerConverter;
+import org.springframework.data.reindexer.core.mapping.ParallelProjection;
 import org.springframework.data.reindexer.core.mapping.Query;
 import org.springframework.data.reindexer.repository.support.ReindexerNamespaceFactory;
+import org.springframework.data.reindexer.repository.util.StringQueryTemplate;
 import org.springframework.data.reindexer.repository.util.StringQueryUtils;
 import org.springframework.data.repository.query.QueryMethod;
 import org.springframework.data.repository.query.QueryMethodValueEvaluationContextAccessor;
@@ -34,6 +39,7 @@ import org.springframework.data.repository.query.ResultProcessor;
 import org.springframework.data.repository.query.ReturnedType;
 import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.data.util.Lazy;
+import org.springframework.util.Assert;
 
 /**
  * A simple string-based {@link RepositoryQuery} implementation that provides only
@@ -54,8 +60,18 @@ public final class SimpleStringBasedReindexerQuery implements RepositoryQuery {
 
 	private final QueryMethodValueEvaluationContextAccessor factory;
 
+	private final Lazy<StringQueryTemplate> queryTemplate;
+
 	private final Lazy<BiFunction<ReindexerParameterAccessor, ReturnedType, @Nullable Object>> queryExecution;
 
+	private ReindexerQueryObserver observer = ReindexerQueryObserver.NOOP;
+
+	private @Nullable ReindexerSlowQueryLog slowQueryLog;
+
+	private String slowQueryMethod = "";
+
+	private @Nullable Executor projectionExecutor;
+
 	/**
 	 * Creates an instance.
 	 * @param method the {@link ReindexerQueryMethod} to use
@@ -65,13 +81,54 @@ public final class SimpleStringBasedReindexerQuery implements RepositoryQuery {
 	 */
 	public SimpleStringBasedReindexerQuery(ReindexerQueryMethod method, ReindexerConverter reindexerConverter,
 			ReindexerNamespaceFactory namespaceFactory, QueryMethodValueEvaluationContextAccessor factory) {
+		Assert.isTrue(!method.hasQueryTimeout() || !method.isModifyingQuery(),
+				() -> "@QueryTimeout is not supported for update and delete query methods; Offending method: "
+						+ method);
 		this.method = method;
 		this.reindexerConverter = reindexerConverter;
 		this.namespace = namespaceFactory.openNamespace(method.getDomainClass());
 		this.factory = factory;
+		this.queryTemplate = Lazy.of(() -> StringQueryUtils.createQueryTemplate(method.getQuery()));
 		this.queryExecution = Lazy.of(() -> getQueryExecution(method));
 	}
 
+	/**
+	 * Sets the {@link ReindexerQueryObserver} to observe the creation and execution of
+	 * queries and the projection of their results with. Defaults to
+	 * {@link ReindexerQueryObserver#NOOP}.
+	 * @param observer the {@link ReindexerQueryObserver} to use
+	 * @since 1.7
+	 */
+	public void setQueryObserver(ReindexerQueryObserver observer) {
+		Assert.notNull(observer, "observer cannot be null");
+		this.observer = observer;
+	}
+
+	/**
+	 * Sets the {@link ReindexerSlowQueryLog} to log the queries that take longer than its
+	 * threshold with.
+	 * @param slowQueryLog the {@link ReindexerSlowQueryLog} to use
+	 * @param method the name of the repository method to log
+	 * @since 1.7
+	 */
+	public void setSlowQueryLog(ReindexerSlowQueryLog slowQueryLog, String method) {
+		Assert.notNull(slowQueryLog, "slowQueryLog cannot be null");
+		Assert.notNull(method, "method cannot be null");
+		this.slowQueryLog = slowQueryLog;
+		this.slowQueryMethod = method;
+	}
+
+	/**
+	 * Sets the {@link Executor} to project the results of {@link ParallelProjection} query
+	 * methods on. Defaults to a dedicated {@link java.util.concurrent.ForkJoinPool} shared
+	 * by all query methods.
+	 * @param projectionExecutor the {@link Executor} to use
+	 * @since 1.7
+	 */
+	public void setProjectionExecutor(@Nullable Executor projectionExecutor) {
+		this.projectionExecutor = projectionExecutor;
+	}
+
 	@Override
 	public @Nullable Object execute(@Nullable Object[] parameters) {
 		ReindexerParameterAccessor accessor = new ReindexerParameterAccessor(this.method.getParameters(), parameters);
@@ -85,11 +142,21 @@ public final class SimpleStringBasedReindexerQuery implements RepositoryQuery {
 		return this.method;
 	}
 
+	@SuppressWarnings("unchecked")
 	private BiFunction<ReindexerParameterAccessor, ReturnedType, @Nullable Object> getQueryExecution(
 			ReindexerQueryMethod method) {
+		if (method.isMultiValueReactiveQuery()) {
+			return (parameters, returnedType) -> ReactiveReindexerQueryExecutions
+				.toFlux(() -> (ResultIterator<@Nullable Object>) toResultAccessor(parameters, returnedType));
+		}
 		if (method.isSearchQuery()) {
 			return getSearchQueryExecution(method);
 		}
+		if (method.isParallelProjectionQuery()) {
+			int chunkSize = method.getParallelProjectionChunkSize();
+			return (parameters, returnedType) -> ReindexerQueryExecutions
+				.toParallelList(toResultAccessor(parameters, returnedType), chunkSize, this.projectionExecutor);
+		}
 		if (method.isCollectionQuery()) {
 			return (parameters, returnedType) -> ReindexerQueryExecutions
 				.toList(toResultAccessor(parameters, returnedType));
@@ -105,6 +172,11 @@ public final class SimpleStringBasedReindexerQuery implements RepositoryQuery {
 			return (parameters, returnedType) -> ReindexerQueryExecutions
 				.toSlice(toResultAccessor(parameters, returnedType), parameters.getPageable());
 		}
+		if (method.isPrefetchQuery()) {
+			int depth = method.getPrefetchDepth();
+			return (parameters, returnedType) -> ReindexerQueryExecutions
+				.toStream(toPrefetchingResultAccessor(parameters, returnedType, depth));
+		}
 		if (method.isStreamQuery()) {
 			return (parameters, returnedType) -> ReindexerQueryExecutions
 				.toStream(toResultAccessor(parameters, returnedType));
@@ -114,10 +186,16 @@ public final class SimpleStringBasedReindexerQuery implements RepositoryQuery {
 		}
 		if (method.isModifyingQuery()) {
 			return (parameters, returnedType) -> {
-				String preparedQuery = StringQueryUtils.substituteQueryParameters(this.method.getQuery(), parameters,
-						this.factory);
-				this.namespace.updateSql(preparedQuery);
-				return null;
+				String preparedQuery = prepareQuery(parameters);
+				ReindexerSlowQueryLog slowQueryLog = this.slowQueryLog;
+				if (slowQueryLog == null) {
+					this.namespace.updateSql(preparedQuery);
+					return null;
+				}
+				return slowQueryLog.track(this.slowQueryMethod, this.method::getQuery, parameters.getValues(), () -> {
+					this.namespace.updateSql(preparedQuery);
+					return null;
+				});
 			};
 		}
 		return (parameters, returnedType) -> ReindexerQueryExecutions
@@ -127,6 +205,13 @@ public final class SimpleStringBasedReindexerQuery implements RepositoryQuery {
 	@SuppressWarnings("unchecked")
 	private BiFunction<ReindexerParameterAccessor, ReturnedType, Object> getSearchQueryExecution(
 			ReindexerQueryMethod method) {
+		if (method.isPrefetchQuery()) {
+			int depth = method.getPrefetchDepth();
+			return (parameters, returnedType) -> {
+				ReindexerResultAccessor<?> it = toPrefetchingResultAccessor(parameters, returnedType, depth);
+				return ReindexerQueryExecutions.toStream(it).map((e) -> new SearchResult<>(e, it.getCurrentRank()));
+			};
+		}
 		if (method.isStreamQuery()) {
 			return (parameters, returnedType) -> {
 				ReindexerResultAccessor<?> it = toResultAccessor(parameters, returnedType);
@@ -144,10 +229,35 @@ public final class SimpleStringBasedReindexerQuery implements RepositoryQuery {
 
 	private ReindexerResultAccessor<?> toResultAccessor(ReindexerParameterAccessor parameters,
 			ReturnedType returnedType) {
-		String preparedQuery = StringQueryUtils.substituteQueryParameters(this.method.getQuery(), parameters,
-				this.factory);
-		return new ProjectingResultIterator<>(this.namespace.execSql(preparedQuery), returnedType,
-				this.reindexerConverter);
+		String preparedQuery = prepareQuery(parameters);
+		ResultIterator<?> iterator = this.observer.observeExecution(() -> execSql(preparedQuery, parameters));
+		return new ProjectingResultIterator<>(iterator, returnedType, this.reindexerConverter);
+	}
+
+	private ReindexerResultAccessor<?> toPrefetchingResultAccessor(ReindexerParameterAccessor parameters,
+			ReturnedType returnedType, int depth) {
+		String preparedQuery = prepareQuery(parameters);
+		ResultIterator<?> iterator = new PrefetchingResultIterator<>(
+				this.observer.observeExecution(() -> execSql(preparedQuery, parameters)), depth);
+		return new ProjectingResultIterator<>(iterator, returnedType, this.reindexerConverter);
+	}
+
+	private ResultIterator<?> execSql(String preparedQuery, ReindexerParameterAccessor parameters) {
+		Supplier<ResultIterator<?>> execution = this.method.hasQueryTimeout()
+				? () -> TimeLimitedResultIterator.execute(this.method.getQueryTimeout(),
+						() -> this.namespace.execSql(preparedQuery))
+				: () -> this.namespace.execSql(preparedQuery);
+		ReindexerSlowQueryLog slowQueryLog = this.slowQueryLog;
+		if (slowQueryLog == null) {
+			return execution.get();
+		}
+		return slowQueryLog.trackSqlQuery(this.slowQueryMethod, this.method.getQuery(), parameters.getValues(),
+				preparedQuery, execution::get);
+	}
+
+	private String prepareQuery(ReindexerParameterAccessor parameters) {
+		return this.observer
+			.observeCreation(() -> this.queryTemplate.get().substituteQueryParameters(parameters, this.factory));
 	}
 
 }
@@ -0,0 +1,112 @@
+/*
+ * Copyright 2022-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.reindexer.repository.query;
+
+import java.util.List;
+
+import ru.rt.restream.reindexer.AggregationResult;
+import ru.rt.restream.reindexer.ResultIterator;
+
+/**
+ * A {@link ResultIterator} that measures the time spent to execute a query and to fetch
+ * its results and reports it to the {@link ReindexerSlowQueryLog} once closed.
+ *
+ * @author Evgeniy Cheban
+ * @since 1.7
+ */
+final class SlowQueryTrackingResultIterator<E> implements ResultIterator<E> {
+
+	private final ResultIterator<E> delegate;
+
+	private final Listener listener;
+
+	private long elapsedNanos;
+
+	private long count;
+
+	private boolean closed;
+
+	SlowQueryTrackingResultIterator(ResultIterator<E> delegate, long executionNanos, Listener listener) {
+		this.delegate = delegate;
+		this.elapsedNanos = executionNanos;
+		this.listener = listener;
+	}
+
+	@Override
+	public boolean hasNext() {
+		long start = System.nanoTime();
+		try {
+			return this.delegate.hasNext();
+		}
+		finally {
+			this.elapsedNanos += System.nanoTime() - start;
+		}
+	}
+
+	@Override
+	public E next() {
+		long start = System.nanoTime();
+		try {
+			E next = this.delegate.next();
+			this.count++;
+			return next;
+		}
+		finally {
+			this.elapsedNanos += System.nanoTime() - start;
+		}
+	}
+
+	@Override
+	public long size() {
+		return this.delegate.size();
+	}
+
+	@Override
+	public long getTotalCount() {
+		return this.delegate.getTotalCount();
+	}
+
+	@Override
+	public List<AggregationResult> aggResults() {
+		return this.delegate.aggResults();
+	}
+
+	@Override
+	public float getCurrentRank() {
+		return this.delegate.getCurrentRank();
+	}
+
+	@Override
+	public void close() {
+		try {
+			this.delegate.close();
+		}
+		finally {
+			if (!this.closed) {
+				this.closed = true;
+				this.listener.onClosed(this.elapsedNanos, this.count);
+			}
+		}
+	}
+
+	@FunctionalInterface
+	interface Listener {
+
+		void onClosed(long elapsedNanos, long rows);
+
+	}
+
+}
@@ -53,6 +53,7 @@ import net.sf.jsqlparser.expression.operators.relational.InExpression;
 import net.sf.jsqlparser.expression.operators.relational.IsNullExpression;
 import net.sf.jsqlparser.expression.operators.relational.MinorThan;
 import net.sf.jsqlparser.expression.operators.relational.MinorThanEquals;
+import net.sf.jsqlparser.expression.operators.relational.ParenthesedExpressionList;
 import net.sf.jsqlparser.parser.CCJSqlParserUtil;
 import net.sf.jsqlparser.schema.Column;
 import net.sf.jsqlparser.schema.Table;
@@ -76,7 +77,6 @@ import ru.rt.restream.reindexer.Namespace;
 import ru.rt.restream.reindexer.Query;
 import ru.rt.restream.reindexer.Query.Condition;
 import ru.rt.restream.reindexer.TimeUnit;
-import ru.rt.restream.reindexer.binding.cproto.ByteBuffer;
 import ru.rt.restream.reindexer.expression.SetExpression;
 import ru.rt.restream.reindexer.expression.WhereExpression;
 import ru.rt.restream.reindexer.vector.params.KnnSearchParam;
@@ -104,14 +104,22 @@ import org.springframework.util.Assert;
  * A visitor-based implementation that uses {@link net.sf.jsqlparser.parser.CCJSqlParser}
  * to parse a string query, this is considered for more advanced use when extra
  * type-safety is required for working with string queries.
+ * <p>
+ * The parsed statement is compiled once into a plan of {@link Query} building steps with
+ * parameter slots, therefore, every invocation only replays the plan with the bound
+ * parameter values instead of visiting the statement again.
  *
  * @author Evgeniy Cheban
  * @since 1.6
  */
 public final class StringBasedReindexerQuery extends AbstractReindexerQuery {
 
+	private static final String SYNTHETIC_PARAMETER_PREFIX = "__$synthetic$__";
+
 	private static final ReindexerColumnResolvingExpressionVisitor COLUMN_RESOLVING_VISITOR = new ReindexerColumnResolvingExpressionVisitor();
 
+	private static final ReindexerValueCompilingExpressionVisitor VALUE_COMPILING_VISITOR = new ReindexerValueCompilingExpressionVisitor();
+
 	private final ReindexerQueryMethod method;
 
 	private final ReindexerConverter reindexerConverter;
@@ -124,6 +132,8 @@ public final class StringBasedReindexerQuery extends AbstractReindexerQuery {
 
 	private final Statement statement;
 
+	private final Lazy<QueryFactory> queryFactory;
+
 	/**
 	 * Creates an instance.
 	 * @param method the {@link ReindexerQueryMethod} to use
@@ -140,15 +150,37 @@ public final class StringBasedReindexerQuery extends AbstractReindexerQuery {
 		this.mappingContext = mappingContext;
 		this.namespaceFactory = namespaceFactory;
 		ValueExpressionQueryRewriter queryRewriter = ValueExpressionQueryRewriter.of(ValueExpressionParser.create(),
-				(index, expression) -> "__$synthetic$__" + index, (prefix, name) -> ":" + name);
+				(index, expression) -> SYNTHETIC_PARAMETER_PREFIX + index, (prefix, name) -> ":" + name);
 		this.queryEvaluator = queryRewriter.withEvaluationContextAccessor(accessor)
 			.parse(method.getQuery(), method.getParameters());
 		this.statement = parseStatement(this.queryEvaluator.getQueryString());
+		Assert.isTrue(!method.hasQueryTimeout() || !isSingleResultStatement(this.statement),
+				() -> "@QueryTimeout is not supported for count, aggregation, update and delete query methods; "
+						+ "Offending method: " + method);
+		this.queryFactory = Lazy.of(() -> this.statement.accept(new ReindexerStatementCompiler(), null));
+	}
+
+	/**
+	 * Returns {@literal true} if the statement returns its result at once instead of
+	 * fetching entities, e.g., a count or update statement.
+	 */
+	private static boolean isSingleResultStatement(Statement statement) {
+		if (statement instanceof Update || statement instanceof Delete) {
+			return true;
+		}
+		if (statement instanceof PlainSelect plainSelect && plainSelect.getSelectItems().size() == 1
+				&& plainSelect.getSelectItem(0)
+					.getExpression() instanceof net.sf.jsqlparser.expression.Function function) {
+			return switch (function.getName().toLowerCase(Locale.ROOT)) {
+				case "count", "count_cached", "sum", "min", "max", "avg" -> true;
+				default -> false;
+			};
+		}
+		return false;
 	}
 
 	ReindexerQuery createQuery(ReindexerParameterAccessor parameterAccessor, ReturnedType returnedType) {
-		ReindexerStatementVisitor statementVisitor = new ReindexerStatementVisitor(parameterAccessor);
-		Query<?> criteria = this.statement.accept(statementVisitor, null);
+		Query<?> criteria = this.queryFactory.get().create(new ParameterBindings(parameterAccessor));
 		return new ReindexerQuery(criteria, returnedType, parameterAccessor);
 	}
 
@@ -176,6 +208,36 @@ public final class StringBasedReindexerQuery extends AbstractReindexerQuery {
 		}
 	}
 
+	private static Query<?> createModifyingQuery(Namespace<?> namespace) {
+		if (namespace instanceof TransactionalNamespace<?> transactionalNamespace) {
+			return transactionalNamespace.modifyingQuery();
+		}
+		return namespace.query();
+	}
+
+	private static void markModified(Namespace<?> namespace) {
+		if (namespace instanceof TransactionalNamespace<?> transactionalNamespace) {
+			transactionalNamespace.markModified();
+		}
+	}
+
+	private static Supplier<UnaryOperator<@Nullable Object>> getValueMapper(
+			Supplier<QueryParameterMapper> parameterMapper, String indexName) {
+		return Lazy.of(() -> parameterMapper.get().getParameterValueMapper(indexName));
+	}
+
+	private static Sort getSort(@Nullable List<OrderByElement> orderByElements) {
+		if (orderByElements == null) {
+			return Sort.unsorted();
+		}
+		List<Order> orders = new ArrayList<>(orderByElements.size());
+		for (OrderByElement order : orderByElements) {
+			String indexName = COLUMN_RESOLVING_VISITOR.resolveRequiredIndexName(order.getExpression());
+			orders.add(order.isAsc() ? Order.asc(indexName) : Order.desc(indexName));
+		}
+		return Sort.by(orders);
+	}
+
 	private final class ReindexerQueryExecutionResolvingVisitor
 			extends StatementVisitorAdapter<Function<ReindexerQuery, Object>> {
 
@@ -187,16 +249,26 @@ public final class StringBasedReindexerQuery extends AbstractReindexerQuery {
 
 		@Override
 		public <S> Function<ReindexerQuery, @Nullable Object> visit(Update update, S context) {
+			Namespace<?> namespace = openNamespace(update.getTable().getName());
 			return (query) -> {
-				query.criteria().update();
+				track(query, () -> {
+					query.criteria().update();
+					return null;
+				});
+				markModified(namespace);
 				return null;
 			};
 		}
 
 		@Override
 		public <S> Function<ReindexerQuery, @Nullable Object> visit(Delete delete, S context) {
+			Namespace<?> namespace = openNamespace(delete.getTable().getName());
 			return (query) -> {
-				query.criteria().delete();
+				track(query, () -> {
+					query.criteria().delete();
+					return null;
+				});
+				markModified(namespace);
 				return null;
 			};
 		}
@@ -234,7 +306,7 @@ public final class StringBasedReindexerQuery extends AbstractReindexerQuery {
 		public <S> Function<ReindexerQuery, Object> visit(net.sf.jsqlparser.expression.Function function, S context) {
 			String functionName = function.getName().toLowerCase(Locale.ROOT);
 			return switch (functionName) {
-				case "count", "count_cached" -> (query) -> query.criteria().count();
+				case "count", "count_cached" -> (query) -> track(query, () -> query.criteria().count());
 				case "sum", "min", "max", "avg" -> (query) -> {
 					try (ReindexerResultAccessor<?> it = toResultAccessor(query)) {
 						return it.aggregationValue(functionName,
@@ -247,290 +319,300 @@ public final class StringBasedReindexerQuery extends AbstractReindexerQuery {
 
 	}
 
-	private final class ReindexerStatementVisitor extends StatementVisitorAdapter<Query<?>> {
-
-		private final Lazy<ReindexerValueResolvingExpressionVisitor> valueResolvingVisitor;
-
-		private final Lazy<SelectVisitor<Query<?>>> selectVisitor;
+	private final class ReindexerStatementCompiler extends StatementVisitorAdapter<QueryFactory> {
 
-		private ReindexerStatementVisitor(ReindexerParameterAccessor parameterAccessor) {
-			this.valueResolvingVisitor = Lazy.of(() -> {
-				Map<String, @Nullable Object> resolvedParameters = StringBasedReindexerQuery.this.queryEvaluator
-					.evaluate(parameterAccessor.getValues());
-				ReindexerParameterResolver parameterResolver = new ReindexerParameterResolver(resolvedParameters,
-						parameterAccessor);
-				return new ReindexerValueResolvingExpressionVisitor(parameterResolver);
-			});
-			this.selectVisitor = Lazy
-				.of(() -> new ReindexerSelectVisitor(parameterAccessor, this.valueResolvingVisitor));
-		}
+		private final ReindexerSelectCompiler selectCompiler = new ReindexerSelectCompiler();
 
 		@Override
-		public <S> Query<?> visit(Select select, S ctx) {
-			return select.accept(this.selectVisitor.get(), ctx);
+		public <S> QueryFactory visit(Select select, S context) {
+			return select.accept(this.selectCompiler, context);
 		}
 
 		@Override
-		public <S> Query<?> visit(Update update, S ctx) {
+		public <S> QueryFactory visit(Update update, S context) {
 			ReindexerPersistentEntity<?> entity = StringBasedReindexerQuery.this.mappingContext
 				.getRequiredPersistentEntity(update.getTable().getName());
 			Namespace<?> namespace = openNamespace(entity.getNamespace());
-			QueryParameterMapper parameterMapper = createParameterMapper(entity.getType());
-			Query<?> criteria = createModifyingQuery(namespace);
+			Supplier<QueryParameterMapper> parameterMapper = Lazy.of(() -> createParameterMapper(entity.getType()));
+			List<QueryStep> steps = new ArrayList<>();
 			for (UpdateSet updateSet : update.getUpdateSets()) {
 				List<Column> columns = updateSet.getColumns();
 				for (int i = 0; i < columns.size(); i++) {
-					Column column = columns.get(i);
-					Object resolvedValue = this.valueResolvingVisitor.get().resolveValue(updateSet.getValue(i));
-					if (resolvedValue instanceof SetExpression expr) {
-						criteria.setExpression(column.getColumnName(), expr);
-					}
-					else {
-						Object value = parameterMapper.mapParameterValue(column.getColumnName(), resolvedValue);
-						criteria.set(column.getColumnName(), value);
-					}
+					String columnName = columns.get(i).getColumnName();
+					ReindexerValueSlot value = VALUE_COMPILING_VISITOR.compile(updateSet.getValue(i));
+					Supplier<UnaryOperator<@Nullable Object>> valueMapper = getValueMapper(parameterMapper, columnName);
+					steps.add((criteria, bindings) -> {
+						Object resolvedValue = value.resolveValue(bindings);
+						if (resolvedValue instanceof SetExpression expr) {
+							criteria.setExpression(columnName, expr);
+						}
+						else {
+							criteria.set(columnName, valueMapper.get().apply(resolvedValue));
+						}
+					});
 				}
 			}
 			if (update.getWhere() != null) {
-				ReindexerConditionalExpressionVisitor conditionalVisitor = new ReindexerConditionalExpressionVisitor(
-						criteria, () -> parameterMapper, this.valueResolvingVisitor, this.selectVisitor.get());
-				update.getWhere().accept(conditionalVisitor, new ConditionContext());
+				ReindexerConditionalExpressionCompiler conditionalCompiler = new ReindexerConditionalExpressionCompiler(
+						parameterMapper, this.selectCompiler);
+				steps.add(conditionalCompiler.compile(update.getWhere(), new ConditionContext()));
 			}
-			return criteria;
+			return (bindings) -> QueryStep.applyAll(steps, createModifyingQuery(namespace), bindings);
 		}
 
 		@Override
-		public <S> Query<?> visit(Delete delete, S context) {
+		public <S> QueryFactory visit(Delete delete, S context) {
 			ReindexerPersistentEntity<?> entity = StringBasedReindexerQuery.this.mappingContext
 				.getRequiredPersistentEntity(delete.getTable().getName());
 			Namespace<?> namespace = openNamespace(entity.getNamespace());
-			Query<?> criteria = createModifyingQuery(namespace);
+			List<QueryStep> steps = new ArrayList<>();
 			if (delete.getWhere() != null) {
-				ReindexerConditionalExpressionVisitor conditionalVisitor = new ReindexerConditionalExpressionVisitor(
-						criteria, Lazy.of(() -> createParameterMapper(entity.getType())), this.valueResolvingVisitor,
-						this.selectVisitor.get());
-				delete.getWhere().accept(conditionalVisitor, new ConditionContext());
-			}
-			return criteria;
-		}
-
-		private Query<?> createModifyingQuery(Namespace<?> namespace) {
-			if (namespace instanceof TransactionalNamespace<?> transactionalNamespace) {
-				return transactionalNamespace.modifyingQuery();
+				ReindexerConditionalExpressionCompiler conditionalCompiler = new ReindexerConditionalExpressionCompiler(
+						Lazy.of(() -> createParameterMapper(entity.getType())), this.selectCompiler);
+				steps.add(conditionalCompiler.compile(delete.getWhere(), new ConditionContext()));
 			}
-			return namespace.query();
+			return (bindings) -> QueryStep.applyAll(steps, createModifyingQuery(namespace), bindings);
 		}
 
 	}
 
-	private final class ReindexerSelectVisitor extends SelectVisitorAdapter<Query<?>> {
-
-		private final ReindexerParameterAccessor parameterAccessor;
-
-		private final Supplier<ReindexerValueResolvingExpressionVisitor> valueResolvingVisitor;
-
-		private ReindexerSelectVisitor(ReindexerParameterAccessor parameterAccessor,
-				Supplier<ReindexerValueResolvingExpressionVisitor> valueResolvingVisitor) {
-			this.parameterAccessor = parameterAccessor;
-			this.valueResolvingVisitor = valueResolvingVisitor;
-		}
+	private final class ReindexerSelectCompiler extends SelectVisitorAdapter<QueryFactory> {
 
 		@SuppressWarnings("unchecked")
 		@Override
-		public <S> Query<?> visit(SetOperationList setOpList, S context) {
-			Query<Object> root = null;
+		public <S> QueryFactory visit(SetOperationList setOpList, S context) {
+			List<QueryFactory> selects = new ArrayList<>();
 			for (Select select : setOpList.getSelects()) {
-				Query<Object> query = (Query<Object>) select.accept(this, context);
-				root = root == null ? query : root.merge(query);
+				selects.add(select.accept(this, context));
 			}
-			Assert.notNull(root, () -> "Could not resolve a root from: " + setOpList);
-			return root;
+			Assert.notEmpty(selects, () -> "Could not resolve a root from: " + setOpList);
+			return (bindings) -> {
+				Query<Object> root = (Query<Object>) selects.get(0).create(bindings);
+				for (int i = 1; i < selects.size(); i++) {
+					root = root.merge((Query<Object>) selects.get(i).create(bindings));
+				}
+				return root;
+			};
 		}
 
 		@Override
-		public <S> Query<?> visit(ParenthesedSelect parenthesedSelect, S context) {
+		public <S> QueryFactory visit(ParenthesedSelect parenthesedSelect, S context) {
 			return parenthesedSelect.getSelect().accept(this, context);
 		}
 
 		@Override
-		public <S> Query<?> visit(PlainSelect plainSelect, S context) {
+		public <S> QueryFactory visit(PlainSelect plainSelect, S context) {
+			if (plainSelect.getGroupBy() != null) {
+				throw new InvalidDataAccessApiUsageException("GROUP BY expression is not supported");
+			}
 			Table table = (Table) plainSelect.getFromItem();
 			ReindexerPersistentEntity<?> entity = StringBasedReindexerQuery.this.mappingContext
 				.getRequiredPersistentEntity(table.getName());
 			Namespace<?> namespace = openNamespace(entity.getNamespace());
-			Query<?> root = namespace.query();
-			// Apply select.
-			ReindexerSelectItemExpressionVisitor selectItemVisitor = new ReindexerSelectItemExpressionVisitor(root,
-					this.valueResolvingVisitor);
-			plainSelect.getSelectItems().forEach(item -> item.accept(selectItemVisitor, context));
-			// Apply joins.
+			List<QueryStep> steps = new ArrayList<>();
+			// Compile select.
+			ReindexerSelectItemCompiler selectItemCompiler = new ReindexerSelectItemCompiler();
+			for (SelectItem<?> item : plainSelect.getSelectItems()) {
+				QueryStep step = item.accept(selectItemCompiler, context);
+				if (step != null) {
+					steps.add(step);
+				}
+			}
+			// Compile joins.
 			if (plainSelect.getJoins() != null) {
 				for (Join join : plainSelect.getJoins()) {
-					Table joinTable = (Table) join.getFromItem();
-					ReindexerPersistentEntity<?> joinEntity = StringBasedReindexerQuery.this.mappingContext
-						.getRequiredPersistentEntity(joinTable.getName());
-					Namespace<?> joinNamespace = openNamespace(joinEntity.getNamespace());
-					Query<?> joinQuery = joinNamespace.query();
-					ReindexerJoinOnExpressionVisitor joinOnVisitor = new ReindexerJoinOnExpressionVisitor(joinQuery,
-							Lazy.of(() -> createParameterMapper(joinEntity.getType())), this.valueResolvingVisitor,
-							this);
-					// Reindexer does not support joining namespaces whose parent is not a
-					// root namespace, therefore, the root namespace is always passed as a
-					// parent table to the visitor's context.
-					JoinConditionContext ctx = JoinConditionContext.of(table, joinTable);
-					// Join must contain at least one ON expression.
-					join.getOnExpressions().forEach(expr -> expr.accept(joinOnVisitor, ctx));
-					// Map joined table alias to the joined entity field.
-					String joinField = joinTable.getAlias() != null ? joinTable.getAlias().getName()
-							: joinTable.getName();
-					if (join.isInner()) {
-						root.innerJoin(joinQuery, joinField);
-					}
-					else if (join.isLeft()) {
-						root.leftJoin(joinQuery, joinField);
-					}
-					else {
-						throw new InvalidDataAccessApiUsageException("Unsupported join: " + join);
-					}
+					steps.add(compileJoin(table, join));
 				}
 			}
-			// Apply where.
+			// Compile where.
 			if (plainSelect.getWhere() != null) {
-				ReindexerConditionalExpressionVisitor conditionalVisitor = new ReindexerConditionalExpressionVisitor(
-						root, Lazy.of(() -> createParameterMapper(entity.getType())), this.valueResolvingVisitor, this);
-				plainSelect.getWhere().accept(conditionalVisitor, new ConditionContext());
+				ReindexerConditionalExpressionCompiler conditionalCompiler = new ReindexerConditionalExpressionCompiler(
+						Lazy.of(() -> createParameterMapper(entity.getType())), this);
+				steps.add(conditionalCompiler.compile(plainSelect.getWhere(), new ConditionContext()));
+			}
+			// Compile limit/offset.
+			Limit limit = plainSelect.getLimit();
+			ReindexerValueSlot rowCount = limit != null && limit.getRowCount() != null
+					? VALUE_COMPILING_VISITOR.compile(limit.getRowCount()) : null;
+			ReindexerValueSlot offset = limit != null && limit.getOffset() != null
+					? VALUE_COMPILING_VISITOR.compile(limit.getOffset()) : null;
+			return new PlainSelectQueryFactory(namespace, steps, getSort(plainSelect.getOrderByElements()), rowCount,
+					offset, StringBasedReindexerQuery.this.method.isSliceQuery());
+		}
+
+		private QueryStep compileJoin(Table table, Join join) {
+			Table joinTable = (Table) join.getFromItem();
+			ReindexerPersistentEntity<?> joinEntity = StringBasedReindexerQuery.this.mappingContext
+				.getRequiredPersistentEntity(joinTable.getName());
+			Namespace<?> joinNamespace = openNamespace(joinEntity.getNamespace());
+			ReindexerJoinOnExpressionCompiler joinOnCompiler = new ReindexerJoinOnExpressionCompiler(
+					Lazy.of(() -> createParameterMapper(joinEntity.getType())), this);
+			// Reindexer does not support joining namespaces whose parent is not a root
+			// namespace, therefore, the root namespace is always passed as a parent table
+			// to the compiler's context.
+			JoinConditionContext ctx = JoinConditionContext.of(table, joinTable);
+			// Join must contain at least one ON expression.
+			List<QueryStep> onSteps = new ArrayList<>();
+			join.getOnExpressions().forEach(expr -> onSteps.add(joinOnCompiler.compile(expr, ctx)));
+			// Map joined table alias to the joined entity field.
+			String joinField = joinTable.getAlias() != null ? joinTable.getAlias().getName() : joinTable.getName();
+			if (join.isInner()) {
+				return (root, bindings) -> root
+					.innerJoin(QueryStep.applyAll(onSteps, joinNamespace.query(), bindings), joinField);
+			}
+			if (join.isLeft()) {
+				return (root, bindings) -> root
+					.leftJoin(QueryStep.applyAll(onSteps, joinNamespace.query(), bindings), joinField);
 			}
+			throw new InvalidDataAccessApiUsageException("Unsupported join: " + join);
+		}
+
+	}
+
+	private static final class PlainSelectQueryFactory implements QueryFactory {
+
+		private final Namespace<?> namespace;
+
+		private final List<QueryStep> steps;
+
+		private final Sort sort;
+
+		private final @Nullable ReindexerValueSlot rowCount;
+
+		private final @Nullable ReindexerValueSlot offset;
+
+		private final boolean sliceQuery;
+
+		private PlainSelectQueryFactory(Namespace<?> namespace, List<QueryStep> steps, Sort sort,
+				@Nullable ReindexerValueSlot rowCount, @Nullable ReindexerValueSlot offset, boolean sliceQuery) {
+			this.namespace = namespace;
+			this.steps = List.copyOf(steps);
+			this.sort = sort;
+			this.rowCount = rowCount;
+			this.offset = offset;
+			this.sliceQuery = sliceQuery;
+		}
+
+		@Override
+		public Query<?> create(ParameterBindings bindings) {
+			// Apply select, joins and where.
+			Query<?> root = QueryStep.applyAll(this.steps, this.namespace.query(), bindings);
 			// Apply paging.
-			Pageable pageable = this.parameterAccessor.getPageable();
+			Pageable pageable = bindings.parameterAccessor.getPageable();
 			if (pageable.isPaged()) {
-				int limit = StringBasedReindexerQuery.this.method.isSliceQuery() ? pageable.getPageSize() + 1
-						: pageable.getPageSize();
+				int limit = this.sliceQuery ? pageable.getPageSize() + 1 : pageable.getPageSize();
 				root.limit(limit).offset(PageableUtils.getOffsetAsInteger(pageable));
 			}
 			// Apply sorting.
-			if (plainSelect.getOrderByElements() != null) {
-				for (OrderByElement order : plainSelect.getOrderByElements()) {
-					String indexName = COLUMN_RESOLVING_VISITOR.resolveRequiredIndexName(order.getExpression());
-					root.sort(indexName, !order.isAsc());
-				}
+			for (Order order : this.sort) {
+				root.sort(order.getProperty(), order.isDescending());
 			}
-			Sort sort = this.parameterAccessor.getSort();
+			Sort sort = bindings.parameterAccessor.getSort();
 			if (sort.isSorted()) {
 				for (Order order : sort) {
 					root.sort(order.getProperty(), order.isDescending());
 				}
 			}
 			// Apply limit/offset.
-			Limit limit = plainSelect.getLimit();
-			if (limit != null) {
-				if (limit.getRowCount() != null) {
-					int rowCount = this.valueResolvingVisitor.get().resolveNumberValue(limit.getRowCount()).intValue();
-					if (pageable.isPaged()) {
-						/*
-						 * In order to return the correct results, we have to adjust the
-						 * first result offset to be returned if: - a Pageable parameter
-						 * is present - AND the requested page number > 0 - AND the
-						 * requested page size was bigger than the derived result
-						 * limitation via the limit keyword.
-						 */
-						int firstResult = PageableUtils.getOffsetAsInteger(pageable);
-						if (pageable.getPageSize() > rowCount && firstResult > 0) {
-							root.offset(firstResult - (pageable.getPageSize() - rowCount));
-						}
+			if (this.rowCount != null) {
+				int rowCount = this.rowCount.resolveNumberValue(bindings).intValue();
+				if (pageable.isPaged()) {
+					/*
+					 * In order to return the correct results, we have to adjust the first
+					 * result offset to be returned if: - a Pageable parameter is present -
+					 * AND the requested page number > 0 - AND the requested page size was
+					 * bigger than the derived result limitation via the limit keyword.
+					 */
+					int firstResult = PageableUtils.getOffsetAsInteger(pageable);
+					if (pageable.getPageSize() > rowCount && firstResult > 0) {
+						root.offset(firstResult - (pageable.getPageSize() - rowCount));
 					}
-					root.limit(rowCount);
-				}
-				if (limit.getOffset() != null) {
-					int offset = this.valueResolvingVisitor.get().resolveNumberValue(limit.getOffset()).intValue();
-					root.offset(offset);
 				}
+				root.limit(rowCount);
 			}
-			if (plainSelect.getGroupBy() != null) {
-				throw new InvalidDataAccessApiUsageException("GROUP BY expression is not supported");
+			if (this.offset != null) {
+				root.offset(this.offset.resolveNumberValue(bindings).intValue());
 			}
 			return root;
 		}
 
 	}
 
-	private static final class ReindexerSelectItemExpressionVisitor extends ExpressionVisitorAdapter<Query<?>> {
-
-		private final Query<?> root;
-
-		private final Supplier<ReindexerValueResolvingExpressionVisitor> valueResolvingVisitor;
-
-		private ReindexerSelectItemExpressionVisitor(Query<?> root,
-				Supplier<ReindexerValueResolvingExpressionVisitor> valueResolvingVisitor) {
-			this.root = root;
-			this.valueResolvingVisitor = valueResolvingVisitor;
-		}
+	private static final class ReindexerSelectItemCompiler extends ExpressionVisitorAdapter<@Nullable QueryStep> {
 
 		@Override
-		public <S> Query<?> visit(Column column, S context) {
-			return this.root.select(column.getColumnName());
+		public <S> QueryStep visit(Column column, S context) {
+			String columnName = column.getColumnName();
+			return (root, bindings) -> root.select(columnName);
 		}
 
 		@Override
-		public <C> Query<?> visit(net.sf.jsqlparser.expression.Function function, C context) {
+		public <C> QueryStep visit(net.sf.jsqlparser.expression.Function function, C context) {
 			String functionName = function.getName().toLowerCase(Locale.ROOT);
 			return switch (functionName) {
-				case "count", "count_cached" -> this.root.reqTotal();
-				case "vectors" -> this.root.select("vectors()");
-				case "rank" -> this.root.withRank();
-				case "sum" -> this.root.aggregateSum(COLUMN_RESOLVING_VISITOR.resolveRequiredIndexName(function));
-				case "min" -> this.root.aggregateMin(COLUMN_RESOLVING_VISITOR.resolveRequiredIndexName(function));
-				case "max" -> this.root.aggregateMax(COLUMN_RESOLVING_VISITOR.resolveRequiredIndexName(function));
-				case "avg" -> this.root.aggregateAvg(COLUMN_RESOLVING_VISITOR.resolveRequiredIndexName(function));
-				case "facet" -> applyAggregateFacetFunction(function);
+				case "count", "count_cached" -> (root, bindings) -> root.reqTotal();
+				case "vectors" -> (root, bindings) -> root.select("vectors()");
+				case "rank" -> (root, bindings) -> root.withRank();
+				case "sum" -> {
+					String indexName = COLUMN_RESOLVING_VISITOR.resolveRequiredIndexName(function);
+					yield (root, bindings) -> root.aggregateSum(indexName);
+				}
+				case "min" -> {
+					String indexName = COLUMN_RESOLVING_VISITOR.resolveRequiredIndexName(function);
+					yield (root, bindings) -> root.aggregateMin(indexName);
+				}
+				case "max" -> {
+					String indexName = COLUMN_RESOLVING_VISITOR.resolveRequiredIndexName(function);
+					yield (root, bindings) -> root.aggregateMax(indexName);
+				}
+				case "avg" -> {
+					String indexName = COLUMN_RESOLVING_VISITOR.resolveRequiredIndexName(function);
+					yield (root, bindings) -> root.aggregateAvg(indexName);
+				}
+				case "facet" -> compileAggregateFacetFunction(function);
 				default -> throw new InvalidDataAccessApiUsageException("Invalid function expression: " + function);
 			};
 		}
 
-		private Query<?> applyAggregateFacetFunction(net.sf.jsqlparser.expression.@Nullable Function facet) {
-			if (facet != null) {
-				List<String> facetFields = new ArrayList<>();
-				// Apply facet parameters.
-				if (facet.getParameters() != null) {
-					for (Expression parameter : facet.getParameters()) {
-						Column facetColumn = COLUMN_RESOLVING_VISITOR.resolveColumn(parameter);
-						if (facetColumn != null) {
-							facetFields.add(facetColumn.getColumnName());
-						}
+		private QueryStep compileAggregateFacetFunction(net.sf.jsqlparser.expression.Function facet) {
+			// Compile facet parameters.
+			List<String> facetFields = new ArrayList<>();
+			if (facet.getParameters() != null) {
+				for (Expression parameter : facet.getParameters()) {
+					Column facetColumn = COLUMN_RESOLVING_VISITOR.resolveColumn(parameter);
+					if (facetColumn != null) {
+						facetFields.add(facetColumn.getColumnName());
 					}
 				}
-				Query<?>.AggregationFacetRequest facetRequest = this.root
-					.aggregateFacet(facetFields.toArray(String[]::new));
-				// Apply facet sorting.
-				if (facet.getOrderByElements() != null) {
-					for (OrderByElement order : facet.getOrderByElements()) {
-						String indexName = COLUMN_RESOLVING_VISITOR.resolveRequiredIndexName(order.getExpression());
-						facetRequest.sort(indexName, !order.isAsc());
-					}
+			}
+			String[] fields = facetFields.toArray(String[]::new);
+			// Compile facet sorting.
+			Sort sort = getSort(facet.getOrderByElements());
+			// Compile facet limit/offset.
+			Limit limit = facet.getLimit();
+			ReindexerValueSlot rowCount = limit != null && limit.getRowCount() != null
+					? VALUE_COMPILING_VISITOR.compile(limit.getRowCount()) : null;
+			ReindexerValueSlot offset = limit != null && limit.getOffset() != null
+					? VALUE_COMPILING_VISITOR.compile(limit.getOffset()) : null;
+			return (root, bindings) -> {
+				Query<?>.AggregationFacetRequest facetRequest = root.aggregateFacet(fields);
+				for (Order order : sort) {
+					facetRequest.sort(order.getProperty(), order.isDescending());
 				}
-				// Apply facet limit/offset.
-				if (facet.getLimit() != null) {
-					if (facet.getLimit().getRowCount() != null) {
-						int rowCount = this.valueResolvingVisitor.get()
-							.resolveNumberValue(facet.getLimit().getRowCount())
-							.intValue();
-						facetRequest.limit(rowCount);
-					}
-					if (facet.getLimit().getOffset() != null) {
-						int offset = this.valueResolvingVisitor.get()
-							.resolveNumberValue(facet.getLimit().getOffset())
-							.intValue();
-						facetRequest.offset(offset);
-					}
+				if (rowCount != null) {
+					facetRequest.limit(rowCount.resolveNumberValue(bindings).intValue());
 				}
-			}
-			return this.root;
+				if (offset != null) {
+					facetRequest.offset(offset.resolveNumberValue(bindings).intValue());
+				}
+			};
 		}
 
 	}
 
-	private static class ReindexerConditionalExpressionVisitor extends ExpressionVisitorAdapter<Query<?>> {
+	private static class ReindexerConditionalExpressionCompiler extends ExpressionVisitorAdapter<@Nullable QueryStep> {
 
-		private static final ReindexerWhereExpressionResolvingVisitor EXPRESSION_RESOLVING_VISITOR = new ReindexerWhereExpressionResolvingVisitor();
+		private static final ReindexerWhereExpressionCompilingVisitor EXPRESSION_COMPILING_VISITOR = new ReindexerWhereExpressionCompilingVisitor();
 
 		private static final UnaryOperator<Condition> CONDITION_INVERTER = createConditionInverter();
 
@@ -543,138 +625,154 @@ public final class StringBasedReindexerQuery extends AbstractReindexerQuery {
 			return (condition) -> invertedConditions.getOrDefault(condition, condition);
 		}
 
-		final Query<?> criteria;
-
 		private final Supplier<QueryParameterMapper> parameterMapper;
 
-		private final Supplier<ReindexerValueResolvingExpressionVisitor> valueResolvingVisitor;
+		private final SelectVisitor<QueryFactory> selectCompiler;
 
-		private final SelectVisitor<Query<?>> selectVisitor;
-
-		private ReindexerConditionalExpressionVisitor(Query<?> criteria, Supplier<QueryParameterMapper> parameterMapper,
-				Supplier<ReindexerValueResolvingExpressionVisitor> valueResolvingVisitor,
-				SelectVisitor<Query<?>> selectVisitor) {
-			this.criteria = criteria;
+		private ReindexerConditionalExpressionCompiler(Supplier<QueryParameterMapper> parameterMapper,
+				SelectVisitor<QueryFactory> selectCompiler) {
 			this.parameterMapper = parameterMapper;
-			this.valueResolvingVisitor = valueResolvingVisitor;
-			this.selectVisitor = selectVisitor;
+			this.selectCompiler = selectCompiler;
+		}
+
+		<S> QueryStep compile(Expression expr, S ctx) {
+			QueryStep step = expr.accept(this, ctx);
+			if (step == null) {
+				throw new InvalidDataAccessApiUsageException("Unsupported expression: " + expr);
+			}
+			return step;
 		}
 
 		@Override
-		public <S> Query<?> visit(Column column, S context) {
+		public <S> QueryStep visit(Column column, S context) {
 			throw new InvalidDataAccessApiUsageException("""
 					Invalid expression: bare column: '%s' is used as a predicate,
 					conditional operator must be used (e.g., =, IN, IS NULL).""".formatted(column));
 		}
 
 		@Override
-		public <S> Query<?> visit(Select select, S context) {
-			return select.accept(this.selectVisitor, context);
-		}
-
-		@Override
-		public <S> Query<?> visit(AndExpression expr, S ctx) {
+		public <S> QueryStep visit(AndExpression expr, S ctx) {
 			ConditionContext context = getConditionContext(ctx);
 			Expression previous = context.parent;
 			context.parent = expr;
-			expr.getLeftExpression().accept(this, ctx);
-			expr.getRightExpression().accept(this, ctx);
+			QueryStep left = compile(expr.getLeftExpression(), ctx);
+			QueryStep right = compile(expr.getRightExpression(), ctx);
 			context.parent = previous;
-			return this.criteria;
+			return (criteria, bindings) -> {
+				left.apply(criteria, bindings);
+				right.apply(criteria, bindings);
+			};
 		}
 
 		@Override
-		public <S> Query<?> visit(OrExpression expr, S ctx) {
+		public <S> QueryStep visit(OrExpression expr, S ctx) {
 			ConditionContext context = getConditionContext(ctx);
 			boolean needsBracket = context.parent instanceof AndExpression;
-			if (needsBracket) {
-				this.criteria.openBracket();
-			}
 			Expression previous = context.parent;
 			context.parent = expr;
-			expr.getLeftExpression().accept(this, ctx);
-			this.criteria.or();
-			expr.getRightExpression().accept(this, ctx);
+			QueryStep left = compile(expr.getLeftExpression(), ctx);
+			QueryStep right = compile(expr.getRightExpression(), ctx);
 			context.parent = previous;
-			if (needsBracket) {
-				this.criteria.closeBracket();
+			return (criteria, bindings) -> {
+				if (needsBracket) {
+					criteria.openBracket();
+				}
+				left.apply(criteria, bindings);
+				criteria.or();
+				right.apply(criteria, bindings);
+				if (needsBracket) {
+					criteria.closeBracket();
+				}
+			};
+		}
+
+		@Override
+		public <S> QueryStep visit(ExpressionList<? extends Expression> expressionList, S ctx) {
+			// Compiles a parenthesis expression (a OR b) into a bracket.
+			if (!(expressionList instanceof ParenthesedExpressionList<?>) || expressionList.size() != 1) {
+				throw new InvalidDataAccessApiUsageException("Unsupported expression: " + expressionList);
 			}
-			return this.criteria;
+			ConditionContext context = getConditionContext(ctx);
+			Expression previous = context.parent;
+			context.parent = expressionList;
+			QueryStep step = compile(expressionList.get(0), ctx);
+			context.parent = previous;
+			return (criteria, bindings) -> {
+				criteria.openBracket();
+				step.apply(criteria, bindings);
+				criteria.closeBracket();
+			};
 		}
 
 		@Override
-		public <S> Query<?> visit(NotExpression notExpr, S ctx) {
-			this.criteria.not();
-			return notExpr.getExpression().accept(this, ctx);
+		public <S> QueryStep visit(NotExpression notExpr, S ctx) {
+			return negate(compile(notExpr.getExpression(), ctx));
 		}
 
 		@Override
-		public <S> Query<?> visit(GreaterThan expr, S ctx) {
-			return buildBinaryCondition(expr, Condition.GT, ctx);
+		public <S> QueryStep visit(GreaterThan expr, S ctx) {
+			return compileBinaryCondition(expr, Condition.GT, ctx);
 		}
 
 		@Override
-		public <S> Query<?> visit(GreaterThanEquals expr, S ctx) {
-			return buildBinaryCondition(expr, Condition.GE, ctx);
+		public <S> QueryStep visit(GreaterThanEquals expr, S ctx) {
+			return compileBinaryCondition(expr, Condition.GE, ctx);
 		}
 
 		@Override
-		public <S> Query<?> visit(MinorThan expr, S ctx) {
-			return buildBinaryCondition(expr, Condition.LT, ctx);
+		public <S> QueryStep visit(MinorThan expr, S ctx) {
+			return compileBinaryCondition(expr, Condition.LT, ctx);
 		}
 
 		@Override
-		public <S> Query<?> visit(MinorThanEquals expr, S ctx) {
-			return buildBinaryCondition(expr, Condition.LE, ctx);
+		public <S> QueryStep visit(MinorThanEquals expr, S ctx) {
+			return compileBinaryCondition(expr, Condition.LE, ctx);
 		}
 
 		@Override
-		public <S> Query<?> visit(EqualsTo expr, S ctx) {
-			return buildBinaryCondition(expr, Condition.EQ, ctx);
+		public <S> QueryStep visit(EqualsTo expr, S ctx) {
+			return compileBinaryCondition(expr, Condition.EQ, ctx);
 		}
 
 		@Override
-		public <S> Query<?> visit(InExpression expr, S ctx) {
-			if (expr.isNot()) {
-				this.criteria.not();
-			}
+		public <S> QueryStep visit(InExpression expr, S ctx) {
 			Expression left = expr.getLeftExpression();
 			Expression right = expr.getRightExpression();
-			return buildComparisonCondition(left, right, Condition.SET, getConditionContext(ctx));
+			QueryStep step = compileComparisonCondition(left, right, Condition.SET, getConditionContext(ctx));
+			return expr.isNot() ? negate(step) : step;
 		}
 
 		@Override
-		public <S> Query<?> visit(IsNullExpression expr, S ctx) {
+		public <S> QueryStep visit(IsNullExpression expr, S ctx) {
 			Condition condition = expr.isNot() ? Condition.ANY : Condition.EMPTY;
 			Column leftColumn = COLUMN_RESOLVING_VISITOR.resolveColumn(expr.getLeftExpression());
 			if (leftColumn != null) {
-				return this.criteria.where(leftColumn.getColumnName(), condition);
+				String columnName = leftColumn.getColumnName();
+				return (criteria, bindings) -> criteria.where(columnName, condition);
 			}
-			Query<?> leftQuery = expr.getLeftExpression().accept(this, ctx);
-			if (isSubQuery(leftQuery)) {
-				return this.criteria.where(leftQuery, condition);
+			if (expr.getLeftExpression() instanceof Select select) {
+				QueryFactory subQuery = select.accept(this.selectCompiler, ctx);
+				return (criteria, bindings) -> criteria.where(subQuery.create(bindings), condition);
 			}
 			throw new InvalidDataAccessApiUsageException(
 					"Invalid expression: %s expected column or sub query in the left operand".formatted(expr));
 		}
 
 		@Override
-		public <S> Query<?> visit(Between expr, S ctx) {
-			if (expr.isNot()) {
-				this.criteria.not();
-			}
-			return buildRangeCondition(expr.getLeftExpression(), expr.getBetweenExpressionStart(),
+		public <S> QueryStep visit(Between expr, S ctx) {
+			QueryStep step = compileRangeCondition(expr.getLeftExpression(), expr.getBetweenExpressionStart(),
 					expr.getBetweenExpressionEnd(), ctx);
+			return expr.isNot() ? negate(step) : step;
 		}
 
 		@Override
-		public <S> Query<?> visit(net.sf.jsqlparser.expression.Function function, S ctx) {
+		public <S> @Nullable QueryStep visit(net.sf.jsqlparser.expression.Function function, S ctx) {
 			String functionName = function.getName().toLowerCase(Locale.ROOT);
 			return switch (functionName) {
 				case "range" -> {
 					Assert.isTrue(function.getParameters() != null && function.getParameters().size() == 3,
 							() -> "Expected exactly 3 parameters for: " + function);
-					yield buildRangeCondition(function.getParameters().get(0), function.getParameters().get(1),
+					yield compileRangeCondition(function.getParameters().get(0), function.getParameters().get(1),
 							function.getParameters().get(2), ctx);
 				}
 				case "knn" -> {
@@ -682,120 +780,145 @@ public final class StringBasedReindexerQuery extends AbstractReindexerQuery {
 							() -> "Expected exactly 3 parameters for: " + function);
 					String indexName = COLUMN_RESOLVING_VISITOR
 						.resolveRequiredIndexName(function.getParameters().get(0));
-					ReindexerValueResolvingExpressionVisitor valueResolvingVisitor = this.valueResolvingVisitor.get();
-					float[] vector = valueResolvingVisitor.resolveVector(function.getParameters().get(1));
-					KnnSearchParam knnSearchParam = valueResolvingVisitor
-						.resolveKnnSearchParam(function.getParameters().get(2));
-					yield this.criteria.whereKnn(indexName, vector, knnSearchParam);
+					ReindexerValueSlot vector = VALUE_COMPILING_VISITOR.compile(function.getParameters().get(1));
+					ReindexerValueSlot knnSearchParam = VALUE_COMPILING_VISITOR
+						.compile(function.getParameters().get(2));
+					yield (criteria, bindings) -> criteria.whereKnn(indexName, vector.resolveVector(bindings),
+							knnSearchParam.resolveKnnSearchParam(bindings));
 				}
 				default -> super.visit(function, ctx);
 			};
 		}
 
-		private <S> Query<?> buildBinaryCondition(BinaryExpression expr, Condition condition, S ctx) {
+		private <S> QueryStep compileBinaryCondition(BinaryExpression expr, Condition condition, S ctx) {
 			Expression left = expr.getLeftExpression();
 			Expression right = expr.getRightExpression();
-			return buildComparisonCondition(left, right, condition, ctx);
+			return compileComparisonCondition(left, right, condition, ctx);
 		}
 
-		private <S> Query<?> buildComparisonCondition(Expression left, Expression right, Condition condition, S ctx) {
-			ReindexerWhereExpression leftExpr = left.accept(EXPRESSION_RESOLVING_VISITOR, ctx);
-			ReindexerWhereExpression rightExpr = right.accept(EXPRESSION_RESOLVING_VISITOR, ctx);
+		private <S> QueryStep compileComparisonCondition(Expression left, Expression right, Condition condition,
+				S ctx) {
+			ReindexerWhereExpression leftExpr = left.accept(EXPRESSION_COMPILING_VISITOR, ctx);
+			ReindexerWhereExpression rightExpr = right.accept(EXPRESSION_COMPILING_VISITOR, ctx);
 			if (leftExpr != null && rightExpr != null) {
-				return buildExpressionCondition(leftExpr, condition, rightExpr);
+				return compileExpressionCondition(leftExpr, condition, rightExpr);
 			}
 			if (leftExpr != null) {
-				ReindexerWhereExpression resolvedExpr = resolveExpression(right, ctx);
-				return buildExpressionCondition(leftExpr, condition, resolvedExpr);
+				ReindexerWhereExpression resolvedExpr = compileExpression(right, ctx);
+				return compileExpressionCondition(leftExpr, condition, resolvedExpr);
 			}
 			if (rightExpr != null) {
-				ReindexerWhereExpression resolvedExpr = resolveExpression(left, ctx);
-				return buildExpressionCondition(resolvedExpr, condition, rightExpr);
+				ReindexerWhereExpression resolvedExpr = compileExpression(left, ctx);
+				return compileExpressionCondition(resolvedExpr, condition, rightExpr);
 			}
 			Column leftColumn = COLUMN_RESOLVING_VISITOR.resolveColumn(left);
 			Column rightColumn = COLUMN_RESOLVING_VISITOR.resolveColumn(right);
 			if (leftColumn != null && rightColumn != null) {
-				return this.criteria.whereBetweenFields(leftColumn.getColumnName(), condition,
-						rightColumn.getColumnName());
+				String leftColumnName = leftColumn.getColumnName();
+				String rightColumnName = rightColumn.getColumnName();
+				return (criteria, bindings) -> criteria.whereBetweenFields(leftColumnName, condition, rightColumnName);
 			}
 			if (leftColumn != null) {
-				return buildComparisonCondition(leftColumn, condition, right);
+				return compileComparisonCondition(leftColumn, condition, right);
 			}
 			if (rightColumn != null) {
-				return buildComparisonCondition(rightColumn, condition, left);
+				return compileComparisonCondition(rightColumn, condition, left);
 			}
-			Query<?> leftQuery = left.accept(this, ctx);
-			if (isSubQuery(leftQuery)) {
-				Object value = this.valueResolvingVisitor.get().resolveRequiredValue(right);
-				return this.criteria.where(leftQuery, condition, value);
+			if (left instanceof Select select) {
+				QueryFactory subQuery = select.accept(this.selectCompiler, ctx);
+				ReindexerValueSlot value = VALUE_COMPILING_VISITOR.compile(right);
+				return (criteria, bindings) -> criteria.where(subQuery.create(bindings), condition,
+						value.resolveRequiredValue(bindings));
 			}
-			Query<?> rightQuery = right.accept(this, ctx);
-			if (isSubQuery(rightQuery)) {
-				Object value = this.valueResolvingVisitor.get().resolveRequiredValue(left);
-				return this.criteria.where(rightQuery, condition, value);
+			if (right instanceof Select select) {
+				QueryFactory subQuery = select.accept(this.selectCompiler, ctx);
+				ReindexerValueSlot value = VALUE_COMPILING_VISITOR.compile(left);
+				return (criteria, bindings) -> criteria.where(subQuery.create(bindings), condition,
+						value.resolveRequiredValue(bindings));
 			}
 			throw new InvalidDataAccessApiUsageException(
 					"Invalid operand combination: %s, %s for condition: %s".formatted(left, right, condition));
 		}
 
-		private <S> ReindexerWhereExpression resolveExpression(Expression expr, S ctx) {
+		private <S> ReindexerWhereExpression compileExpression(Expression expr, S ctx) {
 			Column column = COLUMN_RESOLVING_VISITOR.resolveColumn(expr);
 			if (column != null) {
-				return new ReindexerWhereExpression(
-						ru.rt.restream.reindexer.expression.Expression.field(column.getColumnName()),
+				String columnName = column.getColumnName();
+				return new ReindexerWhereExpression(expr,
+						(bindings) -> ru.rt.restream.reindexer.expression.Expression.field(columnName),
 						ExpressionSide.LEFT, ExpressionSide.RIGHT);
 			}
-			Query<?> query = expr.accept(this, ctx);
-			if (isSubQuery(query)) {
-				return new ReindexerWhereExpression(ru.rt.restream.reindexer.expression.Expression.subQuery(query),
+			if (expr instanceof Select select) {
+				QueryFactory subQuery = select.accept(this.selectCompiler, ctx);
+				return new ReindexerWhereExpression(expr,
+						(bindings) -> ru.rt.restream.reindexer.expression.Expression
+							.subQuery(subQuery.create(bindings)),
 						ExpressionSide.LEFT, ExpressionSide.RIGHT);
 			}
-			Object value = this.valueResolvingVisitor.get().resolveRequiredValue(expr);
-			return new ReindexerWhereExpression(ru.rt.restream.reindexer.expression.Expression.values(value),
+			ReindexerValueSlot value = VALUE_COMPILING_VISITOR.compile(expr);
+			return new ReindexerWhereExpression(expr,
+					(bindings) -> ru.rt.restream.reindexer.expression.Expression
+						.values(value.resolveRequiredValue(bindings)),
 					ExpressionSide.RIGHT);
 		}
 
-		private Query<?> buildExpressionCondition(ReindexerWhereExpression left, Condition condition,
+		private QueryStep compileExpressionCondition(ReindexerWhereExpression left, Condition condition,
 				ReindexerWhereExpression right) {
 			if (left.isLeft() && right.isRight()) {
-				return this.criteria.where(left, condition, right);
+				return (criteria, bindings) -> criteria.where(left.resolve(bindings), condition,
+						right.resolve(bindings));
 			}
 			if (left.isRight() && right.isLeft()) {
-				return this.criteria.where(right, CONDITION_INVERTER.apply(condition), left);
+				Condition invertedCondition = CONDITION_INVERTER.apply(condition);
+				return (criteria, bindings) -> criteria.where(right.resolve(bindings), invertedCondition,
+						left.resolve(bindings));
 			}
 			throw new InvalidDataAccessApiUsageException(
 					"Invalid combination of expressions: ('%s', '%s')".formatted(left, right));
 		}
 
-		private Query<?> buildComparisonCondition(Column column, Condition condition, Expression expr) {
+		private QueryStep compileComparisonCondition(Column column, Condition condition, Expression expr) {
 			String columnName = column.getColumnName();
-			Object value = this.parameterMapper.get()
-				.mapParameterValue(columnName, this.valueResolvingVisitor.get().resolveRequiredValue(expr));
-			if (value instanceof Collection<?> values) {
-				return this.criteria.where(columnName, condition, values);
-			}
-			return this.criteria.where(columnName, condition, value);
+			ReindexerValueSlot value = VALUE_COMPILING_VISITOR.compile(expr);
+			Supplier<UnaryOperator<@Nullable Object>> valueMapper = getValueMapper(this.parameterMapper, columnName);
+			return (criteria, bindings) -> {
+				Object mappedValue = valueMapper.get().apply(value.resolveRequiredValue(bindings));
+				if (mappedValue instanceof Collection<?> values) {
+					criteria.where(columnName, condition, values);
+				}
+				else {
+					criteria.where(columnName, condition, mappedValue);
+				}
+			};
 		}
 
-		private <S> Query<?> buildRangeCondition(Expression left, Expression rangeStart, Expression rangeEnd, S ctx) {
-			ReindexerValueResolvingExpressionVisitor valueResolvingVisitor = this.valueResolvingVisitor.get();
-			Object start = valueResolvingVisitor.resolveRequiredValue(rangeStart);
-			Object end = valueResolvingVisitor.resolveRequiredValue(rangeEnd);
+		private <S> QueryStep compileRangeCondition(Expression left, Expression rangeStart, Expression rangeEnd,
+				S ctx) {
+			ReindexerValueSlot start = VALUE_COMPILING_VISITOR.compile(rangeStart);
+			ReindexerValueSlot end = VALUE_COMPILING_VISITOR.compile(rangeEnd);
 			Column column = COLUMN_RESOLVING_VISITOR.resolveColumn(left);
 			if (column != null) {
-				return this.criteria.where(column.getColumnName(), Condition.RANGE,
-						this.parameterMapper.get().mapParameterValues(column.getColumnName(), start, end));
+				String columnName = column.getColumnName();
+				Supplier<UnaryOperator<@Nullable Object>> valueMapper = getValueMapper(this.parameterMapper,
+						columnName);
+				return (criteria, bindings) -> criteria.where(columnName, Condition.RANGE,
+						valueMapper.get().apply(start.resolveRequiredValue(bindings)),
+						valueMapper.get().apply(end.resolveRequiredValue(bindings)));
 			}
-			Query<?> leftQuery = left.accept(this, ctx);
-			if (isSubQuery(leftQuery)) {
-				return this.criteria.where(leftQuery, Condition.RANGE, start, end);
+			if (left instanceof Select select) {
+				QueryFactory subQuery = select.accept(this.selectCompiler, ctx);
+				return (criteria, bindings) -> criteria.where(subQuery.create(bindings), Condition.RANGE,
+						start.resolveRequiredValue(bindings), end.resolveRequiredValue(bindings));
 			}
 			throw new InvalidDataAccessApiUsageException(
 					"Invalid left operand: %s for RANGE condition, expected column or sub-query".formatted(left));
 		}
 
-		private boolean isSubQuery(@Nullable Query<?> query) {
-			return query != null && query != this.criteria;
+		private static QueryStep negate(QueryStep step) {
+			return (criteria, bindings) -> {
+				criteria.not();
+				step.apply(criteria, bindings);
+			};
 		}
 
 		<S> ConditionContext getConditionContext(S ctx) {
@@ -807,45 +930,46 @@ public final class StringBasedReindexerQuery extends AbstractReindexerQuery {
 
 	}
 
-	private static final class ReindexerJoinOnExpressionVisitor extends ReindexerConditionalExpressionVisitor {
+	private static final class ReindexerJoinOnExpressionCompiler extends ReindexerConditionalExpressionCompiler {
 
-		private ReindexerJoinOnExpressionVisitor(Query<?> query, Supplier<QueryParameterMapper> parameterMapper,
-				Supplier<ReindexerValueResolvingExpressionVisitor> valueResolvingVisitor,
-				SelectVisitor<Query<?>> selectVisitor) {
-			super(query, parameterMapper, valueResolvingVisitor, selectVisitor);
+		private ReindexerJoinOnExpressionCompiler(Supplier<QueryParameterMapper> parameterMapper,
+				SelectVisitor<QueryFactory> selectCompiler) {
+			super(parameterMapper, selectCompiler);
 		}
 
 		@Override
-		public <S> Query<?> visit(EqualsTo expr, S ctx) {
+		public <S> QueryStep visit(EqualsTo expr, S ctx) {
 			JoinConditionContext context = getConditionContext(ctx);
 			Column left = COLUMN_RESOLVING_VISITOR.resolveColumn(expr.getLeftExpression());
 			Column right = COLUMN_RESOLVING_VISITOR.resolveColumn(expr.getRightExpression());
 			if (left != null && right != null) {
-				return buildOnCondition(left, right, Condition.EQ, context);
+				return compileOnCondition(left, right, Condition.EQ, context);
 			}
 			return super.visit(expr, ctx);
 		}
 
 		@Override
-		public <S> Query<?> visit(InExpression expr, S ctx) {
+		public <S> QueryStep visit(InExpression expr, S ctx) {
 			JoinConditionContext context = getConditionContext(ctx);
 			Column left = COLUMN_RESOLVING_VISITOR.resolveColumn(expr.getLeftExpression());
 			Column right = COLUMN_RESOLVING_VISITOR.resolveColumn(expr.getRightExpression());
 			if (left != null && right != null) {
-				return buildOnCondition(left, right, Condition.SET, context);
+				return compileOnCondition(left, right, Condition.SET, context);
 			}
 			return super.visit(expr, ctx);
 		}
 
-		private Query<?> buildOnCondition(Column left, Column right, Condition condition,
+		private QueryStep compileOnCondition(Column left, Column right, Condition condition,
 				JoinConditionContext context) {
 			String leftOwner = extractOwner(left);
 			String rightOwner = extractOwner(right);
+			String leftColumnName = left.getColumnName();
+			String rightColumnName = right.getColumnName();
 			if (context.isParent(leftOwner) && context.isChild(rightOwner)) {
-				return this.criteria.on(left.getColumnName(), condition, right.getColumnName());
+				return (criteria, bindings) -> criteria.on(leftColumnName, condition, rightColumnName);
 			}
 			if (context.isChild(leftOwner) && context.isParent(rightOwner)) {
-				return this.criteria.on(right.getColumnName(), condition, left.getColumnName());
+				return (criteria, bindings) -> criteria.on(rightColumnName, condition, leftColumnName);
 			}
 			throw new InvalidDataAccessApiUsageException("""
 					Unexpected tables to join: (%s, %s);
@@ -928,7 +1052,7 @@ public final class StringBasedReindexerQuery extends AbstractReindexerQuery {
 
 	}
 
-	private static final class ReindexerWhereExpressionResolvingVisitor
+	private static final class ReindexerWhereExpressionCompilingVisitor
 			extends ExpressionVisitorAdapter<@Nullable ReindexerWhereExpression> {
 
 		@Override
@@ -942,7 +1066,9 @@ public final class StringBasedReindexerQuery extends AbstractReindexerQuery {
 									.formatted(function));
 						unit = TimeUnit.fromName(function.getParameters().get(0).toString());
 					}
-					yield new ReindexerWhereExpression(ru.rt.restream.reindexer.expression.Expression.now(unit),
+					TimeUnit timeUnit = unit;
+					yield new ReindexerWhereExpression(function,
+							(bindings) -> ru.rt.restream.reindexer.expression.Expression.now(timeUnit),
 							ExpressionSide.RIGHT);
 				}
 				case "flat_array_len" -> {
@@ -950,8 +1076,8 @@ public final class StringBasedReindexerQuery extends AbstractReindexerQuery {
 							() -> "Invalid function expression: %s, exactly 1 parameter expected for flat_array_len(field)"
 								.formatted(function));
 					String fieldName = COLUMN_RESOLVING_VISITOR.resolveRequiredIndexName(function);
-					yield new ReindexerWhereExpression(
-							ru.rt.restream.reindexer.expression.Expression.flatArrayLength(fieldName),
+					yield new ReindexerWhereExpression(function,
+							(bindings) -> ru.rt.restream.reindexer.expression.Expression.flatArrayLength(fieldName),
 							ExpressionSide.LEFT, ExpressionSide.RIGHT);
 				}
 				default -> null;
@@ -960,47 +1086,69 @@ public final class StringBasedReindexerQuery extends AbstractReindexerQuery {
 
 	}
 
-	private static final class ReindexerValueResolvingExpressionVisitor
-			extends ExpressionVisitorAdapter<@Nullable Object> {
-
-		private final ReindexerParameterResolver parameterResolver;
+	private static final class ReindexerValueCompilingExpressionVisitor
+			extends ExpressionVisitorAdapter<@Nullable Function<ParameterBindings, @Nullable Object>> {
 
-		private ReindexerValueResolvingExpressionVisitor(ReindexerParameterResolver parameterResolver) {
-			this.parameterResolver = parameterResolver;
+		@Override
+		public <S> Function<ParameterBindings, @Nullable Object> visit(JdbcParameter parameter, S ctx) {
+			int index = parameter.getIndex() - 1;
+			return (bindings) -> bindings.resolveIndexed(index);
 		}
 
 		@Override
-		public @Nullable <S> Object visit(JdbcParameter parameter, S ctx) {
-			return this.parameterResolver.resolveIndexed(parameter.getIndex() - 1);
+		public <S> Function<ParameterBindings, @Nullable Object> visit(JdbcNamedParameter parameter, S ctx) {
+			String name = parameter.getName();
+			if (name.startsWith(SYNTHETIC_PARAMETER_PREFIX)) {
+				return (bindings) -> bindings.resolveExpression(name);
+			}
+			return (bindings) -> bindings.resolveNamed(name);
 		}
 
 		@Override
-		public @Nullable <S> Object visit(JdbcNamedParameter parameter, S ctx) {
-			return this.parameterResolver.resolvedNamed(parameter.getName());
+		public <S> Function<ParameterBindings, @Nullable Object> visit(DoubleValue value, S ctx) {
+			double result = value.getValue();
+			return (bindings) -> result;
 		}
 
 		@Override
-		public <S> Object visit(DoubleValue value, S ctx) {
-			return value.getValue();
+		public <S> Function<ParameterBindings, @Nullable Object> visit(LongValue value, S ctx) {
+			long result = value.getValue();
+			return (bindings) -> result;
 		}
 
 		@Override
-		public <S> Object visit(LongValue value, S ctx) {
-			return value.getValue();
+		public <S> Function<ParameterBindings, @Nullable Object> visit(StringValue value, S ctx) {
+			String result = value.getValue();
+			return (bindings) -> result;
 		}
 
 		@Override
-		public <S> Object visit(StringValue value, S ctx) {
-			return value.getValue();
+		protected <S> Function<ParameterBindings, @Nullable Object> visitBinaryExpression(BinaryExpression expr,
+				S context) {
+			String expression = expr.toString();
+			return (bindings) -> ru.rt.restream.reindexer.expression.Expression.string(expression);
 		}
 
-		@Override
-		protected <S> Object visitBinaryExpression(BinaryExpression expr, S context) {
-			return ru.rt.restream.reindexer.expression.Expression.string(expr.toString());
+		private ReindexerValueSlot compile(Expression expr) {
+			Function<ParameterBindings, @Nullable Object> resolver = expr.accept(this, null);
+			return new ReindexerValueSlot(expr, resolver != null ? resolver : (bindings) -> null);
+		}
+
+	}
+
+	private static final class ReindexerValueSlot {
+
+		private final Expression expr;
+
+		private final Function<ParameterBindings, @Nullable Object> resolver;
+
+		private ReindexerValueSlot(Expression expr, Function<ParameterBindings, @Nullable Object> resolver) {
+			this.expr = expr;
+			this.resolver = resolver;
 		}
 
-		private float[] resolveVector(Expression expr) {
-			Object value = resolveValue(expr);
+		private float[] resolveVector(ParameterBindings bindings) {
+			Object value = resolveValue(bindings);
 			if (value instanceof float[] vector) {
 				return vector;
 			}
@@ -1010,54 +1158,55 @@ public final class StringBasedReindexerQuery extends AbstractReindexerQuery {
 			throw new InvalidDataAccessApiUsageException("""
 					Invalid Vector expression: %s;
 					Could not resolve Vector or float[] from: %s
-					""".formatted(expr, value));
+					""".formatted(this.expr, value));
 		}
 
-		private KnnSearchParam resolveKnnSearchParam(Expression expr) {
-			Object value = resolveValue(expr);
+		private KnnSearchParam resolveKnnSearchParam(ParameterBindings bindings) {
+			Object value = resolveValue(bindings);
 			if (value instanceof KnnSearchParam knnSearchParam) {
 				return knnSearchParam;
 			}
 			throw new InvalidDataAccessApiUsageException("""
 					Invalid KNN params expression: %s;
 					Could not resolve KnnSearchParam from: %s
-					""".formatted(expr, value));
+					""".formatted(this.expr, value));
 		}
 
-		private Number resolveNumberValue(Expression expr) {
-			Object value = resolveValue(expr);
-			Assert.isInstanceOf(Number.class, value, () -> "Expected Number value for expression: " + expr);
+		private Number resolveNumberValue(ParameterBindings bindings) {
+			Object value = resolveValue(bindings);
+			Assert.isInstanceOf(Number.class, value, () -> "Expected Number value for expression: " + this.expr);
 			return (Number) value;
 		}
 
-		private Object resolveRequiredValue(Expression expr) {
-			Object value = resolveValue(expr);
-			Assert.notNull(value, () -> "Could not resolve value for expression: " + expr);
+		private Object resolveRequiredValue(ParameterBindings bindings) {
+			Object value = resolveValue(bindings);
+			Assert.notNull(value, () -> "Could not resolve value for expression: " + this.expr);
 			return value;
 		}
 
-		private @Nullable Object resolveValue(Expression expr) {
-			return expr.accept(this, null);
+		private @Nullable Object resolveValue(ParameterBindings bindings) {
+			return this.resolver.apply(bindings);
 		}
 
 	}
 
-	private static final class ReindexerParameterResolver {
-
-		private final Map<String, Object> resolvedParameters;
+	private final class ParameterBindings {
 
 		private final ReindexerParameterAccessor parameterAccessor;
 
-		private ReindexerParameterResolver(Map<String, Object> resolvedParameters,
-				ReindexerParameterAccessor parameterAccessor) {
-			this.resolvedParameters = resolvedParameters;
+		private final Lazy<Map<String, @Nullable Object>> resolvedExpressions;
+
+		private ParameterBindings(ReindexerParameterAccessor parameterAccessor) {
 			this.parameterAccessor = parameterAccessor;
+			this.resolvedExpressions = Lazy.of(() -> StringBasedReindexerQuery.this.queryEvaluator
+				.evaluate(parameterAccessor.getValues()));
 		}
 
-		private @Nullable Object resolvedNamed(String name) {
-			if (this.resolvedParameters.containsKey(name)) {
-				return this.resolvedParameters.get(name);
-			}
+		private @Nullable Object resolveExpression(String name) {
+			return this.resolvedExpressions.get().get(name);
+		}
+
+		private @Nullable Object resolveNamed(String name) {
 			return this.parameterAccessor.getValue(name);
 		}
 
@@ -1110,25 +1259,28 @@ public final class StringBasedReindexerQuery extends AbstractReindexerQuery {
 
 	}
 
-	private static final class ReindexerWhereExpression implements WhereExpression {
+	private static final class ReindexerWhereExpression {
+
+		private final Expression expr;
 
-		private final WhereExpression delegate;
+		private final Function<ParameterBindings, WhereExpression> delegate;
 
 		private final Set<ExpressionSide> sides;
 
-		private ReindexerWhereExpression(WhereExpression delegate, ExpressionSide side, ExpressionSide... rest) {
+		private ReindexerWhereExpression(Expression expr, Function<ParameterBindings, WhereExpression> delegate,
+				ExpressionSide side, ExpressionSide... rest) {
+			this.expr = expr;
 			this.delegate = delegate;
 			this.sides = EnumSet.of(side, rest);
 		}
 
 		@Override
-		public void serializeWhere(ByteBuffer buffer) {
-			this.delegate.serializeWhere(buffer);
+		public String toString() {
+			return this.expr.toString();
 		}
 
-		@Override
-		public String toString() {
-			return this.delegate.toString();
+		private WhereExpression resolve(ParameterBindings bindings) {
+			return this.delegate.apply(bindings);
 		}
 
 		private boolean isLeft() {
@@ -1147,4 +1299,31 @@ public final class StringBasedReindexerQuery extends AbstractReindexerQuery {
 
 	}
 
+	/**
+	 * Creates a new {@link Query} for the bound parameters.
+	 */
+	@FunctionalInterface
+	private interface QueryFactory {
+
+		Query<?> create(ParameterBindings bindings);
+
+	}
+
+	/**
+	 * Applies a compiled part of the statement to the given {@link Query}.
+	 */
+	@FunctionalInterface
+	private interface QueryStep {
+
+		void apply(Query<?> criteria, ParameterBindings bindings);
+
+		static Query<?> applyAll(List<QueryStep> steps, Query<?> criteria, ParameterBindings bindings) {
+			for (QueryStep step : steps) {
+				step.apply(criteria, bindings);
+			}
+			return criteria;
+		}
+
+	}
+
 }
@@ -0,0 +1,125 @@
+/*
+ * Copyright 2022-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.reindexer.repository.query;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.function.Supplier;
+
+import ru.rt.restream.reindexer.AggregationResult;
+import ru.rt.restream.reindexer.ResultIterator;
+
+import org.springframework.dao.QueryTimeoutException;
+
+/**
+ * A {@link ResultIterator} that closes its delegate and throws a
+ * {@link QueryTimeoutException} once the time spent executing its query and fetching its
+ * results exceeds the timeout. Only the time spent in the delegate is taken into account,
+ * the time the caller spends processing the results is not.
+ *
+ * @author Evgeniy Cheban
+ * @since 1.7
+ */
+final class TimeLimitedResultIterator<E> implements ResultIterator<E> {
+
+	private final ResultIterator<E> delegate;
+
+	private final Duration timeout;
+
+	private final long timeoutNanos;
+
+	private long elapsedNanos;
+
+	private boolean closed;
+
+	TimeLimitedResultIterator(ResultIterator<E> delegate, Duration timeout, long elapsedNanos) {
+		this.delegate = delegate;
+		this.timeout = timeout;
+		this.timeoutNanos = timeout.toNanos();
+		this.elapsedNanos = elapsedNanos;
+	}
+
+	/**
+	 * Executes a query and limits the time to execute it and to fetch its results to the
+	 * given timeout. The execution itself cannot be interrupted, its time is charged to
+	 * the timeout, so the first access to the results fails if it took too long.
+	 */
+	static <E> ResultIterator<E> execute(Duration timeout, Supplier<ResultIterator<E>> execution) {
+		long start = System.nanoTime();
+		ResultIterator<E> delegate = execution.get();
+		return new TimeLimitedResultIterator<>(delegate, timeout, System.nanoTime() - start);
+	}
+
+	@Override
+	public boolean hasNext() {
+		checkTimeout();
+		long start = System.nanoTime();
+		try {
+			return this.delegate.hasNext();
+		}
+		finally {
+			this.elapsedNanos += System.nanoTime() - start;
+		}
+	}
+
+	@Override
+	public E next() {
+		checkTimeout();
+		long start = System.nanoTime();
+		try {
+			return this.delegate.next();
+		}
+		finally {
+			this.elapsedNanos += System.nanoTime() - start;
+		}
+	}
+
+	private void checkTimeout() {
+		if (this.elapsedNanos >= this.timeoutNanos) {
+			close();
+			throw new QueryTimeoutException("Query results were not fetched within " + this.timeout);
+		}
+	}
+
+	@Override
+	public long size() {
+		return this.delegate.size();
+	}
+
+	@Override
+	public long getTotalCount() {
+		return this.delegate.getTotalCount();
+	}
+
+	@Override
+	public List<AggregationResult> aggResults() {
+		return this.delegate.aggResults();
+	}
+
+	@Override
+	public float getCurrentRank() {
+		return this.delegate.getCurrentRank();
+	}
+
+	@Override
+	public void close() {
+		if (!this.closed) {
+			this.closed = true;
+			this.delegate.close();
+		}
+	}
+
+}
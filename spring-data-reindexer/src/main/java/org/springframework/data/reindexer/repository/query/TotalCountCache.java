@@ -0,0 +1,96 @@
+/*
+ * Copyright 2022-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.reindexer.repository.query;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.util.ObjectUtils;
+
+/**
+ * Caches query totals for a time-to-live, keyed by the bindable query method arguments
+ * since the conditions of a query only depend on them.
+ * <p>
+ * For internal use only, as this contract is likely to change.
+ *
+ * @author Evgeniy Cheban
+ * @since 1.7
+ */
+final class TotalCountCache {
+
+	private static final int MAX_SIZE = 1024;
+
+	private final Map<List<@Nullable Object>, Entry> totals = new ConcurrentHashMap<>();
+
+	private final long ttlNanos;
+
+	TotalCountCache(Duration ttl) {
+		this.ttlNanos = ttl.toNanos();
+	}
+
+	/**
+	 * Returns the cached total for the given parameters if it has not expired.
+	 * @param parameters the {@link ReindexerParameterAccessor} to use
+	 * @return the cached total to use, or {@literal null} if there is none
+	 */
+	@Nullable Long get(ReindexerParameterAccessor parameters) {
+		Entry entry = this.totals.get(getKey(parameters));
+		if (entry == null || entry.isExpired(System.nanoTime())) {
+			return null;
+		}
+		return entry.total();
+	}
+
+	/**
+	 * Caches the total for the given parameters.
+	 * @param parameters the {@link ReindexerParameterAccessor} to use
+	 * @param total the total to cache
+	 */
+	void put(ReindexerParameterAccessor parameters, long total) {
+		long now = System.nanoTime();
+		if (this.totals.size() >= MAX_SIZE) {
+			this.totals.values().removeIf((entry) -> entry.isExpired(now));
+			if (this.totals.size() >= MAX_SIZE) {
+				this.totals.clear();
+			}
+		}
+		this.totals.put(getKey(parameters), new Entry(total, now + this.ttlNanos));
+	}
+
+	private static List<@Nullable Object> getKey(ReindexerParameterAccessor parameters) {
+		List<@Nullable Object> key = new ArrayList<>();
+		for (Object value : parameters) {
+			// Arrays do not implement equals, e.g., for varargs.
+			key.add(ObjectUtils.isArray(value) ? Arrays.asList(ObjectUtils.toObjectArray(value)) : value);
+		}
+		return key;
+	}
+
+	private record Entry(long total, long expiresAt) {
+
+		boolean isExpired(long now) {
+			return now - this.expiresAt >= 0;
+		}
+
+	}
+
+}
@@ -16,9 +16,16 @@
 package org.springframework.data.reindexer.repository.support;
 
 import java.math.BigInteger;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 
 import ru.rt.restream.reindexer.CollateMode;
 import ru.rt.restream.reindexer.FieldType;
@@ -30,12 +37,14 @@ import ru.rt.restream.reindexer.ReindexerNamespace;
 import ru.rt.restream.reindexer.exceptions.IndexConflictException;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
+import org.jspecify.annotations.Nullable;
 
+import org.springframework.beans.factory.InitializingBean;
 import org.springframework.data.reindexer.core.mapping.ReindexerMappingContext;
 import org.springframework.data.reindexer.core.mapping.ReindexerPersistentEntity;
 import org.springframework.data.reindexer.core.mapping.ReindexerPersistentProperty;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.util.Assert;
-import org.springframework.util.ConcurrentLruCache;
 
 /**
  * A {@link ReindexerNamespaceFactory} that manages {@link Namespace} instances.
@@ -43,7 +52,7 @@ import org.springframework.util.ConcurrentLruCache;
  * @author Evgeniy Cheban
  * @since 1.7
  */
-public final class DefaultReindexerNamespaceFactory implements ReindexerNamespaceFactory {
+public final class DefaultReindexerNamespaceFactory implements ReindexerNamespaceFactory, InitializingBean {
 
 	private static final Log LOGGER = LogFactory.getLog(DefaultReindexerNamespaceFactory.class);
 
@@ -73,13 +82,20 @@ public final class DefaultReindexerNamespaceFactory implements ReindexerNamespac
 	);
 	// @formatter:on
 
-	private final ConcurrentLruCache<Class<?>, Namespace<?>> cache = new ConcurrentLruCache<>(32,
-			this::doOpenNamespace);
-
 	private final Reindexer reindexer;
 
 	private final ReindexerMappingContext mappingContext;
 
+	private final Map<Class<?>, Namespace<?>> namespaces;
+
+	private boolean eagerInitialization;
+
+	private int initializationConcurrency = 4;
+
+	private Map<String, Integer> nearCacheSizes = Map.of();
+
+	private EntityNearCacheListener nearCacheListener = EntityNearCacheListener.NOOP;
+
 	/**
 	 * Creates an instance.
 	 * @param reindexer the {@link Reindexer} to use
@@ -90,10 +106,109 @@ public final class DefaultReindexerNamespaceFactory implements ReindexerNamespac
 		Assert.notNull(mappingContext, "mappingContext cannot be null");
 		this.reindexer = reindexer;
 		this.mappingContext = mappingContext;
+		this.namespaces = new ConcurrentHashMap<>(Math.max(16, getNamespaceTypes().size()));
+	}
+
+	/**
+	 * Configure whether to open namespaces for all managed types on
+	 * {@link #afterPropertiesSet()}. Defaults to {@literal false}.
+	 * @param eagerInitialization {@literal true} to open namespaces eagerly
+	 * @see #openNamespaces()
+	 */
+	public void setEagerInitialization(boolean eagerInitialization) {
+		this.eagerInitialization = eagerInitialization;
+	}
+
+	/**
+	 * Configure the maximum number of namespaces that are opened concurrently by
+	 * {@link #openNamespaces()}. Defaults to 4.
+	 * @param initializationConcurrency the maximum number of namespaces to open
+	 * concurrently
+	 */
+	public void setInitializationConcurrency(int initializationConcurrency) {
+		Assert.isTrue(initializationConcurrency > 0, "initializationConcurrency must be greater than 0");
+		this.initializationConcurrency = initializationConcurrency;
+	}
+
+	/**
+	 * Configure the maximum number of entities kept in the {@link EntityNearCache} of a
+	 * namespace by its name, overrides
+	 * {@link org.springframework.data.reindexer.core.mapping.Namespace#nearCacheSize()}.
+	 * A size of {@code 0} disables the near-cache.
+	 * @param nearCacheSizes the near-cache sizes by namespace name
+	 * @since 1.7
+	 */
+	public void setNearCacheSizes(Map<String, Integer> nearCacheSizes) {
+		Assert.notNull(nearCacheSizes, "nearCacheSizes cannot be null");
+		this.nearCacheSizes = Map.copyOf(nearCacheSizes);
 	}
 
 	/**
-	 * Opens a {@link Namespace} or retrieves an existing one from the {@code cache}.
+	 * Configure the {@link EntityNearCacheListener} that is notified when the near-cache
+	 * of a namespace is created. Defaults to {@link EntityNearCacheListener#NOOP}.
+	 * @param nearCacheListener the {@link EntityNearCacheListener} to use
+	 * @since 1.7
+	 */
+	public void setNearCacheListener(EntityNearCacheListener nearCacheListener) {
+		Assert.notNull(nearCacheListener, "nearCacheListener cannot be null");
+		this.nearCacheListener = nearCacheListener;
+	}
+
+	@Override
+	public void afterPropertiesSet() {
+		if (this.eagerInitialization) {
+			openNamespaces();
+		}
+	}
+
+	/**
+	 * Opens namespaces for all managed types of the {@link ReindexerMappingContext} that
+	 * are annotated with {@link org.springframework.data.reindexer.core.mapping.Namespace}
+	 * in parallel, using at most {@link #setInitializationConcurrency(int)} threads.
+	 */
+	public void openNamespaces() {
+		List<Class<?>> types = getNamespaceTypes();
+		if (types.isEmpty()) {
+			return;
+		}
+		long start = System.nanoTime();
+		ExecutorService executor = Executors.newFixedThreadPool(Math.min(this.initializationConcurrency, types.size()),
+				new CustomizableThreadFactory("reindexer-namespace-"));
+		try {
+			CompletableFuture<?>[] futures = new CompletableFuture<?>[types.size()];
+			for (int i = 0; i < futures.length; i++) {
+				Class<?> type = types.get(i);
+				futures[i] = CompletableFuture.runAsync(() -> openNamespace(type), executor);
+			}
+			CompletableFuture.allOf(futures).join();
+		}
+		catch (CompletionException e) {
+			if (e.getCause() instanceof RuntimeException ex) {
+				throw ex;
+			}
+			throw e;
+		}
+		finally {
+			executor.shutdown();
+		}
+		if (LOGGER.isInfoEnabled()) {
+			LOGGER.info("Opened %d namespaces in %d ms".formatted(types.size(),
+					TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)));
+		}
+	}
+
+	private List<Class<?>> getNamespaceTypes() {
+		List<Class<?>> result = new ArrayList<>();
+		for (ReindexerPersistentEntity<?> entity : this.mappingContext.getPersistentEntities()) {
+			if (entity.isAnnotationPresent(org.springframework.data.reindexer.core.mapping.Namespace.class)) {
+				result.add(entity.getType());
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Opens a {@link Namespace} or retrieves an existing one from the registry.
 	 * <p>
 	 * A {@link Namespace} is wrapped in {@link TransactionalNamespace} that is aware of
 	 * the currently active transaction;
@@ -106,15 +221,34 @@ public final class DefaultReindexerNamespaceFactory implements ReindexerNamespac
 	@SuppressWarnings("unchecked")
 	@Override
 	public <T> Namespace<T> openNamespace(Class<T> domainType) {
-		return (Namespace<T>) this.cache.get(domainType);
+		return (Namespace<T>) this.namespaces.computeIfAbsent(domainType, this::doOpenNamespace);
 	}
 
 	private <T> TransactionalNamespace<T> doOpenNamespace(Class<T> type) {
+		long start = System.nanoTime();
 		ReindexerPersistentEntity<?> entity = this.mappingContext.getRequiredPersistentEntity(type);
 		ReindexerNamespace<T> namespace = (ReindexerNamespace<T>) this.reindexer.openNamespace(entity.getNamespace(),
 				entity.getNamespaceOptions(), type);
 		createMissingIndexesIfNeeded(namespace, entity);
-		return new TransactionalNamespace<>(namespace);
+		if (LOGGER.isDebugEnabled()) {
+			LOGGER.debug("Opened namespace: %s for type: %s in %d ms".formatted(entity.getNamespace(), type.getName(),
+					TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)));
+		}
+		return new TransactionalNamespace<>(namespace, createNearCache(entity));
+	}
+
+	private <T> @Nullable EntityNearCache<T> createNearCache(ReindexerPersistentEntity<?> entity) {
+		org.springframework.data.reindexer.core.mapping.Namespace annotation = entity
+			.findAnnotation(org.springframework.data.reindexer.core.mapping.Namespace.class);
+		int size = this.nearCacheSizes.getOrDefault(entity.getNamespace(),
+				(annotation != null) ? annotation.nearCacheSize() : 0);
+		if (size <= 0) {
+			return null;
+		}
+		EntityNearCache<T> nearCache = new EntityNearCache<>(size,
+				(item) -> entity.getIdentifierAccessor(item).getIdentifier());
+		this.nearCacheListener.onCreated(entity.getNamespace(), nearCache);
+		return nearCache;
 	}
 
 	private void createMissingIndexesIfNeeded(ReindexerNamespace<?> namespace, ReindexerPersistentEntity<?> entity) {
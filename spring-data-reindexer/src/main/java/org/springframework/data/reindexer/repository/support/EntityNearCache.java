@@ -0,0 +1,198 @@
+/*
+ * Copyright 2022-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.reindexer.repository.support;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.util.Assert;
+
+/**
+ * An in-process, size-bounded cache of entities by id that serves id lookups of a
+ * repository without a round trip to Reindexer. Entities are evicted in least recently
+ * used order once the maximum size is exceeded and invalidated on writes made through the
+ * owning {@link TransactionalNamespace}.
+ * <p>
+ * Cached entities are shared between callers and should be treated as read-only.
+ *
+ * @param <T> the domain type
+ * @author Evgeniy Cheban
+ * @since 1.7
+ */
+public final class EntityNearCache<T> {
+
+	private final int maxSize;
+
+	private final Function<T, @Nullable Object> idAccessor;
+
+	private final Map<Object, T> entities;
+
+	private final LongAdder hits = new LongAdder();
+
+	private final LongAdder misses = new LongAdder();
+
+	private final LongAdder evictions = new LongAdder();
+
+	private long version;
+
+	/**
+	 * Creates an instance.
+	 * @param maxSize the maximum number of entities to keep
+	 * @param idAccessor the {@link Function} that returns the id of an entity
+	 */
+	public EntityNearCache(int maxSize, Function<T, @Nullable Object> idAccessor) {
+		Assert.isTrue(maxSize > 0, "maxSize must be greater than 0");
+		Assert.notNull(idAccessor, "idAccessor cannot be null");
+		this.maxSize = maxSize;
+		this.idAccessor = idAccessor;
+		this.entities = new LinkedHashMap<>(16, 0.75f, true) {
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<Object, T> eldest) {
+				if (size() > EntityNearCache.this.maxSize) {
+					EntityNearCache.this.evictions.increment();
+					return true;
+				}
+				return false;
+			}
+
+		};
+	}
+
+	/**
+	 * Returns the cached entity with the given id.
+	 * @param id the id to use
+	 * @return the cached entity or {@literal null} if none is cached
+	 */
+	public @Nullable T get(Object id) {
+		T entity;
+		synchronized (this.entities) {
+			entity = this.entities.get(id);
+		}
+		if (entity != null) {
+			this.hits.increment();
+		}
+		else {
+			this.misses.increment();
+		}
+		return entity;
+	}
+
+	/**
+	 * Returns the current version of this cache that changes on every invalidation. Must
+	 * be obtained before reading the entities that are later {@link #put(Object, long)
+	 * put} into this cache.
+	 * @return the current version
+	 */
+	public long getVersion() {
+		synchronized (this.entities) {
+			return this.version;
+		}
+	}
+
+	/**
+	 * Caches the given entity unless this cache was invalidated since the given version
+	 * was obtained, in which case the entity may be stale.
+	 * @param entity the entity to cache
+	 * @param version the {@link #getVersion() version} obtained before the entity was
+	 * read
+	 */
+	public void put(T entity, long version) {
+		Object id = this.idAccessor.apply(entity);
+		if (id == null) {
+			return;
+		}
+		synchronized (this.entities) {
+			if (this.version == version) {
+				this.entities.put(id, entity);
+			}
+		}
+	}
+
+	/**
+	 * Invalidates the cached entity with the id of the given entity.
+	 * @param entity the entity to use
+	 */
+	public void evict(T entity) {
+		Object id = this.idAccessor.apply(entity);
+		synchronized (this.entities) {
+			this.version++;
+			if (id != null) {
+				this.entities.remove(id);
+			}
+			else {
+				this.entities.clear();
+			}
+		}
+	}
+
+	/**
+	 * Invalidates all cached entities.
+	 */
+	public void clear() {
+		synchronized (this.entities) {
+			this.version++;
+			this.entities.clear();
+		}
+	}
+
+	/**
+	 * Returns the number of cached entities.
+	 * @return the number of cached entities
+	 */
+	public int size() {
+		synchronized (this.entities) {
+			return this.entities.size();
+		}
+	}
+
+	/**
+	 * Returns the maximum number of cached entities.
+	 * @return the maximum number of cached entities
+	 */
+	public int getMaxSize() {
+		return this.maxSize;
+	}
+
+	/**
+	 * Returns the number of lookups that found a cached entity.
+	 * @return the number of hits
+	 */
+	public long getHitCount() {
+		return this.hits.sum();
+	}
+
+	/**
+	 * Returns the number of lookups that did not find a cached entity.
+	 * @return the number of misses
+	 */
+	public long getMissCount() {
+		return this.misses.sum();
+	}
+
+	/**
+	 * Returns the number of entities evicted because the maximum size was exceeded.
+	 * @return the number of evictions
+	 */
+	public long getEvictionCount() {
+		return this.evictions.sum();
+	}
+
+}
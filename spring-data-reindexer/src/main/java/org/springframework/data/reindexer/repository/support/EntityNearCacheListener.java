@@ -0,0 +1,42 @@
+/*
+ * Copyright 2022-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.reindexer.repository.support;
+
+/**
+ * Listener for the {@link EntityNearCache} instances created by
+ * {@link DefaultReindexerNamespaceFactory} when a namespace is opened, e.g., to record
+ * near-cache metrics.
+ *
+ * @author Evgeniy Cheban
+ * @since 1.7
+ */
+public interface EntityNearCacheListener {
+
+	/**
+	 * A no-op {@link EntityNearCacheListener}.
+	 */
+	EntityNearCacheListener NOOP = new EntityNearCacheListener() {
+	};
+
+	/**
+	 * Called when the near-cache of a namespace is created.
+	 * @param namespace the name of the namespace
+	 * @param nearCache the {@link EntityNearCache} to use
+	 */
+	default void onCreated(String namespace, EntityNearCache<?> nearCache) {
+	}
+
+}
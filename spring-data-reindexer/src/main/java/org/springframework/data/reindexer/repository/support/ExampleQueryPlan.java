@@ -0,0 +1,251 @@
+/*
+ * Copyright 2022-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.reindexer.repository.support;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.UnaryOperator;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.jspecify.annotations.Nullable;
+import ru.rt.restream.reindexer.Query;
+import ru.rt.restream.reindexer.Query.Condition;
+
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.data.domain.ExampleMatcher;
+import org.springframework.data.domain.ExampleMatcher.NullHandler;
+import org.springframework.data.domain.ExampleMatcher.PropertySpecifier;
+import org.springframework.data.domain.ExampleMatcher.StringMatcher;
+import org.springframework.data.reindexer.core.mapping.ReindexerMappingContext;
+import org.springframework.data.reindexer.core.mapping.ReindexerPersistentEntity;
+import org.springframework.data.reindexer.core.mapping.ReindexerPersistentProperty;
+import org.springframework.data.reindexer.repository.query.QueryParameterMapper;
+import org.springframework.data.util.Lazy;
+
+/**
+ * A compiled Query by Example plan for a probe type and an {@link ExampleMatcher}. The
+ * property paths, the ignored paths and the property specifiers are resolved once,
+ * therefore applying the plan only reads the probe values and appends the conditions.
+ * <p>
+ * For internal use only, as this contract is likely to change.
+ *
+ * @author Evgeniy Cheban
+ * @since 1.7
+ */
+final class ExampleQueryPlan {
+
+	private static final Log LOGGER = LogFactory.getLog(ExampleQueryPlan.class);
+
+	private final List<Criterion> criteria;
+
+	private final boolean includeNullValues;
+
+	private final boolean anyMatching;
+
+	private ExampleQueryPlan(List<Criterion> criteria, ExampleMatcher matcher) {
+		this.criteria = criteria;
+		this.includeNullValues = matcher.getNullHandler() == NullHandler.INCLUDE;
+		this.anyMatching = matcher.isAnyMatching();
+	}
+
+	/**
+	 * Compiles a plan for the given probe type and {@link ExampleMatcher}.
+	 * @param probeType the probe type to use
+	 * @param matcher the {@link ExampleMatcher} to use
+	 * @param mappingContext the {@link ReindexerMappingContext} to use
+	 * @param queryParameterMapper the {@link QueryParameterMapper} to use
+	 * @return the compiled {@link ExampleQueryPlan} to use
+	 */
+	static ExampleQueryPlan compile(Class<?> probeType, ExampleMatcher matcher, ReindexerMappingContext mappingContext,
+			QueryParameterMapper queryParameterMapper) {
+		return new ExampleQueryPlan(compileCriteria(mappingContext.getRequiredPersistentEntity(probeType), "", matcher,
+				mappingContext, queryParameterMapper), matcher);
+	}
+
+	private static List<Criterion> compileCriteria(ReindexerPersistentEntity<?> persistentEntity, String path,
+			ExampleMatcher matcher, ReindexerMappingContext mappingContext, QueryParameterMapper queryParameterMapper) {
+		List<Criterion> criteria = new ArrayList<>();
+		collectCriteria(persistentEntity, path, new ArrayList<>(), matcher, mappingContext, queryParameterMapper,
+				criteria);
+		return List.copyOf(criteria);
+	}
+
+	private static void collectCriteria(ReindexerPersistentEntity<?> persistentEntity, String path,
+			List<PropertyStep> parents, ExampleMatcher matcher, ReindexerMappingContext mappingContext,
+			QueryParameterMapper queryParameterMapper, List<Criterion> criteria) {
+		for (ReindexerPersistentProperty property : persistentEntity) {
+			if (property.isNamespaceReference() || property.isCollectionLike()) {
+				continue;
+			}
+			List<PropertyStep> steps = new ArrayList<>(parents);
+			steps.add(new PropertyStep(persistentEntity, property));
+			String propertyPath = path + property.getName();
+			if (property.isEntity()) {
+				if (isRecursive(steps, property)) {
+					// Compiled once a probe sets the property, as the depth depends on the probe.
+					ReindexerPersistentEntity<?> nestedEntity = mappingContext
+						.getRequiredPersistentEntity(property.getType());
+					criteria.add(new NestedCriterion(List.copyOf(steps), Lazy.of(() -> compileCriteria(nestedEntity,
+							propertyPath + ".", matcher, mappingContext, queryParameterMapper))));
+					continue;
+				}
+				collectCriteria(mappingContext.getRequiredPersistentEntity(property.getType()), propertyPath + ".",
+						steps, matcher, mappingContext, queryParameterMapper, criteria);
+			}
+			else if (!matcher.isIgnoredPath(propertyPath)) {
+				criteria.add(createCriterion(propertyPath, List.copyOf(steps), matcher, queryParameterMapper));
+			}
+		}
+	}
+
+	private static boolean isRecursive(List<PropertyStep> steps, ReindexerPersistentProperty property) {
+		for (PropertyStep step : steps) {
+			if (step.entity().getType() == property.getType()) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static PathCriterion createCriterion(String propertyPath, List<PropertyStep> steps,
+			ExampleMatcher matcher, QueryParameterMapper queryParameterMapper) {
+		PropertySpecifier propertySpecifier = matcher.getPropertySpecifiers().getForPath(propertyPath);
+		if (propertySpecifier == null) {
+			return new PathCriterion(propertyPath, steps, null, StringMatcher.DEFAULT, false,
+					queryParameterMapper.getParameterValueMapper(propertyPath));
+		}
+		StringMatcher stringMatcher = propertySpecifier.getStringMatcher();
+		if (stringMatcher == null) {
+			if (LOGGER.isTraceEnabled()) {
+				LOGGER.trace("No StringMatcher provided for property: " + propertyPath
+						+ " defaults to `StringMatcher.DEFAULT`");
+			}
+			stringMatcher = StringMatcher.DEFAULT;
+		}
+		Boolean ignoreCase = propertySpecifier.getIgnoreCase();
+		return new PathCriterion(propertyPath, steps, propertySpecifier, stringMatcher,
+				(ignoreCase != null) ? ignoreCase : matcher.isIgnoreCaseEnabled(), UnaryOperator.identity());
+	}
+
+	/**
+	 * Appends the conditions for the given probe to the {@link Query}.
+	 * @param criteria the {@link Query} to use
+	 * @param probe the probe to use
+	 * @param <T> the query type
+	 * @return the {@link Query} for further customizations
+	 */
+	<T> Query<T> apply(Query<T> criteria, Object probe) {
+		apply(this.criteria, criteria, probe);
+		return criteria;
+	}
+
+	private void apply(List<Criterion> criteria, Query<?> query, Object owner) {
+		for (Criterion criterion : criteria) {
+			if (criterion instanceof NestedCriterion nestedCriterion) {
+				Object value = PropertyStep.getValue(nestedCriterion.steps(), owner);
+				if (value != null) {
+					apply(nestedCriterion.criteria().get(), query, value);
+				}
+			}
+			else if (((PathCriterion) criterion).apply(query, owner, this.includeNullValues) && this.anyMatching) {
+				query.or();
+			}
+		}
+	}
+
+	private sealed interface Criterion permits PathCriterion, NestedCriterion {
+
+	}
+
+	private record PropertyStep(ReindexerPersistentEntity<?> entity, ReindexerPersistentProperty property) {
+
+		@Nullable Object getValue(Object owner) {
+			return this.entity.getPropertyAccessor(owner).getProperty(this.property);
+		}
+
+		static @Nullable Object getValue(List<PropertyStep> steps, Object owner) {
+			Object value = owner;
+			for (PropertyStep step : steps) {
+				value = step.getValue(value);
+				if (value == null) {
+					return null;
+				}
+			}
+			return value;
+		}
+
+	}
+
+	/**
+	 * The criteria of an embedded entity of a type that encloses it, applied to the
+	 * embedded entity as long as it is set on the probe.
+	 */
+	private record NestedCriterion(List<PropertyStep> steps, Lazy<List<Criterion>> criteria) implements Criterion {
+
+	}
+
+	private record PathCriterion(String path, List<PropertyStep> steps, @Nullable PropertySpecifier specifier,
+			StringMatcher stringMatcher, boolean ignoreCase,
+			UnaryOperator<@Nullable Object> valueMapper) implements Criterion {
+
+		boolean apply(Query<?> criteria, Object probe, boolean includeNullValues) {
+			Object owner = probe;
+			int last = this.steps.size() - 1;
+			for (int i = 0; i < last; i++) {
+				owner = this.steps.get(i).getValue(owner);
+				if (owner == null) {
+					// Embedded entities that are not set on the probe are not matched.
+					return false;
+				}
+			}
+			Object propertyValue = this.steps.get(last).getValue(owner);
+			if (propertyValue == null && !includeNullValues) {
+				return false;
+			}
+			if (this.specifier == null) {
+				criteria.where(this.path, Condition.EQ,
+						(propertyValue != null) ? this.valueMapper.apply(propertyValue) : null);
+				return true;
+			}
+			Object value = this.specifier.transformValue(Optional.ofNullable(propertyValue)).orElse(null);
+			if (value instanceof String s) {
+				switch (this.stringMatcher) {
+					case DEFAULT, EXACT -> {
+						if (this.ignoreCase) {
+							criteria.like(this.path, s);
+						}
+						else {
+							criteria.where(this.path, Condition.EQ, s);
+						}
+					}
+					case STARTING -> criteria.like(this.path, s + "%");
+					case ENDING -> criteria.like(this.path, "%" + s);
+					case CONTAINING -> criteria.like(this.path, "%" + s + "%");
+					default -> throw new InvalidDataAccessApiUsageException(
+							"Unsupported StringMatcher: " + this.stringMatcher);
+				}
+			}
+			else {
+				criteria.where(this.path, Condition.EQ, value);
+			}
+			return true;
+		}
+
+	}
+
+}
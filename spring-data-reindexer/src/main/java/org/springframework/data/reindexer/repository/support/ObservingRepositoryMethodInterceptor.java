@@ -0,0 +1,107 @@
+/*
+ * Copyright 2022-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.reindexer.repository.support;
+
+import java.lang.reflect.Method;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+import io.micrometer.observation.ObservationRegistry;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Window;
+import org.springframework.data.reindexer.observability.ReindexerObservation;
+import org.springframework.data.reindexer.observability.ReindexerObservationContext;
+import org.springframework.data.repository.core.RepositoryInformation;
+import org.springframework.util.ClassUtils;
+
+/**
+ * A {@link MethodInterceptor} that observes the invocations of the CRUD methods of a
+ * repository with {@link ReindexerObservation#REPOSITORY_METHOD}. Query methods are
+ * observed by their queries.
+ *
+ * @author Evgeniy Cheban
+ * @since 1.7
+ */
+final class ObservingRepositoryMethodInterceptor implements MethodInterceptor {
+
+	private final ObservationRegistry registry;
+
+	private final String namespace;
+
+	private final RepositoryInformation repositoryInformation;
+
+	private final Map<Method, ReindexerObservationContext> contexts = new ConcurrentHashMap<>();
+
+	ObservingRepositoryMethodInterceptor(ObservationRegistry registry, String namespace,
+			RepositoryInformation repositoryInformation) {
+		this.registry = registry;
+		this.namespace = namespace;
+		this.repositoryInformation = repositoryInformation;
+	}
+
+	@Override
+	public @Nullable Object invoke(MethodInvocation invocation) throws Throwable {
+		Method method = invocation.getMethod();
+		if (!this.repositoryInformation.isBaseClassMethod(method)) {
+			return invocation.proceed();
+		}
+		ReindexerObservationContext context = this.contexts.computeIfAbsent(method, this::createContext).copy();
+		return ReindexerObservation.REPOSITORY_METHOD.observation(this.registry, context)
+			.observeChecked(invocation::proceed);
+	}
+
+	private ReindexerObservationContext createContext(Method method) {
+		return new ReindexerObservationContext(this.namespace,
+				this.repositoryInformation.getRepositoryInterface().getSimpleName() + "." + method.getName(), "crud",
+				getResultType(method.getReturnType()));
+	}
+
+	private static String getResultType(Class<?> returnType) {
+		if (returnType == void.class) {
+			return "none";
+		}
+		if (Page.class.isAssignableFrom(returnType)) {
+			return "page";
+		}
+		if (Slice.class.isAssignableFrom(returnType)) {
+			return "slice";
+		}
+		if (Window.class.isAssignableFrom(returnType)) {
+			return "window";
+		}
+		if (Stream.class.isAssignableFrom(returnType)) {
+			return "stream";
+		}
+		if (Iterator.class.isAssignableFrom(returnType)) {
+			return "iterator";
+		}
+		if (Iterable.class.isAssignableFrom(returnType)) {
+			return "collection";
+		}
+		if (ClassUtils.isPrimitiveOrWrapper(returnType)) {
+			return "value";
+		}
+		return "entity";
+	}
+
+}
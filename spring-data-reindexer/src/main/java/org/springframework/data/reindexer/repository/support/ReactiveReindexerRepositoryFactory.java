@@ -0,0 +1,143 @@
+/*
+ * Copyright 2022-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.reindexer.repository.support;
+
+import java.io.Serializable;
+import java.util.Optional;
+
+import org.jspecify.annotations.Nullable;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import org.springframework.context.ApplicationContext;
+import org.springframework.data.reindexer.core.convert.ReindexerConverter;
+import org.springframework.data.reindexer.core.mapping.ReindexerMappingContext;
+import org.springframework.data.reindexer.repository.ReactiveReindexerRepository;
+import org.springframework.data.reindexer.repository.query.ReactiveReindexerQuery;
+import org.springframework.data.reindexer.repository.query.ReindexerEntityInformation;
+import org.springframework.data.repository.core.EntityInformation;
+import org.springframework.data.repository.core.RepositoryInformation;
+import org.springframework.data.repository.core.RepositoryMetadata;
+import org.springframework.data.repository.core.support.ReactiveRepositoryFactorySupport;
+import org.springframework.data.repository.query.QueryLookupStrategy;
+import org.springframework.data.repository.query.ValueExpressionDelegate;
+import org.springframework.util.Assert;
+
+/**
+ * Factory to create {@link ReactiveReindexerRepository} instances. Query methods are
+ * resolved the same way as by {@link ReindexerRepositoryFactory} and adapted to reactive
+ * return types, running the blocking Reindexer calls on a {@link Scheduler}.
+ *
+ * @author Evgeniy Cheban
+ * @since 1.7
+ */
+public class ReactiveReindexerRepositoryFactory extends ReactiveRepositoryFactorySupport {
+
+	private final ReindexerRepositoryFactory delegate;
+
+	private final ReindexerMappingContext mappingContext;
+
+	private final ReindexerNamespaceFactory namespaceFactory;
+
+	private final ReindexerConverter reindexerConverter;
+
+	private Scheduler scheduler = Schedulers.boundedElastic();
+
+	private int batchSize = SimpleReindexerRepository.DEFAULT_BATCH_SIZE;
+
+	private boolean preserveIdOrder;
+
+	/**
+	 * Creates an instance.
+	 * @param mappingContext the {@link ReindexerMappingContext} to use
+	 * @param namespaceFactory the {@link ReindexerNamespaceFactory} to use
+	 * @param reindexerConverter the {@link ReindexerConverter} to use
+	 * @param ctx the {@link ApplicationContext} to use
+	 */
+	public ReactiveReindexerRepositoryFactory(ReindexerMappingContext mappingContext,
+			ReindexerNamespaceFactory namespaceFactory, ReindexerConverter reindexerConverter, ApplicationContext ctx) {
+		this.delegate = new ReindexerRepositoryFactory(mappingContext, namespaceFactory, reindexerConverter, ctx);
+		this.mappingContext = mappingContext;
+		this.namespaceFactory = namespaceFactory;
+		this.reindexerConverter = reindexerConverter;
+	}
+
+	/**
+	 * Sets the {@link Scheduler} to run the blocking Reindexer calls on. Defaults to
+	 * {@link Schedulers#boundedElastic()}.
+	 * @param scheduler the {@link Scheduler} to use
+	 */
+	public void setScheduler(Scheduler scheduler) {
+		Assert.notNull(scheduler, "scheduler cannot be null");
+		this.scheduler = scheduler;
+	}
+
+	/**
+	 * Sets the maximum number of entities that are written within a single Reindexer
+	 * transaction, read by a single query by {@code findAllById} and deleted by a single
+	 * query by {@code deleteAll} and {@code deleteAllById}.
+	 * @param batchSize the batch size to use
+	 */
+	public void setBatchSize(int batchSize) {
+		Assert.isTrue(batchSize > 0, "batchSize must be greater than 0");
+		this.batchSize = batchSize;
+	}
+
+	/**
+	 * Sets whether {@code findAllById} returns entities in the order of the given ids.
+	 * @param preserveIdOrder the preserve id order to use
+	 */
+	public void setPreserveIdOrder(boolean preserveIdOrder) {
+		this.preserveIdOrder = preserveIdOrder;
+	}
+
+	@Override
+	public <T, ID> ReindexerEntityInformation<T, ID> getEntityInformation(Class<T> domainClass) {
+		return this.delegate.getEntityInformation(domainClass);
+	}
+
+	@Override
+	protected RepositoryMetadata getRepositoryMetadata(Class<?> repositoryInterface) {
+		return this.delegate.getRepositoryMetadata(repositoryInterface);
+	}
+
+	@Override
+	protected Object getTargetRepository(RepositoryInformation metadata) {
+		EntityInformation<?, Serializable> entityInformation = getEntityInformation(metadata.getDomainType());
+		Object repository = getTargetRepositoryViaReflection(metadata, entityInformation, this.mappingContext,
+				this.namespaceFactory, this.reindexerConverter);
+		if (repository instanceof SimpleReactiveReindexerRepository<?, ?> simpleRepository) {
+			simpleRepository.setScheduler(this.scheduler);
+			simpleRepository.setBatchSize(this.batchSize);
+			simpleRepository.setPreserveIdOrder(this.preserveIdOrder);
+		}
+		return repository;
+	}
+
+	@Override
+	protected Class<?> getRepositoryBaseClass(RepositoryMetadata metadata) {
+		return SimpleReactiveReindexerRepository.class;
+	}
+
+	@Override
+	protected Optional<QueryLookupStrategy> getQueryLookupStrategy(QueryLookupStrategy.@Nullable Key key,
+			ValueExpressionDelegate valueExpressionDelegate) {
+		return this.delegate.getQueryLookupStrategy(key, valueExpressionDelegate)
+			.map((strategy) -> (method, metadata, factory, namedQueries) -> new ReactiveReindexerQuery(
+					strategy.resolveQuery(method, metadata, factory, namedQueries), this.scheduler));
+	}
+
+}
@@ -0,0 +1,159 @@
+/*
+ * Copyright 2022-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.reindexer.repository.support;
+
+import java.io.Serializable;
+
+import org.jspecify.annotations.Nullable;
+import reactor.core.scheduler.Scheduler;
+import ru.rt.restream.reindexer.Reindexer;
+
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.FactoryBean;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.ApplicationContextAware;
+import org.springframework.data.mapping.context.MappingContext;
+import org.springframework.data.reindexer.core.convert.ReindexerConverter;
+import org.springframework.data.reindexer.core.mapping.ReindexerMappingContext;
+import org.springframework.data.reindexer.repository.ReactiveReindexerRepository;
+import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+import org.springframework.data.repository.core.support.RepositoryFactorySupport;
+import org.springframework.util.Assert;
+
+/**
+ * A {@link FactoryBean} to create {@link ReactiveReindexerRepository} instances.
+ *
+ * @author Evgeniy Cheban
+ * @since 1.7
+ */
+public class ReactiveReindexerRepositoryFactoryBean<T extends Repository<S, ID>, S, ID extends Serializable>
+		extends RepositoryFactoryBeanSupport<T, S, ID> implements ApplicationContextAware {
+
+	private @Nullable Reindexer reindexer;
+
+	private @Nullable ReindexerMappingContext mappingContext;
+
+	private @Nullable ReindexerNamespaceFactory namespaceFactory;
+
+	private @Nullable ReindexerConverter reindexerConverter;
+
+	private @Nullable ApplicationContext ctx;
+
+	private @Nullable Scheduler scheduler;
+
+	private int batchSize = SimpleReindexerRepository.DEFAULT_BATCH_SIZE;
+
+	private boolean preserveIdOrder;
+
+	/**
+	 * Creates an instance.
+	 * @param repositoryInterface the repository interface to use
+	 */
+	public ReactiveReindexerRepositoryFactoryBean(Class<? extends T> repositoryInterface) {
+		super(repositoryInterface);
+	}
+
+	/**
+	 * Sets the {@link Reindexer}.
+	 * @param reindexer the {@link Reindexer} to use
+	 */
+	public void setReindexer(Reindexer reindexer) {
+		this.reindexer = reindexer;
+	}
+
+	/**
+	 * Sets the {@link ReindexerMappingContext}.
+	 * @param mappingContext the {@link ReindexerMappingContext} to use
+	 */
+	@Override
+	public void setMappingContext(MappingContext<?, ?> mappingContext) {
+		super.setMappingContext(mappingContext);
+		this.mappingContext = (ReindexerMappingContext) mappingContext;
+	}
+
+	/**
+	 * Sets the {@link ReindexerNamespaceFactory}.
+	 * @param namespaceFactory the {@link ReindexerNamespaceFactory} to use
+	 */
+	public void setNamespaceFactory(ReindexerNamespaceFactory namespaceFactory) {
+		this.namespaceFactory = namespaceFactory;
+	}
+
+	/**
+	 * Sets the {@link ReindexerConverter}.
+	 * @param reindexerConverter the {@link ReindexerConverter} to use
+	 */
+	public void setReindexerConverter(ReindexerConverter reindexerConverter) {
+		this.reindexerConverter = reindexerConverter;
+	}
+
+	/**
+	 * Sets the {@link Scheduler} to run the blocking Reindexer calls on. Defaults to
+	 * {@link reactor.core.scheduler.Schedulers#boundedElastic()}.
+	 * @param scheduler the {@link Scheduler} to use
+	 */
+	public void setScheduler(@Nullable Scheduler scheduler) {
+		this.scheduler = scheduler;
+	}
+
+	/**
+	 * Sets the maximum number of entities that are written within a single Reindexer
+	 * transaction, read by a single query by {@code findAllById} and deleted by a single
+	 * query by {@code deleteAll} and {@code deleteAllById}.
+	 * @param batchSize the batch size to use
+	 */
+	public void setBatchSize(int batchSize) {
+		this.batchSize = batchSize;
+	}
+
+	/**
+	 * Sets whether {@code findAllById} returns entities in the order of the given ids.
+	 * @param preserveIdOrder the preserve id order to use
+	 */
+	public void setPreserveIdOrder(boolean preserveIdOrder) {
+		this.preserveIdOrder = preserveIdOrder;
+	}
+
+	@Override
+	protected RepositoryFactorySupport createRepositoryFactory() {
+		Assert.notNull(this.mappingContext, "MappingContext cannot be null");
+		Assert.notNull(this.reindexerConverter, "ReindexerConverter cannot be null");
+		Assert.notNull(this.namespaceFactory, "ReindexerNamespaceFactory cannot be null");
+		Assert.notNull(this.ctx, "ApplicationContext cannot be null");
+		ReactiveReindexerRepositoryFactory factory = new ReactiveReindexerRepositoryFactory(this.mappingContext,
+				this.namespaceFactory, this.reindexerConverter, this.ctx);
+		if (this.scheduler != null) {
+			factory.setScheduler(this.scheduler);
+		}
+		factory.setBatchSize(this.batchSize);
+		factory.setPreserveIdOrder(this.preserveIdOrder);
+		return factory;
+	}
+
+	@Override
+	public void afterPropertiesSet() {
+		Assert.state(this.reindexer != null,
+				"Reindexer instance is not configured. Consider adding Reindexer @Bean to the ApplicationContext");
+		super.afterPropertiesSet();
+	}
+
+	@Override
+	public void setApplicationContext(ApplicationContext ctx) throws BeansException {
+		this.ctx = ctx;
+	}
+
+}
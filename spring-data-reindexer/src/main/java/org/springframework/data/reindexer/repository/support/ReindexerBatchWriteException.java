@@ -0,0 +1,65 @@
+/*
+ * Copyright 2022-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.reindexer.repository.support;
+
+import java.util.List;
+
+import org.springframework.dao.DataAccessException;
+
+/**
+ * Thrown when one or more chunks of a batched write could not be committed. Chunks are
+ * committed independently, so the entities of chunks that are not reported by
+ * {@link #getFailures()} have been written.
+ *
+ * @author Evgeniy Cheban
+ * @since 1.7
+ */
+public class ReindexerBatchWriteException extends DataAccessException {
+
+	private final List<ChunkFailure> failures;
+
+	/**
+	 * Creates an instance.
+	 * @param totalChunks the total number of chunks of the batched write
+	 * @param failures the failed chunks, must not be empty
+	 */
+	public ReindexerBatchWriteException(int totalChunks, List<ChunkFailure> failures) {
+		super("Failed to write %d of %d chunks".formatted(failures.size(), totalChunks), failures.get(0).cause());
+		this.failures = List.copyOf(failures);
+		for (int i = 1; i < failures.size(); i++) {
+			addSuppressed(failures.get(i).cause());
+		}
+	}
+
+	/**
+	 * Returns the failed chunks ordered by their index.
+	 * @return the failed chunks to use
+	 */
+	public List<ChunkFailure> getFailures() {
+		return this.failures;
+	}
+
+	/**
+	 * Describes a chunk that could not be written.
+	 *
+	 * @param index the index of the chunk within the batched write
+	 * @param entities the entities of the chunk, none of them have been written
+	 * @param cause the cause of the failure
+	 */
+	public record ChunkFailure(int index, List<?> entities, Throwable cause) {
+	}
+
+}
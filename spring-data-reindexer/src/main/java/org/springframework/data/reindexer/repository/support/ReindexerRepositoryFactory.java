@@ -17,22 +17,38 @@ package org.springframework.data.reindexer.repository.support;
 
 import java.io.Serializable;
 import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Executor;
 
+import io.micrometer.observation.ObservationRegistry;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.jspecify.annotations.Nullable;
+import ru.rt.restream.reindexer.Namespace;
 
 import org.springframework.context.ApplicationContext;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.data.projection.ProjectionFactory;
 import org.springframework.data.reindexer.core.convert.ReindexerConverter;
+import org.springframework.data.reindexer.core.mapping.NamespaceReference;
 import org.springframework.data.reindexer.core.mapping.ReindexerMappingContext;
 import org.springframework.data.reindexer.core.mapping.ReindexerPersistentEntity;
+import org.springframework.data.reindexer.core.mapping.ReindexerPersistentProperty;
 import org.springframework.data.reindexer.repository.ReindexerRepository;
+import org.springframework.data.reindexer.repository.query.CachingReindexerQuery;
+import org.springframework.data.reindexer.repository.query.FutureReindexerQuery;
+import org.springframework.data.reindexer.repository.query.ObservedReindexerQuery;
 import org.springframework.data.reindexer.repository.query.PartTreeReindexerQuery;
 import org.springframework.data.reindexer.repository.query.QueryParameterMapper;
 import org.springframework.data.reindexer.repository.query.ReindexerEntityInformation;
+import org.springframework.data.reindexer.repository.query.ReindexerQueryCacheListener;
 import org.springframework.data.reindexer.repository.query.ReindexerQueryMethod;
+import org.springframework.data.reindexer.repository.query.ReindexerQueryObserver;
+import org.springframework.data.reindexer.repository.query.ReindexerSlowQueryLog;
 import org.springframework.data.reindexer.repository.query.SimpleStringBasedReindexerQuery;
 import org.springframework.data.reindexer.repository.query.StringBasedReindexerQuery;
 import org.springframework.data.repository.Repository;
@@ -60,6 +76,8 @@ public class ReindexerRepositoryFactory extends RepositoryFactorySupport {
 	private static final boolean USE_VISITOR_BASED_QUERY = ClassUtils.isPresent("net.sf.jsqlparser.parser.CCJSqlParser",
 			ReindexerRepositoryFactory.class.getClassLoader());
 
+	private static final boolean VIRTUAL_THREADS_AVAILABLE = Runtime.version().feature() >= 21;
+
 	private final ReindexerMappingContext mappingContext;
 
 	private final ReindexerNamespaceFactory namespaceFactory;
@@ -68,6 +86,22 @@ public class ReindexerRepositoryFactory extends RepositoryFactorySupport {
 
 	private final ReindexerConverter reindexerConverter;
 
+	private int batchSize = SimpleReindexerRepository.DEFAULT_BATCH_SIZE;
+
+	private @Nullable Executor batchExecutor;
+
+	private boolean preserveIdOrder;
+
+	private @Nullable Executor queryExecutor;
+
+	private @Nullable Executor projectionExecutor;
+
+	private ReindexerQueryCacheListener queryCacheListener = ReindexerQueryCacheListener.NOOP;
+
+	private ObservationRegistry observationRegistry = ObservationRegistry.NOOP;
+
+	private @Nullable ReindexerSlowQueryLog slowQueryLog;
+
 	/**
 	 * Creates an instance.
 	 * @param mappingContext the {@link ReindexerMappingContext} to use
@@ -81,6 +115,139 @@ public class ReindexerRepositoryFactory extends RepositoryFactorySupport {
 		this.namespaceFactory = namespaceFactory;
 		this.reindexerConverter = reindexerConverter;
 		this.ctx = ctx;
+		addRepositoryProxyPostProcessor((proxyFactory, repositoryInformation) -> {
+			if (!this.observationRegistry.isNoop()) {
+				proxyFactory.addAdvice(new ObservingRepositoryMethodInterceptor(this.observationRegistry,
+						getNamespaceName(repositoryInformation.getDomainType()), repositoryInformation));
+			}
+		});
+	}
+
+	/**
+	 * Sets the maximum number of entities that are written within a single Reindexer
+	 * transaction by {@link SimpleReindexerRepository#saveAll(Iterable)}, read by a single
+	 * query by {@link SimpleReindexerRepository#findAllById(Iterable)} and deleted by a
+	 * single query by {@link SimpleReindexerRepository#deleteAll(Iterable)} and
+	 * {@link SimpleReindexerRepository#deleteAllById(Iterable)}.
+	 * @param batchSize the batch size to use
+	 * @since 1.7
+	 */
+	public void setBatchSize(int batchSize) {
+		Assert.isTrue(batchSize > 0, "batchSize must be greater than 0");
+		this.batchSize = batchSize;
+	}
+
+	/**
+	 * Sets the {@link Executor} to write the chunks of
+	 * {@link SimpleReindexerRepository#saveAll(Iterable)} and to read the chunks of
+	 * {@link SimpleReindexerRepository#findAllById(Iterable)} concurrently.
+	 * @param batchExecutor the {@link Executor} to use
+	 * @since 1.7
+	 */
+	public void setBatchExecutor(@Nullable Executor batchExecutor) {
+		this.batchExecutor = batchExecutor;
+	}
+
+	/**
+	 * Sets whether {@link SimpleReindexerRepository#findAllById(Iterable)} returns
+	 * entities in the order of the given ids.
+	 * @param preserveIdOrder the preserve id order to use
+	 * @since 1.7
+	 */
+	public void setPreserveIdOrder(boolean preserveIdOrder) {
+		this.preserveIdOrder = preserveIdOrder;
+	}
+
+	/**
+	 * Sets the {@link Executor} to run query methods that return
+	 * {@link java.util.concurrent.CompletableFuture} on. Defaults to an executor that
+	 * starts a virtual thread per query on Java 21 and later, and a platform thread per
+	 * query otherwise.
+	 * @param queryExecutor the {@link Executor} to use
+	 * @since 1.7
+	 */
+	public void setQueryExecutor(@Nullable Executor queryExecutor) {
+		this.queryExecutor = queryExecutor;
+	}
+
+	/**
+	 * Sets the {@link Executor} to project the results of
+	 * {@link org.springframework.data.reindexer.core.mapping.ParallelProjection} query
+	 * methods on. Defaults to a dedicated {@link java.util.concurrent.ForkJoinPool} shared
+	 * by all query methods. The results are projected on the calling thread while a
+	 * transaction is active.
+	 * @param projectionExecutor the {@link Executor} to use
+	 * @since 1.7
+	 */
+	public void setProjectionExecutor(@Nullable Executor projectionExecutor) {
+		this.projectionExecutor = projectionExecutor;
+	}
+
+	/**
+	 * Sets the {@link ReindexerQueryCacheListener} that is notified about hits, misses
+	 * and evictions of cached query results. Defaults to
+	 * {@link ReindexerQueryCacheListener#NOOP}.
+	 * @param queryCacheListener the {@link ReindexerQueryCacheListener} to use
+	 * @since 1.7
+	 */
+	public void setQueryCacheListener(ReindexerQueryCacheListener queryCacheListener) {
+		Assert.notNull(queryCacheListener, "queryCacheListener cannot be null");
+		this.queryCacheListener = queryCacheListener;
+	}
+
+	/**
+	 * Sets the {@link ObservationRegistry} to observe repository methods, the creation
+	 * and execution of queries and the projection of their results with. Defaults to
+	 * {@link ObservationRegistry#NOOP}.
+	 * @param observationRegistry the {@link ObservationRegistry} to use
+	 * @since 1.7
+	 */
+	public void setObservationRegistry(ObservationRegistry observationRegistry) {
+		Assert.notNull(observationRegistry, "observationRegistry cannot be null");
+		this.observationRegistry = observationRegistry;
+	}
+
+	/**
+	 * Sets the {@link ReindexerSlowQueryLog} to log the queries of repository methods that
+	 * take longer than its threshold with.
+	 * @param slowQueryLog the {@link ReindexerSlowQueryLog} to use
+	 * @since 1.7
+	 */
+	public void setSlowQueryLog(@Nullable ReindexerSlowQueryLog slowQueryLog) {
+		this.slowQueryLog = slowQueryLog;
+	}
+
+	private String getNamespaceName(Class<?> domainType) {
+		return this.mappingContext.getRequiredPersistentEntity(domainType).getNamespace();
+	}
+
+	private List<Namespace<?>> openQueriedNamespaces(Class<?> domainType) {
+		Set<Class<?>> types = new LinkedHashSet<>();
+		collectReferencedTypes(domainType, types);
+		List<Namespace<?>> namespaces = new ArrayList<>(types.size());
+		for (Class<?> type : types) {
+			namespaces.add(this.namespaceFactory.openNamespace(type));
+		}
+		return namespaces;
+	}
+
+	private void collectReferencedTypes(Class<?> domainType, Set<Class<?>> types) {
+		if (!types.add(domainType)) {
+			return;
+		}
+		ReindexerPersistentEntity<?> entity = this.mappingContext.getRequiredPersistentEntity(domainType);
+		for (ReindexerPersistentProperty property : entity.getPersistentProperties(NamespaceReference.class)) {
+			collectReferencedTypes(property.getActualType(), types);
+		}
+	}
+
+	private Executor getQueryExecutor() {
+		if (this.queryExecutor == null) {
+			SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("reindexer-query-");
+			executor.setVirtualThreads(VIRTUAL_THREADS_AVAILABLE);
+			this.queryExecutor = executor;
+		}
+		return this.queryExecutor;
 	}
 
 	@SuppressWarnings("unchecked")
@@ -102,8 +269,17 @@ public class ReindexerRepositoryFactory extends RepositoryFactorySupport {
 	@Override
 	protected Object getTargetRepository(RepositoryInformation metadata) {
 		EntityInformation<?, Serializable> entityInformation = getEntityInformation(metadata.getDomainType());
-		return getTargetRepositoryViaReflection(metadata, entityInformation, this.mappingContext, this.namespaceFactory,
-				this.reindexerConverter);
+		Object repository = getTargetRepositoryViaReflection(metadata, entityInformation, this.mappingContext,
+				this.namespaceFactory, this.reindexerConverter);
+		if (repository instanceof SimpleReindexerRepository<?, ?> simpleRepository) {
+			simpleRepository.setBatchSize(this.batchSize);
+			simpleRepository.setBatchExecutor(this.batchExecutor);
+			simpleRepository.setPreserveIdOrder(this.preserveIdOrder);
+			if (this.slowQueryLog != null) {
+				simpleRepository.setSlowQueryLog(this.slowQueryLog, metadata.getRepositoryInterface().getSimpleName());
+			}
+		}
+		return repository;
 	}
 
 	@Override
@@ -123,22 +299,49 @@ public class ReindexerRepositoryFactory extends RepositoryFactorySupport {
 		public RepositoryQuery resolveQuery(Method method, RepositoryMetadata metadata, ProjectionFactory factory,
 				NamedQueries namedQueries) {
 			ReindexerQueryMethod queryMethod = new ReindexerQueryMethod(method, metadata, factory);
+			ReindexerQueryObserver observer = ReindexerQueryObserver.create(
+					ReindexerRepositoryFactory.this.observationRegistry, getNamespaceName(metadata.getDomainType()),
+					metadata.getRepositoryInterface(), queryMethod);
+			RepositoryQuery query = createQuery(queryMethod, metadata, observer);
+			if (queryMethod.isCacheableQuery()) {
+				query = new CachingReindexerQuery(query, openQueriedNamespaces(metadata.getDomainType()),
+						ReindexerRepositoryFactory.this.queryCacheListener);
+			}
+			if (observer != ReindexerQueryObserver.NOOP) {
+				query = new ObservedReindexerQuery(query, observer);
+			}
+			if (queryMethod.isFutureQuery()) {
+				return new FutureReindexerQuery(query, method,
+						ReindexerRepositoryFactory.this.namespaceFactory.openNamespace(metadata.getDomainType()),
+						getQueryExecutor());
+			}
+			return query;
+		}
+
+		private RepositoryQuery createQuery(ReindexerQueryMethod queryMethod, RepositoryMetadata metadata,
+				ReindexerQueryObserver observer) {
 			ReindexerEntityInformation<?, ?> entityInformation = getEntityInformation(metadata.getDomainType());
+			ReindexerSlowQueryLog slowQueryLog = ReindexerRepositoryFactory.this.slowQueryLog;
+			String methodName = metadata.getRepositoryInterface().getSimpleName() + "." + queryMethod.getName();
 			if (queryMethod.hasQueryAnnotation()) {
 				QueryMethodValueEvaluationContextAccessor accessor = new QueryMethodValueEvaluationContextAccessor(
 						ReindexerRepositoryFactory.this.ctx);
 				// Use lightweight implementation when nativeQuery = true.
 				if (queryMethod.isNativeQuery()) {
-					return new SimpleStringBasedReindexerQuery(queryMethod,
-							ReindexerRepositoryFactory.this.reindexerConverter,
-							ReindexerRepositoryFactory.this.namespaceFactory, accessor);
+					return createSimpleStringBasedQuery(queryMethod, accessor, observer, methodName);
 				}
 				// Use visitor-based implementation when JSQLParser is on the classpath.
 				if (USE_VISITOR_BASED_QUERY) {
-					return new StringBasedReindexerQuery(queryMethod,
+					StringBasedReindexerQuery query = new StringBasedReindexerQuery(queryMethod,
 							ReindexerRepositoryFactory.this.reindexerConverter,
 							ReindexerRepositoryFactory.this.mappingContext,
 							ReindexerRepositoryFactory.this.namespaceFactory, accessor);
+					query.setQueryObserver(observer);
+					query.setProjectionExecutor(ReindexerRepositoryFactory.this.projectionExecutor);
+					if (slowQueryLog != null) {
+						query.setSlowQueryLog(slowQueryLog, methodName);
+					}
+					return query;
 				}
 				// Fallbacks to a lightweight implementation.
 				if (LOG.isWarnEnabled()) {
@@ -148,15 +351,33 @@ public class ReindexerRepositoryFactory extends RepositoryFactorySupport {
 							Add com.github.jsqlparser:jsqlparser or set `nativeQuery = true` on the query method."""
 						.formatted(SimpleStringBasedReindexerQuery.class.getName(), queryMethod));
 				}
-				return new SimpleStringBasedReindexerQuery(queryMethod,
-						ReindexerRepositoryFactory.this.reindexerConverter,
-						ReindexerRepositoryFactory.this.namespaceFactory, accessor);
+				return createSimpleStringBasedQuery(queryMethod, accessor, observer, methodName);
 			}
 			QueryParameterMapper queryParameterMapper = new QueryParameterMapper(metadata.getDomainType(),
 					ReindexerRepositoryFactory.this.mappingContext, ReindexerRepositoryFactory.this.reindexerConverter);
-			return new PartTreeReindexerQuery(queryMethod, entityInformation,
+			PartTreeReindexerQuery query = new PartTreeReindexerQuery(queryMethod, entityInformation,
 					ReindexerRepositoryFactory.this.mappingContext, ReindexerRepositoryFactory.this.namespaceFactory,
 					queryParameterMapper, ReindexerRepositoryFactory.this.reindexerConverter);
+			query.setQueryObserver(observer);
+			query.setProjectionExecutor(ReindexerRepositoryFactory.this.projectionExecutor);
+			if (slowQueryLog != null) {
+				query.setSlowQueryLog(slowQueryLog, methodName);
+			}
+			return query;
+		}
+
+		private RepositoryQuery createSimpleStringBasedQuery(ReindexerQueryMethod queryMethod,
+				QueryMethodValueEvaluationContextAccessor accessor, ReindexerQueryObserver observer,
+				String methodName) {
+			SimpleStringBasedReindexerQuery query = new SimpleStringBasedReindexerQuery(queryMethod,
+					ReindexerRepositoryFactory.this.reindexerConverter,
+					ReindexerRepositoryFactory.this.namespaceFactory, accessor);
+			query.setQueryObserver(observer);
+			query.setProjectionExecutor(ReindexerRepositoryFactory.this.projectionExecutor);
+			if (ReindexerRepositoryFactory.this.slowQueryLog != null) {
+				query.setSlowQueryLog(ReindexerRepositoryFactory.this.slowQueryLog, methodName);
+			}
+			return query;
 		}
 
 	}
@@ -16,7 +16,9 @@
 package org.springframework.data.reindexer.repository.support;
 
 import java.io.Serializable;
+import java.util.concurrent.Executor;
 
+import io.micrometer.observation.ObservationRegistry;
 import org.jspecify.annotations.Nullable;
 import ru.rt.restream.reindexer.Reindexer;
 
@@ -28,6 +30,8 @@ import org.springframework.data.mapping.context.MappingContext;
 import org.springframework.data.reindexer.core.convert.ReindexerConverter;
 import org.springframework.data.reindexer.core.mapping.ReindexerMappingContext;
 import org.springframework.data.reindexer.repository.ReindexerRepository;
+import org.springframework.data.reindexer.repository.query.ReindexerQueryCacheListener;
+import org.springframework.data.reindexer.repository.query.ReindexerSlowQueryLog;
 import org.springframework.data.repository.Repository;
 import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
 import org.springframework.data.repository.core.support.RepositoryFactorySupport;
@@ -51,6 +55,22 @@ public class ReindexerRepositoryFactoryBean<T extends Repository<S, ID>, S, ID e
 
 	private @Nullable ApplicationContext ctx;
 
+	private int batchSize = SimpleReindexerRepository.DEFAULT_BATCH_SIZE;
+
+	private @Nullable Executor batchExecutor;
+
+	private boolean preserveIdOrder;
+
+	private @Nullable Executor queryExecutor;
+
+	private @Nullable Executor projectionExecutor;
+
+	private @Nullable ReindexerQueryCacheListener queryCacheListener;
+
+	private @Nullable ObservationRegistry observationRegistry;
+
+	private @Nullable ReindexerSlowQueryLog slowQueryLog;
+
 	/**
 	 * Creates an instance.
 	 * @param repositoryInterface the repository interface to use
@@ -95,14 +115,114 @@ public class ReindexerRepositoryFactoryBean<T extends Repository<S, ID>, S, ID e
 		this.reindexerConverter = reindexerConverter;
 	}
 
+	/**
+	 * Sets the maximum number of entities that are written within a single Reindexer
+	 * transaction by {@code saveAll}, read by a single query by {@code findAllById} and
+	 * deleted by a single query by {@code deleteAll} and {@code deleteAllById}.
+	 * @param batchSize the batch size to use
+	 * @since 1.7
+	 */
+	public void setBatchSize(int batchSize) {
+		this.batchSize = batchSize;
+	}
+
+	/**
+	 * Sets the {@link Executor} to write the chunks of {@code saveAll} and to read the
+	 * chunks of {@code findAllById} concurrently.
+	 * @param batchExecutor the {@link Executor} to use
+	 * @since 1.7
+	 */
+	public void setBatchExecutor(@Nullable Executor batchExecutor) {
+		this.batchExecutor = batchExecutor;
+	}
+
+	/**
+	 * Sets whether {@code findAllById} returns entities in the order of the given ids.
+	 * @param preserveIdOrder the preserve id order to use
+	 * @since 1.7
+	 */
+	public void setPreserveIdOrder(boolean preserveIdOrder) {
+		this.preserveIdOrder = preserveIdOrder;
+	}
+
+	/**
+	 * Sets the {@link Executor} to run query methods that return
+	 * {@link java.util.concurrent.CompletableFuture} on.
+	 * @param queryExecutor the {@link Executor} to use
+	 * @since 1.7
+	 */
+	public void setQueryExecutor(@Nullable Executor queryExecutor) {
+		this.queryExecutor = queryExecutor;
+	}
+
+	/**
+	 * Sets the {@link Executor} to project the results of
+	 * {@link org.springframework.data.reindexer.core.mapping.ParallelProjection} query
+	 * methods on.
+	 * @param projectionExecutor the {@link Executor} to use
+	 * @since 1.7
+	 */
+	public void setProjectionExecutor(@Nullable Executor projectionExecutor) {
+		this.projectionExecutor = projectionExecutor;
+	}
+
+	/**
+	 * Sets the {@link ReindexerQueryCacheListener} that is notified about hits, misses
+	 * and evictions of cached query results. Defaults to a unique
+	 * {@link ReindexerQueryCacheListener} bean if available.
+	 * @param queryCacheListener the {@link ReindexerQueryCacheListener} to use
+	 * @since 1.7
+	 */
+	public void setQueryCacheListener(@Nullable ReindexerQueryCacheListener queryCacheListener) {
+		this.queryCacheListener = queryCacheListener;
+	}
+
+	/**
+	 * Sets the {@link ObservationRegistry} to observe repository methods with. Defaults
+	 * to the unique {@link ObservationRegistry} bean if available.
+	 * @param observationRegistry the {@link ObservationRegistry} to use
+	 * @since 1.7
+	 */
+	public void setObservationRegistry(@Nullable ObservationRegistry observationRegistry) {
+		this.observationRegistry = observationRegistry;
+	}
+
+	/**
+	 * Sets the {@link ReindexerSlowQueryLog} to log slow queries of repository methods
+	 * with. Defaults to the unique {@link ReindexerSlowQueryLog} bean if available.
+	 * @param slowQueryLog the {@link ReindexerSlowQueryLog} to use
+	 * @since 1.7
+	 */
+	public void setSlowQueryLog(@Nullable ReindexerSlowQueryLog slowQueryLog) {
+		this.slowQueryLog = slowQueryLog;
+	}
+
 	@Override
 	protected RepositoryFactorySupport createRepositoryFactory() {
 		Assert.notNull(this.mappingContext, "MappingContext cannot be null");
 		Assert.notNull(this.reindexerConverter, "ReindexerConverter cannot be null");
 		Assert.notNull(this.namespaceFactory, "ReindexerNamespaceFactory cannot be null");
 		Assert.notNull(this.ctx, "ApplicationContext cannot be null");
-		return new ReindexerRepositoryFactory(this.mappingContext, this.namespaceFactory, this.reindexerConverter,
-				this.ctx);
+		ReindexerRepositoryFactory factory = new ReindexerRepositoryFactory(this.mappingContext, this.namespaceFactory,
+				this.reindexerConverter, this.ctx);
+		factory.setBatchSize(this.batchSize);
+		factory.setBatchExecutor(this.batchExecutor);
+		factory.setPreserveIdOrder(this.preserveIdOrder);
+		factory.setQueryExecutor(this.queryExecutor);
+		factory.setProjectionExecutor(this.projectionExecutor);
+		ReindexerQueryCacheListener queryCacheListener = (this.queryCacheListener != null) ? this.queryCacheListener
+				: this.ctx.getBeanProvider(ReindexerQueryCacheListener.class).getIfUnique();
+		if (queryCacheListener != null) {
+			factory.setQueryCacheListener(queryCacheListener);
+		}
+		ObservationRegistry observationRegistry = (this.observationRegistry != null) ? this.observationRegistry
+				: this.ctx.getBeanProvider(ObservationRegistry.class).getIfUnique();
+		if (observationRegistry != null) {
+			factory.setObservationRegistry(observationRegistry);
+		}
+		factory.setSlowQueryLog((this.slowQueryLog != null) ? this.slowQueryLog
+				: this.ctx.getBeanProvider(ReindexerSlowQueryLog.class).getIfUnique());
+		return factory;
 	}
 
 	@Override
@@ -0,0 +1,242 @@
+/*
+ * Copyright 2022-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.reindexer.repository.support;
+
+import java.util.concurrent.Callable;
+
+import org.jspecify.annotations.Nullable;
+import org.reactivestreams.Publisher;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+import ru.rt.restream.reindexer.Query;
+import ru.rt.restream.reindexer.ResultIterator;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.data.reindexer.core.convert.NamespaceReferenceBatches;
+import org.springframework.data.reindexer.core.convert.ReindexerConverter;
+import org.springframework.data.reindexer.core.mapping.ReindexerMappingContext;
+import org.springframework.data.reindexer.repository.ReactiveReindexerRepository;
+import org.springframework.data.reindexer.repository.query.ReactiveReindexerQueryExecutions;
+import org.springframework.data.reindexer.repository.query.ReindexerEntityInformation;
+import org.springframework.util.Assert;
+
+/**
+ * Reactive repository base implementation for Reindexer. Delegates to a
+ * {@link SimpleReindexerRepository} and runs its blocking calls on a {@link Scheduler}.
+ * Since transactions are bound to a thread, the reactive operations do not participate
+ * in them.
+ *
+ * @author Evgeniy Cheban
+ * @since 1.7
+ */
+public class SimpleReactiveReindexerRepository<T, ID> implements ReactiveReindexerRepository<T, ID> {
+
+	private final ReindexerEntityInformation<T, ID> entityInformation;
+
+	private final ReindexerConverter reindexerConverter;
+
+	private final SimpleReindexerRepository<T, ID> delegate;
+
+	private Scheduler scheduler = Schedulers.boundedElastic();
+
+	private int batchSize = SimpleReindexerRepository.DEFAULT_BATCH_SIZE;
+
+	/**
+	 * Creates an instance.
+	 * @param entityInformation the {@link ReindexerEntityInformation} to use
+	 * @param mappingContext the {@link ReindexerMappingContext} to use
+	 * @param namespaceFactory the {@link ReindexerNamespaceFactory} to use
+	 * @param reindexerConverter the {@link ReindexerConverter} to use
+	 */
+	public SimpleReactiveReindexerRepository(ReindexerEntityInformation<T, ID> entityInformation,
+			ReindexerMappingContext mappingContext, ReindexerNamespaceFactory namespaceFactory,
+			ReindexerConverter reindexerConverter) {
+		this.entityInformation = entityInformation;
+		this.reindexerConverter = reindexerConverter;
+		this.delegate = new SimpleReindexerRepository<>(entityInformation, mappingContext, namespaceFactory,
+				reindexerConverter);
+	}
+
+	/**
+	 * Sets the {@link Scheduler} to run the blocking Reindexer calls on. Defaults to
+	 * {@link Schedulers#boundedElastic()}, which runs on virtual threads when Reactor is
+	 * configured to do so on a JDK that supports them.
+	 * @param scheduler the {@link Scheduler} to use
+	 */
+	public void setScheduler(Scheduler scheduler) {
+		Assert.notNull(scheduler, "scheduler cannot be null");
+		this.scheduler = scheduler;
+	}
+
+	/**
+	 * Sets the maximum number of entities that are written within a single Reindexer
+	 * transaction by {@link #saveAll(Iterable)} and {@link #saveAll(Publisher)}, read by a
+	 * single query by {@link #findAllById(Iterable)} and deleted by a single query by
+	 * {@link #deleteAll(Iterable)} and {@link #deleteAllById(Iterable)}. Defaults to
+	 * {@code 1000}.
+	 * @param batchSize the batch size to use
+	 */
+	public void setBatchSize(int batchSize) {
+		this.delegate.setBatchSize(batchSize);
+		this.batchSize = batchSize;
+	}
+
+	/**
+	 * Sets whether {@link #findAllById(Iterable)} returns entities in the order of the
+	 * given ids. Defaults to {@literal false}.
+	 * @param preserveIdOrder the preserve id order to use
+	 */
+	public void setPreserveIdOrder(boolean preserveIdOrder) {
+		this.delegate.setPreserveIdOrder(preserveIdOrder);
+	}
+
+	@Override
+	public <S extends T> Mono<S> save(S entity) {
+		Assert.notNull(entity, "Entity must not be null");
+		return mono(() -> this.delegate.save(entity));
+	}
+
+	@Override
+	public <S extends T> Flux<S> saveAll(Iterable<S> entities) {
+		Assert.notNull(entities, "Entities must not be null");
+		return mono(() -> this.delegate.saveAll(entities)).flatMapIterable((saved) -> saved);
+	}
+
+	@Override
+	public <S extends T> Flux<S> saveAll(Publisher<S> entityStream) {
+		Assert.notNull(entityStream, "Entity stream must not be null");
+		return Flux.from(entityStream).buffer(this.batchSize).concatMap(this::saveAll);
+	}
+
+	@Override
+	public Mono<T> findById(ID id) {
+		Assert.notNull(id, "Id must not be null");
+		return mono(() -> this.delegate.findById(id).orElse(null));
+	}
+
+	@Override
+	public Mono<T> findById(Publisher<ID> id) {
+		Assert.notNull(id, "Id must not be null");
+		return Mono.from(id).flatMap(this::findById);
+	}
+
+	@Override
+	public Mono<Boolean> existsById(ID id) {
+		Assert.notNull(id, "Id must not be null");
+		return mono(() -> this.delegate.existsById(id));
+	}
+
+	@Override
+	public Mono<Boolean> existsById(Publisher<ID> id) {
+		Assert.notNull(id, "Id must not be null");
+		return Mono.from(id).flatMap(this::existsById);
+	}
+
+	@Override
+	public Flux<T> findAll() {
+		return findAll(Sort.unsorted());
+	}
+
+	@Override
+	public Flux<T> findAll(Sort sort) {
+		Assert.notNull(sort, "Sort must not be null");
+		Class<T> domainType = this.entityInformation.getJavaType();
+		return Flux.defer(() -> {
+			NamespaceReferenceBatches batches = new NamespaceReferenceBatches();
+			return ReactiveReindexerQueryExecutions.toFlux(() -> iterate(sort), this.scheduler)
+				.map((entity) -> this.reindexerConverter.read(domainType, entity, batches));
+		});
+	}
+
+	@SuppressWarnings("unchecked")
+	private ResultIterator<@Nullable T> iterate(Sort sort) {
+		return (ResultIterator<@Nullable T>) this.delegate.iterate(sort);
+	}
+
+	@Override
+	public Flux<T> findAllById(Iterable<ID> ids) {
+		Assert.notNull(ids, "Ids must not be null");
+		return mono(() -> this.delegate.findAllById(ids)).flatMapIterable((entities) -> entities);
+	}
+
+	@Override
+	public Flux<T> findAllById(Publisher<ID> idStream) {
+		Assert.notNull(idStream, "Id stream must not be null");
+		return Flux.from(idStream).buffer(this.batchSize).concatMap(this::findAllById);
+	}
+
+	@Override
+	public Mono<Long> count() {
+		return mono(this.delegate::count);
+	}
+
+	@Override
+	public Mono<Void> deleteById(ID id) {
+		Assert.notNull(id, "Id must not be null");
+		return run(() -> this.delegate.deleteById(id));
+	}
+
+	@Override
+	public Mono<Void> deleteById(Publisher<ID> id) {
+		Assert.notNull(id, "Id must not be null");
+		return Mono.from(id).flatMap(this::deleteById);
+	}
+
+	@Override
+	public Mono<Void> delete(T entity) {
+		Assert.notNull(entity, "Entity must not be null");
+		return run(() -> this.delegate.delete(entity));
+	}
+
+	@Override
+	public Mono<Void> deleteAllById(Iterable<? extends ID> ids) {
+		Assert.notNull(ids, "Ids must not be null");
+		return run(() -> this.delegate.deleteAllById(ids));
+	}
+
+	@Override
+	public Mono<Void> deleteAll(Iterable<? extends T> entities) {
+		Assert.notNull(entities, "Entities must not be null");
+		return run(() -> this.delegate.deleteAll(entities));
+	}
+
+	@Override
+	public Mono<Void> deleteAll(Publisher<? extends T> entityStream) {
+		Assert.notNull(entityStream, "Entity stream must not be null");
+		return Flux.from(entityStream).buffer(this.batchSize).concatMap(this::deleteAll).then();
+	}
+
+	@Override
+	public Mono<Void> deleteAll() {
+		return run(this.delegate::deleteAll);
+	}
+
+	@Override
+	public Query<T> query() {
+		return this.delegate.query();
+	}
+
+	private <R> Mono<R> mono(Callable<@Nullable R> callable) {
+		return ReactiveReindexerQueryExecutions.toMono(callable, this.scheduler);
+	}
+
+	private Mono<Void> run(Runnable runnable) {
+		return Mono.<Void>fromRunnable(runnable).subscribeOn(this.scheduler);
+	}
+
+}
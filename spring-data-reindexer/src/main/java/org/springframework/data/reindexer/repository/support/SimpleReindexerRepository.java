@@ -19,10 +19,16 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Stream;
 
 import org.apache.commons.logging.Log;
@@ -32,34 +38,36 @@ import ru.rt.restream.reindexer.Namespace;
 import ru.rt.restream.reindexer.Query;
 import ru.rt.restream.reindexer.Query.Condition;
 import ru.rt.restream.reindexer.ResultIterator;
-import ru.rt.restream.reindexer.util.BeanPropertyUtils;
+import ru.rt.restream.reindexer.Transaction;
 
-import org.springframework.dao.InvalidDataAccessApiUsageException;
 import org.springframework.data.domain.Example;
 import org.springframework.data.domain.ExampleMatcher;
-import org.springframework.data.domain.ExampleMatcher.NullHandler;
-import org.springframework.data.domain.ExampleMatcher.PropertySpecifier;
-import org.springframework.data.domain.ExampleMatcher.PropertySpecifiers;
-import org.springframework.data.domain.ExampleMatcher.StringMatcher;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.domain.Sort.Order;
+import org.springframework.data.domain.Window;
 import org.springframework.data.projection.EntityProjection;
+import org.springframework.data.reindexer.core.convert.NamespaceReferenceBatches;
 import org.springframework.data.reindexer.core.convert.ReindexerConverter;
 import org.springframework.data.reindexer.core.mapping.ReindexerMappingContext;
-import org.springframework.data.reindexer.core.mapping.ReindexerPersistentEntity;
-import org.springframework.data.reindexer.core.mapping.ReindexerPersistentProperty;
 import org.springframework.data.reindexer.repository.ReindexerRepository;
 import org.springframework.data.reindexer.repository.query.QueryParameterMapper;
 import org.springframework.data.reindexer.repository.query.ReindexerEntityInformation;
+import org.springframework.data.reindexer.repository.query.ReindexerSlowQueryLog;
+import org.springframework.data.reindexer.repository.support.ReindexerBatchWriteException.ChunkFailure;
 import org.springframework.data.reindexer.repository.util.PageableUtils;
 import org.springframework.data.reindexer.repository.util.QueryUtils;
+import org.springframework.data.reindexer.repository.util.ScrollUtils;
 import org.springframework.data.repository.query.FluentQuery;
 import org.springframework.data.repository.query.FluentQuery.FetchableFluentQuery;
 import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.util.Assert;
+import org.springframework.util.CollectionUtils;
+import org.springframework.util.ConcurrentLruCache;
 
 /**
  * Repository base implementation for Reindexer.
@@ -71,6 +79,10 @@ public class SimpleReindexerRepository<T, ID> implements ReindexerRepository<T,
 
 	private static final Log LOGGER = LogFactory.getLog(SimpleReindexerRepository.class);
 
+	private static final Object[] NO_PARAMETERS = new Object[0];
+
+	static final int DEFAULT_BATCH_SIZE = 1000;
+
 	private final ReindexerEntityInformation<T, ID> entityInformation;
 
 	private final ReindexerMappingContext mappingContext;
@@ -83,6 +95,20 @@ public class SimpleReindexerRepository<T, ID> implements ReindexerRepository<T,
 
 	private final QueryParameterMapper queryParameterMapper;
 
+	private final ConcurrentLruCache<ExamplePlanKey, ExampleQueryPlan> examplePlans;
+
+	private final @Nullable EntityNearCache<T> nearCache;
+
+	private int batchSize = DEFAULT_BATCH_SIZE;
+
+	private @Nullable Executor batchExecutor;
+
+	private boolean preserveIdOrder;
+
+	private @Nullable ReindexerSlowQueryLog slowQueryLog;
+
+	private String repositoryName = "";
+
 	/**
 	 * Creates an instance.
 	 * @param entityInformation the {@link ReindexerEntityInformation} to use
@@ -100,6 +126,58 @@ public class SimpleReindexerRepository<T, ID> implements ReindexerRepository<T,
 		this.namespace = namespaceFactory.openNamespace(entityInformation.getJavaType());
 		this.queryParameterMapper = new QueryParameterMapper(entityInformation.getJavaType(), mappingContext,
 				reindexerConverter);
+		this.examplePlans = new ConcurrentLruCache<>(256, this::compileExamplePlan);
+		this.nearCache = (this.namespace instanceof TransactionalNamespace<T> transactionalNamespace)
+				? transactionalNamespace.getNearCache() : null;
+	}
+
+	/**
+	 * Sets the maximum number of entities that are written within a single Reindexer
+	 * transaction by {@link #saveAll(Iterable)}, read by a single query by
+	 * {@link #findAllById(Iterable)} and deleted by a single query by
+	 * {@link #deleteAll(Iterable)} and {@link #deleteAllById(Iterable)}. Defaults to
+	 * {@code 1000}.
+	 * @param batchSize the batch size to use
+	 * @since 1.7
+	 */
+	public void setBatchSize(int batchSize) {
+		Assert.isTrue(batchSize > 0, "batchSize must be greater than 0");
+		this.batchSize = batchSize;
+	}
+
+	/**
+	 * Sets the {@link Executor} to write the chunks of {@link #saveAll(Iterable)} and to
+	 * read the chunks of {@link #findAllById(Iterable)} concurrently. Chunks are
+	 * processed sequentially on the calling thread by default.
+	 * @param batchExecutor the {@link Executor} to use
+	 * @since 1.7
+	 */
+	public void setBatchExecutor(@Nullable Executor batchExecutor) {
+		this.batchExecutor = batchExecutor;
+	}
+
+	/**
+	 * Sets whether {@link #findAllById(Iterable)} returns entities in the order of the
+	 * given ids. Defaults to {@literal false}.
+	 * @param preserveIdOrder the preserve id order to use
+	 * @since 1.7
+	 */
+	public void setPreserveIdOrder(boolean preserveIdOrder) {
+		this.preserveIdOrder = preserveIdOrder;
+	}
+
+	/**
+	 * Sets the {@link ReindexerSlowQueryLog} to log the queries of CRUD methods that take
+	 * longer than its threshold with.
+	 * @param slowQueryLog the {@link ReindexerSlowQueryLog} to use
+	 * @param repositoryName the name of the repository to log methods with
+	 * @since 1.7
+	 */
+	public void setSlowQueryLog(ReindexerSlowQueryLog slowQueryLog, String repositoryName) {
+		Assert.notNull(slowQueryLog, "slowQueryLog cannot be null");
+		Assert.notNull(repositoryName, "repositoryName cannot be null");
+		this.slowQueryLog = slowQueryLog;
+		this.repositoryName = repositoryName;
 	}
 
 	@Override
@@ -114,21 +192,132 @@ public class SimpleReindexerRepository<T, ID> implements ReindexerRepository<T,
 		return entity;
 	}
 
+	/**
+	 * Saves the given entities in chunks of {@link #setBatchSize(int) batch size}, each
+	 * chunk is written within its own Reindexer transaction. If a transaction is bound to
+	 * the current thread, the entities are written within that transaction instead.
+	 * @param entities the entities to save
+	 * @return the saved entities
+	 * @throws ReindexerBatchWriteException if one or more chunks could not be written,
+	 * the entities of the other chunks remain written
+	 */
 	@Override
 	public <S extends T> List<S> saveAll(Iterable<S> entities) {
 		Assert.notNull(entities, "The given Iterable of entities must not be null!");
 		List<S> result = new ArrayList<>();
-		for (S entity : entities) {
-			result.add(save(entity));
+		entities.forEach(result::add);
+		if (result.size() <= 1 || isTransactionActive()) {
+			for (S entity : result) {
+				save(entity);
+			}
+			return result;
+		}
+		List<List<S>> chunks = partition(result);
+		List<ChunkFailure> failures = new ArrayList<>();
+		if (this.batchExecutor == null || chunks.size() == 1) {
+			for (int i = 0; i < chunks.size(); i++) {
+				ChunkFailure failure = writeChunk(i, chunks.get(i));
+				if (failure != null) {
+					failures.add(failure);
+				}
+			}
+		}
+		else {
+			List<CompletableFuture<@Nullable ChunkFailure>> futures = new ArrayList<>(chunks.size());
+			for (int i = 0; i < chunks.size(); i++) {
+				int index = i;
+				List<S> chunk = chunks.get(i);
+				futures.add(CompletableFuture.supplyAsync(() -> writeChunk(index, chunk), this.batchExecutor));
+			}
+			for (CompletableFuture<@Nullable ChunkFailure> future : futures) {
+				ChunkFailure failure = future.join();
+				if (failure != null) {
+					failures.add(failure);
+				}
+			}
+		}
+		if (!failures.isEmpty()) {
+			throw new ReindexerBatchWriteException(chunks.size(), failures);
 		}
 		return result;
 	}
 
+	private @Nullable ChunkFailure writeChunk(int index, List<? extends T> chunk) {
+		Transaction<T> tx = this.namespace.beginTransaction();
+		try {
+			for (T entity : chunk) {
+				if (this.entityInformation.isNew(entity)) {
+					tx.insert(entity);
+				}
+				else {
+					tx.upsert(entity);
+				}
+			}
+			tx.commit();
+			markModified();
+			return null;
+		}
+		catch (RuntimeException ex) {
+			if (!tx.isFinalized()) {
+				try {
+					tx.rollback();
+				}
+				catch (RuntimeException rollbackEx) {
+					ex.addSuppressed(rollbackEx);
+				}
+			}
+			if (LOGGER.isDebugEnabled()) {
+				LOGGER.debug("Failed to write chunk %d of %d entities into namespace %s".formatted(index, chunk.size(),
+						this.entityInformation.getNamespaceName()), ex);
+			}
+			return new ChunkFailure(index, List.copyOf(chunk), ex);
+		}
+	}
+
+	private boolean isTransactionActive() {
+		return this.namespace instanceof TransactionalNamespace<T> transactionalNamespace
+				&& transactionalNamespace.isTransactionActive();
+	}
+
+	private Query<T> modifyingQuery() {
+		if (this.namespace instanceof TransactionalNamespace<T> transactionalNamespace) {
+			return transactionalNamespace.modifyingQuery();
+		}
+		return createQuery();
+	}
+
+	private void markModified() {
+		if (this.namespace instanceof TransactionalNamespace<T> transactionalNamespace) {
+			transactionalNamespace.markModified();
+		}
+	}
+
+	private @Nullable EntityNearCache<T> getNearCache() {
+		// Entities are read from the current transaction if one is active.
+		return (this.nearCache != null && !isTransactionActive()) ? this.nearCache : null;
+	}
+
 	@Override
 	public Optional<T> findById(ID id) {
 		Assert.notNull(id, "The given id must not be null!");
-		Query<T> query = joinedQuery().where(this.entityInformation.getIdFieldName(), Condition.EQ, convertId(id));
-		return findOne(query, this.entityInformation.getJavaType());
+		EntityNearCache<T> nearCache = getNearCache();
+		if (nearCache == null) {
+			return findByConvertedId(convertId(id));
+		}
+		T cached = nearCache.get(id);
+		if (cached != null) {
+			return Optional.of(cached);
+		}
+		long version = nearCache.getVersion();
+		Optional<T> result = findByConvertedId(convertId(id));
+		result.ifPresent((entity) -> nearCache.put(entity, version));
+		return result;
+	}
+
+	private Optional<T> findByConvertedId(Object id) {
+		Query<T> query = joinedQuery().where(this.entityInformation.getIdFieldName(), Condition.EQ, id);
+		return track("findById", this::selectById, new Object[] { id },
+				() -> findOne(query, this.entityInformation.getJavaType()));
 	}
 
 	@SuppressWarnings("unchecked")
@@ -149,12 +338,18 @@ public class SimpleReindexerRepository<T, ID> implements ReindexerRepository<T,
 	@Override
 	public boolean existsById(ID id) {
 		Assert.notNull(id, "The given id must not be null!");
-		return query().where(this.entityInformation.getIdFieldName(), Query.Condition.EQ, convertId(id)).exists();
+		EntityNearCache<T> nearCache = getNearCache();
+		if (nearCache != null && nearCache.get(id) != null) {
+			return true;
+		}
+		Object convertedId = convertId(id);
+		Query<T> query = createQuery().where(this.entityInformation.getIdFieldName(), Query.Condition.EQ, convertedId);
+		return track("existsById", this::selectById, new Object[] { convertedId }, query::exists);
 	}
 
 	@Override
 	public <S extends T> boolean exists(Example<S> example) {
-		return withExample(query(), example).exists();
+		return withExample(createQuery(), example).exists();
 	}
 
 	@Override
@@ -164,19 +359,121 @@ public class SimpleReindexerRepository<T, ID> implements ReindexerRepository<T,
 
 	@Override
 	public List<T> findAll(Sort sort) {
-		return findAll(joinedQuery(), this.entityInformation.getJavaType(), sort);
+		return track("findAll", () -> select(sort), NO_PARAMETERS,
+				() -> findAll(joinedQuery(), this.entityInformation.getJavaType(), sort));
 	}
 
 	@Override
 	public Page<T> findAll(Pageable pageable) {
-		return findAll(joinedQuery(), this.entityInformation.getJavaType(), pageable);
+		return track("findAll", () -> select(pageable.getSort()) + (pageable.isPaged()
+				? " LIMIT " + pageable.getPageSize() + " OFFSET " + pageable.getOffset() : ""), NO_PARAMETERS,
+				() -> findAll(joinedQuery(), this.entityInformation.getJavaType(), pageable));
 	}
 
 	@Override
 	public List<T> findAllById(Iterable<ID> ids) {
 		Assert.notNull(ids, "The given Ids of entities not be null!");
-		Query<T> query = joinedQuery().where(this.entityInformation.getIdFieldName(), Condition.SET, toSet(ids));
-		return findAll(query, this.entityInformation.getJavaType(), Sort.unsorted());
+		Set<Object> convertedIds = toSet(ids);
+		EntityNearCache<T> nearCache = getNearCache();
+		List<T> result = (nearCache != null) ? findAllCachedById(ids, nearCache)
+				: findAllByConvertedIdsInBatches(convertedIds);
+		return this.preserveIdOrder ? sortInIdOrder(result, convertedIds) : result;
+	}
+
+	private List<T> findAllCachedById(Iterable<ID> ids, EntityNearCache<T> nearCache) {
+		long version = nearCache.getVersion();
+		List<T> result = new ArrayList<>();
+		Set<ID> seenIds = new HashSet<>();
+		Set<Object> missingIds = new LinkedHashSet<>();
+		for (ID id : ids) {
+			if (!seenIds.add(id)) {
+				continue;
+			}
+			T cached = nearCache.get(id);
+			if (cached != null) {
+				result.add(cached);
+			}
+			else {
+				missingIds.add(convertId(id));
+			}
+		}
+		if (!missingIds.isEmpty()) {
+			for (T entity : findAllByConvertedIdsInBatches(missingIds)) {
+				nearCache.put(entity, version);
+				result.add(entity);
+			}
+		}
+		return result;
+	}
+
+	private List<T> findAllByConvertedIdsInBatches(Set<Object> ids) {
+		if (ids.size() <= this.batchSize) {
+			return findAllByConvertedIds(ids);
+		}
+		return findAllByConvertedIdsInChunks(partition(new ArrayList<>(ids)), ids.size());
+	}
+
+	private List<T> findAllByConvertedIds(Collection<Object> ids) {
+		Query<T> query = joinedQuery().where(this.entityInformation.getIdFieldName(), Condition.SET, ids);
+		return track("findAllById",
+				() -> select(Sort.unsorted()) + " WHERE " + this.entityInformation.getIdFieldName() + " IN ("
+						+ ids.size() + " ids)",
+				NO_PARAMETERS, () -> findAll(query, this.entityInformation.getJavaType(), Sort.unsorted()));
+	}
+
+	private List<T> findAllByConvertedIdsInChunks(List<List<Object>> chunks, int expectedSize) {
+		List<T> result = new ArrayList<>(expectedSize);
+		// Queries of the current transaction cannot be executed on other threads.
+		if (this.batchExecutor == null || isTransactionActive()) {
+			for (List<Object> chunk : chunks) {
+				result.addAll(findAllByConvertedIds(chunk));
+			}
+			return result;
+		}
+		List<CompletableFuture<List<T>>> futures = new ArrayList<>(chunks.size());
+		for (List<Object> chunk : chunks) {
+			futures.add(CompletableFuture.supplyAsync(() -> findAllByConvertedIds(chunk), this.batchExecutor));
+		}
+		try {
+			for (CompletableFuture<List<T>> future : futures) {
+				result.addAll(future.join());
+			}
+		}
+		catch (CompletionException ex) {
+			futures.forEach(future -> future.cancel(false));
+			if (ex.getCause() instanceof RuntimeException cause) {
+				throw cause;
+			}
+			throw ex;
+		}
+		return result;
+	}
+
+	private List<T> sortInIdOrder(List<T> entities, Set<Object> ids) {
+		Map<Object, Integer> positions = CollectionUtils.newHashMap(ids.size());
+		for (Object id : ids) {
+			positions.put(id, positions.size());
+		}
+		List<@Nullable T> slots = new ArrayList<>(Collections.nCopies(ids.size(), null));
+		List<T> unmatched = new ArrayList<>();
+		for (T entity : entities) {
+			ID id = this.entityInformation.getId(entity);
+			Integer position = (id != null) ? positions.get(convertId(id)) : null;
+			if (position != null) {
+				slots.set(position, entity);
+			}
+			else {
+				unmatched.add(entity);
+			}
+		}
+		List<T> result = new ArrayList<>(entities.size());
+		for (T entity : slots) {
+			if (entity != null) {
+				result.add(entity);
+			}
+		}
+		result.addAll(unmatched);
+		return result;
 	}
 
 	@Override
@@ -202,24 +499,55 @@ public class SimpleReindexerRepository<T, ID> implements ReindexerRepository<T,
 		}
 		query.limit(pageable.getPageSize()).offset(PageableUtils.getOffsetAsInteger(pageable)).reqTotal();
 		try (ResultIterator<T> iterator = withSort(query, pageable.getSort()).execute()) {
+			EntityProjection<R, T> descriptor = getEntityProjection(resultType);
+			NamespaceReferenceBatches batches = new NamespaceReferenceBatches();
 			List<R> content = new ArrayList<>();
 			while (iterator.hasNext()) {
-				content.add(projectEntity(iterator.next(), resultType));
+				content.add(this.reindexerConverter.project(descriptor, iterator.next(), batches));
 			}
 			return PageableExecutionUtils.getPage(content, pageable, iterator::getTotalCount);
 		}
 	}
 
+	/**
+	 * Opens a {@link ResultIterator} over all entities sorted by the given {@link Sort},
+	 * the caller is responsible for closing it.
+	 * @param sort the {@link Sort} to use
+	 * @return the {@link ResultIterator} to use
+	 */
+	ResultIterator<T> iterate(Sort sort) {
+		return withSort(joinedQuery(), sort).execute();
+	}
+
 	private <R> List<R> findAll(Query<T> query, Class<R> resultType, Sort sort) {
 		try (ResultIterator<T> iterator = withSort(query, sort).execute()) {
+			EntityProjection<R, T> descriptor = getEntityProjection(resultType);
+			NamespaceReferenceBatches batches = new NamespaceReferenceBatches();
 			List<R> content = new ArrayList<>();
 			while (iterator.hasNext()) {
-				content.add(projectEntity(iterator.next(), resultType));
+				content.add(this.reindexerConverter.project(descriptor, iterator.next(), batches));
 			}
 			return content;
 		}
 	}
 
+	private <R> R track(String method, Supplier<String> query, Object[] parameters, Supplier<R> execution) {
+		ReindexerSlowQueryLog slowQueryLog = this.slowQueryLog;
+		if (slowQueryLog == null) {
+			return execution.get();
+		}
+		return slowQueryLog.track(this.repositoryName + "." + method, query, parameters, execution);
+	}
+
+	private String select(Sort sort) {
+		String select = "SELECT * FROM " + this.entityInformation.getNamespaceName();
+		return sort.isSorted() ? select + " ORDER BY " + sort : select;
+	}
+
+	private String selectById() {
+		return select(Sort.unsorted()) + " WHERE " + this.entityInformation.getIdFieldName() + " = ?";
+	}
+
 	private Query<T> withSort(Query<T> query, Sort sort) {
 		if (sort.isSorted()) {
 			for (Order order : sort) {
@@ -230,14 +558,15 @@ public class SimpleReindexerRepository<T, ID> implements ReindexerRepository<T,
 	}
 
 	private <R> R projectEntity(T e, Class<R> resultType) {
-		EntityProjection<R, T> descriptor = SimpleReindexerRepository.this.reindexerConverter
-			.getProjectionIntrospector()
-			.introspect(resultType, SimpleReindexerRepository.this.entityInformation.getJavaType());
-		return this.reindexerConverter.project(descriptor, e);
+		return this.reindexerConverter.project(getEntityProjection(resultType), e);
+	}
+
+	private <R> EntityProjection<R, T> getEntityProjection(Class<R> resultType) {
+		return this.reindexerConverter.getEntityProjection(resultType, this.entityInformation.getJavaType());
 	}
 
 	private Set<Object> toSet(Iterable<? extends ID> ids) {
-		Set<Object> result = new HashSet<>();
+		Set<Object> result = new LinkedHashSet<>();
 		ids.forEach(id -> result.add(convertId(id)));
 		return result;
 	}
@@ -248,23 +577,32 @@ public class SimpleReindexerRepository<T, ID> implements ReindexerRepository<T,
 
 	@Override
 	public Query<T> query() {
+		if (this.namespace instanceof TransactionalNamespace<T> transactionalNamespace) {
+			return transactionalNamespace.modificationTrackingQuery();
+		}
+		return this.namespace.query();
+	}
+
+	private Query<T> createQuery() {
 		return this.namespace.query();
 	}
 
 	@Override
 	public long count() {
-		return query().count();
+		return track("count", () -> "SELECT COUNT(*) FROM " + this.entityInformation.getNamespaceName(),
+				NO_PARAMETERS, () -> createQuery().count());
 	}
 
 	@Override
 	public <S extends T> long count(Example<S> example) {
-		return withExample(query(), example).count();
+		return withExample(createQuery(), example).count();
 	}
 
 	@Override
 	public void deleteById(ID id) {
 		Assert.notNull(id, "The given id must not be null!");
-		query().where(this.entityInformation.getIdFieldName(), Query.Condition.EQ, convertId(id)).delete();
+		createQuery().where(this.entityInformation.getIdFieldName(), Query.Condition.EQ, convertId(id)).delete();
+		markModified();
 	}
 
 	@Override
@@ -276,102 +614,74 @@ public class SimpleReindexerRepository<T, ID> implements ReindexerRepository<T,
 	@Override
 	public void deleteAllById(Iterable<? extends ID> ids) {
 		Assert.notNull(ids, "The given Iterable of ids must not be null!");
-		query().where(this.entityInformation.getIdFieldName(), Query.Condition.SET, toSet(ids)).delete();
+		deleteAllByConvertedIds(toSet(ids));
 	}
 
 	@Override
 	public void deleteAll(Iterable<? extends T> entities) {
 		Assert.notNull(entities, "The given Iterable of entities must not be null!");
-		entities.forEach(this::delete);
+		Set<Object> ids = new HashSet<>();
+		for (T entity : entities) {
+			Assert.notNull(entity, "The given Iterable of entities must not contain null!");
+			ID id = this.entityInformation.getId(entity);
+			if (id != null) {
+				ids.add(convertId(id));
+			}
+			else {
+				// Entities without an id are deleted one by one, as before.
+				delete(entity);
+			}
+		}
+		deleteAllByConvertedIds(ids);
+	}
+
+	private void deleteAllByConvertedIds(Set<Object> ids) {
+		if (ids.isEmpty()) {
+			return;
+		}
+		if (ids.size() <= this.batchSize) {
+			modifyingQuery().where(this.entityInformation.getIdFieldName(), Query.Condition.SET, ids).delete();
+			markModified();
+			return;
+		}
+		// Delete in chunks to avoid holding the namespace write lock for too long.
+		for (List<Object> chunk : partition(new ArrayList<>(ids))) {
+			modifyingQuery().where(this.entityInformation.getIdFieldName(), Query.Condition.SET, chunk).delete();
+			markModified();
+		}
+	}
+
+	private <E> List<List<E>> partition(List<E> list) {
+		List<List<E>> chunks = new ArrayList<>((list.size() + this.batchSize - 1) / this.batchSize);
+		for (int from = 0; from < list.size(); from += this.batchSize) {
+			chunks.add(list.subList(from, Math.min(from + this.batchSize, list.size())));
+		}
+		return chunks;
 	}
 
 	@Override
 	public void deleteAll() {
-		query().delete();
+		createQuery().delete();
+		markModified();
 	}
 
 	@SuppressWarnings("unchecked")
 	private Query<T> joinedQuery() {
-		Query<T> query = query();
+		Query<T> query = createQuery();
 		return (Query<T>) QueryUtils.withJoins(query, this.entityInformation.getJavaType(), this.mappingContext,
 				this.namespaceFactory);
 	}
 
 	private Query<T> withExample(Query<T> criteria, Example<?> example) {
-		Object probe = example.getProbe();
-		ExampleMatcher matcher = example.getMatcher();
-		PropertySpecifiers propertySpecifiers = matcher.getPropertySpecifiers();
-		for (String propertyPath : getPropertyPaths(probe, example.getProbeType(), "")) {
-			if (matcher.isIgnoredPath(propertyPath)) {
-				continue;
-			}
-			Object propertyValue = BeanPropertyUtils.getProperty(probe, propertyPath);
-			if (propertyValue == null && matcher.getNullHandler() == NullHandler.IGNORE) {
-				continue;
-			}
-			PropertySpecifier propertySpecifier = propertySpecifiers.getForPath(propertyPath);
-			if (propertySpecifier != null) {
-				Object value = propertySpecifier.transformValue(Optional.ofNullable(propertyValue)).orElse(null);
-				if (value instanceof String s) {
-					StringMatcher stringMatcher = propertySpecifier.getStringMatcher();
-					if (stringMatcher == null) {
-						if (LOGGER.isTraceEnabled()) {
-							LOGGER.trace("No StringMatcher provided for property: " + propertyPath
-									+ " defaults to `StringMatcher.DEFAULT`");
-						}
-						stringMatcher = StringMatcher.DEFAULT;
-					}
-					switch (stringMatcher) {
-						case DEFAULT, EXACT -> {
-							boolean ignoreCase = propertySpecifier.getIgnoreCase() != null
-									? propertySpecifier.getIgnoreCase() : matcher.isIgnoreCaseEnabled();
-							if (ignoreCase) {
-								criteria.like(propertyPath, s);
-							}
-							else {
-								criteria.where(propertyPath, Condition.EQ, s);
-							}
-						}
-						case STARTING -> criteria.like(propertyPath, s + "%");
-						case ENDING -> criteria.like(propertyPath, "%" + s);
-						case CONTAINING -> criteria.like(propertyPath, "%" + s + "%");
-						default ->
-							throw new InvalidDataAccessApiUsageException("Unsupported StringMatcher: " + stringMatcher);
-					}
-				}
-				else {
-					criteria.where(propertyPath, Condition.EQ, value);
-				}
-			}
-			else {
-				criteria.where(propertyPath, Condition.EQ,
-						this.queryParameterMapper.mapParameterValue(propertyPath, propertyValue));
-			}
-			if (matcher.isAnyMatching()) {
-				criteria.or();
-			}
-		}
-		return criteria;
+		ExampleQueryPlan plan = this.examplePlans.get(new ExamplePlanKey(example.getProbeType(), example.getMatcher()));
+		return plan.apply(criteria, example.getProbe());
 	}
 
-	private List<String> getPropertyPaths(Object probe, Class<?> domainClass, String path) {
-		List<String> result = new ArrayList<>();
-		ReindexerPersistentEntity<?> persistentEntity = this.mappingContext.getRequiredPersistentEntity(domainClass);
-		for (ReindexerPersistentProperty property : persistentEntity) {
-			if (property.isNamespaceReference() || property.isCollectionLike()) {
-				continue;
-			}
-			if (property.isEntity()) {
-				Object value = BeanPropertyUtils.getProperty(probe, property.getName());
-				if (value != null) {
-					result.addAll(getPropertyPaths(value, property.getType(), path + property.getName() + "."));
-				}
-			}
-			else {
-				result.add(path + property.getName());
-			}
-		}
-		return result;
+	private ExampleQueryPlan compileExamplePlan(ExamplePlanKey key) {
+		return ExampleQueryPlan.compile(key.probeType(), key.matcher(), this.mappingContext, this.queryParameterMapper);
+	}
+
+	private record ExamplePlanKey(Class<?> probeType, ExampleMatcher matcher) {
 	}
 
 	private final class FluentQueryByExample<E extends T, R> implements FluentQuery.FetchableFluentQuery<R> {
@@ -438,19 +748,48 @@ public class SimpleReindexerRepository<T, ID> implements ReindexerRepository<T,
 			return findAll(sorted(), this.resultType, pageable);
 		}
 
+		@Override
+		public Window<R> scroll(ScrollPosition scrollPosition) {
+			Assert.notNull(scrollPosition, "ScrollPosition must not be null");
+			String idFieldName = SimpleReindexerRepository.this.entityInformation.getIdFieldName();
+			Limit limit = (this.limit != null) ? Limit.of(this.limit) : Limit.unlimited();
+			Query<T> query = joinedQuery();
+			if (!this.fieldsToInclude.isEmpty()) {
+				// Keyset positions are created from the sort properties and the id.
+				Set<String> fields = new LinkedHashSet<>(this.fieldsToInclude);
+				fields.addAll(ScrollUtils.getKeysetProperties(this.sort, idFieldName));
+				query.select(fields.toArray(String[]::new));
+			}
+			ScrollUtils.withScrollPosition(query, scrollPosition, this.sort, idFieldName, limit,
+					SimpleReindexerRepository.this.queryParameterMapper);
+			List<T> entities = new ArrayList<>();
+			try (ResultIterator<T> iterator = withExample(query, this.example).execute()) {
+				while (iterator.hasNext()) {
+					entities.add(iterator.next());
+				}
+			}
+			EntityProjection<R, T> descriptor = getEntityProjection(this.resultType);
+			NamespaceReferenceBatches batches = new NamespaceReferenceBatches();
+			return ScrollUtils.toWindow(entities, scrollPosition, this.sort, idFieldName, limit,
+					(entity) -> SimpleReindexerRepository.this.reindexerConverter.project(descriptor, entity, batches));
+		}
+
 		@Override
 		public Stream<R> stream() {
-			return sorted().stream().map(e -> projectEntity(e, this.resultType));
+			EntityProjection<R, T> descriptor = getEntityProjection(this.resultType);
+			NamespaceReferenceBatches batches = new NamespaceReferenceBatches();
+			return sorted().stream()
+				.map(e -> SimpleReindexerRepository.this.reindexerConverter.project(descriptor, e, batches));
 		}
 
 		@Override
 		public long count() {
-			return byExample(query()).count();
+			return byExample(createQuery()).count();
 		}
 
 		@Override
 		public boolean exists() {
-			return byExample(query()).exists();
+			return byExample(createQuery()).exists();
 		}
 
 		private Query<T> sorted() {
@@ -15,14 +15,19 @@
  */
 package org.springframework.data.reindexer.repository.support;
 
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.aopalliance.intercept.MethodInterceptor;
 import org.jspecify.annotations.Nullable;
 import ru.rt.restream.reindexer.Namespace;
 import ru.rt.restream.reindexer.Query;
 import ru.rt.restream.reindexer.ResultIterator;
 import ru.rt.restream.reindexer.Transaction;
 
+import org.springframework.aop.framework.ProxyFactory;
 import org.springframework.dao.InvalidDataAccessApiUsageException;
 import org.springframework.data.reindexer.ReindexerResourceHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
 import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.util.Assert;
 
@@ -37,13 +42,29 @@ public class TransactionalNamespace<T> implements Namespace<T> {
 
 	private final Namespace<T> fallback;
 
+	private final AtomicLong modificationCount = new AtomicLong();
+
+	private final @Nullable EntityNearCache<T> nearCache;
+
 	/**
 	 * Creates an instance.
 	 * @param fallback the {@link Namespace} to use as a fallback
 	 */
 	public TransactionalNamespace(Namespace<T> fallback) {
+		this(fallback, null);
+	}
+
+	/**
+	 * Creates an instance.
+	 * @param fallback the {@link Namespace} to use as a fallback
+	 * @param nearCache the {@link EntityNearCache} to invalidate on writes, may be
+	 * {@literal null}
+	 * @since 1.7
+	 */
+	public TransactionalNamespace(Namespace<T> fallback, @Nullable EntityNearCache<T> nearCache) {
 		Assert.notNull(fallback, "fallback cannot be null");
 		this.fallback = fallback;
+		this.nearCache = nearCache;
 	}
 
 	@Override
@@ -62,6 +83,7 @@ public class TransactionalNamespace<T> implements Namespace<T> {
 		else {
 			this.fallback.insert(item);
 		}
+		markModified(item);
 	}
 
 	@Override
@@ -74,6 +96,7 @@ public class TransactionalNamespace<T> implements Namespace<T> {
 		else {
 			this.fallback.insert(item);
 		}
+		markModified();
 	}
 
 	@Override
@@ -86,6 +109,7 @@ public class TransactionalNamespace<T> implements Namespace<T> {
 		else {
 			this.fallback.upsert(item);
 		}
+		markModified(item);
 	}
 
 	@Override
@@ -98,6 +122,7 @@ public class TransactionalNamespace<T> implements Namespace<T> {
 		else {
 			this.fallback.upsert(item);
 		}
+		markModified();
 	}
 
 	@Override
@@ -110,6 +135,7 @@ public class TransactionalNamespace<T> implements Namespace<T> {
 		else {
 			this.fallback.update(item);
 		}
+		markModified(item);
 	}
 
 	@Override
@@ -122,6 +148,7 @@ public class TransactionalNamespace<T> implements Namespace<T> {
 		else {
 			this.fallback.update(item);
 		}
+		markModified();
 	}
 
 	@Override
@@ -134,6 +161,7 @@ public class TransactionalNamespace<T> implements Namespace<T> {
 		else {
 			this.fallback.delete(item);
 		}
+		markModified(item);
 	}
 
 	@Override
@@ -146,6 +174,7 @@ public class TransactionalNamespace<T> implements Namespace<T> {
 		else {
 			this.fallback.delete(item);
 		}
+		markModified();
 	}
 
 	@Override
@@ -155,7 +184,9 @@ public class TransactionalNamespace<T> implements Namespace<T> {
 	}
 
 	/**
-	 * Creates a {@link Query} that can be used to modify data.
+	 * Creates a {@link Query} that can be used to modify data. Callers should
+	 * {@link #markModified() mark} this namespace as modified once the {@link Query} is
+	 * executed.
 	 * @return the {@link Query} for further customizations
 	 * @throws InvalidDataAccessApiUsageException if the current transaction is read-only
 	 * @since 1.7
@@ -164,9 +195,109 @@ public class TransactionalNamespace<T> implements Namespace<T> {
 		Transaction<T> tx = getTransaction();
 		if (tx != null) {
 			checkReadOnly();
-			return tx.query();
 		}
-		return this.fallback.query();
+		markModified();
+		return (tx != null) ? tx.query() : this.fallback.query();
+	}
+
+	/**
+	 * Creates a {@link Query} that marks this namespace as {@link #markModified() modified}
+	 * once it deletes or updates data, so that queries handed out to callers invalidate
+	 * cached query results and the {@link EntityNearCache} when used for writes. Within
+	 * a read-only transaction, deleting or updating data is rejected.
+	 * @return the {@link Query} for further customizations
+	 * @since 1.7
+	 */
+	@SuppressWarnings("unchecked")
+	public Query<T> modificationTrackingQuery() {
+		ProxyFactory proxyFactory = new ProxyFactory(query());
+		proxyFactory.setProxyTargetClass(true);
+		proxyFactory.addAdvice((MethodInterceptor) (invocation) -> {
+			String methodName = invocation.getMethod().getName();
+			boolean write = invocation.getMethod().getParameterCount() == 0
+					&& (methodName.equals("delete") || methodName.equals("update"));
+			if (write && isTransactionActive()) {
+				checkReadOnly();
+			}
+			Object result = invocation.proceed();
+			if (write) {
+				// Marked after the write, so that results read before it are invalidated.
+				markModified();
+			}
+			return result;
+		});
+		return (Query<T>) proxyFactory.getProxy();
+	}
+
+	/**
+	 * Checks whether write operations participate in a {@link Transaction} bound to the
+	 * current thread.
+	 * @return {@literal true} if a {@link Transaction} is bound to the current thread
+	 * @since 1.7
+	 */
+	public boolean isTransactionActive() {
+		return getTransaction() != null;
+	}
+
+	/**
+	 * Returns the number of modifications made through this namespace. Used to invalidate
+	 * cached query results, a cached result is valid as long as this number has not
+	 * changed since the result was read.
+	 * @return the number of modifications made through this namespace
+	 * @since 1.7
+	 */
+	public long getModificationCount() {
+		return this.modificationCount.get();
+	}
+
+	/**
+	 * Returns the {@link EntityNearCache} of this namespace.
+	 * @return the {@link EntityNearCache} or {@literal null} if not configured
+	 * @since 1.7
+	 */
+	public @Nullable EntityNearCache<T> getNearCache() {
+		return this.nearCache;
+	}
+
+	/**
+	 * Marks this namespace as modified and invalidates its {@link EntityNearCache}. If
+	 * transaction synchronization is active, the namespace is marked as modified once
+	 * more after the transaction completes, since its writes become visible on commit.
+	 * @since 1.7
+	 */
+	public void markModified() {
+		incrementModificationCount();
+		if (this.nearCache != null) {
+			this.nearCache.clear();
+		}
+	}
+
+	private void markModified(T item) {
+		incrementModificationCount();
+		if (this.nearCache != null) {
+			this.nearCache.evict(item);
+		}
+	}
+
+	private void incrementModificationCount() {
+		this.modificationCount.incrementAndGet();
+		if (TransactionSynchronizationManager.isSynchronizationActive()
+				&& !TransactionSynchronizationManager.hasResource(this.modificationCount)) {
+			TransactionSynchronizationManager.bindResource(this.modificationCount, Boolean.TRUE);
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+
+				@Override
+				public void afterCompletion(int status) {
+					TransactionSynchronizationManager.unbindResourceIfPossible(
+							TransactionalNamespace.this.modificationCount);
+					TransactionalNamespace.this.modificationCount.incrementAndGet();
+					if (TransactionalNamespace.this.nearCache != null) {
+						TransactionalNamespace.this.nearCache.clear();
+					}
+				}
+
+			});
+		}
 	}
 
 	@SuppressWarnings("unchecked")
@@ -198,6 +329,7 @@ public class TransactionalNamespace<T> implements Namespace<T> {
 			checkReadOnly();
 		}
 		this.fallback.updateSql(query);
+		markModified();
 	}
 
 	private static void checkReadOnly() {
@@ -0,0 +1,204 @@
+/*
+ * Copyright 2022-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.reindexer.repository.util;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+
+import ru.rt.restream.reindexer.Query;
+import ru.rt.restream.reindexer.Query.Condition;
+import ru.rt.restream.reindexer.util.BeanPropertyUtils;
+
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.OffsetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Sort.Order;
+import org.springframework.data.domain.Window;
+import org.springframework.data.reindexer.repository.query.QueryParameterMapper;
+import org.springframework.util.Assert;
+
+/**
+ * Provides a set of utility methods to support {@link ScrollPosition}s and
+ * {@link Window}s. Keyset positions are translated into range conditions on the sort
+ * properties followed by the id field, so that every window is read without skipping
+ * the preceding items.
+ *
+ * @author Evgeniy Cheban
+ * @since 1.7
+ */
+public final class ScrollUtils {
+
+	private ScrollUtils() {
+		throw new IllegalStateException("Cannot instantiate a utility class!");
+	}
+
+	/**
+	 * Applies the given {@link ScrollPosition} to the given {@link Query}, adds sorting
+	 * and a limit of one additional item to detect whether there is a next window.
+	 * @param criteria the {@link Query} to use
+	 * @param position the {@link ScrollPosition} to use
+	 * @param sort the {@link Sort} to use
+	 * @param idFieldName the id field name to use as a tie-breaker for keyset positions
+	 * @param limit the {@link Limit} of the window to use
+	 * @param queryParameterMapper the {@link QueryParameterMapper} to map keyset values
+	 * @return the {@link Query} for further customizations
+	 */
+	public static Query<?> withScrollPosition(Query<?> criteria, ScrollPosition position, Sort sort,
+			String idFieldName, Limit limit, QueryParameterMapper queryParameterMapper) {
+		Assert.notNull(position, "ScrollPosition must not be null");
+		if (position instanceof OffsetScrollPosition offsetPosition) {
+			if (!offsetPosition.isInitial()) {
+				criteria.offset(Math.toIntExact(offsetPosition.getOffset() + 1));
+			}
+			for (Order order : sort) {
+				criteria.sort(order.getProperty(), order.isDescending());
+			}
+		}
+		else if (position instanceof KeysetScrollPosition keysetPosition) {
+			List<Order> orders = getKeysetOrders(sort, idFieldName, keysetPosition.scrollsBackward());
+			if (!keysetPosition.isInitial()) {
+				applyKeyset(criteria, orders, keysetPosition.getKeys(), queryParameterMapper);
+			}
+			for (Order order : orders) {
+				criteria.sort(order.getProperty(), order.isDescending());
+			}
+		}
+		else {
+			throw new InvalidDataAccessApiUsageException("Unsupported ScrollPosition: " + position);
+		}
+		if (limit.isLimited()) {
+			criteria.limit(limit.max() + 1);
+		}
+		return criteria;
+	}
+
+	/**
+	 * Creates a {@link Window} from the given entities read by a {@link Query} that was
+	 * customized by {@link #withScrollPosition}.
+	 * @param entities the entities to use
+	 * @param position the {@link ScrollPosition} to use
+	 * @param sort the {@link Sort} to use
+	 * @param idFieldName the id field name to use as a tie-breaker for keyset positions
+	 * @param limit the {@link Limit} of the window to use
+	 * @param mapper the function to map entities into the window's content
+	 * @param <E> the entity type to use
+	 * @param <R> the window's content type to use
+	 * @return the {@link Window} to use
+	 */
+	public static <E, R> Window<R> toWindow(List<E> entities, ScrollPosition position, Sort sort,
+			String idFieldName, Limit limit, Function<? super E, ? extends R> mapper) {
+		boolean hasNext = limit.isLimited() && entities.size() > limit.max();
+		List<E> content = hasNext ? entities.subList(0, limit.max()) : entities;
+		IntFunction<? extends ScrollPosition> positionFunction;
+		if (position instanceof KeysetScrollPosition keysetPosition) {
+			if (keysetPosition.scrollsBackward()) {
+				content = new ArrayList<>(content);
+				Collections.reverse(content);
+			}
+			List<E> keysetContent = content;
+			List<Order> orders = getKeysetOrders(sort, idFieldName, false);
+			positionFunction = (index) -> ScrollPosition.of(getKeys(keysetContent.get(index), orders),
+					keysetPosition.getDirection());
+		}
+		else {
+			positionFunction = ((OffsetScrollPosition) position).positionFunction();
+		}
+		List<R> result = new ArrayList<>(content.size());
+		for (E entity : content) {
+			result.add(mapper.apply(entity));
+		}
+		return Window.from(result, positionFunction, hasNext);
+	}
+
+	/**
+	 * Returns the properties that need to be read to create keyset positions for the
+	 * given {@link Sort}.
+	 * @param sort the {@link Sort} to use
+	 * @param idFieldName the id field name to use
+	 * @return the properties to use
+	 */
+	public static List<String> getKeysetProperties(Sort sort, String idFieldName) {
+		List<String> result = new ArrayList<>();
+		for (Order order : getKeysetOrders(sort, idFieldName, false)) {
+			result.add(order.getProperty());
+		}
+		return result;
+	}
+
+	private static List<Order> getKeysetOrders(Sort sort, String idFieldName, boolean reverse) {
+		List<Order> result = new ArrayList<>();
+		for (Order order : sort) {
+			result.add(reverse ? order.reverse() : order);
+		}
+		if (sort.getOrderFor(idFieldName) == null) {
+			result.add(reverse ? Order.desc(idFieldName) : Order.asc(idFieldName));
+		}
+		return result;
+	}
+
+	/*
+	 * Produces (s1 > v1) OR (s1 = v1 AND s2 > v2) OR ... for ascending orders, descending
+	 * orders use the LT condition instead.
+	 */
+	private static void applyKeyset(Query<?> criteria, List<Order> orders, Map<String, Object> keys,
+			QueryParameterMapper queryParameterMapper) {
+		List<Object> values = new ArrayList<>(orders.size());
+		for (Order order : orders) {
+			String property = order.getProperty();
+			if (!keys.containsKey(property)) {
+				throw new InvalidDataAccessApiUsageException(
+						"KeysetScrollPosition does not contain a value for sort property '" + property + "'");
+			}
+			Object value = keys.get(property);
+			if (value == null) {
+				throw new InvalidDataAccessApiUsageException(
+						"KeysetScrollPosition does not support null value for sort property '" + property + "'");
+			}
+			values.add(queryParameterMapper.mapParameterValue(property, value));
+		}
+		criteria.openBracket();
+		for (int i = 0; i < orders.size(); i++) {
+			if (i > 0) {
+				criteria.or();
+			}
+			criteria.openBracket();
+			for (int j = 0; j < i; j++) {
+				criteria.where(orders.get(j).getProperty(), Condition.EQ, values.get(j));
+			}
+			Order order = orders.get(i);
+			criteria.where(order.getProperty(), order.isAscending() ? Condition.GT : Condition.LT, values.get(i));
+			criteria.closeBracket();
+		}
+		criteria.closeBracket();
+	}
+
+	private static Map<String, Object> getKeys(Object entity, List<Order> orders) {
+		Map<String, Object> keys = new LinkedHashMap<>();
+		for (Order order : orders) {
+			keys.put(order.getProperty(), BeanPropertyUtils.getProperty(entity, order.getProperty()));
+		}
+		return keys;
+	}
+
+}
@@ -0,0 +1,223 @@
+/*
+ * Copyright 2022-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.reindexer.repository.util;
+
+import java.lang.reflect.Array;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.jspecify.annotations.Nullable;
+import ru.rt.restream.reindexer.vector.params.KnnSearchParam;
+
+import org.springframework.data.domain.Vector;
+import org.springframework.data.reindexer.repository.query.ReindexerParameterAccessor;
+import org.springframework.data.repository.query.QueryMethodValueEvaluationContextAccessor;
+import org.springframework.data.repository.query.ValueExpressionQueryRewriter;
+import org.springframework.data.repository.query.ValueExpressionQueryRewriter.QueryExpressionEvaluator;
+
+/**
+ * A string query that is split into literal parts and parameter references once, so
+ * that the parameter values can be substituted without scanning the query again.
+ *
+ * @author Evgeniy Cheban
+ * @since 1.7
+ * @see StringQueryUtils#createQueryTemplate(String)
+ */
+public final class StringQueryTemplate {
+
+	private static final int ESTIMATED_PARAMETER_LENGTH = 16;
+
+	private final ValueExpressionQueryRewriter queryRewriter;
+
+	private final ValueExpressionQueryRewriter.ParsedQuery parsedQuery;
+
+	private final List<QueryPart> parts;
+
+	private final boolean hasExpressions;
+
+	private final int estimatedLength;
+
+	StringQueryTemplate(ValueExpressionQueryRewriter queryRewriter, String query) {
+		this.queryRewriter = queryRewriter;
+		this.parsedQuery = queryRewriter.parse(query);
+		String queryString = this.parsedQuery.getQueryString();
+		List<QueryPart> parts = new ArrayList<>();
+		int literalLength = 0;
+		int parameterCount = 0;
+		int literalStart = 0;
+		int i = 0;
+		while (i < queryString.length()) {
+			char c = queryString.charAt(i);
+			if ((c != ':' && c != '?') || this.parsedQuery.isQuoted(i)) {
+				i++;
+				continue;
+			}
+			int start = i + 1;
+			int j = start;
+			while (j < queryString.length() && Character.isJavaIdentifierPart(queryString.charAt(j))) {
+				j++;
+			}
+			if (literalStart < i) {
+				parts.add(new LiteralPart(queryString.substring(literalStart, i)));
+				literalLength += i - literalStart;
+			}
+			parts.add(createParameterPart(c, queryString.substring(start, j), start));
+			parameterCount++;
+			literalStart = j;
+			i = j;
+		}
+		if (literalStart < queryString.length()) {
+			parts.add(new LiteralPart(queryString.substring(literalStart)));
+			literalLength += queryString.length() - literalStart;
+		}
+		this.parts = List.copyOf(parts);
+		this.hasExpressions = parts.stream().anyMatch(ExpressionParameterPart.class::isInstance);
+		this.estimatedLength = literalLength + parameterCount * ESTIMATED_PARAMETER_LENGTH;
+	}
+
+	private QueryPart createParameterPart(char prefix, String parameterReference, int position) {
+		if (this.parsedQuery.hasExpression(parameterReference)) {
+			return new ExpressionParameterPart(parameterReference);
+		}
+		if (prefix == ':') {
+			return new NamedParameterPart(parameterReference);
+		}
+		try {
+			return new IndexedParameterPart(Integer.parseInt(parameterReference) - 1);
+		}
+		catch (NumberFormatException e) {
+			throw new IllegalStateException(
+					"Could not parse parameter: %s at: %d".formatted(parameterReference, position));
+		}
+	}
+
+	/**
+	 * Substitutes named and positional parameters e.g., {@code :phoneNumber}, {@code ?1}
+	 * with the values accessed via {@code ReindexerParameterAccessor}. Additionally,
+	 * resolves SpEL-based parameters using
+	 * {@code QueryMethodValueEvaluationContextAccessor}, if the query contains any.
+	 * @param parameters the {@link ReindexerParameterAccessor} to use
+	 * @param factory the {@link QueryMethodValueEvaluationContextAccessor} to use
+	 * @return the string query with substituted parameter references with the provided
+	 * values
+	 */
+	public String substituteQueryParameters(ReindexerParameterAccessor parameters,
+			QueryMethodValueEvaluationContextAccessor factory) {
+		Map<String, @Nullable Object> resolvedValues = Collections.emptyMap();
+		if (this.hasExpressions) {
+			QueryExpressionEvaluator evaluator = this.queryRewriter.new QueryExpressionEvaluator(
+					factory.create(parameters.getParameters()), this.parsedQuery);
+			resolvedValues = evaluator.evaluate(parameters.getValues());
+		}
+		StringBuilder result = new StringBuilder(this.estimatedLength);
+		for (QueryPart part : this.parts) {
+			part.appendTo(result, parameters, resolvedValues);
+		}
+		return result.toString();
+	}
+
+	private static void appendParameterValue(StringBuilder result, @Nullable Object value) {
+		if (value instanceof String) {
+			result.append('\'').append(value).append('\'');
+		}
+		else if (value instanceof Vector vector) {
+			result.append(Arrays.toString(vector.toFloatArray()));
+		}
+		else if (value instanceof float[] vector) {
+			result.append(Arrays.toString(vector));
+		}
+		else if (value instanceof KnnSearchParam knnSearchParam) {
+			result.append(String.join(", ", knnSearchParam.toLog()));
+		}
+		else if (value instanceof Collection<?> values) {
+			result.append('(');
+			int i = 0;
+			for (Object object : values) {
+				if (i++ > 0) {
+					result.append(", ");
+				}
+				appendParameterValue(result, object);
+			}
+			result.append(')');
+		}
+		else if (value != null && value.getClass().isArray()) {
+			result.append('(');
+			int length = Array.getLength(value);
+			for (int i = 0; i < length; i++) {
+				if (i > 0) {
+					result.append(", ");
+				}
+				appendParameterValue(result, Array.get(value, i));
+			}
+			result.append(')');
+		}
+		else {
+			result.append(value);
+		}
+	}
+
+	private interface QueryPart {
+
+		void appendTo(StringBuilder result, ReindexerParameterAccessor parameters,
+				Map<String, @Nullable Object> resolvedValues);
+
+	}
+
+	private record LiteralPart(String literal) implements QueryPart {
+
+		@Override
+		public void appendTo(StringBuilder result, ReindexerParameterAccessor parameters,
+				Map<String, @Nullable Object> resolvedValues) {
+			result.append(this.literal);
+		}
+
+	}
+
+	private record NamedParameterPart(String name) implements QueryPart {
+
+		@Override
+		public void appendTo(StringBuilder result, ReindexerParameterAccessor parameters,
+				Map<String, @Nullable Object> resolvedValues) {
+			appendParameterValue(result, parameters.getValue(this.name));
+		}
+
+	}
+
+	private record IndexedParameterPart(int index) implements QueryPart {
+
+		@Override
+		public void appendTo(StringBuilder result, ReindexerParameterAccessor parameters,
+				Map<String, @Nullable Object> resolvedValues) {
+			appendParameterValue(result, parameters.getValue(this.index));
+		}
+
+	}
+
+	private record ExpressionParameterPart(String name) implements QueryPart {
+
+		@Override
+		public void appendTo(StringBuilder result, ReindexerParameterAccessor parameters,
+				Map<String, @Nullable Object> resolvedValues) {
+			appendParameterValue(result, resolvedValues.get(this.name));
+		}
+
+	}
+
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright 2022-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.reindexer.core.convert;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @author Evgeniy Cheban
+ */
+class NamespaceReferenceBatchTests {
+
+	private final List<Set<Object>> queries = new ArrayList<>();
+
+	private final NamespaceReferenceBatch batch = new NamespaceReferenceBatch(10, true, (sources) -> {
+		this.queries.add(sources);
+		return List.copyOf(sources);
+	}, (reference) -> reference);
+
+	@Test
+	void resolveInOrderWhenMoreSourcesThanBatchSizeThenQueryPerBatch() {
+		List<NamespaceReferenceBatch.Entry> entries = new ArrayList<>();
+		for (long i = 0; i < 25; i++) {
+			entries.add(this.batch.register(i));
+		}
+		for (int i = 0; i < entries.size(); i++) {
+			assertThat(this.batch.resolve(entries.get(i))).isEqualTo((long) i);
+		}
+		assertThat(this.queries).hasSize(3);
+		assertThat(this.queries.get(0)).containsExactly(0L, 1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L, 9L);
+		assertThat(this.queries.get(1)).containsExactly(10L, 11L, 12L, 13L, 14L, 15L, 16L, 17L, 18L, 19L);
+		assertThat(this.queries.get(2)).containsExactly(20L, 21L, 22L, 23L, 24L);
+	}
+
+	@Test
+	void resolveWhenAccessedOutOfOrderThenEarliestPendingSourcesFetched() {
+		List<NamespaceReferenceBatch.Entry> entries = new ArrayList<>();
+		for (long i = 0; i < 15; i++) {
+			entries.add(this.batch.register(i));
+		}
+		assertThat(this.batch.resolve(entries.get(12))).isEqualTo(12L);
+		assertThat(this.batch.resolve(entries.get(0))).isEqualTo(0L);
+		assertThat(this.batch.resolve(entries.get(9))).isEqualTo(9L);
+		assertThat(this.batch.resolve(entries.get(14))).isEqualTo(14L);
+		assertThat(this.queries).hasSize(2);
+		assertThat(this.queries.get(0)).containsExactly(12L, 0L, 1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L);
+		assertThat(this.queries.get(1)).containsExactly(9L, 10L, 11L, 13L, 14L);
+	}
+
+	@Test
+	void resolveWhenSourceNotFoundThenNull() {
+		NamespaceReferenceBatch batch = new NamespaceReferenceBatch(10, true, (sources) -> {
+			this.queries.add(sources);
+			return List.of();
+		}, (reference) -> reference);
+		NamespaceReferenceBatch.Entry entry = batch.register(1L);
+		assertThat(batch.resolve(entry)).isNull();
+		assertThat(this.queries).hasSize(1);
+	}
+
+}
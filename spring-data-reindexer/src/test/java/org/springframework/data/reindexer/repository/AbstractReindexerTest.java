@@ -18,7 +18,12 @@ package org.springframework.data.reindexer.repository;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
 
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationHandler;
+import io.micrometer.observation.ObservationRegistry;
 import org.jspecify.annotations.NonNull;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -36,12 +41,16 @@ import org.springframework.data.reindexer.ReindexerTransactionManager;
 import org.springframework.data.reindexer.container.ReindexerTestContainer;
 import org.springframework.data.reindexer.core.convert.ReindexerCustomConversions;
 import org.springframework.data.reindexer.core.mapping.ReindexerMappingContext;
+import org.springframework.data.reindexer.observability.ReindexerObservationContext;
+import org.springframework.data.reindexer.repository.config.EnableReactiveReindexerRepositories;
 import org.springframework.data.reindexer.repository.config.EnableReindexerRepositories;
 import org.springframework.data.reindexer.repository.config.ReindexerConfigurationSupport;
 import org.springframework.data.reindexer.repository.item.converter.PriceReadingConverter;
 import org.springframework.data.reindexer.repository.item.converter.PriceWritingConverter;
 import org.springframework.data.reindexer.repository.item.converter.PlaceReadingConverter;
 import org.springframework.data.reindexer.repository.item.entity.TestItem;
+import org.springframework.data.reindexer.repository.query.ReindexerQueryExplainer;
+import org.springframework.data.reindexer.repository.query.ReindexerSlowQueryLog;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 import org.springframework.transaction.annotation.EnableTransactionManagement;
@@ -65,6 +74,8 @@ public abstract class AbstractReindexerTest {
 
 	@Configuration(proxyBeanMethods = false)
 	@EnableReindexerRepositories(basePackageClasses = AbstractReindexerTest.class, considerNestedRepositories = true)
+	@EnableReactiveReindexerRepositories(basePackageClasses = AbstractReindexerTest.class,
+			considerNestedRepositories = true)
 	@EnableTransactionManagement
 	@ComponentScan(basePackageClasses = AbstractReindexerTest.class)
 	static class ReindexerTestConfig extends ReindexerConfigurationSupport {
@@ -84,6 +95,30 @@ public abstract class AbstractReindexerTest {
 			return new ReindexerTransactionManager<>(reindexer, mappingContext, TestItem.class);
 		}
 
+		@Bean
+		RecordingObservationHandler recordingObservationHandler() {
+			return new RecordingObservationHandler();
+		}
+
+		@Bean
+		ObservationRegistry observationRegistry(RecordingObservationHandler recordingObservationHandler) {
+			ObservationRegistry registry = ObservationRegistry.create();
+			registry.observationConfig().observationHandler(recordingObservationHandler);
+			return registry;
+		}
+
+		@Bean
+		RecordingQueryExplainer recordingQueryExplainer() {
+			return new RecordingQueryExplainer();
+		}
+
+		@Bean
+		ReindexerSlowQueryLog slowQueryLog(RecordingQueryExplainer recordingQueryExplainer) {
+			ReindexerSlowQueryLog slowQueryLog = new ReindexerSlowQueryLog();
+			slowQueryLog.setQueryExplainer(recordingQueryExplainer);
+			return slowQueryLog;
+		}
+
 		@Override
 		public @NonNull ReindexerCustomConversions customConversions() {
 			List<Converter<?, ?>> converters = new ArrayList<>();
@@ -100,6 +135,34 @@ public abstract class AbstractReindexerTest {
 
 	}
 
+	static class RecordingObservationHandler implements ObservationHandler<ReindexerObservationContext> {
+
+		final Queue<ReindexerObservationContext> contexts = new ConcurrentLinkedQueue<>();
+
+		@Override
+		public void onStop(ReindexerObservationContext context) {
+			this.contexts.add(context);
+		}
+
+		@Override
+		public boolean supportsContext(Observation.Context context) {
+			return context instanceof ReindexerObservationContext;
+		}
+
+	}
+
+	static class RecordingQueryExplainer implements ReindexerQueryExplainer {
+
+		final Queue<String> queries = new ConcurrentLinkedQueue<>();
+
+		@Override
+		public String explain(String sql) {
+			this.queries.add(sql);
+			return "plan";
+		}
+
+	}
+
 	static class ClearDbReindexer extends Reindexer {
 
 		ClearDbReindexer(Binding binding) {
@@ -19,6 +19,10 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -26,8 +30,13 @@ import org.junit.jupiter.api.Test;
 import ru.rt.restream.reindexer.Query;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationContext;
+import org.springframework.data.reindexer.core.convert.ReindexerConverter;
+import org.springframework.data.reindexer.core.mapping.ReindexerMappingContext;
 import org.springframework.data.reindexer.repository.item.TestItemReindexerRepository;
 import org.springframework.data.reindexer.repository.item.entity.TestItem;
+import org.springframework.data.reindexer.repository.support.ReindexerNamespaceFactory;
+import org.springframework.data.reindexer.repository.support.ReindexerRepositoryFactory;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
@@ -44,6 +53,18 @@ class ReindexerCrudRepositoryTests extends AbstractReindexerTest {
 	@Autowired
 	TestItemReindexerRepository repository;
 
+	@Autowired
+	ReindexerMappingContext mappingContext;
+
+	@Autowired
+	ReindexerNamespaceFactory namespaceFactory;
+
+	@Autowired
+	ReindexerConverter reindexerConverter;
+
+	@Autowired
+	ApplicationContext ctx;
+
 	@Test
 	void save() {
 		TestItem testItem = this.repository.save(new TestItem(1L, "TestName", "TestValue"));
@@ -75,6 +96,22 @@ class ReindexerCrudRepositoryTests extends AbstractReindexerTest {
 		assertEquals(0, expectedItems.size());
 	}
 
+	@Test
+	void saveAllMultipleChunks() {
+		List<TestItem> items = new ArrayList<>();
+		for (long i = 0; i < 2500; i++) {
+			items.add(new TestItem(i, "TestName" + i, "TestValue" + i));
+		}
+		assertEquals(items, this.repository.saveAll(items));
+		assertEquals(items.size(), this.repository.count());
+		items.forEach(item -> item.setValue("UpdatedValue" + item.getId()));
+		this.repository.saveAll(items);
+		for (TestItem actual : this.repository.findAll()) {
+			assertEquals("UpdatedValue" + actual.getId(), actual.getValue());
+		}
+		assertEquals(items.size(), this.repository.count());
+	}
+
 	@Test
 	void findById() {
 		TestItem testItem = this.repository.save(new TestItem(1L, "TestName", "TestValue"));
@@ -124,6 +161,125 @@ class ReindexerCrudRepositoryTests extends AbstractReindexerTest {
 		assertEquals(0, expectedItems.size());
 	}
 
+	@Test
+	void findAllByIdMultipleChunks() {
+		List<TestItem> items = new ArrayList<>();
+		for (long i = 0; i < 2500; i++) {
+			items.add(new TestItem(i, "TestName" + i, "TestValue" + i));
+		}
+		this.repository.saveAll(items);
+		List<Long> ids = new ArrayList<>();
+		for (long i = 0; i < 2500; i += 2) {
+			ids.add(i);
+		}
+		ids.add(5000L);
+		Map<Long, TestItem> actualItems = this.repository.findAllById(ids)
+			.stream()
+			.collect(Collectors.toMap(TestItem::getId, Function.identity()));
+		assertEquals(1250, actualItems.size());
+		for (long i = 0; i < 2500; i += 2) {
+			TestItem actual = actualItems.get(i);
+			assertNotNull(actual);
+			assertEquals("TestName" + i, actual.getName());
+			assertEquals("TestValue" + i, actual.getValue());
+		}
+	}
+
+	@Test
+	void findAllByIdPreserveIdOrder() {
+		TestItemReindexerRepository repository = createRepository((factory) -> {
+			factory.setBatchSize(100);
+			factory.setPreserveIdOrder(true);
+		});
+		List<TestItem> items = new ArrayList<>();
+		for (long i = 0; i < 250; i++) {
+			items.add(new TestItem(i, "TestName" + i, "TestValue" + i));
+		}
+		repository.saveAll(items);
+		List<Long> ids = new ArrayList<>();
+		for (long i = 249; i >= 0; i -= 3) {
+			ids.add(i);
+		}
+		ids.add(1, 5000L);
+		ids.add(249L);
+		List<Long> expectedIds = ids.stream().filter((id) -> id < 250).distinct().toList();
+		List<Long> actualIds = repository.findAllById(ids).stream().map(TestItem::getId).toList();
+		assertEquals(expectedIds, actualIds);
+	}
+
+	@Test
+	void findAllByIdMultipleChunksConcurrently() {
+		AtomicInteger submittedChunks = new AtomicInteger();
+		ExecutorService executorService = Executors.newFixedThreadPool(4);
+		try {
+			TestItemReindexerRepository repository = createRepository((factory) -> {
+				factory.setBatchSize(100);
+				factory.setBatchExecutor((task) -> {
+					submittedChunks.incrementAndGet();
+					executorService.execute(task);
+				});
+			});
+			List<TestItem> items = new ArrayList<>();
+			for (long i = 0; i < 250; i++) {
+				items.add(new TestItem(i, "TestName" + i, "TestValue" + i));
+			}
+			repository.saveAll(items);
+			submittedChunks.set(0);
+			List<Long> ids = new ArrayList<>();
+			for (long i = 0; i < 250; i++) {
+				ids.add(i);
+			}
+			ids.add(5000L);
+			Map<Long, TestItem> actualItems = repository.findAllById(ids)
+				.stream()
+				.collect(Collectors.toMap(TestItem::getId, Function.identity()));
+			assertEquals(3, submittedChunks.get());
+			assertEquals(250, actualItems.size());
+			for (long i = 0; i < 250; i++) {
+				TestItem actual = actualItems.get(i);
+				assertNotNull(actual);
+				assertEquals("TestName" + i, actual.getName());
+				assertEquals("TestValue" + i, actual.getValue());
+			}
+		}
+		finally {
+			executorService.shutdownNow();
+		}
+	}
+
+	@Test
+	void findAllByIdMultipleChunksConcurrentlyPreserveIdOrder() {
+		ExecutorService executorService = Executors.newFixedThreadPool(4);
+		try {
+			TestItemReindexerRepository repository = createRepository((factory) -> {
+				factory.setBatchSize(100);
+				factory.setBatchExecutor(executorService);
+				factory.setPreserveIdOrder(true);
+			});
+			List<TestItem> items = new ArrayList<>();
+			for (long i = 0; i < 250; i++) {
+				items.add(new TestItem(i, "TestName" + i, "TestValue" + i));
+			}
+			repository.saveAll(items);
+			List<Long> ids = new ArrayList<>();
+			for (long i = 249; i >= 0; i--) {
+				ids.add(i);
+			}
+			List<Long> actualIds = repository.findAllById(ids).stream().map(TestItem::getId).toList();
+			assertEquals(ids, actualIds);
+		}
+		finally {
+			executorService.shutdownNow();
+		}
+	}
+
+	private TestItemReindexerRepository createRepository(Consumer<ReindexerRepositoryFactory> customizer) {
+		ReindexerRepositoryFactory factory = new ReindexerRepositoryFactory(this.mappingContext, this.namespaceFactory,
+				this.reindexerConverter, this.ctx);
+		customizer.accept(factory);
+		return factory.getRepository(TestItemReindexerRepository.class);
+	}
+
 	@Test
 	void queryGetOneById() {
 		TestItem testItem = this.repository.save(new TestItem(1L, "TestName", "TestValue"));
@@ -181,6 +337,20 @@ class ReindexerCrudRepositoryTests extends AbstractReindexerTest {
 		assertEquals(0, this.repository.count());
 	}
 
+	@Test
+	void deleteAllEntitiesMultipleChunks() {
+		List<TestItem> items = new ArrayList<>();
+		for (long i = 0; i < 2500; i++) {
+			items.add(new TestItem(i, "TestName" + i, "TestValue" + i));
+		}
+		this.repository.saveAll(items);
+		assertEquals(items.size(), this.repository.count());
+		this.repository.deleteAll(items.subList(0, 2100));
+		assertEquals(400, this.repository.count());
+		assertFalse(this.repository.existsById(2099L));
+		assertTrue(this.repository.existsById(2100L));
+	}
+
 	@Test
 	void deleteAll() {
 		List<TestItem> expectedItems = new ArrayList<>();
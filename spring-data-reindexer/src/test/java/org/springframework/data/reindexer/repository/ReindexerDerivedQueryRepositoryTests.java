@@ -18,25 +18,44 @@ package org.springframework.data.reindexer.repository;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.junit.jupiter.api.Test;
+import ru.rt.restream.reindexer.Query;
 import ru.rt.restream.reindexer.ResultIterator;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationContext;
+import org.springframework.dao.EmptyResultDataAccessException;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.data.reindexer.core.convert.ReindexerConverter;
+import org.springframework.data.reindexer.core.mapping.QueryTimeout;
+import org.springframework.data.reindexer.core.mapping.ReindexerCacheable;
+import org.springframework.data.reindexer.core.mapping.ReindexerMappingContext;
 import org.springframework.data.reindexer.repository.item.entity.TestItem;
 import org.springframework.data.reindexer.repository.item.TestItemReindexerRepository;
 import org.springframework.data.reindexer.repository.item.dto.TestEnum;
+import org.springframework.data.reindexer.repository.item.dto.TestItemNameCountRecord;
+import org.springframework.data.reindexer.repository.item.dto.TestItemNameRecord;
+import org.springframework.data.reindexer.repository.item.dto.TestItemNameValueCountRecord;
 import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.domain.Sort.Direction;
+import org.springframework.data.reindexer.repository.support.ReindexerNamespaceFactory;
+import org.springframework.data.reindexer.repository.support.ReindexerRepositoryFactory;
+import org.springframework.data.repository.NoRepositoryBean;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatException;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
@@ -50,6 +69,18 @@ class ReindexerDerivedQueryRepositoryTests extends AbstractReindexerTest {
 	@Autowired
 	TestItemReindexerRepository repository;
 
+	@Autowired
+	ReindexerMappingContext mappingContext;
+
+	@Autowired
+	ReindexerNamespaceFactory namespaceFactory;
+
+	@Autowired
+	ReindexerConverter reindexerConverter;
+
+	@Autowired
+	ApplicationContext ctx;
+
 	@Test
 	void findByName() {
 		TestItem testItem = this.repository.save(new TestItem(1L, "TestName", null));
@@ -60,6 +91,108 @@ class ReindexerDerivedQueryRepositoryTests extends AbstractReindexerTest {
 		assertEquals(testItem.getValue(), item.getValue());
 	}
 
+	@Test
+	void findFutureByName() {
+		TestItem testItem = this.repository.save(new TestItem(1L, "TestName", null));
+		CompletableFuture<Optional<TestItem>> future = this.repository.findFutureByName("TestName");
+		TestItem item = future.join().orElse(null);
+		assertNotNull(item);
+		assertEquals(testItem.getId(), item.getId());
+		assertEquals(testItem.getName(), item.getName());
+		assertFalse(this.repository.findFutureByName("NotFound").join().isPresent());
+	}
+
+	@Test
+	void findPrefetchNameRecordByValueOrderByIdAsc() {
+		List<TestItem> items = new ArrayList<>();
+		for (long i = 0; i < 100; i++) {
+			items.add(new TestItem(i, "TestName" + i, (i % 2 == 0) ? "Even" : "Odd"));
+		}
+		this.repository.saveAll(items);
+		try (Stream<TestItemNameRecord> stream = this.repository.findPrefetchNameRecordByValueOrderByIdAsc("Even")) {
+			assertEquals(List.of("TestName0", "TestName2", "TestName4"),
+					stream.limit(3).map(TestItemNameRecord::name).toList());
+		}
+		try (Stream<TestItemNameRecord> stream = this.repository.findPrefetchNameRecordByValueOrderByIdAsc("Even")) {
+			List<String> names = stream.map(TestItemNameRecord::name).toList();
+			assertEquals(50, names.size());
+			for (int i = 0; i < names.size(); i++) {
+				assertEquals("TestName" + (i * 2), names.get(i));
+			}
+		}
+	}
+
+	@Test
+	void findTimeLimitedByValueOrderByIdAsc() {
+		this.repository.save(new TestItem(1L, "TestName1", "TestValue"));
+		this.repository.save(new TestItem(2L, "TestName2", "TestValue"));
+		assertThat(this.repository.findTimeLimitedByValueOrderByIdAsc("TestValue")).extracting(TestItem::getId)
+			.containsExactly(1L, 2L);
+	}
+
+	@Test
+	void findExpiredByValue() {
+		this.repository.save(new TestItem(1L, "TestName1", "TestValue"));
+		try (Stream<TestItem> stream = this.repository.findExpiredByValue("TestValue")) {
+			assertThrows(QueryTimeoutException.class, stream::toList);
+		}
+	}
+
+	@Test
+	void findParallelNameRecordByValueOrderByIdAsc() {
+		List<TestItem> items = new ArrayList<>();
+		for (long i = 0; i < 1000; i++) {
+			items.add(new TestItem(i, "TestName" + i, (i % 2 == 0) ? "Even" : "Odd"));
+		}
+		this.repository.saveAll(items);
+		List<TestItemNameRecord> records = this.repository.findParallelNameRecordByValueOrderByIdAsc("Odd");
+		assertEquals(500, records.size());
+		for (int i = 0; i < records.size(); i++) {
+			assertEquals("TestName" + (i * 2 + 1), records.get(i).name());
+		}
+	}
+
+	@Test
+	void getRepositoryWhenCacheableDeleteQueryThenException() {
+		assertThatException().isThrownBy(() -> createRepositoryFactory().getRepository(CacheableDeleteRepository.class))
+			.withStackTraceContaining("@ReindexerCacheable is not supported for query methods that modify data");
+	}
+
+	@Test
+	void getRepositoryWhenCacheableStreamQueryThenException() {
+		assertThatException().isThrownBy(() -> createRepositoryFactory().getRepository(CacheableStreamRepository.class))
+			.withStackTraceContaining("@ReindexerCacheable is not supported for query methods returning a Stream");
+	}
+
+	@Test
+	void getRepositoryWhenTimeLimitedCountQueryThenException() {
+		assertThatException()
+			.isThrownBy(() -> createRepositoryFactory().getRepository(TimeLimitedCountRepository.class))
+			.withStackTraceContaining("@QueryTimeout is not supported for count, exists, delete and aggregation");
+	}
+
+	private ReindexerRepositoryFactory createRepositoryFactory() {
+		return new ReindexerRepositoryFactory(this.mappingContext, this.namespaceFactory, this.reindexerConverter,
+				this.ctx);
+	}
+
+	@Test
+	void findCachedByValueOrderByIdAsc() {
+		this.repository.save(new TestItem(1L, "TestName1", "Cached"));
+		this.repository.save(new TestItem(2L, "TestName2", "Cached"));
+		assertEquals(List.of(1L, 2L),
+				this.repository.findCachedByValueOrderByIdAsc("Cached").stream().map(TestItem::getId).toList());
+		this.repository.query().where("id", Query.Condition.EQ, 2L).delete();
+		assertEquals(List.of(1L),
+				this.repository.findCachedByValueOrderByIdAsc("Cached").stream().map(TestItem::getId).toList());
+		this.repository.save(new TestItem(3L, "TestName3", "Cached"));
+		assertEquals(List.of(1L, 3L),
+				this.repository.findCachedByValueOrderByIdAsc("Cached").stream().map(TestItem::getId).toList());
+		this.repository.deleteById(1L);
+		assertEquals(List.of(3L),
+				this.repository.findCachedByValueOrderByIdAsc("Cached").stream().map(TestItem::getId).toList());
+	}
+
 	@Test
 	void findByNameAndValue() {
 		TestItem testItem = this.repository.save(new TestItem(1L, "TestName", "TestValue"));
@@ -209,6 +342,169 @@ class ReindexerDerivedQueryRepositoryTests extends AbstractReindexerTest {
 		assertEquals(2, this.repository.countByValue("TestValue"));
 	}
 
+	@Test
+	void sumIdByName() {
+		this.repository.save(new TestItem(1L, "TestName", "TestValue"));
+		this.repository.save(new TestItem(2L, "TestName", "TestValue"));
+		this.repository.save(new TestItem(3L, "TestName", "TestValue"));
+		this.repository.save(new TestItem(4L, "TestName1", "TestValue"));
+		assertEquals(6L, this.repository.sumIdByName("TestName"));
+	}
+
+	@Test
+	void minIdByName() {
+		this.repository.save(new TestItem(1L, "TestName1", "TestValue"));
+		this.repository.save(new TestItem(2L, "TestName", "TestValue"));
+		this.repository.save(new TestItem(3L, "TestName", "TestValue"));
+		assertEquals(2L, this.repository.minIdByName("TestName"));
+	}
+
+	@Test
+	void maxIdByName() {
+		this.repository.save(new TestItem(1L, "TestName", "TestValue"));
+		this.repository.save(new TestItem(2L, "TestName", "TestValue"));
+		this.repository.save(new TestItem(3L, "TestName1", "TestValue"));
+		assertEquals(2L, this.repository.maxIdByName("TestName"));
+	}
+
+	@Test
+	void avgIdByName() {
+		this.repository.save(new TestItem(1L, "TestName", "TestValue"));
+		this.repository.save(new TestItem(2L, "TestName", "TestValue"));
+		this.repository.save(new TestItem(4L, "TestName", "TestValue"));
+		assertEquals(7.0d / 3, this.repository.avgIdByName("TestName"), 0.0001d);
+	}
+
+	@Test
+	void sumIdByNameIn() {
+		this.repository.save(new TestItem(1L, "TestName1", "TestValue"));
+		this.repository.save(new TestItem(2L, "TestName2", "TestValue"));
+		this.repository.save(new TestItem(3L, "TestName3", "TestValue"));
+		assertEquals(3L, this.repository.sumIdByNameIn(List.of("TestName1", "TestName2")));
+	}
+
+	@Test
+	void sumId() {
+		this.repository.save(new TestItem(1L, "TestName1", "TestValue"));
+		this.repository.save(new TestItem(2L, "TestName2", "TestValue"));
+		this.repository.save(new TestItem(3L, "TestName3", "TestValue"));
+		assertEquals(6L, this.repository.sumId());
+	}
+
+	@Test
+	void sumIdByNameWhenNoMatchesThenZero() {
+		assertEquals(0L, this.repository.sumIdByName("TestName"));
+	}
+
+	@Test
+	void sumIdByNameWhenExceedsExactDoubleThenExact() {
+		this.repository.save(new TestItem((1L << 53) + 1, "TestName", "TestValue"));
+		this.repository.save(new TestItem((1L << 53) + 2, "TestName", "TestValue"));
+		this.repository.save(new TestItem(3L, "TestName", "TestValue"));
+		assertEquals((1L << 54) + 6, this.repository.sumIdByName("TestName"));
+	}
+
+	@Test
+	void maxIdByNameWhenExceedsExactDoubleThenExact() {
+		this.repository.save(new TestItem((1L << 53) + 1, "TestName", "TestValue"));
+		this.repository.save(new TestItem(2L, "TestName", "TestValue"));
+		assertEquals((1L << 53) + 1, this.repository.maxIdByName("TestName"));
+	}
+
+	@Test
+	void minIdByValueWhenExceedsExactDoubleThenExact() {
+		this.repository.save(new TestItem((1L << 53) + 3, "TestName", "TestValue"));
+		this.repository.save(new TestItem((1L << 53) + 1, "TestName", "TestValue"));
+		assertThat(this.repository.minIdByValue("TestValue")).contains((1L << 53) + 1);
+	}
+
+	@Test
+	void minIdByNameWhenNoMatchesThenEmptyResultDataAccessException() {
+		assertThrows(EmptyResultDataAccessException.class, () -> this.repository.minIdByName("TestName"));
+	}
+
+	@Test
+	void minIdByValueWhenNoMatchesThenEmpty() {
+		assertThat(this.repository.minIdByValue("TestValue")).isEmpty();
+	}
+
+	@Test
+	void minIdByValue() {
+		this.repository.save(new TestItem(2L, "TestName", "TestValue"));
+		this.repository.save(new TestItem(3L, "TestName", "TestValue"));
+		assertThat(this.repository.minIdByValue("TestValue")).contains(2L);
+	}
+
+	@Test
+	void maxIdByValueWhenNoMatchesThenNull() {
+		assertThat(this.repository.maxIdByValue("TestValue")).isNull();
+	}
+
+	@Test
+	void avgIdByValueWhenNoMatchesThenEmpty() {
+		assertThat(this.repository.avgIdByValue("TestValue")).isEmpty();
+	}
+
+	@Test
+	void findNameFacetByValue() {
+		this.repository.save(new TestItem(1L, "TestName1", "TestValue"));
+		this.repository.save(new TestItem(2L, "TestName1", "TestValue"));
+		this.repository.save(new TestItem(3L, "TestName2", "TestValue"));
+		this.repository.save(new TestItem(4L, "TestName3", "TestValue1"));
+		Map<String, Long> facet = this.repository.findNameFacetByValue("TestValue");
+		assertThat(facet).containsOnly(Map.entry("TestName1", 2L), Map.entry("TestName2", 1L));
+	}
+
+	@Test
+	void findMostFrequentNameFacetByValue() {
+		this.repository.save(new TestItem(1L, "TestName1", "TestValue"));
+		this.repository.save(new TestItem(2L, "TestName2", "TestValue"));
+		this.repository.save(new TestItem(3L, "TestName2", "TestValue"));
+		this.repository.save(new TestItem(4L, "TestName3", "TestValue"));
+		this.repository.save(new TestItem(5L, "TestName3", "TestValue"));
+		this.repository.save(new TestItem(6L, "TestName3", "TestValue"));
+		Map<String, Long> facet = this.repository.findMostFrequentNameFacetByValue("TestValue");
+		assertThat(facet).containsExactly(Map.entry("TestName3", 3L), Map.entry("TestName2", 2L));
+	}
+
+	@Test
+	void findIdFacetByValue() {
+		this.repository.save(new TestItem(1L, "TestName1", "TestValue"));
+		this.repository.save(new TestItem(2L, "TestName2", "TestValue"));
+		this.repository.save(new TestItem(3L, "TestName3", "TestValue"));
+		Map<Long, Long> facet = this.repository.findIdFacetByValue("TestValue");
+		assertThat(facet).containsExactly(Map.entry(3L, 1L), Map.entry(2L, 1L), Map.entry(1L, 1L));
+	}
+
+	@Test
+	void findIdFacetByValueWhenNoMatchesThenEmpty() {
+		assertThat(this.repository.findIdFacetByValue("TestValue")).isEmpty();
+	}
+
+	@Test
+	void findNameValueFacetByIdIn() {
+		this.repository.save(new TestItem(1L, "TestName1", "TestValue"));
+		this.repository.save(new TestItem(2L, "TestName2", "TestValue"));
+		this.repository.save(new TestItem(3L, "TestName2", "TestValue"));
+		this.repository.save(new TestItem(4L, "TestName3", "TestValue"));
+		this.repository.save(new TestItem(5L, "TestName4", "TestValue"));
+		List<TestItemNameValueCountRecord> facet = this.repository
+			.findNameValueFacetByIdIn(List.of(1L, 2L, 3L, 4L, 5L));
+		assertThat(facet).containsExactly(new TestItemNameValueCountRecord("TestName2", "TestValue", 2L),
+				new TestItemNameValueCountRecord("TestName3", "TestValue", 1L));
+	}
+
+	@Test
+	void findNameCountFacetByValue() {
+		this.repository.save(new TestItem(1L, "TestName1", "TestValue"));
+		this.repository.save(new TestItem(2L, "TestName2", "TestValue"));
+		this.repository.save(new TestItem(3L, "TestName2", "TestValue"));
+		try (Stream<TestItemNameCountRecord> facet = this.repository.findNameCountFacetByValue("TestValue")) {
+			assertThat(facet).containsExactly(new TestItemNameCountRecord("TestName2", 2L),
+					new TestItemNameCountRecord("TestName1", 1L));
+		}
+	}
+
 	@Test
 	void findAllSortedByIdInAscOrder() {
 		List<TestItem> expectedItems = new ArrayList<>();
@@ -501,4 +797,28 @@ class ReindexerDerivedQueryRepositoryTests extends AbstractReindexerTest {
 		assertTrue(foundItem.isPresent());
 	}
 
+	@NoRepositoryBean
+	interface CacheableDeleteRepository extends ReindexerRepository<TestItem, Long> {
+
+		@ReindexerCacheable
+		long deleteByName(String name);
+
+	}
+
+	@NoRepositoryBean
+	interface CacheableStreamRepository extends ReindexerRepository<TestItem, Long> {
+
+		@ReindexerCacheable
+		Stream<TestItem> findByName(String name);
+
+	}
+
+	@NoRepositoryBean
+	interface TimeLimitedCountRepository extends ReindexerRepository<TestItem, Long> {
+
+		@QueryTimeout(100)
+		long countByValue(String value);
+
+	}
+
 }
@@ -26,6 +26,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.dao.EmptyResultDataAccessException;
 import org.springframework.dao.IncorrectResultSizeDataAccessException;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.reindexer.LazyLoadingException;
 import org.springframework.data.reindexer.container.ReindexerTestContainer;
 import org.springframework.data.reindexer.repository.item.TestItemContainerRepository;
@@ -92,6 +93,21 @@ class ReindexerJoinRepositoryTests extends AbstractReindexerTest {
 		assertThat(expectedJoinedItems).hasSize(0);
 	}
 
+	@Test
+	void findCachedByValueWhenJoinedItemModifiedThenCachedResultInvalidated() {
+		TestJoinedItem joinedItem = this.joinedItemRepository.save(new TestJoinedItem(1L, "TestName1"));
+		this.repository
+			.save(new TestItem(1L, null, joinedItem.getId(), List.of(), "TestName", "Cached", null, null));
+		List<TestItem> foundItems = this.repository.findCachedByValueOrderByIdAsc("Cached");
+		assertThat(foundItems).hasSize(1);
+		assertThat(foundItems.get(0).getJoinedItem().getName()).isEqualTo("TestName1");
+		assertThat(this.repository.findCachedByValueOrderByIdAsc("Cached")).isSameAs(foundItems);
+		this.joinedItemRepository.save(new TestJoinedItem(1L, "TestName2"));
+		foundItems = this.repository.findCachedByValueOrderByIdAsc("Cached");
+		assertThat(foundItems).hasSize(1);
+		assertThat(foundItems.get(0).getJoinedItem().getName()).isEqualTo("TestName2");
+	}
+
 	@Test
 	void findByIdWithJoinedItemsOrderByPriceDescNameValueIdAscLimit10() {
 		List<TestJoinedItem> expectedJoinedItems = new ArrayList<>();
@@ -192,6 +208,69 @@ class ReindexerJoinRepositoryTests extends AbstractReindexerTest {
 		assertThatNoException().isThrownBy(() -> found.getJoinedItemLazy().getName());
 	}
 
+	@Test
+	void findAllWithJoinedItemBatchLazy() {
+		this.joinedItemRepository.save(new TestJoinedItem(1L, "TestName1"));
+		this.joinedItemRepository.save(new TestJoinedItem(2L, "TestName2"));
+		this.joinedItemRepository.save(new TestJoinedItem(3L, "TestName3"));
+		for (long i = 1; i <= 6; i++) {
+			TestItem item = new TestItem(i, "TestName" + i, "TestValue" + i);
+			item.setJoinedItemId(i % 3 + 1);
+			this.repository.save(item);
+		}
+		List<TestItem> foundItems = this.repository.findAll();
+		assertThat(foundItems).hasSize(6);
+		TestItem first = foundItems.get(0);
+		assertThat(first.getJoinedItemBatchLazy().getId()).isEqualTo(first.getJoinedItemId());
+		// all the remaining references must have been fetched along with the first one.
+		this.joinedItemRepository.deleteAll();
+		for (TestItem foundItem : foundItems) {
+			assertThat(foundItem.getJoinedItemBatchLazy().getId()).isEqualTo(foundItem.getJoinedItemId());
+			assertThat(foundItem.getJoinedItemBatchLazy().getName())
+				.isEqualTo("TestName" + foundItem.getJoinedItemId());
+		}
+	}
+
+	@Test
+	void findAllWithJoinedItemBatchLazyWhenMoreItemsThanBatchSizeThenFetchedInWindows() {
+		for (long i = 1; i <= 25; i++) {
+			this.joinedItemRepository.save(new TestJoinedItem(i, "TestName" + i));
+			TestItem item = new TestItem(i, "TestName" + i, "TestValue" + i);
+			item.setJoinedItemId(i);
+			this.repository.save(item);
+		}
+		List<TestItem> foundItems = this.repository.findAll(Sort.by("id"));
+		assertThat(foundItems).hasSize(25);
+		assertThat(foundItems.get(0).getJoinedItemBatchLazy().getName()).isEqualTo("TestName1");
+		// only the references of the first window must have been fetched along with the first one.
+		this.joinedItemRepository.deleteAll();
+		for (TestItem foundItem : foundItems.subList(0, 10)) {
+			assertThat(foundItem.getJoinedItemBatchLazy().getName())
+				.isEqualTo("TestName" + foundItem.getJoinedItemId());
+		}
+		for (TestItem foundItem : foundItems.subList(10, 25)) {
+			assertThat(foundItem.getJoinedItemBatchLazy().getName()).isNull();
+		}
+	}
+
+	@Test
+	void findAllWithJoinedItemBatchLazyWhenSeparateReadsThenSeparateBatches() {
+		this.joinedItemRepository.save(new TestJoinedItem(1L, "TestName1"));
+		this.joinedItemRepository.save(new TestJoinedItem(2L, "TestName2"));
+		TestItem item1 = new TestItem(1L, "TestName1", "TestValue1");
+		item1.setJoinedItemId(1L);
+		this.repository.save(item1);
+		TestItem item2 = new TestItem(2L, "TestName2", "TestValue2");
+		item2.setJoinedItemId(2L);
+		this.repository.save(item2);
+		TestItem found1 = this.repository.findAllById(List.of(1L)).get(0);
+		TestItem found2 = this.repository.findAllById(List.of(2L)).get(0);
+		assertThat(found1.getJoinedItemBatchLazy().getName()).isEqualTo("TestName1");
+		// the reference of the other read must not have been fetched along with the first one.
+		this.joinedItemRepository.deleteAll();
+		assertThat(found2.getJoinedItemBatchLazy().getName()).isNull();
+	}
+
 	@Test
 	void findByIdWhenMandatoryItemIdNullThenDataIntegrityViolationException() {
 		this.itemContainerRepository.save(TestItemContainer.builder().id(1L).build());
@@ -0,0 +1,110 @@
+/*
+ * Copyright 2022-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.reindexer.repository;
+
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.reindexer.repository.item.TestNearCachedItemRepository;
+import org.springframework.data.reindexer.repository.item.entity.TestNearCachedItem;
+import org.springframework.data.reindexer.repository.support.EntityNearCache;
+import org.springframework.data.reindexer.repository.support.ReindexerNamespaceFactory;
+import org.springframework.data.reindexer.repository.support.TransactionalNamespace;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link ReindexerRepository}'s entity near-cache.
+ *
+ * @author Evgeniy Cheban
+ */
+class ReindexerNearCacheRepositoryTests extends AbstractReindexerTest {
+
+	@Autowired
+	TestNearCachedItemRepository repository;
+
+	@Autowired
+	ReindexerNamespaceFactory namespaceFactory;
+
+	@AfterEach
+	void clearNearCache() {
+		// Deleting through the repository also clears the near-cache.
+		this.repository.deleteAll();
+	}
+
+	@Test
+	void findByIdFromNearCache() {
+		TestNearCachedItem item = this.repository.save(new TestNearCachedItem(1L, "TestName"));
+		EntityNearCache<?> nearCache = getNearCache();
+		long hits = nearCache.getHitCount();
+		assertThat(this.repository.findById(1L)).hasValue(item);
+		assertThat(nearCache.getHitCount()).isEqualTo(hits);
+		assertThat(nearCache.size()).isEqualTo(1);
+		assertThat(this.repository.findById(1L)).hasValue(item);
+		assertThat(this.repository.existsById(1L)).isTrue();
+		assertThat(nearCache.getHitCount()).isEqualTo(hits + 2);
+	}
+
+	@Test
+	void findByIdWhenSavedThenCachedEntityEvicted() {
+		this.repository.save(new TestNearCachedItem(1L, "TestName"));
+		assertThat(this.repository.findById(1L)).isPresent();
+		TestNearCachedItem updated = this.repository.save(new TestNearCachedItem(1L, "TestNameUpdated"));
+		assertThat(this.repository.findById(1L)).hasValue(updated);
+	}
+
+	@Test
+	void findByIdWhenDeletedThenCachedEntityEvicted() {
+		this.repository.save(new TestNearCachedItem(1L, "TestName"));
+		assertThat(this.repository.findById(1L)).isPresent();
+		this.repository.deleteById(1L);
+		assertThat(this.repository.findById(1L)).isEmpty();
+		assertThat(this.repository.existsById(1L)).isFalse();
+	}
+
+	@Test
+	void findByIdWhenAllDeletedThenNearCacheCleared() {
+		this.repository
+			.saveAll(List.of(new TestNearCachedItem(1L, "TestName1"), new TestNearCachedItem(2L, "TestName2")));
+		assertThat(this.repository.findById(1L)).isPresent();
+		assertThat(this.repository.findById(2L)).isPresent();
+		this.repository.deleteAll();
+		assertThat(getNearCache().size()).isZero();
+		assertThat(this.repository.findById(1L)).isEmpty();
+		assertThat(this.repository.findById(2L)).isEmpty();
+	}
+
+	@Test
+	void findAllByIdWhenPartiallyCachedThenMissingIdsQueried() {
+		TestNearCachedItem item1 = this.repository.save(new TestNearCachedItem(1L, "TestName1"));
+		TestNearCachedItem item2 = this.repository.save(new TestNearCachedItem(2L, "TestName2"));
+		assertThat(this.repository.findById(1L)).hasValue(item1);
+		assertThat(this.repository.findAllById(List.of(1L, 2L, 3L))).containsExactlyInAnyOrder(item1, item2);
+		assertThat(getNearCache().size()).isEqualTo(2);
+	}
+
+	private EntityNearCache<?> getNearCache() {
+		TransactionalNamespace<?> namespace = (TransactionalNamespace<?>) this.namespaceFactory
+			.openNamespace(TestNearCachedItem.class);
+		EntityNearCache<?> nearCache = namespace.getNearCache();
+		assertThat(nearCache).isNotNull();
+		return nearCache;
+	}
+
+}
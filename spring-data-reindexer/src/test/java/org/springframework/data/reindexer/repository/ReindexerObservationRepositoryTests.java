@@ -0,0 +1,96 @@
+/*
+ * Copyright 2022-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.reindexer.repository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import io.micrometer.observation.Observation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.reindexer.observability.ReindexerObservationContext;
+import org.springframework.data.reindexer.repository.item.TestItemReindexerRepository;
+import org.springframework.data.reindexer.repository.item.entity.TestItem;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link ReindexerRepository}'s Micrometer Observation support.
+ *
+ * @author Evgeniy Cheban
+ */
+class ReindexerObservationRepositoryTests extends AbstractReindexerTest {
+
+	@Autowired
+	TestItemReindexerRepository repository;
+
+	@Autowired
+	RecordingObservationHandler observationHandler;
+
+	@BeforeEach
+	void setUp() {
+		this.repository.save(new TestItem(1L, "TestName1", "TestValue"));
+		this.repository.save(new TestItem(2L, "TestName2", "TestValue"));
+		this.observationHandler.contexts.clear();
+	}
+
+	@Test
+	void observeDerivedQuery() {
+		assertThat(this.repository.findByNameNotIgnoreCase("TestName1")).hasSize(1);
+		List<ReindexerObservationContext> contexts = new ArrayList<>(this.observationHandler.contexts);
+		assertThat(contexts).extracting(Observation.Context::getName)
+			.containsExactly("reindexer.query.creation", "reindexer.query.execution", "reindexer.query.projection",
+					"reindexer.repository.method");
+		assertThat(contexts).allSatisfy((context) -> {
+			assertThat(context.getNamespace()).isEqualTo("items");
+			assertThat(context.getMethod()).isEqualTo("TestItemReindexerRepository.findByNameNotIgnoreCase");
+			assertThat(context.getQueryKind()).isEqualTo("derived");
+			assertThat(context.getResultType()).isEqualTo("collection");
+		});
+		assertThat(contexts.get(2).getResultSize()).isEqualTo(1);
+	}
+
+	@Test
+	void observeStringBasedStreamQuery() {
+		try (Stream<TestItem> stream = this.repository.findAllStreamSql()) {
+			assertThat(stream).hasSize(2);
+		}
+		List<ReindexerObservationContext> contexts = new ArrayList<>(this.observationHandler.contexts);
+		assertThat(contexts).extracting(Observation.Context::getName)
+			.containsExactly("reindexer.query.creation", "reindexer.query.execution", "reindexer.repository.method",
+					"reindexer.query.projection");
+		assertThat(contexts).allSatisfy((context) -> {
+			assertThat(context.getQueryKind()).isEqualTo("string");
+			assertThat(context.getResultType()).isEqualTo("stream");
+		});
+		assertThat(contexts.get(3).getResultSize()).isEqualTo(2);
+	}
+
+	@Test
+	void observeCrudMethod() {
+		assertThat(this.repository.findById(1L)).isPresent();
+		assertThat(this.observationHandler.contexts).singleElement().satisfies((context) -> {
+			assertThat(context.getName()).isEqualTo("reindexer.repository.method");
+			assertThat(context.getMethod()).isEqualTo("TestItemReindexerRepository.findById");
+			assertThat(context.getQueryKind()).isEqualTo("crud");
+			assertThat(context.getResultType()).isEqualTo("entity");
+		});
+	}
+
+}
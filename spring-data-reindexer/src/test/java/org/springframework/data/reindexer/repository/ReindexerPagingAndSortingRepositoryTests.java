@@ -23,12 +23,16 @@ import java.util.Set;
 import org.junit.jupiter.api.Test;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
 import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.data.reindexer.repository.item.TestItemReindexerRepository;
 import org.springframework.data.reindexer.repository.item.entity.TestItem;
 
@@ -106,6 +110,27 @@ class ReindexerPagingAndSortingRepositoryTests extends AbstractReindexerTest {
 		assertEquals(0, expectedItems.size());
 	}
 
+	@Test
+	void findCachedTotalPageByIdIn() {
+		List<Long> ids = new ArrayList<>();
+		for (long i = 0; i < 20; i++) {
+			ids.add(i);
+		}
+		for (long i = 0; i < 10; i++) {
+			this.repository.save(new TestItem(i, "TestName" + i, "TestValue" + i));
+		}
+		Page<TestItem> firstPage = this.repository.findCachedTotalPageByIdIn(ids, PageRequest.of(0, 3));
+		assertEquals(10, firstPage.getTotalElements());
+		for (long i = 10; i < 15; i++) {
+			this.repository.save(new TestItem(i, "TestName" + i, "TestValue" + i));
+		}
+		Page<TestItem> secondPage = this.repository.findCachedTotalPageByIdIn(ids, PageRequest.of(1, 3));
+		assertEquals(3, secondPage.getNumberOfElements());
+		assertEquals(10, secondPage.getTotalElements());
+		Page<TestItem> otherPage = this.repository.findCachedTotalPageByIdIn(ids.subList(0, 15), PageRequest.of(1, 3));
+		assertEquals(15, otherPage.getTotalElements());
+	}
+
 	@Test
 	void findFirst2By() {
 		TestItem item1 = this.repository.save(new TestItem(1L, "TestName1", "TestValue1"));
@@ -332,4 +357,49 @@ class ReindexerPagingAndSortingRepositoryTests extends AbstractReindexerTest {
 		}
 	}
 
+	@Test
+	void findFirst5ByIdInScrollKeyset() {
+		List<TestItem> items = new ArrayList<>();
+		for (long i = 0; i < 23; i++) {
+			items.add(this.repository.save(new TestItem(i, "TestName" + i, "TestValue" + (i % 4))));
+		}
+		List<Long> ids = items.stream().map(TestItem::getId).toList();
+		Sort sort = Sort.by(Sort.Direction.DESC, "value");
+		List<TestItem> expectedItems = this.repository.findAllByIdIn(ids, sort.and(Sort.by("id")));
+		List<TestItem> foundItems = new ArrayList<>();
+		Window<TestItem> window = this.repository.findFirst5ByIdIn(ids, ScrollPosition.keyset(), sort);
+		foundItems.addAll(window.getContent());
+		while (window.hasNext()) {
+			assertEquals(5, window.size());
+			window = this.repository.findFirst5ByIdIn(ids, window.positionAt(window.size() - 1), sort);
+			foundItems.addAll(window.getContent());
+		}
+		assertEquals(3, window.size());
+		assertEquals(expectedItems, foundItems);
+		KeysetScrollPosition position = (KeysetScrollPosition) window.positionAt(0);
+		Window<TestItem> previousWindow = this.repository.findFirst5ByIdIn(ids, position.backward(), sort);
+		assertEquals(expectedItems.subList(15, 20), previousWindow.getContent());
+	}
+
+	@Test
+	void findByValueNotScrollOffset() {
+		List<TestItem> expectedItems = new ArrayList<>();
+		for (long i = 0; i < 10; i++) {
+			expectedItems.add(this.repository.save(new TestItem(i, "TestName" + i, "TestValue" + i)));
+		}
+		this.repository.save(new TestItem(10L, "TestName10", "Excluded"));
+		List<TestItem> foundItems = new ArrayList<>();
+		ScrollPosition position = ScrollPosition.offset();
+		Window<TestItem> window;
+		do {
+			window = this.repository.findByValueNot("Excluded", position, Limit.of(4), Sort.by("id"));
+			foundItems.addAll(window.getContent());
+			if (!window.isEmpty()) {
+				position = window.positionAt(window.size() - 1);
+			}
+		}
+		while (window.hasNext());
+		assertEquals(expectedItems, foundItems);
+	}
+
 }
@@ -15,6 +15,7 @@
  */
 package org.springframework.data.reindexer.repository;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
@@ -25,7 +26,9 @@ import org.springframework.data.domain.Example;
 import org.springframework.data.domain.ExampleMatcher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.ScrollPosition;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.data.reindexer.repository.item.TestItemReindexerRepository;
 import org.springframework.data.reindexer.repository.item.dto.TestItemDto;
 import org.springframework.data.reindexer.repository.item.dto.TestItemProjection;
@@ -198,6 +201,24 @@ class ReindexerQueryByExampleRepositoryTests extends AbstractReindexerTest {
 		assertThat(ids).containsExactly(3L, 1L, 2L);
 	}
 
+	@Test
+	void findByFluentQueryExampleScroll() {
+		for (long i = 0; i < 12; i++) {
+			this.repository.save(new TestItem(i, "TestName" + i, "TestValue" + (i % 3), i % 2 == 0));
+		}
+		List<Long> ids = new ArrayList<>();
+		Window<TestItem> window = this.repository.findBy(Example.of(new TestItem(null, null, null, true)),
+				query -> query.sortBy(Sort.by("value")).limit(4).scroll(ScrollPosition.keyset()));
+		ids.addAll(window.stream().map(TestItem::getId).toList());
+		while (window.hasNext()) {
+			ScrollPosition position = window.positionAt(window.size() - 1);
+			window = this.repository.findBy(Example.of(new TestItem(null, null, null, true)),
+					query -> query.sortBy(Sort.by("value")).limit(4).scroll(position));
+			ids.addAll(window.stream().map(TestItem::getId).toList());
+		}
+		assertThat(ids).containsExactly(0L, 6L, 4L, 10L, 2L, 8L);
+	}
+
 	@Test
 	void findByFluentQueryExampleCount() {
 		this.repository.save(new TestItem(1L, "TestName", "TestValue1"));
@@ -309,6 +330,18 @@ class ReindexerQueryByExampleRepositoryTests extends AbstractReindexerTest {
 		assertEquals(3, count);
 	}
 
+	@Test
+	void countByExampleMatcherContainingDifferentProbes() {
+		this.repository.save(new TestItem(1L, "TestName", "TestValue"));
+		this.repository.save(new TestItem(2L, "TestName", "TestValue"));
+		this.repository.save(new TestItem(3L, "OtherName", "Value"));
+		ExampleMatcher matcher = ExampleMatcher.matching()
+			.withMatcher("value", ExampleMatcher.GenericPropertyMatcher.of(ExampleMatcher.StringMatcher.CONTAINING));
+		assertEquals(2, this.repository.count(Example.of(new TestItem(null, null, "est"), matcher)));
+		assertEquals(1, this.repository.count(Example.of(new TestItem(null, "OtherName", "alu"), matcher)));
+		assertEquals(3, this.repository.count(Example.of(new TestItem(null, null, null), matcher)));
+	}
+
 	@Test
 	void findOneByExampleMatcherStarting() {
 		this.repository.save(new TestItem(1L, "TestName", "TestValue"));
@@ -0,0 +1,178 @@
+/*
+ * Copyright 2022-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.reindexer.repository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import ru.rt.restream.reindexer.Namespace;
+import ru.rt.restream.reindexer.Query;
+import ru.rt.restream.reindexer.ResultIterator;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationContext;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.reindexer.core.convert.ReindexerConverter;
+import org.springframework.data.reindexer.core.mapping.ReindexerMappingContext;
+import org.springframework.data.reindexer.repository.item.TestItemReactiveRepository;
+import org.springframework.data.reindexer.repository.item.dto.TestItemNameRecord;
+import org.springframework.data.reindexer.repository.item.entity.TestItem;
+import org.springframework.data.reindexer.repository.support.ReactiveReindexerRepositoryFactory;
+import org.springframework.data.reindexer.repository.support.ReindexerNamespaceFactory;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Tests for {@link ReactiveReindexerRepository}.
+ *
+ * @author Evgeniy Cheban
+ */
+class ReindexerReactiveRepositoryTests extends AbstractReindexerTest {
+
+	@Autowired
+	TestItemReactiveRepository repository;
+
+	@Autowired
+	ReindexerMappingContext mappingContext;
+
+	@Autowired
+	ReindexerNamespaceFactory namespaceFactory;
+
+	@Autowired
+	ReindexerConverter reindexerConverter;
+
+	@Autowired
+	ApplicationContext ctx;
+
+	@Test
+	void saveAndFindById() {
+		this.repository.save(new TestItem(1L, "TestName", "TestValue")).block();
+		TestItem item = this.repository.findById(1L).block();
+		assertNotNull(item);
+		assertEquals("TestName", item.getName());
+		assertEquals("TestValue", item.getValue());
+		assertNull(this.repository.findById(2L).block());
+	}
+
+	@Test
+	void saveAllPublisherFindAllSorted() {
+		List<TestItem> items = new ArrayList<>();
+		for (long i = 0; i < 2500; i++) {
+			items.add(new TestItem(i, "TestName" + i, "TestValue" + i));
+		}
+		this.repository.saveAll(Flux.fromIterable(items)).blockLast();
+		assertEquals(items.size(), this.repository.count().block());
+		List<TestItem> foundItems = this.repository.findAll(Sort.by(Sort.Direction.DESC, "id")).collectList().block();
+		assertNotNull(foundItems);
+		assertEquals(items.size(), foundItems.size());
+		assertEquals(2499L, foundItems.get(0).getId());
+		assertEquals(0L, foundItems.get(foundItems.size() - 1).getId());
+	}
+
+	@Test
+	void findAllCancelled() {
+		List<TestItem> items = new ArrayList<>();
+		for (long i = 0; i < 100; i++) {
+			items.add(new TestItem(i, "TestName" + i, "TestValue" + i));
+		}
+		this.repository.saveAll(items).blockLast();
+		List<ResultIterator<?>> iterators = new CopyOnWriteArrayList<>();
+		TestItemReactiveRepository repository = createIteratorRecordingRepository(iterators);
+		List<TestItem> foundItems = repository.findAll(Sort.by("id")).take(3).collectList().block();
+		assertNotNull(foundItems);
+		assertEquals(List.of(0L, 1L, 2L), foundItems.stream().map(TestItem::getId).toList());
+		assertEquals(items.size(), this.repository.count().block());
+		assertThat(iterators).isNotEmpty();
+		for (ResultIterator<?> iterator : iterators) {
+			verify(iterator, timeout(1000)).close();
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private TestItemReactiveRepository createIteratorRecordingRepository(List<ResultIterator<?>> iterators) {
+		Namespace<TestItem> namespace = spy(this.namespaceFactory.openNamespace(TestItem.class));
+		doAnswer((queryInvocation) -> {
+			Query<TestItem> query = spy((Query<TestItem>) queryInvocation.callRealMethod());
+			doAnswer((executeInvocation) -> {
+				ResultIterator<?> iterator = spy((ResultIterator<?>) executeInvocation.callRealMethod());
+				iterators.add(iterator);
+				return iterator;
+			}).when(query).execute();
+			return query;
+		}).when(namespace).query();
+		ReindexerNamespaceFactory delegate = this.namespaceFactory;
+		ReindexerNamespaceFactory namespaceFactory = new ReindexerNamespaceFactory() {
+			@Override
+			public <T> Namespace<T> openNamespace(Class<T> domainType) {
+				return (domainType == TestItem.class) ? (Namespace<T>) namespace : delegate.openNamespace(domainType);
+			}
+		};
+		return new ReactiveReindexerRepositoryFactory(this.mappingContext, namespaceFactory, this.reindexerConverter,
+				this.ctx)
+			.getRepository(TestItemReactiveRepository.class);
+	}
+
+	@Test
+	void findByName() {
+		this.repository.save(new TestItem(1L, "TestName", "TestValue")).block();
+		TestItem item = this.repository.findByName("TestName").block();
+		assertNotNull(item);
+		assertEquals(1L, item.getId());
+		assertNull(this.repository.findByName("NotFound").block());
+	}
+
+	@Test
+	void findByValueOrderByIdAsc() {
+		for (long i = 0; i < 10; i++) {
+			this.repository.save(new TestItem(i, "TestName" + i, (i % 2 == 0) ? "Even" : "Odd")).block();
+		}
+		List<Long> ids = this.repository.findByValueOrderByIdAsc("Even").map(TestItem::getId).collectList().block();
+		assertEquals(List.of(0L, 2L, 4L, 6L, 8L), ids);
+		assertEquals(List.of(0L, 2L), this.repository.findAllByValueQuery("Even")
+			.take(2)
+			.map(TestItem::getId)
+			.collectList()
+			.block());
+	}
+
+	@Test
+	void findNameRecordByValue() {
+		this.repository.save(new TestItem(1L, "TestName", "TestValue")).block();
+		List<TestItemNameRecord> records = this.repository.findNameRecordByValue("TestValue").collectList().block();
+		assertEquals(List.of(new TestItemNameRecord("TestName")), records);
+	}
+
+	@Test
+	void existsAndDeleteById() {
+		this.repository.save(new TestItem(1L, "TestName", "TestValue")).block();
+		assertTrue(this.repository.existsById(1L).block());
+		this.repository.deleteById(1L).block();
+		assertFalse(this.repository.existsById(1L).block());
+	}
+
+}
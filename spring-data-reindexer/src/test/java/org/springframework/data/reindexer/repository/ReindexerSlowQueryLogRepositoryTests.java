@@ -0,0 +1,91 @@
+/*
+ * Copyright 2022-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.reindexer.repository;
+
+import java.time.Duration;
+import java.util.Iterator;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import ru.rt.restream.reindexer.ResultIterator;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.reindexer.repository.item.TestItemReindexerRepository;
+import org.springframework.data.reindexer.repository.item.entity.TestItem;
+import org.springframework.data.reindexer.repository.query.ReindexerSlowQueryLog;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link ReindexerSlowQueryLog}.
+ *
+ * @author Evgeniy Cheban
+ */
+class ReindexerSlowQueryLogRepositoryTests extends AbstractReindexerTest {
+
+	@Autowired
+	TestItemReindexerRepository repository;
+
+	@Autowired
+	ReindexerSlowQueryLog slowQueryLog;
+
+	@Autowired
+	RecordingQueryExplainer queryExplainer;
+
+	@BeforeEach
+	void setUp() {
+		this.repository.save(new TestItem(1L, "TestName1", "TestValue"));
+		this.repository.save(new TestItem(2L, "TestName2", "TestValue"));
+		this.slowQueryLog.setThreshold(Duration.ZERO);
+		this.queryExplainer.queries.clear();
+	}
+
+	@AfterEach
+	void resetSlowQueryLog() {
+		this.slowQueryLog.setThreshold(Duration.ofSeconds(1));
+		this.slowQueryLog.setSampleRate(1.0);
+	}
+
+	@Test
+	void explainSlowNativeQuery() {
+		try (ResultIterator<TestItem> iterator = this.repository.findIteratorNativeSqlByName("TestName1")) {
+			assertThat(iterator.next().getId()).isEqualTo(1L);
+		}
+		assertThat(this.queryExplainer.queries).singleElement()
+			.asString()
+			.startsWith("SELECT * FROM items WHERE name = ")
+			.contains("TestName1");
+	}
+
+	@Test
+	void skipSlowQueryNotSampled() {
+		this.slowQueryLog.setSampleRate(0.0);
+		try (ResultIterator<TestItem> iterator = this.repository.findIteratorNativeSqlByName("TestName1")) {
+			assertThat(iterator.hasNext()).isTrue();
+		}
+		assertThat(this.queryExplainer.queries).isEmpty();
+	}
+
+	@Test
+	void skipExplainOfDerivedQuery() {
+		Iterator<TestItem> items = this.repository.findByNameNotIgnoreCase("TestName1").iterator();
+		assertThat(items.next().getId()).isEqualTo(2L);
+		assertThat(this.repository.findById(1L)).isPresent();
+		assertThat(this.queryExplainer.queries).isEmpty();
+	}
+
+}
@@ -19,11 +19,13 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.time.ZoneId;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Function;
 import java.util.stream.Collectors;
@@ -34,6 +36,7 @@ import ru.rt.restream.reindexer.AggregationResult;
 import ru.rt.restream.reindexer.ResultIterator;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.QueryTimeoutException;
 import org.springframework.data.domain.Limit;
 import org.springframework.data.reindexer.repository.item.TestItemReindexerRepository;
 import org.springframework.data.reindexer.repository.item.TestJoinedItemRepository;
@@ -46,6 +49,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
@@ -74,6 +78,17 @@ class ReindexerStringBasedQueryRepositoryTests extends AbstractReindexerTest {
 		}
 	}
 
+	@Test
+	void findFutureNativeSqlByValue() {
+		for (long i = 0; i < 10; i++) {
+			this.repository.save(new TestItem(i, "TestName" + i, (i % 2 == 0) ? "Even" : "Odd"));
+		}
+		CompletableFuture<List<TestItem>> even = this.repository.findFutureNativeSqlByValue("Even");
+		CompletableFuture<List<TestItem>> odd = this.repository.findFutureNativeSqlByValue("Odd");
+		assertEquals(List.of(0L, 2L, 4L, 6L, 8L), even.join().stream().map(TestItem::getId).toList());
+		assertEquals(List.of(1L, 3L, 5L, 7L, 9L), odd.join().stream().map(TestItem::getId).toList());
+	}
+
 	@Test
 	void findIteratorNativeSqlByName() {
 		this.repository.save(TestItem.builder().id(1L).name("TestName").build());
@@ -488,6 +503,35 @@ class ReindexerStringBasedQueryRepositoryTests extends AbstractReindexerTest {
 		assertEquals(testItem.getValue(), item.getValue());
 	}
 
+	@Test
+	void findAllSqlByNameOrValueAndIdGreaterThan() {
+		saveGroupedConditionItems();
+		List<TestItem> items = this.repository.findAllSqlByNameOrValueAndIdGreaterThan("TestNameA", "TestValueX", 1L);
+		assertThat(items).extracting(TestItem::getId).containsExactly(2L, 4L);
+	}
+
+	@Test
+	void findAllSqlByNotNameOrValue() {
+		saveGroupedConditionItems();
+		List<TestItem> items = this.repository.findAllSqlByNotNameOrValue("TestNameA", "TestValueX");
+		assertThat(items).extracting(TestItem::getId).containsExactly(3L);
+	}
+
+	@Test
+	void findAllSqlByIdGreaterThanAndNotNameOrValueAndIdGreaterThan() {
+		saveGroupedConditionItems();
+		List<TestItem> items = this.repository.findAllSqlByIdGreaterThanAndNotNameOrValueAndIdGreaterThan(1L,
+				"TestNameA", "TestValueX", 2L);
+		assertThat(items).extracting(TestItem::getId).containsExactly(2L, 3L);
+	}
+
+	private void saveGroupedConditionItems() {
+		this.repository.save(new TestItem(1L, "TestNameA", "TestValueX"));
+		this.repository.save(new TestItem(2L, "TestNameB", "TestValueX"));
+		this.repository.save(new TestItem(3L, "TestNameC", "TestValueY"));
+		this.repository.save(new TestItem(4L, "TestNameA", "TestValueZ"));
+	}
+
 	@Test
 	void findOneSqlByNameOrValueParam() {
 		TestItem testItem = this.repository.save(new TestItem(1L, "TestName", "TestValue"));
@@ -680,6 +724,45 @@ class ReindexerStringBasedQueryRepositoryTests extends AbstractReindexerTest {
 		assertEquals(0, expectedItems.size());
 	}
 
+	@Test
+	void findAllStreamSqlParallel() {
+		List<TestItem> items = new ArrayList<>();
+		for (long i = 0; i < 5000; i++) {
+			items.add(new TestItem(i, "TestName" + i, "TestValue" + i));
+		}
+		this.repository.saveAll(items);
+		try (Stream<TestItem> itemStream = this.repository.findAllStreamSql()) {
+			Set<Long> ids = itemStream.parallel().map(TestItem::getId).collect(Collectors.toSet());
+			assertEquals(5000, ids.size());
+		}
+	}
+
+	@Test
+	void findAllPrefetchStreamSql() {
+		Map<Long, TestItem> expectedItems = new HashMap<>();
+		for (long i = 0; i < 100; i++) {
+			expectedItems.put(i, this.repository.save(new TestItem(i, "TestName" + i, "TestValue" + i)));
+		}
+		try (Stream<TestItem> itemStream = this.repository.findAllPrefetchStreamSql()) {
+			itemStream.forEach(actual -> {
+				TestItem expected = expectedItems.remove(actual.getId());
+				assertNotNull(expected);
+				assertEquals(expected.getId(), actual.getId());
+				assertEquals(expected.getName(), actual.getName());
+				assertEquals(expected.getValue(), actual.getValue());
+			});
+		}
+		assertEquals(0, expectedItems.size());
+	}
+
+	@Test
+	void findAllExpiredStreamNativeSql() {
+		this.repository.save(new TestItem(1L, "TestName1", "TestValue1"));
+		try (Stream<TestItem> itemStream = this.repository.findAllExpiredStreamNativeSql()) {
+			assertThrows(QueryTimeoutException.class, itemStream::toList);
+		}
+	}
+
 	@Test
 	void findAllSqlLimit() {
 		Set<TestItem> expectedItems = new HashSet<>();
@@ -15,6 +15,8 @@
  */
 package org.springframework.data.reindexer.repository;
 
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 
 import org.springframework.beans.factory.annotation.Autowired;
@@ -106,6 +108,26 @@ class ReindexerTransactionalRepositoryTests extends AbstractReindexerTest {
 			.withMessageContaining("Write operations are not allowed in read-only transaction");
 	}
 
+	@Test
+	void deleteAllTransactionalReadOnly() {
+		TestItem testItem = this.service.save(new TestItem(1L, "TestName", "TestValue"));
+		assertThat(testItem).isNotNull();
+		assertThatExceptionOfType(InvalidDataAccessApiUsageException.class)
+			.isThrownBy(() -> this.service.deleteAllReadOnly(List.of(testItem)))
+			.withMessageContaining("Write operations are not allowed in read-only transaction");
+		assertThat(this.repository.existsById(testItem.getId())).isTrue();
+	}
+
+	@Test
+	void deleteAllByIdTransactionalReadOnly() {
+		TestItem testItem = this.service.save(new TestItem(1L, "TestName", "TestValue"));
+		assertThat(testItem).isNotNull();
+		assertThatExceptionOfType(InvalidDataAccessApiUsageException.class)
+			.isThrownBy(() -> this.service.deleteAllByIdReadOnly(List.of(testItem.getId())))
+			.withMessageContaining("Write operations are not allowed in read-only transaction");
+		assertThat(this.repository.existsById(testItem.getId())).isTrue();
+	}
+
 	@Test
 	void deleteByIdSqlReadOnly() {
 		TestItem testItem = this.service.save(new TestItem(1L, "TestName", "TestValue"));
@@ -124,6 +146,15 @@ class ReindexerTransactionalRepositoryTests extends AbstractReindexerTest {
 			.withMessageContaining("Write operations are not allowed in read-only transaction");
 	}
 
+	@Test
+	void findFutureByNameTransactional() {
+		TestItem testItem = this.service.save(new TestItem(1L, "TestName", "TestValue"));
+		assertThat(testItem).isNotNull();
+		assertThatExceptionOfType(InvalidDataAccessApiUsageException.class)
+			.isThrownBy(() -> this.service.findFutureByName(testItem.getName()))
+			.withMessageContaining("cannot be executed within a transaction");
+	}
+
 	@Test
 	void findByIdTransactionalReadOnly() {
 		TestItem testItem = this.service.save(new TestItem(1L, "TestName", "TestValue"));
@@ -0,0 +1,42 @@
+/*
+ * Copyright 2022-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.reindexer.repository.item;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import org.springframework.data.reindexer.core.mapping.Query;
+import org.springframework.data.reindexer.repository.ReactiveReindexerRepository;
+import org.springframework.data.reindexer.repository.item.dto.TestItemNameRecord;
+import org.springframework.data.reindexer.repository.item.entity.TestItem;
+import org.springframework.stereotype.Repository;
+
+/**
+ * @author Evgeniy Cheban
+ */
+@Repository
+public interface TestItemReactiveRepository extends ReactiveReindexerRepository<TestItem, Long> {
+
+	Mono<TestItem> findByName(String name);
+
+	Flux<TestItem> findByValueOrderByIdAsc(String value);
+
+	Flux<TestItemNameRecord> findNameRecordByValue(String value);
+
+	@Query("SELECT * FROM items WHERE value = ?1 ORDER BY id")
+	Flux<TestItem> findAllByValueQuery(String value);
+
+}
@@ -19,8 +19,11 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Stream;
 
 import org.jspecify.annotations.Nullable;
@@ -29,9 +32,17 @@ import ru.rt.restream.reindexer.ResultIterator;
 import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
 import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.reindexer.core.mapping.CachedTotal;
+import org.springframework.data.reindexer.core.mapping.Facet;
+import org.springframework.data.reindexer.core.mapping.ParallelProjection;
+import org.springframework.data.reindexer.core.mapping.Prefetch;
 import org.springframework.data.reindexer.core.mapping.Query;
+import org.springframework.data.reindexer.core.mapping.QueryTimeout;
+import org.springframework.data.reindexer.core.mapping.ReindexerCacheable;
 import org.springframework.data.reindexer.repository.ReindexerRepository;
 import org.springframework.data.reindexer.repository.item.dto.TestItemNameValueJoinedItemProjection;
 import org.springframework.data.reindexer.repository.item.dto.TestItemNameValueProjection;
@@ -39,7 +50,9 @@ import org.springframework.data.reindexer.repository.item.dto.TestItemProjection
 import org.springframework.data.reindexer.repository.item.entity.TestItem;
 import org.springframework.data.reindexer.repository.item.dto.TestEnum;
 import org.springframework.data.reindexer.repository.item.dto.TestItemDto;
+import org.springframework.data.reindexer.repository.item.dto.TestItemNameCountRecord;
 import org.springframework.data.reindexer.repository.item.dto.TestItemNameRecord;
+import org.springframework.data.reindexer.repository.item.dto.TestItemNameValueCountRecord;
 import org.springframework.data.reindexer.repository.item.dto.TestItemNameValueDto;
 import org.springframework.data.reindexer.repository.item.dto.TestItemNameValueRecord;
 import org.springframework.data.reindexer.repository.item.dto.TestItemPreferredConstructorDto;
@@ -90,6 +103,11 @@ public interface TestItemReindexerRepository extends ReindexerRepository<TestIte
 	@Query("SELECT * FROM items WHERE name = :name")
 	ResultIterator<TestItem> findIteratorSqlByNameParam(@Param("name") String name);
 
+	CompletableFuture<Optional<TestItem>> findFutureByName(String name);
+
+	@Query(value = "SELECT * FROM items WHERE value = ?1 ORDER BY id", nativeQuery = true)
+	CompletableFuture<List<TestItem>> findFutureNativeSqlByValue(String value);
+
 	@Query(value = "UPDATE items SET name = ?1 WHERE id = ?2", update = true)
 	void updateNameSql(String name, Long id);
 
@@ -257,6 +275,29 @@ public interface TestItemReindexerRepository extends ReindexerRepository<TestIte
 	@Query("SELECT * FROM items")
 	Stream<TestItem> findAllStreamSql();
 
+	@Prefetch(8)
+	@Query("SELECT * FROM items")
+	Stream<TestItem> findAllPrefetchStreamSql();
+
+	@Prefetch(8)
+	Stream<TestItemNameRecord> findPrefetchNameRecordByValueOrderByIdAsc(String value);
+
+	@ParallelProjection(chunkSize = 16)
+	List<TestItemNameRecord> findParallelNameRecordByValueOrderByIdAsc(String value);
+
+	@ReindexerCacheable
+	List<TestItem> findCachedByValueOrderByIdAsc(String value);
+
+	@QueryTimeout(5)
+	List<TestItem> findTimeLimitedByValueOrderByIdAsc(String value);
+
+	@QueryTimeout(value = 1, timeUnit = TimeUnit.NANOSECONDS)
+	Stream<TestItem> findExpiredByValue(String value);
+
+	@QueryTimeout(value = 1, timeUnit = TimeUnit.NANOSECONDS)
+	@Query(value = "SELECT * FROM items", nativeQuery = true)
+	Stream<TestItem> findAllExpiredStreamNativeSql();
+
 	List<TestItem> findByIdIn(List<Long> ids);
 
 	List<TestItem> findByIdIn(long... ids);
@@ -277,6 +318,39 @@ public interface TestItemReindexerRepository extends ReindexerRepository<TestIte
 
 	long countByIdIn(List<Long> ids);
 
+	long sumIdByName(String name);
+
+	long minIdByName(String name);
+
+	long maxIdByName(String name);
+
+	double avgIdByName(String name);
+
+	long sumIdByNameIn(List<String> names);
+
+	long sumId();
+
+	Optional<Long> minIdByValue(String value);
+
+	@Nullable Long maxIdByValue(String value);
+
+	Optional<Double> avgIdByValue(String value);
+
+	@Facet("name")
+	Map<String, Long> findNameFacetByValue(String value);
+
+	@Facet(value = "name", orderBy = Facet.COUNT, direction = Sort.Direction.DESC, limit = 2)
+	Map<String, Long> findMostFrequentNameFacetByValue(String value);
+
+	@Facet(value = "id", orderBy = "id", direction = Sort.Direction.DESC)
+	Map<Long, Long> findIdFacetByValue(String value);
+
+	@Facet(value = { "name", "value" }, orderBy = "name", limit = 2, offset = 1)
+	List<TestItemNameValueCountRecord> findNameValueFacetByIdIn(List<Long> ids);
+
+	@Facet(value = "name", orderBy = Facet.COUNT, direction = Sort.Direction.DESC)
+	Stream<TestItemNameCountRecord> findNameCountFacetByValue(String value);
+
 	void deleteByName(String name);
 
 	List<TestItem> findAllByIdIn(List<Long> ids, Sort sort);
@@ -285,10 +359,17 @@ public interface TestItemReindexerRepository extends ReindexerRepository<TestIte
 
 	Page<TestItem> findPageByIdIn(List<Long> ids, Pageable pageable);
 
+	@CachedTotal(value = 1, timeUnit = TimeUnit.MINUTES)
+	Page<TestItem> findCachedTotalPageByIdIn(List<Long> ids, Pageable pageable);
+
 	Page<TestItem> findFirst2By(Pageable pageable);
 
 	Page<TestItem> findFirst3By(Pageable pageable);
 
+	Window<TestItem> findFirst5ByIdIn(List<Long> ids, ScrollPosition position, Sort sort);
+
+	Window<TestItem> findByValueNot(String value, ScrollPosition position, Limit limit, Sort sort);
+
 	List<TestItemProjection> findItemProjectionByIdIn(List<Long> ids);
 
 	List<TestItemDto> findItemDtoByIdIn(List<Long> ids);
@@ -349,6 +430,16 @@ public interface TestItemReindexerRepository extends ReindexerRepository<TestIte
 	@Query("SELECT id, name FROM items WHERE NOT id IN :ids")
 	List<TestItemRecord> findAllItemRecordByIdNotIn(List<Long> ids);
 
+	@Query("SELECT * FROM items WHERE (name = ?1 OR value = ?2) AND id > ?3 ORDER BY id")
+	List<TestItem> findAllSqlByNameOrValueAndIdGreaterThan(String name, String value, Long id);
+
+	@Query("SELECT * FROM items WHERE NOT (name = ?1 OR value = ?2) ORDER BY id")
+	List<TestItem> findAllSqlByNotNameOrValue(String name, String value);
+
+	@Query("SELECT * FROM items WHERE id > ?1 AND NOT (name = ?2 OR (value = ?3 AND id > ?4)) ORDER BY id")
+	List<TestItem> findAllSqlByIdGreaterThanAndNotNameOrValueAndIdGreaterThan(Long id, String name, String value,
+			Long valueId);
+
 	@Query("SELECT *, COUNT(*) FROM items WHERE id IN :ids")
 	Page<TestItem> findAllCountByIdIn(List<Long> ids, Pageable pageable);
 
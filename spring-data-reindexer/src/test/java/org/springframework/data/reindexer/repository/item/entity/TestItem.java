@@ -110,6 +110,11 @@ public class TestItem {
 	@NamespaceReference(indexName = "joinedItemId", lazy = true)
 	private TestJoinedItem joinedItemLazy;
 
+	@EqualsAndHashCode.Exclude
+	@Transient
+	@NamespaceReference(indexName = "joinedItemId", lazy = true, batchSize = 10)
+	private TestJoinedItem joinedItemBatchLazy;
+
 	@EqualsAndHashCode.Exclude
 	@Transient
 	@NamespaceReference(indexName = "joinedItemIds", joinType = JoinType.LEFT, lazy = true)
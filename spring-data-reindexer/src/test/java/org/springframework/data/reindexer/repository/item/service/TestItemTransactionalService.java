@@ -15,7 +15,9 @@
  */
 package org.springframework.data.reindexer.repository.item.service;
 
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 import org.springframework.context.annotation.Lazy;
 import org.springframework.data.reindexer.repository.item.TestItemReindexerRepository;
@@ -71,6 +73,16 @@ public class TestItemTransactionalService {
 		this.repository.delete(item);
 	}
 
+	@Transactional(transactionManager = "txManager", readOnly = true)
+	public void deleteAllReadOnly(List<TestItem> items) {
+		this.repository.deleteAll(items);
+	}
+
+	@Transactional(transactionManager = "txManager", readOnly = true)
+	public void deleteAllByIdReadOnly(List<Long> ids) {
+		this.repository.deleteAllById(ids);
+	}
+
 	@Transactional(transactionManager = "txManager", readOnly = true)
 	public void deleteByIdSqlReadOnly(Long id) {
 		this.repository.deleteByIdSql(id);
@@ -86,6 +98,10 @@ public class TestItemTransactionalService {
 		return this.repository.findById(id);
 	}
 
+	public CompletableFuture<Optional<TestItem>> findFutureByName(String name) {
+		return this.repository.findFutureByName(name);
+	}
+
 	@Transactional(transactionManager = "txManager", propagation = Propagation.REQUIRES_NEW)
 	public void saveRequiresNew(TestItem item) {
 		this.repository.save(item);
@@ -0,0 +1,144 @@
+/*
+ * Copyright 2022-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.reindexer.repository.query;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import ru.rt.restream.reindexer.AggregationResult;
+import ru.rt.restream.reindexer.ResultIterator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+/**
+ * @author Evgeniy Cheban
+ */
+@Timeout(10)
+class PrefetchingResultIteratorTests {
+
+	@Test
+	void nextWhenProducerFailsThenPrefetchedResultsReturnedBeforeFailure() {
+		TestResultIterator delegate = new TestResultIterator(List.of(1L, 2L, 3L), new IllegalStateException("test"));
+		try (PrefetchingResultIterator<Long> iterator = new PrefetchingResultIterator<>(delegate, 5)) {
+			List<Long> items = new ArrayList<>();
+			assertThatIllegalStateException().isThrownBy(() -> iterator.forEachRemaining(items::add))
+				.withMessage("test");
+			assertThat(items).containsExactly(1L, 2L, 3L);
+		}
+		assertThat(delegate.closed).isTrue();
+	}
+
+	@Test
+	void hasNextWhenProducerThrowsErrorThenErrorPropagated() {
+		TestResultIterator delegate = new TestResultIterator(List.of(1L), new LinkageError("test"));
+		try (PrefetchingResultIterator<Long> iterator = new PrefetchingResultIterator<>(delegate, 5)) {
+			assertThat(iterator.next()).isEqualTo(1L);
+			assertThatExceptionOfType(LinkageError.class).isThrownBy(iterator::hasNext).withMessage("test");
+		}
+	}
+
+	@Test
+	void sizeWhenReadAheadThenDelegateOnlyAccessedByProducer() {
+		TestResultIterator delegate = new TestResultIterator(List.of(1L, 2L, 3L), null);
+		try (PrefetchingResultIterator<Long> iterator = new PrefetchingResultIterator<>(delegate, 1)) {
+			assertThat(iterator.size()).isEqualTo(3);
+			assertThat(iterator.getTotalCount()).isEqualTo(30);
+			List<Long> items = new ArrayList<>();
+			iterator.forEachRemaining(items::add);
+			assertThat(items).containsExactly(1L, 2L, 3L);
+			assertThat(iterator.size()).isEqualTo(3);
+		}
+		assertThat(delegate.threads).hasSize(1).doesNotContain(Thread.currentThread());
+	}
+
+	private static final class TestResultIterator implements ResultIterator<Long> {
+
+		private final List<Long> items;
+
+		private final Iterator<Long> iterator;
+
+		private final @Nullable Throwable failure;
+
+		private final Set<Thread> threads = ConcurrentHashMap.newKeySet();
+
+		private volatile boolean closed;
+
+		private TestResultIterator(List<Long> items, @Nullable Throwable failure) {
+			this.items = items;
+			this.iterator = items.iterator();
+			this.failure = failure;
+		}
+
+		@Override
+		public long size() {
+			this.threads.add(Thread.currentThread());
+			return this.items.size();
+		}
+
+		@Override
+		public long getTotalCount() {
+			this.threads.add(Thread.currentThread());
+			return this.items.size() * 10L;
+		}
+
+		@Override
+		public List<AggregationResult> aggResults() {
+			this.threads.add(Thread.currentThread());
+			return List.of();
+		}
+
+		@Override
+		public float getCurrentRank() {
+			return 0;
+		}
+
+		@Override
+		public boolean hasNext() {
+			this.threads.add(Thread.currentThread());
+			if (this.iterator.hasNext()) {
+				return true;
+			}
+			if (this.failure instanceof Error error) {
+				throw error;
+			}
+			if (this.failure instanceof RuntimeException ex) {
+				throw ex;
+			}
+			return false;
+		}
+
+		@Override
+		public Long next() {
+			this.threads.add(Thread.currentThread());
+			return this.iterator.next();
+		}
+
+		@Override
+		public void close() {
+			this.closed = true;
+		}
+
+	}
+
+}
@@ -0,0 +1,186 @@
+/*
+ * Copyright 2022-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.reindexer.repository.query;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.TimeUnit;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import ru.rt.restream.reindexer.AggregationResult;
+import ru.rt.restream.reindexer.ResultIterator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @author Evgeniy Cheban
+ */
+class ReindexerSlowQueryLogTests {
+
+	private final Logger logger = (Logger) LoggerFactory.getLogger(ReindexerSlowQueryLog.class);
+
+	private final ListAppender<ILoggingEvent> appender = new ListAppender<>();
+
+	private final ReindexerSlowQueryLog slowQueryLog = new ReindexerSlowQueryLog();
+
+	@BeforeEach
+	void setUp() {
+		this.appender.start();
+		this.logger.addAppender(this.appender);
+		this.slowQueryLog.setThreshold(Duration.ZERO);
+	}
+
+	@AfterEach
+	void tearDown() {
+		this.logger.detachAppender(this.appender);
+		this.appender.stop();
+	}
+
+	@Test
+	void trackWhenSlowThenParameterTypesLogged() {
+		track();
+		assertThat(getMessages()).singleElement()
+			.asString()
+			.startsWith("Slow query in TestRepository.findByName took ")
+			.endsWith("and returned 1 rows: findByName with parameter types [String, Long, null]")
+			.doesNotContain("secret");
+	}
+
+	@Test
+	void trackWhenLogParameterValuesThenParameterValuesLogged() {
+		this.slowQueryLog.setLogParameterValues(true);
+		track();
+		assertThat(getMessages()).singleElement()
+			.asString()
+			.endsWith("findByName with parameters [secret, 1, null]");
+	}
+
+	@Test
+	void trackWhenFasterThanThresholdThenNotLogged() {
+		this.slowQueryLog.setThreshold(Duration.ofMinutes(1));
+		track();
+		assertThat(getMessages()).isEmpty();
+	}
+
+	@Test
+	void trackWhenNotSampledThenNotLogged() {
+		this.slowQueryLog.setSampleRate(0.0);
+		for (int i = 0; i < 10; i++) {
+			track();
+		}
+		assertThat(getMessages()).isEmpty();
+	}
+
+	@Test
+	void trackWhenMaxEntriesPerSecondExceededThenSuppressedEntriesReported() {
+		this.slowQueryLog.setMaxEntriesPerSecond(2);
+		awaitNextSecond();
+		for (int i = 0; i < 5; i++) {
+			track();
+		}
+		assertThat(getMessages()).hasSize(2).noneMatch((message) -> message.contains("were not logged"));
+		awaitNextSecond();
+		track();
+		assertThat(getMessages()).hasSize(3)
+			.last()
+			.asString()
+			.endsWith("(3 slow queries were not logged since the last entry)");
+	}
+
+	@Test
+	void trackSqlQueryWhenExplainFailsThenSqlNotLogged() {
+		this.logger.setLevel(Level.DEBUG);
+		try {
+			this.slowQueryLog.setQueryExplainer((sql) -> {
+				throw new IllegalStateException("test");
+			});
+			this.slowQueryLog
+				.trackSqlQuery("TestRepository.findByName", "SELECT * FROM items WHERE name = ?1",
+						new Object[] { "secret" }, "SELECT * FROM items WHERE name = 'secret'", EmptyResultIterator::new)
+				.close();
+			assertThat(getMessages()).hasSize(2)
+				.contains("Could not explain slow query in TestRepository.findByName")
+				.noneMatch((message) -> message.contains("secret"));
+		}
+		finally {
+			this.logger.setLevel(null);
+		}
+	}
+
+	private void track() {
+		this.slowQueryLog.track("TestRepository.findByName", () -> "findByName", new Object[] { "secret", 1L, null },
+				() -> List.of("result"));
+	}
+
+	private List<String> getMessages() {
+		return this.appender.list.stream().map(ILoggingEvent::getFormattedMessage).toList();
+	}
+
+	private static void awaitNextSecond() {
+		// The number of entries is limited per second of System.nanoTime().
+		long second = TimeUnit.NANOSECONDS.toSeconds(System.nanoTime());
+		while (TimeUnit.NANOSECONDS.toSeconds(System.nanoTime()) == second) {
+			Thread.onSpinWait();
+		}
+	}
+
+	private static final class EmptyResultIterator implements ResultIterator<Object> {
+
+		@Override
+		public long size() {
+			return 0;
+		}
+
+		@Override
+		public long getTotalCount() {
+			return 0;
+		}
+
+		@Override
+		public List<AggregationResult> aggResults() {
+			return List.of();
+		}
+
+		@Override
+		public float getCurrentRank() {
+			return 0;
+		}
+
+		@Override
+		public boolean hasNext() {
+			return false;
+		}
+
+		@Override
+		public Object next() {
+			throw new NoSuchElementException();
+		}
+
+		@Override
+		public void close() {
+		}
+
+	}
+
+}
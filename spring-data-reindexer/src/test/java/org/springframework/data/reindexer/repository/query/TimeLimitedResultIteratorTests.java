@@ -0,0 +1,136 @@
+/*
+ * Copyright 2022-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.reindexer.repository.query;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import ru.rt.restream.reindexer.AggregationResult;
+import ru.rt.restream.reindexer.ResultIterator;
+
+import org.springframework.dao.QueryTimeoutException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+/**
+ * @author Evgeniy Cheban
+ */
+class TimeLimitedResultIteratorTests {
+
+	@Test
+	void nextWhenCallerSlowerThanTimeoutThenAllResultsReturned() throws InterruptedException {
+		TestResultIterator delegate = new TestResultIterator(List.of(1L, 2L, 3L), Duration.ZERO);
+		ResultIterator<Long> iterator = TimeLimitedResultIterator.execute(Duration.ofMillis(100), () -> delegate);
+		List<Long> items = new ArrayList<>();
+		while (iterator.hasNext()) {
+			items.add(iterator.next());
+			Thread.sleep(150);
+		}
+		assertThat(items).containsExactly(1L, 2L, 3L);
+		assertThat(delegate.closed).isFalse();
+	}
+
+	@Test
+	void nextWhenFetchingSlowerThanTimeoutThenQueryTimeoutException() {
+		TestResultIterator delegate = new TestResultIterator(List.of(1L, 2L, 3L, 4L, 5L), Duration.ofMillis(100));
+		ResultIterator<Long> iterator = TimeLimitedResultIterator.execute(Duration.ofMillis(150), () -> delegate);
+		List<Long> items = new ArrayList<>();
+		assertThatExceptionOfType(QueryTimeoutException.class).isThrownBy(() -> iterator.forEachRemaining(items::add))
+			.withMessage("Query results were not fetched within PT0.15S");
+		assertThat(items).containsExactly(1L);
+		assertThat(delegate.closed).isTrue();
+	}
+
+	@Test
+	void hasNextWhenExecutionSlowerThanTimeoutThenQueryTimeoutException() {
+		TestResultIterator delegate = new TestResultIterator(List.of(1L), Duration.ZERO);
+		ResultIterator<Long> iterator = TimeLimitedResultIterator.execute(Duration.ofMillis(50), () -> {
+			sleep(Duration.ofMillis(100));
+			return delegate;
+		});
+		assertThatExceptionOfType(QueryTimeoutException.class).isThrownBy(iterator::hasNext);
+		assertThat(delegate.closed).isTrue();
+	}
+
+	private static void sleep(Duration duration) {
+		try {
+			Thread.sleep(duration.toMillis());
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException(ex);
+		}
+	}
+
+	private static final class TestResultIterator implements ResultIterator<Long> {
+
+		private final List<Long> items;
+
+		private final Iterator<Long> iterator;
+
+		private final Duration fetchTime;
+
+		private boolean closed;
+
+		private TestResultIterator(List<Long> items, Duration fetchTime) {
+			this.items = items;
+			this.iterator = items.iterator();
+			this.fetchTime = fetchTime;
+		}
+
+		@Override
+		public long size() {
+			return this.items.size();
+		}
+
+		@Override
+		public long getTotalCount() {
+			return this.items.size();
+		}
+
+		@Override
+		public List<AggregationResult> aggResults() {
+			return List.of();
+		}
+
+		@Override
+		public float getCurrentRank() {
+			return 0;
+		}
+
+		@Override
+		public boolean hasNext() {
+			sleep(this.fetchTime);
+			return this.iterator.hasNext();
+		}
+
+		@Override
+		public Long next() {
+			return this.iterator.next();
+		}
+
+		@Override
+		public void close() {
+			this.closed = true;
+		}
+
+	}
+
+}
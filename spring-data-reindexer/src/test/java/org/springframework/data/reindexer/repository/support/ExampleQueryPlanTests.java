@@ -0,0 +1,98 @@
+/*
+ * Copyright 2022-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.reindexer.repository.support;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.junit.jupiter.api.Test;
+import ru.rt.restream.reindexer.Query;
+
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.domain.ExampleMatcher;
+import org.springframework.data.reindexer.core.convert.MappingReindexerConverter;
+import org.springframework.data.reindexer.core.mapping.Namespace;
+import org.springframework.data.reindexer.core.mapping.ReindexerMappingContext;
+import org.springframework.data.reindexer.repository.query.QueryParameterMapper;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @author Evgeniy Cheban
+ */
+class ExampleQueryPlanTests {
+
+	private final ReindexerMappingContext mappingContext = new ReindexerMappingContext();
+
+	private final QueryParameterMapper queryParameterMapper = new QueryParameterMapper(TestCategory.class,
+			this.mappingContext, new MappingReindexerConverter(null, this.mappingContext, null));
+
+	private final List<String> conditions = new ArrayList<>();
+
+	@Test
+	void applyWhenSelfTypedEmbeddedPropertySetThenConditionPerDepth() {
+		ExampleQueryPlan plan = ExampleQueryPlan.compile(TestCategory.class, ExampleMatcher.matching(),
+				this.mappingContext, this.queryParameterMapper);
+		TestCategory probe = new TestCategory("Child", new TestCategory("Parent", new TestCategory("Root", null)));
+		plan.apply(createRecordingQuery(), probe);
+		assertThat(this.conditions).containsExactlyInAnyOrder("name=Child", "parent.name=Parent",
+				"parent.parent.name=Root");
+	}
+
+	@Test
+	void applyWhenSelfTypedEmbeddedPropertyNotSetThenNoNestedCondition() {
+		ExampleQueryPlan plan = ExampleQueryPlan.compile(TestCategory.class, ExampleMatcher.matching(),
+				this.mappingContext, this.queryParameterMapper);
+		plan.apply(createRecordingQuery(), new TestCategory("Child", null));
+		assertThat(this.conditions).containsExactly("name=Child");
+	}
+
+	private Query<TestCategory> createRecordingQuery() {
+		ProxyFactory proxyFactory = new ProxyFactory();
+		proxyFactory.setTargetClass(Query.class);
+		proxyFactory.setProxyTargetClass(true);
+		proxyFactory.addAdvice((MethodInterceptor) (invocation) -> {
+			Object[] arguments = invocation.getArguments();
+			if (invocation.getMethod().getName().equals("where")) {
+				this.conditions.add(arguments[0] + "=" + ((Object[]) arguments[2])[0]);
+			}
+			return invocation.getThis();
+		});
+		@SuppressWarnings("unchecked")
+		Query<TestCategory> query = (Query<TestCategory>) proxyFactory.getProxy();
+		return query;
+	}
+
+	@Namespace(name = "test_categories")
+	static class TestCategory {
+
+		@Id
+		Long id;
+
+		String name;
+
+		TestCategory parent;
+
+		TestCategory(String name, TestCategory parent) {
+			this.name = name;
+			this.parent = parent;
+		}
+
+	}
+
+}